@@ -0,0 +1,57 @@
+package com.supplychainx.analytics.controller;
+
+import com.supplychainx.analytics.dto.CityCostKpiDTO;
+import com.supplychainx.analytics.dto.DailyStatusKpiDTO;
+import com.supplychainx.analytics.dto.ProductThroughputKpiDTO;
+import com.supplychainx.analytics.service.AnalyticsQueryService;
+import com.supplychainx.common.events.EntityType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Indicateurs", description = "Indicateurs journaliers lus dans les agrégats précalculés")
+public class AnalyticsController {
+
+    private final AnalyticsQueryService analyticsQueryService;
+
+    @GetMapping("/daily")
+    @Operation(summary = "Changements de statut par jour",
+            description = "Pour un type d'entité (ORDER, DELIVERY, PRODUCTION_ORDER, SUPPLY_ORDER) : par jour et par " +
+                    "statut, nombre d'entrées dans le statut et de sorties, quantité et montant des entrées")
+    public ResponseEntity<List<DailyStatusKpiDTO>> daily(
+            @RequestParam EntityType entityType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsQueryService.daily(entityType, from, to));
+    }
+
+    @GetMapping("/deliveries/cost-by-city")
+    @Operation(summary = "Coût des livraisons par ville",
+            description = "Nombre et coût total des livraisons passées LIVREE sur la période, par ville du client")
+    public ResponseEntity<List<CityCostKpiDTO>> deliveryCostByCity(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsQueryService.deliveryCostByCity(from, to));
+    }
+
+    @GetMapping("/production/throughput")
+    @Operation(summary = "Débit de production",
+            description = "Ordres de production passés TERMINE et quantité produite, par jour et par produit")
+    public ResponseEntity<List<ProductThroughputKpiDTO>> productionThroughput(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsQueryService.productionThroughput(from, to));
+    }
+}
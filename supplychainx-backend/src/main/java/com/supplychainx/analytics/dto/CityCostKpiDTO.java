@@ -0,0 +1,15 @@
+package com.supplychainx.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CityCostKpiDTO {
+
+    private String city;
+    private Long deliveries;
+    private Double totalCost;
+}
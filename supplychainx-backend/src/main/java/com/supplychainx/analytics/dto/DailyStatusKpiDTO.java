@@ -0,0 +1,20 @@
+package com.supplychainx.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatusKpiDTO {
+
+    private LocalDate day;
+    private String status;
+    private Long entered;
+    private Long exited;
+    private Long quantity;
+    private Double amount;
+}
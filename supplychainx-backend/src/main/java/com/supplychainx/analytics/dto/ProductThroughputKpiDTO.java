@@ -0,0 +1,18 @@
+package com.supplychainx.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductThroughputKpiDTO {
+
+    private LocalDate day;
+    private Long productId;
+    private Long completedOrders;
+    private Long quantity;
+}
@@ -0,0 +1,56 @@
+package com.supplychainx.analytics.entity;
+
+import com.supplychainx.common.events.EntityType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Agrégat journalier des changements de statut : pour un type d'entité, un jour, un statut,
+ * un produit et une ville, le nombre d'entrées dans le statut et de sorties du statut, avec
+ * la quantité et le montant des entrées. {@code productId} vaut 0 et {@code city} est vide
+ * quand la dimension ne s'applique pas.
+ */
+@Entity
+@Table(name = "kpi_daily_rollups", uniqueConstraints = @UniqueConstraint(name = "uk_kpi_daily_rollups_key",
+        columnNames = {"entity_type", "rollup_day", "status", "product_id", "city"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KpiDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private EntityType entityType;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false, length = 30)
+    private String status;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false, length = 100)
+    private String city;
+
+    @Column(nullable = false)
+    private long entered;
+
+    @Column(nullable = false)
+    private long exited;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    @Column(nullable = false)
+    private double amount;
+}
@@ -0,0 +1,45 @@
+package com.supplychainx.analytics.repository;
+
+import com.supplychainx.analytics.dto.CityCostKpiDTO;
+import com.supplychainx.analytics.dto.DailyStatusKpiDTO;
+import com.supplychainx.analytics.dto.ProductThroughputKpiDTO;
+import com.supplychainx.analytics.entity.KpiDailyRollup;
+import com.supplychainx.common.events.EntityType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface KpiDailyRollupRepository extends JpaRepository<KpiDailyRollup, Long> {
+
+    List<KpiDailyRollup> findByEntityTypeAndDayIn(EntityType entityType, Collection<LocalDate> days);
+
+    @Query("SELECT new com.supplychainx.analytics.dto.DailyStatusKpiDTO(r.day, r.status, SUM(r.entered), " +
+           "SUM(r.exited), SUM(r.quantity), SUM(r.amount)) FROM KpiDailyRollup r " +
+           "WHERE r.entityType = :entityType AND r.day BETWEEN :from AND :to " +
+           "GROUP BY r.day, r.status ORDER BY r.day, r.status")
+    List<DailyStatusKpiDTO> sumByDayAndStatus(@Param("entityType") EntityType entityType,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    @Query("SELECT new com.supplychainx.analytics.dto.CityCostKpiDTO(r.city, SUM(r.entered), SUM(r.amount)) " +
+           "FROM KpiDailyRollup r WHERE r.entityType = :entityType AND r.status = :status " +
+           "AND r.day BETWEEN :from AND :to GROUP BY r.city ORDER BY SUM(r.amount) DESC, r.city")
+    List<CityCostKpiDTO> sumByCity(@Param("entityType") EntityType entityType,
+                                   @Param("status") String status,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    @Query("SELECT new com.supplychainx.analytics.dto.ProductThroughputKpiDTO(r.day, r.productId, SUM(r.entered), " +
+           "SUM(r.quantity)) FROM KpiDailyRollup r WHERE r.entityType = :entityType AND r.status = :status " +
+           "AND r.day BETWEEN :from AND :to GROUP BY r.day, r.productId ORDER BY r.day, r.productId")
+    List<ProductThroughputKpiDTO> sumByDayAndProduct(@Param("entityType") EntityType entityType,
+                                                     @Param("status") String status,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to);
+}
@@ -0,0 +1,60 @@
+package com.supplychainx.analytics.service;
+
+import com.supplychainx.analytics.dto.CityCostKpiDTO;
+import com.supplychainx.analytics.dto.DailyStatusKpiDTO;
+import com.supplychainx.analytics.dto.ProductThroughputKpiDTO;
+import com.supplychainx.analytics.repository.KpiDailyRollupRepository;
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Indicateurs lus uniquement dans les agrégats journaliers ({@link KpiRollupService}) : le coût
+ * d'une requête dépend du nombre de jours demandés, pas du volume des tables opérationnelles.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AnalyticsQueryService {
+
+    private final KpiDailyRollupRepository kpiDailyRollupRepository;
+    private final int maxDays;
+
+    public AnalyticsQueryService(KpiDailyRollupRepository kpiDailyRollupRepository,
+                                 @Value("${app.analytics.max-days:366}") int maxDays) {
+        this.kpiDailyRollupRepository = kpiDailyRollupRepository;
+        this.maxDays = maxDays;
+    }
+
+    public List<DailyStatusKpiDTO> daily(EntityType entityType, LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return kpiDailyRollupRepository.sumByDayAndStatus(entityType, from, to);
+    }
+
+    public List<CityCostKpiDTO> deliveryCostByCity(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return kpiDailyRollupRepository.sumByCity(EntityType.DELIVERY, DeliveryStatus.LIVREE.name(), from, to);
+    }
+
+    public List<ProductThroughputKpiDTO> productionThroughput(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return kpiDailyRollupRepository.sumByDayAndProduct(EntityType.PRODUCTION_ORDER,
+                ProductionOrderStatus.TERMINE.name(), from, to);
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessRuleException("La date de fin doit être postérieure ou égale à la date de début");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new BusinessRuleException("La plage de dates ne peut pas dépasser " + maxDays + " jours");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.supplychainx.analytics.service;
+
+import com.supplychainx.analytics.entity.KpiDailyRollup;
+import com.supplychainx.analytics.repository.KpiDailyRollupRepository;
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusChangeEvent;
+import com.supplychainx.common.events.StatusDimensions;
+import com.supplychainx.common.outbox.OutboxSink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mise à jour incrémentale des agrégats journaliers, alimentée par le relais de l'outbox :
+ * chaque événement ajoute une entrée dans le nouveau statut et une sortie de l'ancien, au jour
+ * du changement. L'entrée est rangée sur le produit / la ville de l'entité après l'écriture,
+ * la sortie sur ceux d'avant : ces dimensions sont copiées dans l'outbox avec le changement,
+ * sans relire les tables opérationnelles, si bien qu'une entité modifiée ou supprimée avant le
+ * relais reste comptée là où elle était au moment du changement. Le lot est appliqué dans la
+ * transaction du relais, qui supprime aussi ses lignes en attente : chaque événement est
+ * compté une fois.
+ * <p>
+ * Les agrégats couvrent les changements enregistrés dans l'outbox, pas l'historique antérieur.
+ * Une modification du produit, du client ou de la quantité sans changement de statut ne
+ * déplace pas les compteurs déjà passés. Les commandes fournisseurs n'ont ni produit, ni
+ * ville, ni quantité (unités hétérogènes).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.analytics.rollups.enabled", havingValue = "true", matchIfMissing = true)
+public class KpiRollupService implements OutboxSink {
+
+    static final long NO_PRODUCT = 0L;
+    static final String NO_CITY = "";
+
+    private final KpiDailyRollupRepository kpiDailyRollupRepository;
+
+    @Override
+    public String name() {
+        return "kpi-rollups";
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(List<StatusChangeEvent> events) {
+        Map<EntityType, List<StatusChangeEvent>> byType = events.stream()
+                .collect(Collectors.groupingBy(StatusChangeEvent::entityType, () -> new EnumMap<>(EntityType.class),
+                        Collectors.toList()));
+        int created = 0;
+        for (Map.Entry<EntityType, List<StatusChangeEvent>> entry : byType.entrySet()) {
+            created += apply(entry.getKey(), entry.getValue());
+        }
+        log.debug("KPI rollups: {} events applied, {} new rows", events.size(), created);
+    }
+
+    private int apply(EntityType type, List<StatusChangeEvent> events) {
+        Set<LocalDate> days = events.stream().map(event -> event.occurredAt().toLocalDate()).collect(Collectors.toSet());
+        Map<Key, KpiDailyRollup> rollups = new HashMap<>();
+        for (KpiDailyRollup rollup : kpiDailyRollupRepository.findByEntityTypeAndDayIn(type, days)) {
+            rollups.put(new Key(rollup.getDay(), rollup.getStatus(), rollup.getProductId(), rollup.getCity()), rollup);
+        }
+
+        List<KpiDailyRollup> created = new ArrayList<>();
+        Function<Key, KpiDailyRollup> newRollup = key -> {
+            KpiDailyRollup rollup = new KpiDailyRollup(null, type, key.day(), key.status(), key.productId(), key.city(),
+                    0, 0, 0, 0);
+            created.add(rollup);
+            return rollup;
+        };
+        for (StatusChangeEvent event : events) {
+            LocalDate day = event.occurredAt().toLocalDate();
+            if (event.status() != null) {
+                StatusDimensions entity = event.dimensions();
+                KpiDailyRollup rollup = rollups.computeIfAbsent(key(day, event.status(), entity), newRollup);
+                rollup.setEntered(rollup.getEntered() + 1);
+                if (entity.quantity() != null) {
+                    rollup.setQuantity(rollup.getQuantity() + entity.quantity());
+                }
+                if (entity.amount() != null) {
+                    rollup.setAmount(rollup.getAmount() + entity.amount());
+                }
+            }
+            if (event.previousStatus() != null) {
+                KpiDailyRollup rollup = rollups.computeIfAbsent(key(day, event.previousStatus(), event.previousDimensions()),
+                        newRollup);
+                rollup.setExited(rollup.getExited() + 1);
+            }
+        }
+        kpiDailyRollupRepository.saveAll(created);
+        return created.size();
+    }
+
+    private static Key key(LocalDate day, String status, StatusDimensions entity) {
+        return new Key(day, status,
+                entity.productId() == null ? NO_PRODUCT : entity.productId(),
+                entity.city() == null ? NO_CITY : entity.city());
+    }
+
+    private record Key(LocalDate day, String status, long productId, String city) {
+    }
+}
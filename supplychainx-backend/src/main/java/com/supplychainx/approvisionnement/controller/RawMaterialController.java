@@ -3,11 +3,17 @@ package com.supplychainx.approvisionnement.controller;
 import com.supplychainx.approvisionnement.dto.RawMaterialCreateDTO;
 import com.supplychainx.approvisionnement.dto.RawMaterialResponseDTO;
 import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
+import com.supplychainx.approvisionnement.dto.SupplierScoreDTO;
 import com.supplychainx.approvisionnement.service.RawMaterialService;
+import com.supplychainx.approvisionnement.service.SupplierRankingService;
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.pagination.PageQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +27,7 @@ import java.util.List;
 public class RawMaterialController {
 
     private final RawMaterialService rawMaterialService;
+    private final SupplierRankingService supplierRankingService;
 
     @PostMapping
     @Operation(summary = "Créer une matière première", description = "Ajoute une nouvelle matière première (US8)")
@@ -37,6 +44,20 @@ public class RawMaterialController {
         RawMaterialResponseDTO updated = rawMaterialService.updateRawMaterial(id, dto);
         return ResponseEntity.ok(updated);
     }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Créer des matières premières en masse",
+               description = "Insère jusqu'à app.bulk.max-rows lignes en une requête ; chaque ligne invalide est rejetée individuellement")
+    public ResponseEntity<BulkResponseDTO> bulkCreateRawMaterials(@RequestBody List<RawMaterialCreateDTO> rows) {
+        return ResponseEntity.ok(rawMaterialService.bulkCreateRawMaterials(rows));
+    }
+
+    @PutMapping("/bulk")
+    @Operation(summary = "Modifier des matières premières en masse",
+               description = "Met à jour plusieurs lignes identifiées par leur ID ; les IDs inconnus sont rejetés ligne par ligne")
+    public ResponseEntity<BulkResponseDTO> bulkUpdateRawMaterials(@RequestBody List<BulkUpdateItemDTO<RawMaterialUpdateDTO>> rows) {
+        return ResponseEntity.ok(rawMaterialService.bulkUpdateRawMaterials(rows));
+    }
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer une matière première", 
                description = "Supprime une matière première si elle n'est pas utilisée (US10)")
@@ -48,9 +69,8 @@ public class RawMaterialController {
     @GetMapping
     @Operation(summary = "Liste des matières premières", 
                description = "Consulte la liste de toutes les matières premières (US11)")
-    public ResponseEntity<List<RawMaterialResponseDTO>> getAllRawMaterials() {
-        List<RawMaterialResponseDTO> materials = rawMaterialService.getAllRawMaterials();
-        return ResponseEntity.ok(materials);
+    public ResponseEntity<List<RawMaterialResponseDTO>> getAllRawMaterials(@ParameterObject PageQuery pageQuery) {
+        return rawMaterialService.getAllRawMaterials(pageQuery).toResponse();
     }
 
     @GetMapping("/critical")
@@ -60,4 +80,13 @@ public class RawMaterialController {
         List<RawMaterialResponseDTO> criticalMaterials = rawMaterialService.getCriticalStockMaterials();
         return ResponseEntity.ok(criticalMaterials);
     }
+
+    @GetMapping("/{id}/supplier-ranking")
+    @Operation(summary = "Classement des fournisseurs d'une matière",
+               description = "Fournisseurs candidats du meilleur au moins bon selon la note, le délai et les commandes ouvertes")
+    public ResponseEntity<List<SupplierScoreDTO>> getSupplierRanking(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(supplierRankingService.rankSuppliers(id, limit));
+    }
 }
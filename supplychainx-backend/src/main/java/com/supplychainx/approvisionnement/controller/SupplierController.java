@@ -4,10 +4,14 @@ import com.supplychainx.approvisionnement.dto.SupplierCreateDTO;
 import com.supplychainx.approvisionnement.dto.SupplierResponseDTO;
 import com.supplychainx.approvisionnement.dto.SupplierUpdateDTO;
 import com.supplychainx.approvisionnement.service.SupplierService;
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.pagination.PageQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,6 +43,20 @@ public class SupplierController {
         return ResponseEntity.ok(updated);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Créer des fournisseurs en masse",
+               description = "Insère jusqu'à app.bulk.max-rows lignes en une requête ; chaque ligne invalide est rejetée individuellement")
+    public ResponseEntity<BulkResponseDTO> bulkCreateSuppliers(@RequestBody List<SupplierCreateDTO> rows) {
+        return ResponseEntity.ok(supplierService.bulkCreateSuppliers(rows));
+    }
+
+    @PutMapping("/bulk")
+    @Operation(summary = "Modifier des fournisseurs en masse",
+               description = "Met à jour plusieurs lignes identifiées par leur ID ; les IDs inconnus sont rejetés ligne par ligne")
+    public ResponseEntity<BulkResponseDTO> bulkUpdateSuppliers(@RequestBody List<BulkUpdateItemDTO<SupplierUpdateDTO>> rows) {
+        return ResponseEntity.ok(supplierService.bulkUpdateSuppliers(rows));
+    }
+
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer un fournisseur", 
@@ -58,9 +76,8 @@ public class SupplierController {
 
     @GetMapping
     @Operation(summary = "Liste des fournisseurs", description = "Consulte la liste de tous les fournisseurs (US6)")
-    public ResponseEntity<List<SupplierResponseDTO>> getAllSuppliers() {
-        List<SupplierResponseDTO> suppliers = supplierService.getAllSuppliers();
-        return ResponseEntity.ok(suppliers);
+    public ResponseEntity<List<SupplierResponseDTO>> getAllSuppliers(@ParameterObject PageQuery pageQuery) {
+        return supplierService.getAllSuppliers(pageQuery).toResponse();
     }
 
     @GetMapping("/search")
@@ -4,13 +4,17 @@ import com.supplychainx.approvisionnement.dto.SupplyOrderCreateDTO;
 import com.supplychainx.approvisionnement.dto.SupplyOrderResponseDTO;
 import com.supplychainx.approvisionnement.dto.SupplyOrderUpdateDTO;
 import com.supplychainx.approvisionnement.service.SupplyOrderService;
+import com.supplychainx.common.export.ExportFormat;
+import com.supplychainx.common.pagination.PageQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -51,16 +55,22 @@ public class SupplyOrderController {
     @GetMapping
     @Operation(summary = "Consulter toutes les commandes", 
                description = "US16: Permet au superviseur logistique de consulter toutes les commandes")
-    public ResponseEntity<List<SupplyOrderResponseDTO>> getAllSupplyOrders() {
-        List<SupplyOrderResponseDTO> orders = supplyOrderService.getAllSupplyOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<SupplyOrderResponseDTO>> getAllSupplyOrders(@ParameterObject PageQuery pageQuery) {
+        return supplyOrderService.getAllSupplyOrders(pageQuery).toResponse();
     }
 
     @GetMapping("/status/{status}")
     @Operation(summary = "Filtrer les commandes par statut", 
                description = "US17: Permet au superviseur logistique de suivre les commandes selon leur statut (EN_ATTENTE, EN_COURS, RECUE)")
-    public ResponseEntity<List<SupplyOrderResponseDTO>> getSupplyOrdersByStatus(@PathVariable String status) {
-        List<SupplyOrderResponseDTO> orders = supplyOrderService.getSupplyOrdersByStatus(status);
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<SupplyOrderResponseDTO>> getSupplyOrdersByStatus(@PathVariable String status, @ParameterObject PageQuery pageQuery) {
+        return supplyOrderService.getSupplyOrdersByStatus(status, pageQuery).toResponse();
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exporter les commandes d'approvisionnement",
+            description = "Flux NDJSON ou CSV des commandes d'approvisionnement avec leurs lignes de matières premières (une ligne par matière)")
+    public ResponseEntity<StreamingResponseBody> exportSupplyOrders(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return exportFormat.toResponse("supply-orders", out -> supplyOrderService.exportSupplyOrders(exportFormat, out));
     }
 }
@@ -0,0 +1,25 @@
+package com.supplychainx.approvisionnement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplenishmentRunResponseDTO {
+
+    // false : un autre nœud détient le bail, rien n'a été fait
+    private boolean executed;
+    // null : balayage complet de toutes les matières
+    private LocalDateTime since;
+    private LocalDateTime asOf;
+    private Integer materialsExamined;
+    private Integer materialsBelowMin;
+    private Integer linesOrdered;
+    private List<Long> supplyOrderIds;
+    private List<Long> materialsWithoutSupplier;
+}
@@ -0,0 +1,18 @@
+package com.supplychainx.approvisionnement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierScoreDTO {
+
+    private Long idSupplier;
+    private String name;
+    private Double rating;
+    private Integer leadTime;
+    private long openOrders;
+    private double score;
+}
@@ -1,15 +1,20 @@
 package com.supplychainx.approvisionnement.entity;
 
+import com.supplychainx.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "raw_materials")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RAW_MATERIALS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,6 +27,7 @@ public class RawMaterial {
     @Column(nullable = false)
     private String name;
     
+    // Cache dérivé du journal des mouvements (inventory_movements) : chaque écriture y est journalisée
     @Column(nullable = false)
     private Integer stock;
     
@@ -1,12 +1,15 @@
 package com.supplychainx.approvisionnement.entity;
 
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.common.pagination.PageQuery;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,7 +28,9 @@ public class SupplyOrder {
     @JoinColumn(name = "supplier_id", nullable = false)
     private Supplier supplier;
     
+    // Lignes d'une page entière chargées en une requête (pas de fetch join paginé en mémoire)
     @OneToMany(mappedBy = "supplyOrder", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = PageQuery.MAX_SIZE)
     private List<SupplyOrderMaterial> orderMaterials = new ArrayList<>();
     
     @Column(nullable = false)
@@ -34,4 +39,8 @@ public class SupplyOrder {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private SupplyOrderStatus status;
+
+    // Renseigné par SupplyOrderRepository.markReceived quand la réception a été appliquée au stock
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime receivedAt;
 }
@@ -0,0 +1,5 @@
+package com.supplychainx.approvisionnement.ranking;
+
+/** One row of {@code raw_material_suppliers}: the supplier is a candidate for the material. */
+public record MaterialSupplierLink(Long materialId, Long supplierId) {
+}
@@ -0,0 +1,5 @@
+package com.supplychainx.approvisionnement.ranking;
+
+/** Number of open supply orders (EN_ATTENTE or EN_COURS) of a supplier. */
+public record SupplierLoad(Long supplierId, Long openOrders) {
+}
@@ -0,0 +1,5 @@
+package com.supplychainx.approvisionnement.ranking;
+
+/** Attributes of a supplier that enter its score. */
+public record SupplierProfile(Long supplierId, String name, Double rating, Integer leadTime) {
+}
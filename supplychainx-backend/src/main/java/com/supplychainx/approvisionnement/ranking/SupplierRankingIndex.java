@@ -0,0 +1,116 @@
+package com.supplychainx.approvisionnement.ranking;
+
+import com.supplychainx.approvisionnement.dto.SupplierScoreDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Candidate suppliers of each material, ranked by {@link SupplierScoring} and kept sorted.
+ * <p>
+ * Each supplier's score is computed once and shared by the rankings of all its materials.
+ * A change to one supplier (attributes or open load) rescores it and re-sorts only the
+ * materials it supplies. Rankings are immutable lists published in a concurrent map, so
+ * {@link #ranking} is a lock-free lookup; writers are serialized.
+ */
+public final class SupplierRankingIndex {
+
+    private static final Comparator<SupplierScoreDTO> BEST_FIRST =
+            Comparator.comparingDouble(SupplierScoreDTO::getScore).reversed()
+                    .thenComparing(SupplierScoreDTO::getIdSupplier);
+
+    private final SupplierScoring scoring;
+
+    private final Map<Long, SupplierProfile> profiles = new HashMap<>();
+    private final Map<Long, Long> openOrders = new HashMap<>();
+    private final Map<Long, SupplierScoreDTO> scores = new HashMap<>();
+    private final Map<Long, List<Long>> suppliersByMaterial = new HashMap<>();
+    private final Map<Long, List<Long>> materialsBySupplier = new HashMap<>();
+    private volatile Map<Long, List<SupplierScoreDTO>> rankings = new ConcurrentHashMap<>();
+
+    public SupplierRankingIndex(SupplierScoring scoring) {
+        this.scoring = scoring;
+    }
+
+    /** Candidates of {@code materialId}, best first; empty when the material has no supplier. */
+    public List<SupplierScoreDTO> ranking(Long materialId) {
+        return rankings.getOrDefault(materialId, List.of());
+    }
+
+    public synchronized void rebuild(List<SupplierProfile> suppliers,
+                                     List<MaterialSupplierLink> links,
+                                     List<SupplierLoad> loads) {
+        profiles.clear();
+        openOrders.clear();
+        scores.clear();
+        suppliersByMaterial.clear();
+        materialsBySupplier.clear();
+
+        suppliers.forEach(profile -> profiles.put(profile.supplierId(), profile));
+        loads.forEach(load -> openOrders.put(load.supplierId(), load.openOrders()));
+        profiles.keySet().forEach(this::rescore);
+        for (MaterialSupplierLink link : links) {
+            suppliersByMaterial.computeIfAbsent(link.materialId(), id -> new ArrayList<>()).add(link.supplierId());
+            materialsBySupplier.computeIfAbsent(link.supplierId(), id -> new ArrayList<>()).add(link.materialId());
+        }
+
+        Map<Long, List<SupplierScoreDTO>> rebuilt = new ConcurrentHashMap<>(suppliersByMaterial.size());
+        suppliersByMaterial.keySet().forEach(materialId -> rebuilt.put(materialId, sort(materialId)));
+        rankings = rebuilt;
+    }
+
+    /**
+     * Replaces the profiles of {@code supplierIds}; ids without a profile in {@code updated}
+     * (deleted suppliers) leave every ranking.
+     */
+    public synchronized void updateSuppliers(Collection<Long> supplierIds, List<SupplierProfile> updated) {
+        supplierIds.forEach(profiles::remove);
+        updated.forEach(profile -> profiles.put(profile.supplierId(), profile));
+        supplierIds.forEach(this::rescore);
+        resort(supplierIds);
+    }
+
+    /** Open order counts of {@code supplierIds}; ids missing from {@code loads} have none. */
+    public synchronized void updateOpenOrders(Collection<Long> supplierIds, List<SupplierLoad> loads) {
+        supplierIds.forEach(id -> openOrders.put(id, 0L));
+        loads.forEach(load -> openOrders.put(load.supplierId(), load.openOrders()));
+        supplierIds.forEach(this::rescore);
+        resort(supplierIds);
+    }
+
+    private void rescore(Long supplierId) {
+        SupplierProfile profile = profiles.get(supplierId);
+        if (profile == null) {
+            scores.remove(supplierId);
+            return;
+        }
+        long load = openOrders.getOrDefault(supplierId, 0L);
+        scores.put(supplierId, new SupplierScoreDTO(supplierId, profile.name(), profile.rating(),
+                profile.leadTime(), load, scoring.score(profile.rating(), profile.leadTime(), load)));
+    }
+
+    private void resort(Collection<Long> supplierIds) {
+        Set<Long> materials = new HashSet<>();
+        supplierIds.forEach(id -> materials.addAll(materialsBySupplier.getOrDefault(id, List.of())));
+        materials.forEach(materialId -> rankings.put(materialId, sort(materialId)));
+    }
+
+    private List<SupplierScoreDTO> sort(Long materialId) {
+        List<SupplierScoreDTO> ranked = new ArrayList<>();
+        for (Long supplierId : suppliersByMaterial.get(materialId)) {
+            SupplierScoreDTO score = scores.get(supplierId);
+            if (score != null) {
+                ranked.add(score);
+            }
+        }
+        ranked.sort(BEST_FIRST);
+        return List.copyOf(ranked);
+    }
+}
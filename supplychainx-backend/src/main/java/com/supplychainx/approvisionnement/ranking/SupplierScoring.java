@@ -0,0 +1,16 @@
+package com.supplychainx.approvisionnement.ranking;
+
+/**
+ * Weighted score of a candidate supplier, higher is better. Each criterion is brought to
+ * {@code [0, 1]}: rating over {@code ratingScale}, {@code 1 / leadTime} (lead times are at
+ * least one day) and {@code 1 / (1 + openOrders)}. A missing rating or lead time scores 0.
+ */
+public record SupplierScoring(double ratingWeight, double leadTimeWeight, double loadWeight, double ratingScale) {
+
+    public double score(Double rating, Integer leadTime, long openOrders) {
+        double ratingScore = rating == null ? 0 : Math.min(Math.max(rating, 0) / ratingScale, 1);
+        double leadTimeScore = leadTime == null || leadTime < 1 ? 0 : 1.0 / leadTime;
+        double loadScore = 1.0 / (1 + Math.max(openOrders, 0));
+        return ratingWeight * ratingScore + leadTimeWeight * leadTimeScore + loadWeight * loadScore;
+    }
+}
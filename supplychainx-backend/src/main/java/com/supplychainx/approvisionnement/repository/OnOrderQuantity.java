@@ -0,0 +1,5 @@
+package com.supplychainx.approvisionnement.repository;
+
+/** Quantité d'une matière restant à recevoir sur les commandes d'approvisionnement ouvertes. */
+public record OnOrderQuantity(Long materialId, Long quantity) {
+}
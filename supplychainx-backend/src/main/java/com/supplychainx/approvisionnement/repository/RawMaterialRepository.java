@@ -1,15 +1,75 @@
 package com.supplychainx.approvisionnement.repository;
 
 import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.ranking.MaterialSupplierLink;
+import com.supplychainx.inventory.repository.StockLevel;
+import com.supplychainx.production.planning.MaterialPosition;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface RawMaterialRepository extends JpaRepository<RawMaterial, Long> {
+
+    String STOCK_RECEIPT_SPACE = "raw_material_stock_receipt";
     
     @Query("SELECT m FROM RawMaterial m WHERE m.stock < m.stockMin")
     List<RawMaterial> findMaterialsBelowMinStock();
+
+    @Query("SELECT m FROM RawMaterial m WHERE m.stock < m.stockMin AND m.idMaterial IN :ids")
+    List<RawMaterial> findMaterialsBelowMinStock(@Param("ids") Collection<Long> ids);
+
+    List<RawMaterial> findByIdMaterialGreaterThanOrderByIdMaterialAsc(Long idMaterial, Limit limit);
+
+    @Query("SELECT new com.supplychainx.production.planning.MaterialPosition(" +
+           "m.idMaterial, m.name, m.unit, m.stock, MIN(s.leadTime)) " +
+           "FROM RawMaterial m LEFT JOIN m.suppliers s " +
+           "GROUP BY m.idMaterial, m.name, m.unit, m.stock ORDER BY m.idMaterial")
+    List<MaterialPosition> findMaterialPositions();
+
+    /**
+     * Ajoute au stock les quantités de toutes les lignes d'une commande reçue, en une instruction
+     * ({@code stock = stock + n} : pas de mise à jour perdue entre réceptions concurrentes).
+     * L'espace de requête dédié évite d'invalider toute la région raw-materials ; les matières
+     * concernées sont évincées par l'appelant.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STOCK_RECEIPT_SPACE))
+    @Query(value = "UPDATE raw_materials SET stock = stock + (" +
+            "SELECT SUM(l.quantity) FROM supply_order_materials l " +
+            "WHERE l.supply_order_id = :supplyOrderId AND l.raw_material_id = raw_materials.id_material) " +
+            "WHERE id_material IN (" +
+            "SELECT l.raw_material_id FROM supply_order_materials l WHERE l.supply_order_id = :supplyOrderId)",
+            nativeQuery = true)
+    int applySupplyOrderReceipt(@Param("supplyOrderId") Long supplyOrderId);
+
+    /** Stock courant, ligne verrouillée jusqu'à la fin de la transaction (ajustement manuel). */
+    @Query(value = "SELECT stock FROM raw_materials WHERE id_material = :id FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockStock(@Param("id") Long id);
+
+    /** Version ensembliste de {@link #lockStock} ; verrous pris dans l'ordre des identifiants. */
+    @Query(value = "SELECT id_material AS id, stock FROM raw_materials " +
+            "WHERE id_material IN (:ids) ORDER BY id_material FOR UPDATE", nativeQuery = true)
+    List<StockLevel> lockStocks(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.idMaterial FROM RawMaterial m WHERE m.idMaterial IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.idMaterial FROM RawMaterial m WHERE m.name = :name")
+    List<Long> findIdsByName(@Param("name") String name);
+
+    @Query("SELECT new com.supplychainx.approvisionnement.ranking.MaterialSupplierLink(m.idMaterial, s.idSupplier) " +
+           "FROM RawMaterial m JOIN m.suppliers s")
+    List<MaterialSupplierLink> findSupplierLinks();
 }
@@ -1,16 +1,36 @@
 package com.supplychainx.approvisionnement.repository;
 
 import com.supplychainx.approvisionnement.entity.Supplier;
+import com.supplychainx.approvisionnement.ranking.SupplierProfile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     
     @Query("SELECT s FROM Supplier s WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Supplier> findByNameContainingIgnoreCase(@Param("name") String name);
+
+    List<Supplier> findByIdSupplierGreaterThanOrderByIdSupplierAsc(Long idSupplier, Limit limit);
+
+    @Query("SELECT s.idSupplier FROM Supplier s WHERE s.idSupplier IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.idSupplier FROM Supplier s WHERE s.name = :name")
+    List<Long> findIdsByName(@Param("name") String name);
+
+    @Query("SELECT new com.supplychainx.approvisionnement.ranking.SupplierProfile(" +
+           "s.idSupplier, s.name, s.rating, s.leadTime) FROM Supplier s")
+    List<SupplierProfile> findProfiles();
+
+    @Query("SELECT new com.supplychainx.approvisionnement.ranking.SupplierProfile(" +
+           "s.idSupplier, s.name, s.rating, s.leadTime) FROM Supplier s WHERE s.idSupplier IN :ids")
+    List<SupplierProfile> findProfiles(@Param("ids") Collection<Long> ids);
 }
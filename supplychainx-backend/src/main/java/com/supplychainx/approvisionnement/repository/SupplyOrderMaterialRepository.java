@@ -0,0 +1,43 @@
+package com.supplychainx.approvisionnement.repository;
+
+import com.supplychainx.approvisionnement.entity.SupplyOrderMaterial;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.common.export.StreamingExporter;
+import com.supplychainx.production.planning.ScheduledReceipt;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface SupplyOrderMaterialRepository extends JpaRepository<SupplyOrderMaterial, Long> {
+
+    @Query("SELECT l FROM SupplyOrderMaterial l " +
+           "JOIN FETCH l.supplyOrder so JOIN FETCH so.supplier JOIN FETCH l.rawMaterial " +
+           "ORDER BY so.idOrder, l.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SupplyOrderMaterial> streamAllForExport();
+
+    @Query("SELECT new com.supplychainx.production.planning.ScheduledReceipt(" +
+           "l.rawMaterial.idMaterial, l.quantity, so.orderDate, s.leadTime) " +
+           "FROM SupplyOrderMaterial l JOIN l.supplyOrder so JOIN so.supplier s " +
+           "WHERE so.status IN :statuses")
+    List<ScheduledReceipt> findScheduledReceipts(@Param("statuses") Collection<SupplyOrderStatus> statuses);
+
+    @Query("SELECT new com.supplychainx.approvisionnement.repository.OnOrderQuantity(" +
+           "l.rawMaterial.idMaterial, SUM(l.quantity)) " +
+           "FROM SupplyOrderMaterial l WHERE l.supplyOrder.status IN :statuses " +
+           "AND l.rawMaterial.idMaterial IN :materialIds GROUP BY l.rawMaterial.idMaterial")
+    List<OnOrderQuantity> sumOnOrder(@Param("materialIds") Collection<Long> materialIds,
+                                     @Param("statuses") Collection<SupplyOrderStatus> statuses);
+}
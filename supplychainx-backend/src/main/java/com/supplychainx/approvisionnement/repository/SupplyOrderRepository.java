@@ -2,15 +2,71 @@ package com.supplychainx.approvisionnement.repository;
 
 import com.supplychainx.approvisionnement.entity.SupplyOrder;
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.ranking.SupplierLoad;
+import com.supplychainx.common.repository.StatusCount;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SupplyOrderRepository extends JpaRepository<SupplyOrder, Long> {
     
     List<SupplyOrder> findByStatus(SupplyOrderStatus status);
     
+    /** Mise à jour d'une commande : les modifications concurrentes (lignes, réception) sont sérialisées. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM SupplyOrder o WHERE o.idOrder = :id")
+    Optional<SupplyOrder> findByIdForUpdate(@Param("id") Long id);
+
+    /** Réservé à la première réception : 0 si la commande a déjà été reçue (retry, doublon concurrent). */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "supply_orders"))
+    @Query(value = "UPDATE supply_orders SET received_at = :receivedAt " +
+            "WHERE id_order = :id AND received_at IS NULL", nativeQuery = true)
+    int markReceived(@Param("id") Long id, @Param("receivedAt") LocalDateTime receivedAt);
+
     long countBySupplier_IdSupplierAndStatusIn(Long supplierId, List<SupplyOrderStatus> statuses);
+
+    /** Version groupée de {@link #countBySupplier_IdSupplierAndStatusIn} ; les fournisseurs sans commande sont absents. */
+    @Query("SELECT new com.supplychainx.approvisionnement.ranking.SupplierLoad(o.supplier.idSupplier, COUNT(o)) " +
+           "FROM SupplyOrder o WHERE o.status IN :statuses GROUP BY o.supplier.idSupplier")
+    List<SupplierLoad> countBySupplierAndStatusIn(@Param("statuses") List<SupplyOrderStatus> statuses);
+
+    @Query("SELECT new com.supplychainx.approvisionnement.ranking.SupplierLoad(o.supplier.idSupplier, COUNT(o)) " +
+           "FROM SupplyOrder o WHERE o.supplier.idSupplier IN :supplierIds AND o.status IN :statuses " +
+           "GROUP BY o.supplier.idSupplier")
+    List<SupplierLoad> countBySupplierAndStatusIn(@Param("supplierIds") Collection<Long> supplierIds,
+                                                  @Param("statuses") List<SupplyOrderStatus> statuses);
+
+    @Override
+    @EntityGraph(attributePaths = "supplier")
+    Page<SupplyOrder> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "supplier")
+    Page<SupplyOrder> findByStatus(SupplyOrderStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "supplier")
+    List<SupplyOrder> findByIdOrderGreaterThanOrderByIdOrderAsc(Long idOrder, Limit limit);
+
+    @EntityGraph(attributePaths = "supplier")
+    List<SupplyOrder> findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(SupplyOrderStatus status, Long idOrder, Limit limit);
+
+    @Query("SELECT new com.supplychainx.common.repository.StatusCount(o.status, COUNT(o)) FROM SupplyOrder o GROUP BY o.status")
+    List<StatusCount> countGroupedByStatus();
 }
@@ -5,14 +5,30 @@ import com.supplychainx.approvisionnement.dto.RawMaterialResponseDTO;
 import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
 import com.supplychainx.approvisionnement.entity.RawMaterial;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.common.bulk.BulkBatch;
+import com.supplychainx.common.bulk.BulkRequestValidator;
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.bulk.JdbcBatchWriter;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
+import com.supplychainx.common.service.EntityCacheEvictor;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.service.InventoryLedgerService;
 import com.supplychainx.mapper.RawMaterialMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,8 +36,19 @@ import java.util.stream.Collectors;
 @Transactional
 public class RawMaterialService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "stock", "stockMin");
+
+    private static final String INSERT_SQL =
+            "INSERT INTO raw_materials (name, stock, stock_min, unit) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE raw_materials SET name = ?, stock = ?, stock_min = ?, unit = ? WHERE id_material = ?";
+
     private final RawMaterialRepository rawMaterialRepository;
     private final RawMaterialMapper rawMaterialMapper;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final BulkRequestValidator bulkRequestValidator;
+    private final JdbcBatchWriter jdbcBatchWriter;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     public RawMaterialResponseDTO createRawMaterial(RawMaterialCreateDTO dto) {
         RawMaterial material = new RawMaterial();
@@ -31,6 +58,8 @@ public class RawMaterialService {
         material.setUnit(dto.getUnit());
 
         material = rawMaterialRepository.save(material);
+        inventoryLedgerService.append(InventoryItemType.RAW_MATERIAL, material.getIdMaterial(),
+                MovementType.ADJUSTMENT, material.getStock(), MovementSource.OPENING_BALANCE, null);
 
         return rawMaterialMapper.toResponseDTO(material);
     }
@@ -40,6 +69,8 @@ public class RawMaterialService {
         RawMaterial material = rawMaterialRepository.findById(materialId)
                 .orElseThrow(() -> new ResourceNotFoundException("Matière première non trouvée avec l'ID: " + materialId));
 
+        inventoryLedgerService.recordAdjustment(InventoryItemType.RAW_MATERIAL, materialId, dto.getStock());
+
         material.setName(dto.getName());
         material.setStock(dto.getStock());
         material.setStockMin(dto.getStockMin());
@@ -51,6 +82,53 @@ public class RawMaterialService {
     }
 
 
+    public BulkResponseDTO bulkCreateRawMaterials(List<RawMaterialCreateDTO> rows) {
+        BulkBatch<RawMaterialCreateDTO> batch = bulkRequestValidator.validate(rows);
+        List<Integer> pending = batch.pending();
+
+        List<Long> ids = jdbcBatchWriter.insert(INSERT_SQL, pending, (statement, index) -> {
+            RawMaterialCreateDTO dto = batch.row(index);
+            statement.setString(1, dto.getName());
+            statement.setInt(2, dto.getStock());
+            statement.setInt(3, dto.getStockMin());
+            statement.setString(4, dto.getUnit());
+        });
+
+        Map<Long, Integer> openingBalances = new LinkedHashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            batch.succeed(pending.get(i), ids.get(i));
+            openingBalances.put(ids.get(i), batch.row(pending.get(i)).getStock());
+        }
+        inventoryLedgerService.appendAll(InventoryItemType.RAW_MATERIAL, MovementType.ADJUSTMENT,
+                MovementSource.OPENING_BALANCE, openingBalances);
+        return batch.toResponse(BulkBatch.CREATED);
+    }
+
+    public BulkResponseDTO bulkUpdateRawMaterials(List<BulkUpdateItemDTO<RawMaterialUpdateDTO>> rows) {
+        BulkBatch<BulkUpdateItemDTO<RawMaterialUpdateDTO>> batch = bulkRequestValidator.validate(rows);
+        batch.rejectDuplicates(BulkUpdateItemDTO::getId, "Identifiant en double dans la requête");
+
+        Map<Long, Integer> targetStocks = new LinkedHashMap<>();
+        batch.pending().forEach(index -> targetStocks.put(batch.row(index).getId(), batch.row(index).getData().getStock()));
+        Set<Long> found = inventoryLedgerService.recordAdjustments(InventoryItemType.RAW_MATERIAL, targetStocks);
+        batch.rejectIf(item -> found.contains(item.getId()) ? null
+                : "Matière première non trouvée avec l'ID: " + item.getId());
+
+        List<Integer> pending = batch.pending();
+        jdbcBatchWriter.update(UPDATE_SQL, pending, (statement, index) -> {
+            RawMaterialUpdateDTO dto = batch.row(index).getData();
+            statement.setString(1, dto.getName());
+            statement.setInt(2, dto.getStock());
+            statement.setInt(3, dto.getStockMin());
+            statement.setString(4, dto.getUnit());
+            statement.setLong(5, batch.row(index).getId());
+        });
+        pending.forEach(index -> batch.succeed(index, batch.row(index).getId()));
+        entityCacheEvictor.evict(RawMaterial.class, found);
+        return batch.toResponse(BulkBatch.UPDATED);
+    }
+
+
     public void deleteRawMaterial(Long materialId) {
         RawMaterial material = rawMaterialRepository.findById(materialId)
                 .orElseThrow(() -> new ResourceNotFoundException("Matière première non trouvée avec l'ID: " + materialId));
@@ -63,10 +141,12 @@ public class RawMaterialService {
         rawMaterialRepository.delete(material);
     }
 
-    public List<RawMaterialResponseDTO> getAllRawMaterials() {
-        return rawMaterialRepository.findAll().stream()
-                .map(rawMaterialMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public PageSlice<RawMaterialResponseDTO> getAllRawMaterials(PageQuery pageQuery) {
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idMaterial",
+                rawMaterialRepository::findAll,
+                rawMaterialRepository::findByIdMaterialGreaterThanOrderByIdMaterialAsc,
+                RawMaterial::getIdMaterial,
+                rawMaterialMapper::toResponseDTO);
     }
 
     public List<RawMaterialResponseDTO> getCriticalStockMaterials() {
@@ -0,0 +1,19 @@
+package com.supplychainx.approvisionnement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.replenishment.enabled", havingValue = "true", matchIfMissing = true)
+public class ReplenishmentScheduler {
+
+    private final ReplenishmentService replenishmentService;
+
+    @Scheduled(cron = "${app.replenishment.cron:0 */10 * * * *}")
+    public void replenish() {
+        replenishmentService.replenish(false);
+    }
+}
@@ -0,0 +1,165 @@
+package com.supplychainx.approvisionnement.service;
+
+import com.supplychainx.approvisionnement.dto.MaterialQuantityDTO;
+import com.supplychainx.approvisionnement.dto.ReplenishmentRunResponseDTO;
+import com.supplychainx.approvisionnement.dto.SupplierScoreDTO;
+import com.supplychainx.approvisionnement.dto.SupplyOrderCreateDTO;
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.OnOrderQuantity;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderMaterialRepository;
+import com.supplychainx.common.lease.JobLeaseService;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Réapprovisionnement automatique des matières sous leur seuil minimum.
+ * <p>
+ * Incrémental : seules les matières dont le stock a bougé depuis le dernier passage (journal
+ * des mouvements, fenêtre ]watermark, maintenant - settle-lag]) sont examinées ; le premier
+ * passage, ou un passage {@code full}, examine toutes les matières. La quantité commandée
+ * ramène le stock à {@code stockMin × target-factor}, déduction faite des quantités déjà en
+ * commande ouverte, si bien qu'une matière déjà couverte n'est pas recommandée.
+ * <p>
+ * Les lignes sont regroupées par fournisseur préféré ({@link SupplierRankingService}) en une
+ * commande EN_ATTENTE par fournisseur, toutes créées avec l'avancée du watermark dans une
+ * seule transaction. Un bail en base ({@link JobLeaseService}) garantit qu'un seul passage
+ * s'exécute à la fois, planifié ou déclenché par l'administration, sur n'importe quel nœud.
+ */
+@Slf4j
+@Service
+public class ReplenishmentService {
+
+    static final String JOB_NAME = "replenishment";
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final RawMaterialRepository rawMaterialRepository;
+    private final SupplyOrderMaterialRepository supplyOrderMaterialRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final SupplyOrderService supplyOrderService;
+    private final SupplierRankingService supplierRankingService;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final double targetFactor;
+    private final Duration settleLag;
+    private final Duration leaseTtl;
+
+    public ReplenishmentService(RawMaterialRepository rawMaterialRepository,
+                                SupplyOrderMaterialRepository supplyOrderMaterialRepository,
+                                InventoryMovementRepository inventoryMovementRepository,
+                                SupplyOrderService supplyOrderService,
+                                SupplierRankingService supplierRankingService,
+                                JobLeaseService jobLeaseService,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.replenishment.target-factor:2}") double targetFactor,
+                                @Value("${app.replenishment.settle-lag:PT1M}") Duration settleLag,
+                                @Value("${app.replenishment.lease-ttl:PT10M}") Duration leaseTtl) {
+        this.rawMaterialRepository = rawMaterialRepository;
+        this.supplyOrderMaterialRepository = supplyOrderMaterialRepository;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.supplyOrderService = supplyOrderService;
+        this.supplierRankingService = supplierRankingService;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = transactionTemplate;
+        this.targetFactor = targetFactor;
+        this.settleLag = settleLag;
+        this.leaseTtl = leaseTtl;
+    }
+
+    public ReplenishmentRunResponseDTO replenish(boolean full) {
+        Optional<String> lease = jobLeaseService.tryAcquire(JOB_NAME, leaseTtl);
+        if (lease.isEmpty()) {
+            log.info("Replenishment skipped: lease held by another run");
+            return new ReplenishmentRunResponseDTO(false, null, null, 0, 0, 0, List.of(), List.of());
+        }
+        try {
+            return transactionTemplate.execute(status -> run(lease.get(), full, LocalDateTime.now().minus(settleLag)));
+        } finally {
+            jobLeaseService.release(JOB_NAME, lease.get());
+        }
+    }
+
+    private ReplenishmentRunResponseDTO run(String lease, boolean full, LocalDateTime asOf) {
+        LocalDateTime since = full ? null : jobLeaseService.watermark(JOB_NAME).orElse(null);
+        List<RawMaterial> belowMin;
+        int examined;
+        if (since == null) {
+            belowMin = rawMaterialRepository.findMaterialsBelowMinStock();
+            examined = (int) rawMaterialRepository.count();
+        } else {
+            List<Long> moved = inventoryMovementRepository.findItemIdsMovedBetween(
+                    InventoryItemType.RAW_MATERIAL, since, asOf);
+            examined = moved.size();
+            belowMin = new ArrayList<>();
+            for (List<Long> chunk : chunks(moved)) {
+                belowMin.addAll(rawMaterialRepository.findMaterialsBelowMinStock(chunk));
+            }
+        }
+
+        Map<Long, Long> onOrder = new HashMap<>();
+        for (List<Long> chunk : chunks(belowMin.stream().map(RawMaterial::getIdMaterial).toList())) {
+            for (OnOrderQuantity quantity : supplyOrderMaterialRepository.sumOnOrder(chunk, SupplierRankingService.OPEN_STATUSES)) {
+                onOrder.put(quantity.materialId(), quantity.quantity());
+            }
+        }
+
+        Map<Long, List<MaterialQuantityDTO>> linesBySupplier = new TreeMap<>();
+        List<Long> withoutSupplier = new ArrayList<>();
+        int lines = 0;
+        for (RawMaterial material : belowMin) {
+            long quantity = reorderQuantity(material, onOrder.getOrDefault(material.getIdMaterial(), 0L));
+            if (quantity <= 0) {
+                continue;
+            }
+            Optional<SupplierScoreDTO> supplier = supplierRankingService.preferredSupplier(material.getIdMaterial());
+            if (supplier.isEmpty()) {
+                withoutSupplier.add(material.getIdMaterial());
+                continue;
+            }
+            linesBySupplier.computeIfAbsent(supplier.get().getIdSupplier(), id -> new ArrayList<>())
+                    .add(new MaterialQuantityDTO(material.getIdMaterial(), Math.toIntExact(quantity)));
+            lines++;
+        }
+
+        List<Long> orderIds = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        linesBySupplier.forEach((supplierId, materials) -> orderIds.add(supplyOrderService.createSupplyOrder(
+                new SupplyOrderCreateDTO(supplierId, materials, today, SupplyOrderStatus.EN_ATTENTE.name())).getIdOrder()));
+        jobLeaseService.advanceWatermark(JOB_NAME, lease, asOf);
+
+        if (!withoutSupplier.isEmpty()) {
+            log.warn("Replenishment: no supplier linked to materials {}", withoutSupplier);
+        }
+        log.info("Replenishment since {} as of {}: {} materials examined, {} below minimum, {} lines in {} supply orders",
+                since, asOf, examined, belowMin.size(), lines, orderIds.size());
+        return new ReplenishmentRunResponseDTO(true, since, asOf, examined, belowMin.size(), lines, orderIds, withoutSupplier);
+    }
+
+    private long reorderQuantity(RawMaterial material, long onOrder) {
+        long target = (long) Math.ceil(material.getStockMin() * targetFactor);
+        return target - material.getStock() - onOrder;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + IN_CLAUSE_CHUNK)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,176 @@
+package com.supplychainx.approvisionnement.service;
+
+import com.supplychainx.approvisionnement.dto.SupplierScoreDTO;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.ranking.SupplierRankingIndex;
+import com.supplychainx.approvisionnement.ranking.SupplierScoring;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Classement des fournisseurs candidats de chaque matière première (note, délai, commandes
+ * ouvertes), précalculé en mémoire : une consultation ne touche pas la base.
+ * <p>
+ * Les services d'écriture signalent les fournisseurs dont la charge ou les attributs changent ;
+ * ces signaux sont regroupés par transaction et appliqués après le commit, en une requête
+ * groupée par type. Le classement complet est reconstruit au démarrage puis périodiquement
+ * ({@code app.supplier-ranking.rebuild-cron}) pour reprendre les liens matière-fournisseur
+ * et toute écriture faite hors de l'application.
+ */
+@Slf4j
+@Service
+public class SupplierRankingService {
+
+    public static final List<SupplyOrderStatus> OPEN_STATUSES =
+            List.of(SupplyOrderStatus.EN_ATTENTE, SupplyOrderStatus.EN_COURS);
+
+    private final SupplierRepository supplierRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final SupplyOrderRepository supplyOrderRepository;
+    private final SupplierRankingIndex index;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SupplierRankingService(SupplierRepository supplierRepository,
+                                  RawMaterialRepository rawMaterialRepository,
+                                  SupplyOrderRepository supplyOrderRepository,
+                                  @Value("${app.supplier-ranking.weight.rating:0.5}") double ratingWeight,
+                                  @Value("${app.supplier-ranking.weight.lead-time:0.3}") double leadTimeWeight,
+                                  @Value("${app.supplier-ranking.weight.load:0.2}") double loadWeight,
+                                  @Value("${app.supplier-ranking.rating-scale:5}") double ratingScale) {
+        this.supplierRepository = supplierRepository;
+        this.rawMaterialRepository = rawMaterialRepository;
+        this.supplyOrderRepository = supplyOrderRepository;
+        this.index = new SupplierRankingIndex(new SupplierScoring(ratingWeight, leadTimeWeight, loadWeight, ratingScale));
+    }
+
+    public List<SupplierScoreDTO> rankSuppliers(Long materialId, int limit) {
+        if (limit < 1) {
+            throw new BusinessRuleException("Le paramètre limit doit être supérieur à 0");
+        }
+        List<SupplierScoreDTO> ranking = index.ranking(materialId);
+        if (ranking.isEmpty() && !rawMaterialRepository.existsById(materialId)) {
+            throw new ResourceNotFoundException("Matière première non trouvée avec l'ID: " + materialId);
+        }
+        return ranking.size() <= limit ? ranking : ranking.subList(0, limit);
+    }
+
+    /** Meilleur fournisseur candidat, vide si la matière n'a aucun fournisseur. */
+    public Optional<SupplierScoreDTO> preferredSupplier(Long materialId) {
+        List<SupplierScoreDTO> ranking = index.ranking(materialId);
+        return ranking.isEmpty() ? Optional.empty() : Optional.of(ranking.get(0));
+    }
+
+    /** Création, modification ou suppression d'une commande ; sans effet si la charge ne change pas. */
+    public void supplyOrderChanged(Long previousSupplierId, SupplyOrderStatus previousStatus,
+                                   Long supplierId, SupplyOrderStatus status) {
+        boolean wasOpen = previousSupplierId != null && OPEN_STATUSES.contains(previousStatus);
+        boolean isOpen = supplierId != null && OPEN_STATUSES.contains(status);
+        if (wasOpen == isOpen && (!isOpen || previousSupplierId.equals(supplierId))) {
+            return;
+        }
+        PendingRefresh pending = pending();
+        if (wasOpen) {
+            pending.loads.add(previousSupplierId);
+        }
+        if (isOpen) {
+            pending.loads.add(supplierId);
+        }
+        refreshIfNoTransaction(pending);
+    }
+
+    public void suppliersChanged(Collection<Long> supplierIds) {
+        PendingRefresh pending = pending();
+        pending.profiles.addAll(supplierIds);
+        refreshIfNoTransaction(pending);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.supplier-ranking.rebuild-cron:0 */15 * * * *}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            index.rebuild(supplierRepository.findProfiles(),
+                    rawMaterialRepository.findSupplierLinks(),
+                    supplyOrderRepository.countBySupplierAndStatusIn(OPEN_STATUSES));
+        } finally {
+            lock.unlock();
+        }
+        log.info("Supplier ranking rebuilt in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Lecture et mise à jour sous le même verrou : deux commits concurrents ne peuvent pas
+    // publier leurs comptages dans le désordre
+    private void refresh(PendingRefresh pending) {
+        lock.lock();
+        try {
+            if (!pending.profiles.isEmpty()) {
+                index.updateSuppliers(pending.profiles, supplierRepository.findProfiles(pending.profiles));
+            }
+            if (!pending.loads.isEmpty()) {
+                index.updateOpenOrders(pending.loads,
+                        supplyOrderRepository.countBySupplierAndStatusIn(pending.loads, OPEN_STATUSES));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Supplier ranking refresh failed, stale until next rebuild: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PendingRefresh pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingRefresh();
+        }
+        PendingRefresh pending = (PendingRefresh) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingRefresh created = new PendingRefresh();
+            created.transactional = true;
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SupplierRankingService.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void refreshIfNoTransaction(PendingRefresh pending) {
+        if (!pending.transactional) {
+            refresh(pending);
+        }
+    }
+
+    private static final class PendingRefresh {
+
+        private final Set<Long> loads = new HashSet<>();
+        private final Set<Long> profiles = new HashSet<>();
+        private boolean transactional;
+    }
+}
@@ -7,6 +7,15 @@ import com.supplychainx.approvisionnement.entity.Supplier;
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
 import com.supplychainx.approvisionnement.repository.SupplierRepository;
 import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.bulk.BulkBatch;
+import com.supplychainx.common.bulk.BulkRequestValidator;
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.bulk.JdbcBatchWriter;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
+import com.supplychainx.common.service.EntityCacheEvictor;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.SupplierMapper;
@@ -15,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,9 +32,20 @@ import java.util.stream.Collectors;
 @Transactional
 public class SupplierService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "rating", "leadTime");
+
+    private static final String INSERT_SQL =
+            "INSERT INTO suppliers (name, contact, rating, lead_time) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE suppliers SET name = ?, contact = ?, rating = ?, lead_time = ? WHERE id_supplier = ?";
+
     private final SupplierRepository supplierRepository;
     private final SupplyOrderRepository supplyOrderRepository;
     private final SupplierMapper supplierMapper;
+    private final BulkRequestValidator bulkRequestValidator;
+    private final JdbcBatchWriter jdbcBatchWriter;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final SupplierRankingService supplierRankingService;
 
 
     public SupplierResponseDTO createSupplier(SupplierCreateDTO dto) {
@@ -39,6 +60,47 @@ public class SupplierService {
         return supplierMapper.toResponseDTO(supplier);
     }
 
+    public BulkResponseDTO bulkCreateSuppliers(List<SupplierCreateDTO> rows) {
+        BulkBatch<SupplierCreateDTO> batch = bulkRequestValidator.validate(rows);
+        List<Integer> pending = batch.pending();
+
+        List<Long> ids = jdbcBatchWriter.insert(INSERT_SQL, pending, (statement, index) -> {
+            SupplierCreateDTO dto = batch.row(index);
+            statement.setString(1, dto.getName());
+            statement.setString(2, dto.getContact());
+            statement.setDouble(3, dto.getRating());
+            statement.setInt(4, dto.getLeadTime());
+        });
+        for (int i = 0; i < pending.size(); i++) {
+            batch.succeed(pending.get(i), ids.get(i));
+        }
+        return batch.toResponse(BulkBatch.CREATED);
+    }
+
+    public BulkResponseDTO bulkUpdateSuppliers(List<BulkUpdateItemDTO<SupplierUpdateDTO>> rows) {
+        BulkBatch<BulkUpdateItemDTO<SupplierUpdateDTO>> batch = bulkRequestValidator.validate(rows);
+        batch.rejectDuplicates(BulkUpdateItemDTO::getId, "Identifiant en double dans la requête");
+
+        Set<Long> found = supplierRepository.findExistingIds(
+                batch.pending().stream().map(index -> batch.row(index).getId()).toList());
+        batch.rejectIf(item -> found.contains(item.getId()) ? null
+                : "Fournisseur non trouvé avec l'ID: " + item.getId());
+
+        List<Integer> pending = batch.pending();
+        jdbcBatchWriter.update(UPDATE_SQL, pending, (statement, index) -> {
+            SupplierUpdateDTO dto = batch.row(index).getData();
+            statement.setString(1, dto.getName());
+            statement.setString(2, dto.getContact());
+            statement.setDouble(3, dto.getRating());
+            statement.setInt(4, dto.getLeadTime());
+            statement.setLong(5, batch.row(index).getId());
+        });
+        pending.forEach(index -> batch.succeed(index, batch.row(index).getId()));
+        entityCacheEvictor.evict(Supplier.class, found);
+        supplierRankingService.suppliersChanged(found);
+        return batch.toResponse(BulkBatch.UPDATED);
+    }
+
     public SupplierResponseDTO updateSupplier(Long supplierId, SupplierUpdateDTO dto) {
         Supplier supplier = supplierRepository.findById(supplierId)
                 .orElseThrow(() -> new ResourceNotFoundException("Fournisseur non trouvé avec l'ID: " + supplierId));
@@ -49,6 +111,7 @@ public class SupplierService {
         supplier.setLeadTime(dto.getLeadTime());
 
         supplier = supplierRepository.save(supplier);
+        supplierRankingService.suppliersChanged(List.of(supplierId));
 
         return supplierMapper.toResponseDTO(supplier);
     }
@@ -67,6 +130,7 @@ public class SupplierService {
                     "Impossible de supprimer le fournisseur : il a des commandes actives (EN_ATTENTE ou EN_COURS)");
         }
         supplierRepository.delete(supplier);
+        supplierRankingService.suppliersChanged(List.of(supplierId));
     }
 
     public SupplierResponseDTO getSupplierById(Long supplierId) {
@@ -75,10 +139,12 @@ public class SupplierService {
         return supplierMapper.toResponseDTO(supplier);
     }
 
-    public List<SupplierResponseDTO> getAllSuppliers() {
-        return supplierRepository.findAll().stream()
-                .map(supplierMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public PageSlice<SupplierResponseDTO> getAllSuppliers(PageQuery pageQuery) {
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idSupplier",
+                supplierRepository::findAll,
+                supplierRepository::findByIdSupplierGreaterThanOrderByIdSupplierAsc,
+                Supplier::getIdSupplier,
+                supplierMapper::toResponseDTO);
     }
 
     public List<SupplierResponseDTO> searchSuppliersByName(String name) {
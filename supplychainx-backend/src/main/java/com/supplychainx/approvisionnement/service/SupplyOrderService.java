@@ -8,9 +8,19 @@ import com.supplychainx.approvisionnement.entity.SupplyOrderMaterial;
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
 import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderMaterialRepository;
 import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.common.export.ExportColumn;
+import com.supplychainx.common.export.ExportFormat;
+import com.supplychainx.common.export.StreamingExporter;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.service.StockReceiptService;
 import com.supplychainx.mapper.RawMaterialMapper;
 import com.supplychainx.mapper.SupplierMapper;
 import com.supplychainx.mapper.SupplyOrderMapper;
@@ -18,20 +28,41 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 
 @Service
 @RequiredArgsConstructor
 public class SupplyOrderService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("orderDate", "status");
+
+    private static final List<ExportColumn<SupplyOrderMaterial>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("idOrder", l -> l.getSupplyOrder().getIdOrder()),
+            ExportColumn.of("orderDate", l -> l.getSupplyOrder().getOrderDate()),
+            ExportColumn.of("status", l -> l.getSupplyOrder().getStatus()),
+            ExportColumn.of("supplierId", l -> l.getSupplyOrder().getSupplier().getIdSupplier()),
+            ExportColumn.of("supplierName", l -> l.getSupplyOrder().getSupplier().getName()),
+            ExportColumn.of("lineId", SupplyOrderMaterial::getId),
+            ExportColumn.of("materialId", l -> l.getRawMaterial().getIdMaterial()),
+            ExportColumn.of("materialName", l -> l.getRawMaterial().getName()),
+            ExportColumn.of("quantity", SupplyOrderMaterial::getQuantity),
+            ExportColumn.of("unit", l -> l.getRawMaterial().getUnit()));
+
     private final SupplyOrderRepository supplyOrderRepository;
+    private final SupplyOrderMaterialRepository supplyOrderMaterialRepository;
     private final SupplierRepository supplierRepository;
     private final RawMaterialRepository rawMaterialRepository;
     private final SupplyOrderMapper supplyOrderMapper;
     private final SupplierMapper supplierMapper;
     private final RawMaterialMapper rawMaterialMapper;
+    private final StreamingExporter streamingExporter;
+    private final StockReceiptService stockReceiptService;
+    private final SupplierRankingService supplierRankingService;
+    private final StatusEventBus statusEventBus;
 
     @Transactional
     public SupplyOrderResponseDTO createSupplyOrder(SupplyOrderCreateDTO dto) {
@@ -58,22 +89,39 @@ public class SupplyOrderService {
         }
 
         SupplyOrder savedOrder = supplyOrderRepository.save(order);
+        if (savedOrder.getStatus() == SupplyOrderStatus.RECUE) {
+            stockReceiptService.receive(savedOrder);
+        }
+        supplierRankingService.supplyOrderChanged(null, null, supplier.getIdSupplier(), savedOrder.getStatus());
+        statusEventBus.statusChanged(EntityType.SUPPLY_ORDER, savedOrder.getIdOrder(), null, savedOrder.getStatus());
         return supplyOrderMapper.toResponseDTO(savedOrder);
     }
 
     @Transactional
     public SupplyOrderResponseDTO updateSupplyOrder(Long id, SupplyOrderUpdateDTO dto) {
-        SupplyOrder order = supplyOrderRepository.findById(id)
+        SupplyOrder order = supplyOrderRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Commande non trouvée avec l'ID: " + id));
 
+        SupplyOrderStatus newStatus = SupplyOrderStatus.valueOf(dto.getStatus());
+        if (order.getStatus() == SupplyOrderStatus.RECUE) {
+            // Réception déjà appliquée au stock : un nouvel envoi RECUE (retry) est sans effet
+            if (newStatus == SupplyOrderStatus.RECUE) {
+                return supplyOrderMapper.toResponseDTO(order);
+            }
+            throw new BusinessRuleException(
+                    "Impossible de modifier une commande déjà reçue (statut RECUE)");
+        }
+
         Supplier supplier = supplierRepository.findById(dto.getSupplierId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Fournisseur non trouvé avec l'ID: " + dto.getSupplierId()));
 
+        Long previousSupplierId = order.getSupplier().getIdSupplier();
+        SupplyOrderStatus previousStatus = order.getStatus();
         order.setSupplier(supplier);
         order.setOrderDate(dto.getOrderDate());
-        order.setStatus(SupplyOrderStatus.valueOf(dto.getStatus()));
+        order.setStatus(newStatus);
         
         order.getOrderMaterials().clear();
         
@@ -91,6 +139,11 @@ public class SupplyOrderService {
         }
 
         SupplyOrder updatedOrder = supplyOrderRepository.save(order);
+        if (newStatus == SupplyOrderStatus.RECUE) {
+            stockReceiptService.receive(updatedOrder);
+        }
+        supplierRankingService.supplyOrderChanged(previousSupplierId, previousStatus, supplier.getIdSupplier(), newStatus);
+        statusEventBus.statusChanged(EntityType.SUPPLY_ORDER, id, previousStatus, newStatus);
         return supplyOrderMapper.toResponseDTO(updatedOrder);
     }
 
@@ -106,21 +159,37 @@ public class SupplyOrderService {
         }
 
         supplyOrderRepository.delete(order);
+        statusEventBus.statusChanged(EntityType.SUPPLY_ORDER, id, order.getStatus(), null);
+        supplierRankingService.supplyOrderChanged(order.getSupplier().getIdSupplier(), order.getStatus(), null, null);
     }
 
     @Transactional(readOnly = true)
-    public List<SupplyOrderResponseDTO> getAllSupplyOrders() {
-        return supplyOrderRepository.findAll().stream()
-                .map(supplyOrderMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public PageSlice<SupplyOrderResponseDTO> getAllSupplyOrders(PageQuery pageQuery) {
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idOrder",
+                supplyOrderRepository::findAll,
+                supplyOrderRepository::findByIdOrderGreaterThanOrderByIdOrderAsc,
+                SupplyOrder::getIdOrder,
+                supplyOrderMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
-    public List<SupplyOrderResponseDTO> getSupplyOrdersByStatus(String status) {
+    public PageSlice<SupplyOrderResponseDTO> getSupplyOrdersByStatus(String status, PageQuery pageQuery) {
         SupplyOrderStatus orderStatus = SupplyOrderStatus.valueOf(status);
-        
-        return supplyOrderRepository.findByStatus(orderStatus).stream()
-                .map(supplyOrderMapper::toResponseDTO)
-                .collect(Collectors.toList());
+
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idOrder",
+                pageable -> supplyOrderRepository.findByStatus(orderStatus, pageable),
+                (afterId, limit) -> supplyOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(orderStatus, afterId, limit),
+                SupplyOrder::getIdOrder,
+                supplyOrderMapper::toResponseDTO);
+    }
+
+    /**
+     * One row per order line, ordered by supply order then line, so each order's
+     * lines are contiguous in the output.
+     */
+    @Transactional(readOnly = true)
+    public long exportSupplyOrders(ExportFormat format, OutputStream out) throws IOException {
+        return streamingExporter.export(supplyOrderMaterialRepository.streamAllForExport(), format, EXPORT_COLUMNS, out,
+                line -> List.of(line, line.getSupplyOrder()));
     }
 }
@@ -0,0 +1,84 @@
+package com.supplychainx.common.bulk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Suivi ligne par ligne d'une requête en masse : les lignes sont d'abord en attente (ou
+ * rejetées par la validation) puis rejetées avec un motif ou validées avec leur identifiant.
+ */
+public final class BulkBatch<T> {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String REJECTED = "REJECTED";
+
+    private final List<T> rows;
+    private final Map<Integer, List<String>> errors;
+    private final Map<Integer, Long> ids = new HashMap<>();
+
+    BulkBatch(List<T> rows, Map<Integer, List<String>> errors) {
+        this.rows = rows;
+        this.errors = new TreeMap<>(errors);
+    }
+
+    /** Index des lignes ni rejetées ni traitées, dans l'ordre de la requête. */
+    public List<Integer> pending() {
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (!errors.containsKey(i) && !ids.containsKey(i)) {
+                pending.add(i);
+            }
+        }
+        return pending;
+    }
+
+    public T row(int index) {
+        return rows.get(index);
+    }
+
+    public void reject(int index, String error) {
+        errors.computeIfAbsent(index, i -> new ArrayList<>()).add(error);
+    }
+
+    /** Rejette chaque ligne en attente pour laquelle {@code check} renvoie un message d'erreur. */
+    public void rejectIf(Function<T, String> check) {
+        for (int index : pending()) {
+            String error = check.apply(rows.get(index));
+            if (error != null) {
+                reject(index, error);
+            }
+        }
+    }
+
+    /** Rejette les lignes en attente dont la clé figure déjà sur une ligne précédente en attente. */
+    public void rejectDuplicates(Function<T, Object> key, String error) {
+        Set<Object> seen = new HashSet<>();
+        for (int index : pending()) {
+            if (!seen.add(key.apply(rows.get(index)))) {
+                reject(index, error);
+            }
+        }
+    }
+
+    public void succeed(int index, Long id) {
+        ids.put(index, id);
+    }
+
+    public BulkResponseDTO toResponse(String successStatus) {
+        List<BulkRowResultDTO> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> rowErrors = errors.get(i);
+            results.add(rowErrors != null
+                    ? new BulkRowResultDTO(i, REJECTED, null, rowErrors)
+                    : new BulkRowResultDTO(i, successStatus, ids.get(i), List.of()));
+        }
+        return new BulkResponseDTO(rows.size(), rows.size() - errors.size(), errors.size(), results);
+    }
+}
@@ -0,0 +1,55 @@
+package com.supplychainx.common.bulk;
+
+import com.supplychainx.exception.BusinessRuleException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Valide toutes les lignes d'une requête en masse avant traitement. Les lignes invalides sont
+ * signalées une à une, au lieu de rejeter toute la requête comme le ferait {@code @Valid} sur une liste.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkRequestValidator {
+
+    private final Validator validator;
+
+    @Value("${app.bulk.max-rows:5000}")
+    private int maxRows;
+
+    public <T> BulkBatch<T> validate(List<T> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new BusinessRuleException("La requête doit contenir au moins une ligne");
+        }
+        if (rows.size() > maxRows) {
+            throw new BusinessRuleException(
+                    "La requête contient " + rows.size() + " lignes (maximum: " + maxRows + ")");
+        }
+
+        Map<Integer, List<String>> errors = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            T row = rows.get(i);
+            if (row == null) {
+                errors.put(i, List.of("Ligne vide"));
+                continue;
+            }
+            List<String> messages = new ArrayList<>();
+            for (ConstraintViolation<T> violation : validator.validate(row)) {
+                messages.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            if (!messages.isEmpty()) {
+                messages.sort(null);
+                errors.put(i, messages);
+            }
+        }
+        return new BulkBatch<>(rows, errors);
+    }
+}
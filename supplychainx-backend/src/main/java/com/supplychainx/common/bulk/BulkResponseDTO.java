@@ -0,0 +1,18 @@
+package com.supplychainx.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResponseDTO {
+
+    private Integer received;
+    private Integer succeeded;
+    private Integer rejected;
+    private List<BulkRowResultDTO> results;
+}
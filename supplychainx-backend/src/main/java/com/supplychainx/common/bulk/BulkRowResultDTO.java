@@ -0,0 +1,18 @@
+package com.supplychainx.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRowResultDTO {
+
+    private Integer index;
+    private String status;
+    private Long id;
+    private List<String> errors;
+}
@@ -0,0 +1,20 @@
+package com.supplychainx.common.bulk;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateItemDTO<T> {
+
+    @NotNull(message = "L'identifiant est obligatoire")
+    private Long id;
+
+    @Valid
+    @NotNull(message = "Les données de la ligne sont obligatoires")
+    private T data;
+}
@@ -0,0 +1,72 @@
+package com.supplychainx.common.bulk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Écritures JDBC par lots pour les traitements en masse. Hibernate ne sait pas regrouper les
+ * insertions dans une table IDENTITY (il lui faut chaque identifiant aussitôt) : les lignes
+ * passent donc ici par {@code addBatch}/{@code executeBatch}, et les clés générées sont relues
+ * à chaque lot. S'exécute sur la connexion de la transaction JPA de l'appelant ; l'URL MySQL
+ * active {@code rewriteBatchedStatements=true} pour que chaque lot devienne une seule
+ * instruction multi-lignes.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.bulk.jdbc-batch-size:500}")
+    private int batchSize;
+
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /** @return les identifiants générés, dans l'ordre de {@code rows} */
+    public <T> List<Long> insert(String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> ids = new ArrayList<>(rows.size());
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < rows.size(); start += batchSize) {
+                    for (T row : rows.subList(start, Math.min(start + batchSize, rows.size()))) {
+                        binder.bind(statement, row);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids.add(keys.getLong(1));
+                        }
+                    }
+                }
+            }
+            if (ids.size() != rows.size()) {
+                throw new IllegalStateException(
+                        rows.size() + " clés générées attendues, " + ids.size() + " reçues");
+            }
+            return ids;
+        });
+    }
+
+    public <T> void update(String sql, List<T> rows, RowBinder<T> binder) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows, batchSize, binder::bind);
+        }
+    }
+}
@@ -1,17 +1,32 @@
 package com.supplychainx.common.controller;
 
+import com.supplychainx.approvisionnement.dto.ReplenishmentRunResponseDTO;
+import com.supplychainx.approvisionnement.service.ReplenishmentService;
+import com.supplychainx.common.dto.CacheRegionStatsDTO;
+import com.supplychainx.common.service.CacheStatisticsService;
+import com.supplychainx.inventory.dto.SnapshotRunResponseDTO;
+import com.supplychainx.inventory.service.InventorySnapshotService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
+@RequiredArgsConstructor
 public class AdminController {
 
+    private final CacheStatisticsService cacheStatisticsService;
+    private final InventorySnapshotService inventorySnapshotService;
+    private final ReplenishmentService replenishmentService;
+
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getStats() {
         Map<String, Object> stats = new HashMap<>();
@@ -20,4 +35,19 @@ public class AdminController {
         stats.put("totalProducts", 0);
         return ResponseEntity.ok(stats);
     }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStatistics());
+    }
+
+    @PostMapping("/inventory-snapshots")
+    public ResponseEntity<SnapshotRunResponseDTO> takeInventorySnapshots() {
+        return ResponseEntity.ok(inventorySnapshotService.takeSnapshots());
+    }
+
+    @PostMapping("/replenishment-runs")
+    public ResponseEntity<ReplenishmentRunResponseDTO> runReplenishment(@RequestParam(defaultValue = "false") boolean full) {
+        return ResponseEntity.ok(replenishmentService.replenish(full));
+    }
 }
@@ -0,0 +1,69 @@
+package com.supplychainx.common.controller;
+
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusEventBus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Tag(name = "Événements", description = "Changements de statut poussés aux clients en Server-Sent Events")
+public class StatusEventController {
+
+    // Mêmes rôles que les routes de chaque type (SecurityConfig) : /api/orders/**, /api/deliveries/**, ...
+    private static final Map<EntityType, Set<String>> READER_ROLES = Map.of(
+            EntityType.ORDER, Set.of("ROLE_GESTIONNAIRE_COMMERCIAL", "ROLE_RESPONSABLE_LOGISTIQUE", "ROLE_ADMIN"),
+            EntityType.DELIVERY, Set.of("ROLE_RESPONSABLE_LOGISTIQUE", "ROLE_SUPERVISEUR_LIVRAISONS", "ROLE_ADMIN"),
+            EntityType.PRODUCTION_ORDER, Set.of("ROLE_CHEF_PRODUCTION", "ROLE_SUPERVISEUR_PRODUCTION", "ROLE_PLANIFICATEUR", "ROLE_ADMIN"),
+            EntityType.SUPPLY_ORDER, Set.of("ROLE_GESTIONNAIRE_APPROVISIONNEMENT", "ROLE_RESPONSABLE_ACHATS", "ROLE_ADMIN"));
+
+    private final StatusEventBus statusEventBus;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "S'abonner aux changements de statut",
+            description = "Un événement par changement validé (nom = type d'entité, données = identifiant, ancien et " +
+                    "nouveau statut, nouveau statut nul pour une annulation), filtré par types (ORDER, DELIVERY, PRODUCTION_ORDER, SUPPLY_ORDER) et par " +
+                    "nouveau statut (ancien statut pour une annulation) ; sans filtre de type, tous les types lisibles " +
+                    "par les rôles de l'utilisateur, un type non lisible est refusé (403). Un abonné trop lent est " +
+                    "déconnecté et doit recharger ses listes après reconnexion")
+    public SseEmitter stream(@RequestParam(required = false) List<EntityType> types,
+                             @RequestParam(required = false) List<String> statuses,
+                             Authentication authentication) {
+        Set<EntityType> readable = readableTypes(authentication);
+        Set<EntityType> requested = types == null || types.isEmpty() ? readable : EnumSet.copyOf(types);
+        if (requested.isEmpty() || !readable.containsAll(requested)) {
+            throw new AccessDeniedException("types d'entité non autorisés pour ce rôle");
+        }
+        return statusEventBus.subscribe(requested, statuses == null ? Set.of() : Set.copyOf(statuses));
+    }
+
+    private static Set<EntityType> readableTypes(Authentication authentication) {
+        Set<String> authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+        Set<EntityType> readable = EnumSet.noneOf(EntityType.class);
+        READER_ROLES.forEach((type, roles) -> {
+            if (roles.stream().anyMatch(authorities::contains)) {
+                readable.add(type);
+            }
+        });
+        return readable;
+    }
+}
@@ -0,0 +1,18 @@
+package com.supplychainx.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDTO {
+
+    private String region;
+    private Long size;
+    private Long hits;
+    private Long misses;
+    private Double hitRate;
+    private Long evictions;
+}
@@ -0,0 +1,8 @@
+package com.supplychainx.common.events;
+
+public enum EntityType {
+    ORDER,
+    DELIVERY,
+    PRODUCTION_ORDER,
+    SUPPLY_ORDER
+}
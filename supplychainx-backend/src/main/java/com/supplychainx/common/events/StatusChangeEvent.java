@@ -0,0 +1,19 @@
+package com.supplychainx.common.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Changement de statut validé sur une entité. {@code previousStatus} est nul à la création de
+ * l'entité, {@code status} est nul à son annulation (entité supprimée) ; {@code sequence} est
+ * l'identifiant du changement dans l'outbox. {@code previousDimensions} et {@code dimensions}
+ * décrivent l'entité avant et après l'écriture qui a changé son statut.
+ */
+public record StatusChangeEvent(long sequence,
+                                EntityType entityType,
+                                Long entityId,
+                                String previousStatus,
+                                String status,
+                                LocalDateTime occurredAt,
+                                StatusDimensions previousDimensions,
+                                StatusDimensions dimensions) {
+}
@@ -0,0 +1,12 @@
+package com.supplychainx.common.events;
+
+/**
+ * Données d'un changement de statut poussé aux abonnés SSE : identifiant de l'entité, ancien et
+ * nouveau statut. Les dimensions des indicateurs (ville, quantité, coût) restent dans l'outbox.
+ */
+public record StatusChangeMessage(Long entityId, String previousStatus, String status) {
+
+    static StatusChangeMessage of(StatusChangeEvent event) {
+        return new StatusChangeMessage(event.entityId(), event.previousStatus(), event.status());
+    }
+}
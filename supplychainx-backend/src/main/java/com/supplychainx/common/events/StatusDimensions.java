@@ -0,0 +1,11 @@
+package com.supplychainx.common.events;
+
+/**
+ * Dimensions et mesures d'une entité au moment d'un changement de statut, enregistrées avec lui
+ * dans l'outbox : produit, ville du client, quantité et montant (coût de livraison). Champs nuls
+ * quand l'entité n'en a pas.
+ */
+public record StatusDimensions(Long productId, String city, Integer quantity, Double amount) {
+
+    public static final StatusDimensions NONE = new StatusDimensions(null, null, null, null);
+}
@@ -0,0 +1,263 @@
+package com.supplychainx.common.events;
+
+import com.supplychainx.common.outbox.OutboxEvent;
+import com.supplychainx.common.outbox.OutboxWriter;
+import com.supplychainx.exception.BusinessRuleException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bus en mémoire des changements de statut des entités, poussés aux abonnés Server-Sent Events.
+ * <p>
+ * Les chemins d'écriture appellent {@link #statusChanged}, qui enregistre le changement dans
+ * l'outbox dans la transaction de l'appelant (voir {@link OutboxWriter})
+ * et le retient jusqu'au commit : un abonné ne voit jamais un changement annulé. Chaque abonné
+ * filtre sur les types d'entité et les statuts et dispose de son propre buffer borné, vidé vers
+ * sa connexion par un petit pool partagé (au plus une tâche d'envoi par abonné à la fois). Un
+ * abonné dont le buffer se remplit est trop lent pour le débit d'événements : il est évincé et
+ * son flux fermé plutôt que de ralentir les publications ou les autres abonnés. Le client se
+ * reconnecte et recharge ses listes.
+ */
+@Slf4j
+@Component
+public class StatusEventBus implements MeterBinder {
+
+    static final String SUBSCRIBERS = "supplychainx.events.subscribers";
+    static final String PUBLISHED = "supplychainx.events.published";
+    static final String EVICTED = "supplychainx.events.evicted";
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final OutboxWriter outboxWriter;
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long streamTimeoutMillis;
+
+    @Autowired
+    public StatusEventBus(OutboxWriter outboxWriter,
+                          @Value("${app.events.dispatch-threads:2}") int dispatchThreads,
+                          @Value("${app.events.subscriber-buffer:256}") int bufferSize,
+                          @Value("${app.events.max-subscribers:500}") int maxSubscribers,
+                          @Value("${app.events.stream-timeout:PT30M}") Duration streamTimeout) {
+        this(outboxWriter,
+                Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("status-events-")),
+                bufferSize, maxSubscribers, streamTimeout);
+    }
+
+    StatusEventBus(OutboxWriter outboxWriter, ExecutorService dispatcher,
+                   int bufferSize, int maxSubscribers, Duration streamTimeout) {
+        this.outboxWriter = outboxWriter;
+        this.dispatcher = dispatcher;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+    }
+
+    /** Changement de statut d'une entité sans dimensions (commandes fournisseurs). */
+    public void statusChanged(EntityType type, Long entityId, Enum<?> previousStatus, Enum<?> status) {
+        statusChanged(type, entityId, previousStatus, StatusDimensions.NONE, status, StatusDimensions.NONE);
+    }
+
+    /** Changement de statut d'une entité dont les dimensions ne changent pas avec lui. */
+    public void statusChanged(EntityType type, Long entityId, Enum<?> previousStatus, Enum<?> status,
+                              StatusDimensions dimensions) {
+        statusChanged(type, entityId, previousStatus, dimensions, status, dimensions);
+    }
+
+    /**
+     * Enregistre un changement de statut ({@code status} nul : entité annulée et supprimée), avec
+     * les dimensions de l'entité avant et après l'écriture ; diffusé après le commit, ou tout de
+     * suite hors transaction.
+     */
+    public void statusChanged(EntityType type, Long entityId,
+                              Enum<?> previousStatus, StatusDimensions previousDimensions,
+                              Enum<?> status, StatusDimensions dimensions) {
+        if (previousStatus == status) {
+            return;
+        }
+        StatusChangeEvent event = outboxWriter.append(OutboxEvent.of(type, entityId,
+                previousStatus == null ? null : previousStatus.name(), previousDimensions,
+                status == null ? null : status.name(), dimensions,
+                LocalDateTime.now())).toEvent();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<StatusChangeEvent> pending = (List<StatusChangeEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<StatusChangeEvent> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(StatusEventBus.this);
+                }
+            });
+            pending = created;
+        }
+        pending.add(event);
+    }
+
+    /** Ouvre un flux des changements filtrés par {@code types} et {@code statuses} (vides : tous). */
+    public SseEmitter subscribe(Set<EntityType> types, Set<String> statuses) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new BusinessRuleException("Trop d'abonnements aux événements en cours, réessayez plus tard");
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Subscription subscription = new Subscription(emitter, types, statuses);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void publish(List<StatusChangeEvent> events) {
+        for (StatusChangeEvent event : events) {
+            published.increment();
+            for (Subscription subscription : subscriptions) {
+                try {
+                    if (subscription.accepts(event)) {
+                        subscription.offer(event);
+                    }
+                } catch (RuntimeException e) {
+                    // Exécuté après le commit : un abonné en erreur ne doit priver ni les autres ni la suite du lot
+                    log.warn("Événement de statut {} non remis à un abonné : {}", event.sequence(), e.getMessage());
+                    subscription.close();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(SUBSCRIBERS, subscriptions, Set::size)
+                .description("Flux d'événements de statut ouverts")
+                .register(registry);
+        FunctionCounter.builder(PUBLISHED, published, LongAdder::sum)
+                .description("Changements de statut publiés après commit")
+                .register(registry);
+        FunctionCounter.builder(EVICTED, evicted, LongAdder::sum)
+                .description("Abonnés évincés (buffer plein)")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        dispatcher.shutdownNow();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Statut comparé au filtre d'un abonné : le nouveau statut, ou l'ancien pour une annulation
+     * (l'entité quitte la liste filtrée sur ce statut).
+     */
+    private static String filteredStatus(StatusChangeEvent event) {
+        return event.status() != null ? event.status() : event.previousStatus();
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<EntityType> types;
+        private final Set<String> statuses;
+        private final ArrayBlockingQueue<StatusChangeEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, Set<EntityType> types, Set<String> statuses) {
+            this.emitter = emitter;
+            this.types = types;
+            this.statuses = statuses;
+        }
+
+        private boolean accepts(StatusChangeEvent event) {
+            return !closed
+                    && (types.isEmpty() || types.contains(event.entityType()))
+                    && (statuses.isEmpty() || statuses.contains(filteredStatus(event)));
+        }
+
+        private void offer(StatusChangeEvent event) {
+            if (!buffer.offer(event)) {
+                evicted.increment();
+                log.warn("Abonné aux événements de statut évincé : {} événements en attente", buffer.size());
+                close();
+                // complete() attend la fin d'un envoi en cours : jamais sur le thread qui publie
+                dispatcher.execute(emitter::complete);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                StatusChangeEvent event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.sequence()))
+                            .name(event.entityType().name())
+                            .data(StatusChangeMessage.of(event), MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client parti ou flux déjà terminé
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // Un événement ajouté pendant que l'indicateur était encore levé attendrait sinon le suivant
+            scheduleDrain();
+        }
+
+        private void close() {
+            closed = true;
+            buffer.clear();
+            subscriptions.remove(this);
+        }
+    }
+}
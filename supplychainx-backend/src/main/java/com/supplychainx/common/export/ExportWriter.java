@@ -0,0 +1,142 @@
+package com.supplychainx.common.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes one row at a time to the response stream; nothing is buffered beyond the
+ * underlying writer buffer. Closing flushes but leaves the target stream open.
+ */
+public abstract class ExportWriter<T> implements AutoCloseable {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    protected final List<ExportColumn<T>> columns;
+    private long rowCount;
+
+    protected ExportWriter(List<ExportColumn<T>> columns) {
+        this.columns = columns;
+    }
+
+    public static <T> ExportWriter<T> open(ExportFormat format, List<ExportColumn<T>> columns, OutputStream out)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter<>(columns, out);
+            case CSV -> new CsvWriter<>(columns, out);
+        };
+    }
+
+    public void write(T row) throws IOException {
+        writeRow(row);
+        rowCount++;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    protected abstract void writeRow(T row) throws IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    private static final class NdjsonWriter<T> extends ExportWriter<T> {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(List<ExportColumn<T>> columns, OutputStream out) throws IOException {
+            super(columns);
+            this.generator = JSON_FACTORY.createGenerator(out);
+        }
+
+        @Override
+        protected void writeRow(T row) throws IOException {
+            generator.writeStartObject();
+            for (ExportColumn<T> column : columns) {
+                generator.writeFieldName(column.name());
+                writeValue(column.value().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Long l) {
+                generator.writeNumber(l);
+            } else if (value instanceof Integer i) {
+                generator.writeNumber(i);
+            } else if (value instanceof Double d) {
+                generator.writeNumber(d);
+            } else if (value instanceof BigDecimal b) {
+                generator.writeNumber(b);
+            } else if (value instanceof Boolean b) {
+                generator.writeBoolean(b);
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter<T> extends ExportWriter<T> {
+
+        private final Writer writer;
+
+        private CsvWriter(List<ExportColumn<T>> columns, OutputStream out) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(columns.get(i).name()));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        protected void writeRow(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).value().apply(row);
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write('\n');
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.supplychainx.common.export;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Drains a repository {@code Stream<T>} into an {@link ExportWriter}, detaching each row
+ * once written so the persistence context does not grow with the table.
+ * Must run inside the caller's read-only transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingExporter {
+
+    /** JDBC fetch size used by every export query. */
+    public static final String FETCH_SIZE = "500";
+
+    private final EntityManager entityManager;
+
+    public <T> long export(Stream<T> rows,
+                           ExportFormat format,
+                           List<ExportColumn<T>> columns,
+                           OutputStream out,
+                           Function<T, List<?>> detachables) throws IOException {
+        try (rows; ExportWriter<T> writer = ExportWriter.open(format, columns, out)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writer.write(row);
+                for (Object entity : detachables.apply(row)) {
+                    entityManager.detach(entity);
+                }
+            }
+            log.info("Export {} finished: {} rows", format, writer.getRowCount());
+            return writer.getRowCount();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.supplychainx.common.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bail exclusif sur un traitement planifié partagé par tous les nœuds, avec l'avancement du
+ * traitement (watermark : fin de la dernière fenêtre traitée). {@code owner} est le jeton de
+ * l'acquisition en cours ; le bail est libre quand {@code lockedUntil} est dépassé ou nul.
+ */
+@Entity
+@Table(name = "job_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(length = 150)
+    private String owner;
+
+    private LocalDateTime lockedUntil;
+
+    private LocalDateTime watermark;
+}
@@ -0,0 +1,31 @@
+package com.supplychainx.common.lease;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /** 1 si le bail était libre ou expiré, 0 sinon : un bail en cours n'est jamais ré-acquis. */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = :token, l.lockedUntil = :until WHERE l.name = :name " +
+           "AND (l.lockedUntil IS NULL OR l.lockedUntil < :now)")
+    int acquire(@Param("name") String name, @Param("token") String token,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE JobLease l SET l.lockedUntil = NULL WHERE l.name = :name AND l.owner = :token")
+    int release(@Param("name") String name, @Param("token") String token);
+
+    /** Protégé par le bail : 0 s'il a expiré ou a été repris depuis l'acquisition. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JobLease l SET l.watermark = :watermark WHERE l.name = :name " +
+           "AND l.owner = :token AND l.lockedUntil > :now")
+    int advanceWatermark(@Param("name") String name, @Param("token") String token,
+                         @Param("watermark") LocalDateTime watermark, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,83 @@
+package com.supplychainx.common.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bail en base pour qu'un traitement planifié ne tourne que sur un nœud à la fois. Chaque
+ * acquisition reçoit son propre jeton : deux exécutions du même nœud (planificateur et appel
+ * d'administration) s'excluent comme deux nœuds, et seule l'exécution qui détient le jeton peut
+ * libérer le bail ou faire avancer sa progression. L'acquisition et la libération sont validées
+ * à part ; le travail s'exécute ensuite dans sa propre transaction, qui n'avance le watermark que
+ * si le jeton détient encore le bail (une exécution dont le bail a expiré en cours de route est
+ * annulée au lieu d'écraser la progression de la suivante).
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate requiresNew;
+    private final String node;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.node = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    /** Jeton de l'acquisition, vide si le bail est détenu par une autre exécution. */
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        String token = node + "/" + UUID.randomUUID();
+        if (acquire(name, token, ttl)) {
+            return Optional.of(token);
+        }
+        if (Boolean.FALSE.equals(requiresNew.execute(status -> jobLeaseRepository.existsById(name)))) {
+            try {
+                requiresNew.executeWithoutResult(status -> jobLeaseRepository.saveAndFlush(new JobLease(name, null, null, null)));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Bail {} créé en parallèle par un autre nœud", name);
+            }
+            if (acquire(name, token, ttl)) {
+                return Optional.of(token);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void release(String name, String token) {
+        requiresNew.executeWithoutResult(status -> jobLeaseRepository.release(name, token));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<LocalDateTime> watermark(String name) {
+        return jobLeaseRepository.findById(name).map(JobLease::getWatermark);
+    }
+
+    /** Dans la transaction du traitement ; lève une exception (et l'annule) si le bail a été perdu entre-temps. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void advanceWatermark(String name, String token, LocalDateTime watermark) {
+        if (jobLeaseRepository.advanceWatermark(name, token, watermark, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("Bail " + name + " perdu avant la fin de l'exécution");
+        }
+    }
+
+    private boolean acquire(String name, String token, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = requiresNew.execute(status -> jobLeaseRepository.acquire(name, token, now, now.plus(ttl)));
+        return acquired != null && acquired == 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.supplychainx.common.outbox;
+
+import com.supplychainx.common.events.StatusChangeEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Garde les événements relayés en mémoire ; pour les tests et l'inspection locale. */
+@Component
+@ConditionalOnProperty(name = "app.outbox.memory.enabled", havingValue = "true")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<StatusChangeEvent> events = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public synchronized void publish(List<StatusChangeEvent> batch) {
+        events.addAll(batch);
+    }
+
+    public synchronized List<StatusChangeEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
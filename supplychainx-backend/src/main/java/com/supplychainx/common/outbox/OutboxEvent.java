@@ -0,0 +1,90 @@
+package com.supplychainx.common.outbox;
+
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusChangeEvent;
+import com.supplychainx.common.events.StatusDimensions;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Changement de statut enregistré dans la transaction du changement lui-même (ajout seul).
+ * L'identifiant ordonne le journal et identifie l'événement pour les consommateurs. Les
+ * dimensions de l'entité avant et après le changement sont copiées dans la ligne : les
+ * consommateurs n'ont pas à relire des tables qui ont pu changer, ou perdre l'entité, depuis.
+ */
+@Entity
+@Table(name = "status_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(length = 30)
+    private String previousStatus;
+
+    @Column(length = 30)
+    private String status;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private Long previousProductId;
+
+    @Column(length = 100)
+    private String previousCity;
+
+    private Integer previousQuantity;
+
+    private Double previousAmount;
+
+    private Long productId;
+
+    @Column(length = 100)
+    private String city;
+
+    private Integer quantity;
+
+    private Double amount;
+
+    public static OutboxEvent of(EntityType entityType, Long entityId,
+                                 String previousStatus, StatusDimensions previousDimensions,
+                                 String status, StatusDimensions dimensions,
+                                 LocalDateTime occurredAt) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEntityType(entityType);
+        event.setEntityId(entityId);
+        event.setPreviousStatus(previousStatus);
+        event.setStatus(status);
+        event.setOccurredAt(occurredAt);
+        event.setPreviousProductId(previousDimensions.productId());
+        event.setPreviousCity(previousDimensions.city());
+        event.setPreviousQuantity(previousDimensions.quantity());
+        event.setPreviousAmount(previousDimensions.amount());
+        event.setProductId(dimensions.productId());
+        event.setCity(dimensions.city());
+        event.setQuantity(dimensions.quantity());
+        event.setAmount(dimensions.amount());
+        return event;
+    }
+
+    public StatusChangeEvent toEvent() {
+        return new StatusChangeEvent(id, entityType, entityId, previousStatus, status, occurredAt,
+                new StatusDimensions(previousProductId, previousCity, previousQuantity, previousAmount),
+                new StatusDimensions(productId, city, quantity, amount));
+    }
+}
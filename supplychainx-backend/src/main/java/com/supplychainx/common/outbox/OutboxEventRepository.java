@@ -0,0 +1,19 @@
+package com.supplychainx.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /** Supprime les événements remis à toutes leurs destinations et antérieurs à {@code before}. */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.occurredAt < :before " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxPending p WHERE p.eventId = e.id)")
+    int deleteDeliveredBefore(@Param("before") LocalDateTime before);
+}
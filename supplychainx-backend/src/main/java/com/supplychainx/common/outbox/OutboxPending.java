@@ -0,0 +1,28 @@
+package com.supplychainx.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Événement de l'outbox pas encore remis à une destination : une ligne par destination active,
+ * écrite avec l'événement et supprimée par le relais dans la transaction qui le remet.
+ */
+@Entity
+@Table(name = "status_outbox_pending")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxPending {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String sink;
+
+    @Column(nullable = false)
+    private Long eventId;
+}
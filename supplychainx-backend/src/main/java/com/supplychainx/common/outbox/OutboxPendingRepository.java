@@ -0,0 +1,29 @@
+package com.supplychainx.common.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxPendingRepository extends JpaRepository<OutboxPending, Long> {
+
+    /** Événements en attente pour {@code sink}, par identifiant croissant. */
+    @Query("SELECT e FROM OutboxPending p JOIN OutboxEvent e ON e.id = p.eventId " +
+           "WHERE p.sink = :sink ORDER BY p.eventId")
+    List<OutboxEvent> findPendingEvents(@Param("sink") String sink, Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM OutboxPending p WHERE p.sink = :sink AND p.eventId IN :eventIds")
+    int deleteDelivered(@Param("sink") String sink, @Param("eventIds") Collection<Long> eventIds);
+
+    /** Attentes des destinations retirées explicitement ({@code app.outbox.retired-sinks}). */
+    @Modifying
+    @Query("DELETE FROM OutboxPending p WHERE p.sink IN :sinks")
+    int deleteForSinks(@Param("sinks") Collection<String> sinks);
+}
@@ -0,0 +1,167 @@
+package com.supplychainx.common.outbox;
+
+import com.supplychainx.common.events.StatusChangeEvent;
+import com.supplychainx.common.lease.JobLeaseService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remet l'outbox à chaque {@link OutboxSink}, par identifiant croissant, un seul nœud à la fois
+ * (bail du relais).
+ * <p>
+ * Chaque destination consomme ses propres lignes en attente ({@link OutboxPending}) : un lot
+ * est lu, remis à la destination et ses lignes en attente supprimées dans une transaction. Un
+ * événement validé après d'autres d'identifiant supérieur reste en attente et part au passage
+ * suivant, sans délai de stabilisation. Une destination en échec garde ses lignes et reprend
+ * au passage suivant sans bloquer les autres ; ses lignes ne sont abandonnées que si elle est
+ * déclarée retirée ({@code app.outbox.retired-sinks}), jamais parce qu'elle manque sur ce nœud,
+ * les nœuds n'ayant pas forcément les mêmes destinations activées. Si deux relais remettaient le même lot (bail
+ * expiré en cours de route), le second ne supprime pas toutes ses lignes et sa transaction est
+ * annulée. Les événements remis à toutes leurs destinations sont supprimés après
+ * {@code retention}.
+ */
+@Slf4j
+@Service
+public class OutboxRelay implements MeterBinder {
+
+    static final String JOB_NAME = "outbox-relay";
+    static final String RELAYED = "supplychainx.outbox.relayed";
+    static final String FAILED = "supplychainx.outbox.failed";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPendingRepository outboxPendingRepository;
+    private final List<OutboxSink> sinks;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration retention;
+    private final Duration leaseTtl;
+    private final List<String> retiredSinks;
+    private final LongAdder relayed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxPendingRepository outboxPendingRepository,
+                       List<OutboxSink> sinks,
+                       JobLeaseService jobLeaseService,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${app.outbox.relay.max-batches:20}") int maxBatches,
+                       @Value("${app.outbox.retention:P7D}") Duration retention,
+                       @Value("${app.outbox.relay.lease-ttl:PT2M}") Duration leaseTtl,
+                       @Value("${app.outbox.retired-sinks:}") List<String> retiredSinks) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPendingRepository = outboxPendingRepository;
+        this.sinks = sinks;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.retention = retention;
+        this.leaseTtl = leaseTtl;
+        this.retiredSinks = retiredSinks;
+    }
+
+    /** Remet au plus {@code max-batches} lots par destination ; nombre d'événements remis par destination. */
+    public Map<String, Integer> relay() {
+        if (sinks.isEmpty()) {
+            return Map.of();
+        }
+        Optional<String> lease = jobLeaseService.tryAcquire(JOB_NAME, leaseTtl);
+        if (lease.isEmpty()) {
+            log.debug("Relais de l'outbox ignoré : bail détenu par une autre exécution");
+            return Map.of();
+        }
+        long start = System.nanoTime();
+        Map<String, Integer> sent = new LinkedHashMap<>();
+        try {
+            for (OutboxSink sink : sinks) {
+                sent.put(sink.name(), relay(sink));
+            }
+            transactionTemplate.executeWithoutResult(status -> purge());
+        } finally {
+            jobLeaseService.release(JOB_NAME, lease.get());
+        }
+        if (sent.values().stream().anyMatch(count -> count > 0)) {
+            log.info("Relais de l'outbox : {} en {} ms", sent, (System.nanoTime() - start) / 1_000_000);
+        }
+        return sent;
+    }
+
+    private int relay(OutboxSink sink) {
+        int sent = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                Integer batch = transactionTemplate.execute(status -> relayBatch(sink));
+                sent += batch;
+                if (batch < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Relais de l'outbox vers {} en échec, lot renvoyé au prochain passage : {}", sink.name(), e.getMessage());
+        }
+        return sent;
+    }
+
+    private int relayBatch(OutboxSink sink) {
+        List<OutboxEvent> batch = outboxPendingRepository.findPendingEvents(sink.name(), Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<StatusChangeEvent> events = batch.stream().map(OutboxEvent::toEvent).toList();
+        try {
+            sink.publish(events);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Destination " + sink.name() + " en échec", e);
+        }
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        if (outboxPendingRepository.deleteDelivered(sink.name(), ids) != ids.size()) {
+            throw new IllegalStateException("Lot de l'outbox déjà remis à " + sink.name() + " par un autre relais");
+        }
+        relayed.add(batch.size());
+        return batch.size();
+    }
+
+    private void purge() {
+        if (!retiredSinks.isEmpty()) {
+            int abandoned = outboxPendingRepository.deleteForSinks(retiredSinks);
+            if (abandoned > 0) {
+                log.warn("Outbox : {} événements en attente des destinations retirées {} abandonnés", abandoned, retiredSinks);
+            }
+        }
+        int deleted = outboxEventRepository.deleteDeliveredBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("Purge de l'outbox : {} événements remis supprimés", deleted);
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(RELAYED, relayed, LongAdder::sum)
+                .description("Événements de l'outbox remis aux destinations")
+                .register(registry);
+        FunctionCounter.builder(FAILED, failed, LongAdder::sum)
+                .description("Lots de l'outbox en échec, renvoyés au passage suivant")
+                .register(registry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.supplychainx.common.outbox;
+
+import com.supplychainx.common.events.StatusChangeEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination des événements relayés depuis l'outbox, identifiée par {@link #name()} (clé de
+ * ses lignes en attente : la renommer abandonne ce qui n'a pas été remis). La remise est au
+ * moins une fois : un lot est renvoyé si le relais échoue avant d'avoir supprimé ses lignes en
+ * attente, les consommateurs dédoublonnent donc sur {@link StatusChangeEvent#sequence()}. Une
+ * destination qui écrit dans la transaction du relais est remise exactement une fois.
+ */
+public interface OutboxSink {
+
+    String name();
+
+    /** Événements dans l'ordre des séquences ; une exception laisse le lot en attente, renvoyé au passage suivant. */
+    void publish(List<StatusChangeEvent> events) throws IOException;
+}
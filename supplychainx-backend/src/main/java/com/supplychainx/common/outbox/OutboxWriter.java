@@ -0,0 +1,35 @@
+package com.supplychainx.common.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Écrit un changement dans l'outbox, dans la transaction de l'appelant : l'événement et une
+ * ligne en attente par destination active. Chaque destination consomme ses propres lignes
+ * (voir {@link OutboxRelay}) : un événement validé tardivement, avec un identifiant inférieur à
+ * ceux déjà relayés, reste en attente jusqu'à sa remise au lieu d'être sauté.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPendingRepository outboxPendingRepository;
+    private final List<String> sinks;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository,
+                        OutboxPendingRepository outboxPendingRepository,
+                        List<OutboxSink> sinks) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPendingRepository = outboxPendingRepository;
+        this.sinks = sinks.stream().map(OutboxSink::name).toList();
+    }
+
+    public OutboxEvent append(OutboxEvent event) {
+        OutboxEvent saved = outboxEventRepository.save(event);
+        for (String sink : sinks) {
+            outboxPendingRepository.save(new OutboxPending(null, sink, saved.getId()));
+        }
+        return saved;
+    }
+}
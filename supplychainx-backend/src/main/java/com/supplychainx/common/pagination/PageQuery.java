@@ -0,0 +1,69 @@
+package com.supplychainx.common.pagination;
+
+import com.supplychainx.exception.BusinessRuleException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageQuery {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 500;
+
+    private Integer page;
+    private Integer size;
+    private String sort;
+    private String cursor;
+
+    public static PageQuery firstPage(int size) {
+        return new PageQuery(0, size, null, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    public int resolvedSize() {
+        int resolved = size == null ? DEFAULT_SIZE : size;
+        if (resolved < 1 || resolved > MAX_SIZE) {
+            throw new BusinessRuleException(
+                    "La taille de page doit être comprise entre 1 et " + MAX_SIZE);
+        }
+        return resolved;
+    }
+
+    public Pageable toPageable(Set<String> sortableProperties, String idProperty) {
+        int resolvedPage = page == null ? 0 : page;
+        if (resolvedPage < 0) {
+            throw new BusinessRuleException("Le numéro de page doit être positif");
+        }
+        return PageRequest.of(resolvedPage, resolvedSize(), resolveSort(sortableProperties, idProperty));
+    }
+
+    private Sort resolveSort(Set<String> sortableProperties, String idProperty) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(idProperty);
+        }
+
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!property.equals(idProperty) && !sortableProperties.contains(property)) {
+            throw new BusinessRuleException("Tri non supporté sur le champ: " + property);
+        }
+
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromOptionalString(parts[1].trim()).orElse(Sort.Direction.ASC)
+                : Sort.Direction.ASC;
+
+        Sort requested = Sort.by(direction, property);
+        return property.equals(idProperty) ? requested : requested.and(Sort.by(idProperty));
+    }
+}
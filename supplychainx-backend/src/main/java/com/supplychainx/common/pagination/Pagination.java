@@ -0,0 +1,56 @@
+package com.supplychainx.common.pagination;
+
+import com.supplychainx.exception.BusinessRuleException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Offset pagination (page/size/sort) or keyset pagination (seek by id) depending on
+ * whether the client sent a cursor. Keyset pages always cost one indexed range scan.
+ */
+public final class Pagination {
+
+    private Pagination() {
+    }
+
+    public static <E, D> PageSlice<D> fetch(
+            PageQuery query,
+            Set<String> sortableProperties,
+            String idProperty,
+            Function<Pageable, Page<E>> offsetLoader,
+            BiFunction<Long, Limit, List<E>> keysetLoader,
+            Function<E, Long> idExtractor,
+            Function<E, D> mapper) {
+
+        if (!query.isKeyset()) {
+            Page<E> page = offsetLoader.apply(query.toPageable(sortableProperties, idProperty));
+            return new PageSlice<>(
+                    page.getContent().stream().map(mapper).toList(),
+                    null,
+                    page.getTotalElements());
+        }
+
+        if (query.getSort() != null && !query.getSort().isBlank()) {
+            throw new BusinessRuleException(
+                    "Le tri n'est pas supporté en mode curseur (ordre par identifiant)");
+        }
+
+        int size = query.resolvedSize();
+        long afterId = CursorCodec.decode(query.getCursor());
+        List<E> rows = keysetLoader.apply(afterId, Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? CursorCodec.encode(idExtractor.apply(pageRows.get(pageRows.size() - 1)))
+                : null;
+
+        return new PageSlice<>(pageRows.stream().map(mapper).toList(), nextCursor, null);
+    }
+}
@@ -0,0 +1,5 @@
+package com.supplychainx.common.repository;
+
+/** Nombre de lignes par statut ({@code GROUP BY status}) ; les statuts sans ligne sont absents. */
+public record StatusCount(Enum<?> status, Long count) {
+}
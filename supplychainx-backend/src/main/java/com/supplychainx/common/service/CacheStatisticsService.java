@@ -0,0 +1,45 @@
+package com.supplychainx.common.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.supplychainx.common.dto.CacheRegionStatsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Statistiques par région du cache de second niveau, lues sur les caches Caffeine
+ * sous-jacents (monitoring.native-statistics dans hibernate-cache.conf).
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final CacheManager hibernateCacheManager;
+
+    public List<CacheRegionStatsDTO> getRegionStatistics() {
+        List<CacheRegionStatsDTO> regions = new ArrayList<>();
+        for (String name : hibernateCacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = hibernateCacheManager.getCache(name);
+            if (cache == null) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine =
+                    cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CacheStats stats = caffeine.stats();
+            regions.add(new CacheRegionStatsDTO(
+                    name,
+                    caffeine.estimatedSize(),
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.hitRate(),
+                    stats.evictionCount()));
+        }
+        regions.sort(Comparator.comparing(CacheRegionStatsDTO::getRegion));
+        return regions;
+    }
+}
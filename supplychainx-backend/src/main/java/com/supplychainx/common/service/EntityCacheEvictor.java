@@ -0,0 +1,52 @@
+package com.supplychainx.common.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Éviction ciblée du cache de second niveau après un UPDATE SQL natif ou une écriture JDBC. Ces UPDATE déclarent
+ * leur propre espace de requête pour qu'Hibernate n'invalide pas des régions entières :
+ * les entités modifiées sont évincées ici, immédiatement puis à la fin de la transaction
+ * (une lecture concurrente peut remettre l'ancienne valeur en cache avant le commit).
+ */
+@Service
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evict(Class<?> entityType, Object id) {
+        evict(entityType, List.of(id));
+    }
+
+    public void evict(Class<?> entityType, Collection<?> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        evictNowAndAfterCompletion(() -> ids.forEach(id -> cache.evict(entityType, id)));
+    }
+
+    /** Région de requêtes en cache portant sur une table modifiée hors Hibernate (JDBC). */
+    public void evictQueryRegion(String region) {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        evictNowAndAfterCompletion(() -> cache.evictQueryRegion(region));
+    }
+
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
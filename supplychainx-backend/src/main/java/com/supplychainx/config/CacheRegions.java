@@ -0,0 +1,18 @@
+package com.supplychainx.config;
+
+/**
+ * Noms des régions du cache de second niveau Hibernate, configurées dans
+ * {@code hibernate-cache.conf}.
+ */
+public final class CacheRegions {
+
+    public static final String PRODUCTS = "products";
+    public static final String RAW_MATERIALS = "raw-materials";
+    public static final String SUPPLIERS = "suppliers";
+    public static final String CUSTOMERS = "customers";
+    public static final String BILL_OF_MATERIALS = "bill-of-materials";
+    public static final String BOM_BY_PRODUCT = "bom-by-product";
+
+    private CacheRegions() {
+    }
+}
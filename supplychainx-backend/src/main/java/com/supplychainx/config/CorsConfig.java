@@ -43,7 +43,9 @@ public class CorsConfig {
         
         configuration.setExposedHeaders(Arrays.asList(
             "Authorization",
-            "Content-Disposition"
+            "Content-Disposition",
+            "X-Total-Count",
+            "X-Next-Cursor"
         ));
         
         configuration.setAllowCredentials(true);
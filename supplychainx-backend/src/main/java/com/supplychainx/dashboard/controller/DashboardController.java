@@ -0,0 +1,54 @@
+package com.supplychainx.dashboard.controller;
+
+import com.supplychainx.dashboard.dto.DashboardSummaryDTO;
+import com.supplychainx.dashboard.service.DashboardQueryService;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Tableau de bord", description = "Lectures des tableaux de bord, exécutées hors des threads de requête")
+public class DashboardController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final DashboardQueryService dashboardQueryService;
+
+    @GetMapping("/summary")
+    @Operation(summary = "Synthèse par statut",
+            description = "Nombre de commandes, livraisons, ordres de production et commandes fournisseurs par statut")
+    public CompletableFuture<DashboardSummaryDTO> getSummary() {
+        return dashboardQueryService.summary();
+    }
+
+    @GetMapping(value = "/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Flux des commandes",
+            description = "Commandes clients (filtre de statut facultatif) en Server-Sent Events, un événement 'order' par commande " +
+                    "puis un événement 'end' ; l'en-tête Last-Event-ID reprend le flux après la dernière commande reçue")
+    public SseEmitter streamOrders(@RequestParam(required = false) OrderStatus status,
+                                   @RequestHeader(value = LAST_EVENT_ID, defaultValue = "0") long lastEventId) {
+        return dashboardQueryService.streamOrders(status, lastEventId);
+    }
+
+    @GetMapping(value = "/deliveries/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Flux des livraisons",
+            description = "Livraisons (filtre de statut facultatif) en Server-Sent Events, un événement 'delivery' par livraison " +
+                    "puis un événement 'end' ; l'en-tête Last-Event-ID reprend le flux après la dernière livraison reçue")
+    public SseEmitter streamDeliveries(@RequestParam(required = false) DeliveryStatus status,
+                                       @RequestHeader(value = LAST_EVENT_ID, defaultValue = "0") long lastEventId) {
+        return dashboardQueryService.streamDeliveries(status, lastEventId);
+    }
+}
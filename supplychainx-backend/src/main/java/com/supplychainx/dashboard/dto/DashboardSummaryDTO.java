@@ -0,0 +1,21 @@
+package com.supplychainx.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/** Nombre de commandes, livraisons, ordres de production et commandes fournisseurs par statut. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryDTO {
+
+    private LocalDateTime generatedAt;
+    private Map<String, Long> orders;
+    private Map<String, Long> deliveries;
+    private Map<String, Long> productionOrders;
+    private Map<String, Long> supplyOrders;
+}
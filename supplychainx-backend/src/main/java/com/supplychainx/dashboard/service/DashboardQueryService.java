@@ -0,0 +1,287 @@
+package com.supplychainx.dashboard.service;
+
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.repository.StatusCount;
+import com.supplychainx.dashboard.dto.DashboardSummaryDTO;
+import com.supplychainx.exception.ServiceUnavailableException;
+import com.supplychainx.livraison.entity.Delivery;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.livraison.repository.DeliveryRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.logging.LoggingContext;
+import com.supplychainx.mapper.DeliveryMapper;
+import com.supplychainx.mapper.OrderMapper;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Lecture des tableaux de bord hors des threads Tomcat : la requête passe en mode asynchrone
+ * et rend son thread, les lectures s'exécutent sur un pool dédié et borné
+ * ({@code app.dashboard.read-pool.*}) ; au-delà de la file d'attente la requête est refusée
+ * (503, {@code Retry-After}).
+ * <p>
+ * Les listes sont envoyées en Server-Sent Events, page par page (pagination par identifiant) :
+ * chaque page est lue dans une transaction courte par une tâche du pool de lecture, puis écrite
+ * sur la connexion par le pool d'envoi ({@code app.dashboard.stream-pool.*}), qui soumet la
+ * lecture de la page suivante une fois l'envoi terminé. Un client lent n'occupe donc qu'un
+ * thread d'envoi, jamais un thread de lecture, et ralentit son flux sans accumuler de données
+ * en mémoire ni garder de connexion à la base. L'identifiant de chaque événement permet de
+ * reprendre un flux interrompu ({@code Last-Event-ID}) : un flux dont la page suivante ne
+ * trouve pas de place dans un pool est fermé sans événement {@code end}, et le client reprend.
+ * <p>
+ * La synthèse par statut est partagée entre les requêtes pendant {@code app.dashboard.summary-ttl}.
+ */
+@Slf4j
+@Service
+public class DashboardQueryService {
+
+    private final OrderRepository orderRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final ProductionOrderRepository productionOrderRepository;
+    private final SupplyOrderRepository supplyOrderRepository;
+    private final OrderMapper orderMapper;
+    private final DeliveryMapper deliveryMapper;
+    private final TransactionTemplate readOnly;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor streamExecutor;
+    private final int pageSize;
+    private final long streamTimeoutMillis;
+    private final long summaryTtlNanos;
+    private final Duration retryAfter;
+    private final AtomicReference<CachedSummary> summary = new AtomicReference<>();
+
+    public DashboardQueryService(OrderRepository orderRepository,
+                                 DeliveryRepository deliveryRepository,
+                                 ProductionOrderRepository productionOrderRepository,
+                                 SupplyOrderRepository supplyOrderRepository,
+                                 OrderMapper orderMapper,
+                                 DeliveryMapper deliveryMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.dashboard.read-pool.size:4}") int poolSize,
+                                 @Value("${app.dashboard.read-pool.queue-capacity:200}") int queueCapacity,
+                                 @Value("${app.dashboard.stream-pool.size:8}") int streamPoolSize,
+                                 @Value("${app.dashboard.stream-pool.queue-capacity:200}") int streamQueueCapacity,
+                                 @Value("${app.dashboard.page-size:200}") int pageSize,
+                                 @Value("${app.dashboard.stream-timeout:PT5M}") Duration streamTimeout,
+                                 @Value("${app.dashboard.summary-ttl:PT5S}") Duration summaryTtl,
+                                 @Value("${app.dashboard.retry-after:PT2S}") Duration retryAfter) {
+        this.orderRepository = orderRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.productionOrderRepository = productionOrderRepository;
+        this.supplyOrderRepository = supplyOrderRepository;
+        this.orderMapper = orderMapper;
+        this.deliveryMapper = deliveryMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("dashboard-read-"));
+        this.streamExecutor = new ThreadPoolExecutor(streamPoolSize, streamPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(streamQueueCapacity), new CustomizableThreadFactory("dashboard-stream-"));
+        this.pageSize = pageSize;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.summaryTtlNanos = summaryTtl.toNanos();
+        this.retryAfter = retryAfter;
+    }
+
+    public CompletableFuture<DashboardSummaryDTO> summary() {
+        long now = System.nanoTime();
+        CachedSummary cached = summary.get();
+        if (cached != null && now - cached.computedAt() < summaryTtlNanos && !cached.value().isCompletedExceptionally()) {
+            return cached.value().copy();
+        }
+        CachedSummary next = new CachedSummary(new CompletableFuture<>(), now);
+        if (!summary.compareAndSet(cached, next)) {
+            // Une autre requête vient de lancer le calcul
+            CachedSummary current = summary.get();
+            return current != null ? current.value().copy() : summary();
+        }
+        try {
+            submit(() -> {
+                try {
+                    next.value().complete(readOnly.execute(status -> loadSummary()));
+                } catch (RuntimeException e) {
+                    next.value().completeExceptionally(e);
+                }
+            });
+        } catch (ServiceUnavailableException e) {
+            summary.compareAndSet(next, null);
+            throw e;
+        }
+        return next.value().copy();
+    }
+
+    public SseEmitter streamOrders(OrderStatus status, long afterId) {
+        return stream("order", afterId,
+                (after, limit) -> status == null
+                        ? orderRepository.findByIdOrderGreaterThanOrderByIdOrderAsc(after, limit)
+                        : orderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(status, after, limit),
+                Order::getIdOrder,
+                orderMapper::toResponseDTO);
+    }
+
+    public SseEmitter streamDeliveries(DeliveryStatus status, long afterId) {
+        return stream("delivery", afterId,
+                (after, limit) -> status == null
+                        ? deliveryRepository.findByIdDeliveryGreaterThanOrderByIdDeliveryAsc(after, limit)
+                        : deliveryRepository.findByStatusAndIdDeliveryGreaterThanOrderByIdDeliveryAsc(status, after, limit),
+                Delivery::getIdDelivery,
+                deliveryMapper::toResponseDTO);
+    }
+
+    private <E, D> SseEmitter stream(String eventName, long afterId,
+                                     BiFunction<Long, Limit, List<E>> pageLoader,
+                                     Function<E, Long> idExtractor,
+                                     Function<E, D> mapper) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        PageStream<E, D> stream = new PageStream<>(eventName, afterId, pageLoader, idExtractor, mapper, emitter);
+        submit(stream::loadPage);
+        return emitter;
+    }
+
+    private DashboardSummaryDTO loadSummary() {
+        return new DashboardSummaryDTO(LocalDateTime.now(),
+                byStatus(OrderStatus.values(), orderRepository.countGroupedByStatus()),
+                byStatus(DeliveryStatus.values(), deliveryRepository.countGroupedByStatus()),
+                byStatus(ProductionOrderStatus.values(), productionOrderRepository.countGroupedByStatus()),
+                byStatus(SupplyOrderStatus.values(), supplyOrderRepository.countGroupedByStatus()));
+    }
+
+    // Tous les statuts, dans l'ordre de l'enum, à 0 quand aucune ligne
+    private static Map<String, Long> byStatus(Enum<?>[] statuses, List<StatusCount> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Enum<?> status : statuses) {
+            result.put(status.name(), 0L);
+        }
+        for (StatusCount count : counts) {
+            result.put(count.status().name(), count.count());
+        }
+        return result;
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(LoggingContext.wrap(task));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Trop de lectures de tableau de bord en cours, réessayez plus tard",
+                    retryAfter);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        streamExecutor.shutdownNow();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS) || !streamExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Dashboard read workers still running after shutdown timeout");
+        }
+    }
+
+    /**
+     * Un flux SSE en cours : {@link #loadPage} sur le pool de lecture, {@link #sendPage} sur le
+     * pool d'envoi, une seule étape en cours à la fois, donc sans synchronisation.
+     */
+    private final class PageStream<E, D> {
+
+        private final String eventName;
+        private final BiFunction<Long, Limit, List<E>> pageLoader;
+        private final Function<E, Long> idExtractor;
+        private final Function<E, D> mapper;
+        private final SseEmitter emitter;
+        private final long start = System.nanoTime();
+        private long cursor;
+        private long sent;
+
+        private PageStream(String eventName, long afterId, BiFunction<Long, Limit, List<E>> pageLoader,
+                           Function<E, Long> idExtractor, Function<E, D> mapper, SseEmitter emitter) {
+            this.eventName = eventName;
+            this.cursor = afterId;
+            this.pageLoader = pageLoader;
+            this.idExtractor = idExtractor;
+            this.mapper = mapper;
+            this.emitter = emitter;
+        }
+
+        private void loadPage() {
+            List<Row<D>> page;
+            try {
+                page = readOnly.execute(status -> pageLoader.apply(cursor, Limit.of(pageSize)).stream()
+                        .map(entity -> new Row<>(idExtractor.apply(entity), mapper.apply(entity)))
+                        .toList());
+            } catch (RuntimeException e) {
+                log.warn("Dashboard stream {} failed after {} events: {}", eventName, sent, e.getMessage());
+                emitter.completeWithError(e);
+                return;
+            }
+            handOff(streamExecutor, () -> sendPage(page));
+        }
+
+        private void sendPage(List<Row<D>> page) {
+            try {
+                for (Row<D> row : page) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(row.id()))
+                            .name(eventName)
+                            .data(row.value(), MediaType.APPLICATION_JSON));
+                    cursor = row.id();
+                    sent++;
+                }
+                if (page.size() < pageSize) {
+                    emitter.send(SseEmitter.event().name("end").data(sent));
+                    emitter.complete();
+                    log.debug("Dashboard stream {} finished: {} events in {} ms",
+                            eventName, sent, (System.nanoTime() - start) / 1_000_000);
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client parti ou flux expiré : rien à renvoyer
+                log.debug("Dashboard stream {} closed after {} events: {}", eventName, sent, e.getMessage());
+                return;
+            }
+            handOff(executor, this::loadPage);
+        }
+
+        // Étape suivante du flux ; pool saturé : le flux est fermé et le client reprend par Last-Event-ID
+        private void handOff(ThreadPoolExecutor target, Runnable step) {
+            try {
+                target.execute(LoggingContext.wrap(step));
+            } catch (RejectedExecutionException e) {
+                log.debug("Dashboard stream {} closed after {} events: pool saturated", eventName, sent);
+                emitter.complete();
+            }
+        }
+    }
+
+    private record Row<D>(Long id, D value) {
+    }
+
+    private record CachedSummary(CompletableFuture<DashboardSummaryDTO> value, long computedAt) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.supplychainx.imports.controller;
+
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.imports.dto.ImportJobResponseDTO;
+import com.supplychainx.imports.dto.ImportRowErrorDTO;
+import com.supplychainx.imports.enums.ImportType;
+import com.supplychainx.imports.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Tag(name = "Imports", description = "Import de fichiers CSV de l'ERP (commandes d'approvisionnement et commandes clients)")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/supply-orders", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importer des commandes d'approvisionnement",
+               description = "CSV reference,supplier,order_date,status,material,quantity ; les lignes consécutives de même référence forment une commande. Traitement asynchrone par lots.")
+    public ResponseEntity<ImportJobResponseDTO> importSupplyOrders(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.submit(ImportType.SUPPLY_ORDERS, file));
+    }
+
+    @PostMapping(value = "/customer-orders", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importer des commandes clients",
+               description = "CSV customer,product,quantity,status ; une commande par ligne. Traitement asynchrone par lots.")
+    public ResponseEntity<ImportJobResponseDTO> importCustomerOrders(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.submit(ImportType.CUSTOMER_ORDERS, file));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Suivi d'un import", description = "Statut, lignes lues, commandes importées et rejetées")
+    public ResponseEntity<ImportJobResponseDTO> getImport(@PathVariable Long id) {
+        return ResponseEntity.ok(importService.getImport(id));
+    }
+
+    @GetMapping("/{id}/errors")
+    @Operation(summary = "Lignes rejetées d'un import", description = "Numéro de ligne (en-tête exclu) et motif du rejet")
+    public ResponseEntity<List<ImportRowErrorDTO>> getErrors(@PathVariable Long id, @ParameterObject PageQuery pageQuery) {
+        return importService.getErrors(id, pageQuery).toResponse();
+    }
+
+    @PostMapping("/{id}/resume")
+    @Operation(summary = "Reprendre un import", description = "Relance un import interrompu ou en échec à partir de son dernier point de reprise")
+    public ResponseEntity<ImportJobResponseDTO> resume(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.resume(id));
+    }
+}
@@ -0,0 +1,140 @@
+package com.supplychainx.imports.csv;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader working on bytes, so that the position after each record is an
+ * exact byte offset: an import resumes by seeking to its checkpoint instead of re-reading
+ * the file. UTF-8 is decoded per field, which is safe because separators, quotes and line
+ * breaks are ASCII and never occur inside a multi-byte sequence.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final InputStream in;
+    private final ByteArrayOutputStream field = new ByteArrayOutputStream(64);
+    private long offset;
+    private int pushback = EOF - 1;
+
+    /** @param offset byte position of {@code in} in the file, after any skip already done by the caller */
+    public CsvRecordReader(InputStream in, long offset) {
+        this.in = new BufferedInputStream(in, 64 * 1024);
+        this.offset = offset;
+    }
+
+    /** Byte offset just after the last record returned by {@link #next()}. */
+    public long offset() {
+        return offset;
+    }
+
+    /** @return the next non-blank record, or {@code null} at end of file */
+    public List<String> next() throws IOException {
+        if (offset == 0) {
+            skipUtf8Bom();
+        }
+        List<String> record;
+        do {
+            record = readRecord();
+        } while (record != null && record.size() == 1 && record.get(0).isEmpty());
+        return record;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int b = read();
+        if (b == EOF) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        field.reset();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            if (quoted) {
+                if (b == EOF) {
+                    throw new IOException("Unterminated quoted field at byte " + offset);
+                }
+                if (b == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.write('"');
+                    } else {
+                        quoted = false;
+                        b = following;
+                        continue;
+                    }
+                } else {
+                    field.write(b);
+                }
+            } else if (b == '"' && fieldStart) {
+                quoted = true;
+            } else if (b == ',') {
+                values.add(takeField());
+                fieldStart = true;
+                b = read();
+                continue;
+            } else if (b == '\n' || b == EOF) {
+                values.add(takeField());
+                return values;
+            } else if (b == '\r') {
+                int following = read();
+                if (following != '\n' && following != EOF) {
+                    unread(following);
+                }
+                values.add(takeField());
+                return values;
+            } else {
+                field.write(b);
+            }
+            fieldStart = false;
+            b = read();
+        }
+    }
+
+    private String takeField() {
+        String value = field.toString(StandardCharsets.UTF_8);
+        field.reset();
+        return value;
+    }
+
+    private void skipUtf8Bom() throws IOException {
+        in.mark(3);
+        if (in.read() == 0xEF && in.read() == 0xBB && in.read() == 0xBF) {
+            offset = 3;
+        } else {
+            in.reset();
+        }
+    }
+
+    private int read() throws IOException {
+        int b;
+        if (pushback != EOF - 1) {
+            b = pushback;
+            pushback = EOF - 1;
+        } else {
+            b = in.read();
+        }
+        if (b != EOF) {
+            offset++;
+        }
+        return b;
+    }
+
+    private void unread(int b) {
+        pushback = b;
+        offset--;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
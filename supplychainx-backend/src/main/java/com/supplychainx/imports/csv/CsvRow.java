@@ -0,0 +1,23 @@
+package com.supplychainx.imports.csv;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One data record with access by column name.
+ *
+ * @param number 1-based position of the record among the data rows (header excluded)
+ * @param endOffset byte offset just after the record, used as resume checkpoint
+ */
+public record CsvRow(long number, long endOffset, Map<String, Integer> header, List<String> values) {
+
+    /** Trimmed value of {@code column}, {@code null} when absent or blank. */
+    public String get(String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.supplychainx.imports.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponseDTO {
+
+    private Long idImport;
+    private String importType;
+    private String status;
+    private String fileName;
+    private Long rowsRead;
+    private Long importedCount;
+    private Long rejectedCount;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime heartbeatAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,14 @@
+package com.supplychainx.imports.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDTO {
+
+    private Long rowNumber;
+    private String message;
+}
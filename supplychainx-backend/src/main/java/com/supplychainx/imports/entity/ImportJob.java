@@ -0,0 +1,74 @@
+package com.supplychainx.imports.entity;
+
+import com.supplychainx.imports.enums.ImportStatus;
+import com.supplychainx.imports.enums.ImportType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Import d'un fichier CSV. Le point de reprise ({@code checkpointOffset}, {@code rowsRead}) et
+ * les compteurs sont mis à jour dans la transaction de chaque lot : après un arrêt, l'import
+ * reprend au premier enregistrement non validé, sans doublon ni perte.
+ * <p>
+ * {@code owner} est le jeton de la prise en charge en cours : seul le worker qui le détient fait
+ * avancer le point de reprise. {@code storageNode} est le nœud qui a reçu le fichier ; lui seul
+ * reprend l'import, sauf si {@code app.import.directory} est partagé entre les nœuds.
+ */
+@Entity
+@Table(name = "import_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_import")
+    private Long idImport;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportType importType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportStatus status;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 500)
+    private String storagePath;
+
+    @Column(length = 100)
+    private String storageNode;
+
+    @Column(length = 150)
+    private String owner;
+
+    @Column(nullable = false)
+    private Long checkpointOffset = 0L;
+
+    @Column(nullable = false)
+    private Long rowsRead = 0L;
+
+    @Column(nullable = false)
+    private Long importedCount = 0L;
+
+    @Column(nullable = false)
+    private Long rejectedCount = 0L;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,28 @@
+package com.supplychainx.imports.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Ligne rejetée d'un import ; {@code rowNumber} est la position parmi les lignes de données (en-tête exclu). */
+@Entity
+@Table(name = "import_row_errors")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "import_id", nullable = false)
+    private Long importId;
+
+    @Column(name = "line_number", nullable = false)
+    private Long rowNumber;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+}
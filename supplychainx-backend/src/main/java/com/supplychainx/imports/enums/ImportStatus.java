@@ -0,0 +1,9 @@
+package com.supplychainx.imports.enums;
+
+public enum ImportStatus {
+    PENDING,
+    RUNNING,
+    INTERRUPTED,
+    FAILED,
+    COMPLETED
+}
@@ -0,0 +1,6 @@
+package com.supplychainx.imports.enums;
+
+public enum ImportType {
+    SUPPLY_ORDERS,
+    CUSTOMER_ORDERS
+}
@@ -0,0 +1,50 @@
+package com.supplychainx.imports.repository;
+
+import com.supplychainx.imports.entity.ImportJob;
+import com.supplychainx.imports.enums.ImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    /**
+     * Prise en charge d'un import par un worker, sous le jeton {@code token} : un import en cours
+     * n'est repris que si son dernier lot date de plus de {@code staleBefore} (instance arrêtée sans
+     * avoir pu le marquer). Avec {@code node}, seuls les imports dont ce nœud a reçu le fichier
+     * sont pris en charge ; {@code null} quand le répertoire des fichiers est partagé.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ImportJob j SET j.status = com.supplychainx.imports.enums.ImportStatus.RUNNING, " +
+           "j.owner = :token, j.heartbeatAt = :now, j.errorMessage = NULL " +
+           "WHERE j.idImport = :id AND (:node IS NULL OR j.storageNode = :node) AND (j.status IN :resumable " +
+           "OR (j.status = com.supplychainx.imports.enums.ImportStatus.RUNNING AND j.heartbeatAt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("token") String token, @Param("node") String node,
+              @Param("resumable") List<ImportStatus> resumable,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /** Point de reprise et heartbeat, uniquement si {@code token} détient encore l'import. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ImportJob j SET j.checkpointOffset = :offset, j.rowsRead = :rowsRead, " +
+           "j.importedCount = j.importedCount + :imported, j.rejectedCount = j.rejectedCount + :rejected, " +
+           "j.heartbeatAt = :now WHERE j.idImport = :id AND j.owner = :token")
+    int advanceCheckpoint(@Param("id") Long id, @Param("token") String token,
+                          @Param("offset") long offset, @Param("rowsRead") long rowsRead,
+                          @Param("imported") long imported, @Param("rejected") long rejected,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ImportJob j SET j.status = :status, j.errorMessage = :errorMessage, j.finishedAt = :finishedAt " +
+           "WHERE j.idImport = :id AND j.owner = :token")
+    int finish(@Param("id") Long id, @Param("token") String token, @Param("status") ImportStatus status,
+               @Param("errorMessage") String errorMessage, @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Query("SELECT j.idImport FROM ImportJob j WHERE j.status IN :statuses ORDER BY j.idImport")
+    List<Long> findIdsByStatusIn(@Param("statuses") List<ImportStatus> statuses);
+}
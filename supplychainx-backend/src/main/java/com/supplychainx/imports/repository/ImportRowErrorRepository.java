@@ -0,0 +1,20 @@
+package com.supplychainx.imports.repository;
+
+import com.supplychainx.imports.entity.ImportRowError;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportRowErrorRepository extends JpaRepository<ImportRowError, Long> {
+
+    Page<ImportRowError> findByImportId(Long importId, Pageable pageable);
+
+    List<ImportRowError> findByImportIdAndIdGreaterThanOrderByIdAsc(Long importId, Long id, Limit limit);
+
+    long countByImportId(Long importId);
+}
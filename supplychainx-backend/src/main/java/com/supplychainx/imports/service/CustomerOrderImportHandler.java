@@ -0,0 +1,50 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.imports.csv.CsvRow;
+import com.supplychainx.imports.enums.ImportType;
+import com.supplychainx.livraison.dto.OrderRequestDTO;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.livraison.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Commandes clients : une commande par ligne.
+ * <pre>customer,product,quantity,status</pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerOrderImportHandler implements ImportHandler<OrderRequestDTO> {
+
+    private static final List<String> COLUMNS = List.of("customer", "product", "quantity", "status");
+
+    private final ReferenceLookup referenceLookup;
+    private final OrderService orderService;
+
+    @Override
+    public ImportType type() {
+        return ImportType.CUSTOMER_ORDERS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public OrderRequestDTO map(List<CsvRow> rows) {
+        CsvRow row = rows.get(0);
+        return new OrderRequestDTO(
+                referenceLookup.customerId(row.get("customer")),
+                referenceLookup.productId(row.get("product")),
+                ImportValues.positiveInt(row, "quantity"),
+                ImportValues.status(row, "status", OrderStatus.class));
+    }
+
+    @Override
+    public void save(OrderRequestDTO unit) {
+        orderService.createOrder(unit);
+    }
+}
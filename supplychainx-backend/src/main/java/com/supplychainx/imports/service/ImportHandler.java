@@ -0,0 +1,28 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.imports.csv.CsvRow;
+import com.supplychainx.imports.enums.ImportType;
+
+import java.util.List;
+
+/**
+ * Format d'un type d'import : colonnes attendues, regroupement des lignes en unités (une
+ * commande), conversion vers le DTO de création et enregistrement via le service métier.
+ */
+public interface ImportHandler<D> {
+
+    ImportType type();
+
+    List<String> requiredColumns();
+
+    /** Les lignes consécutives de même clé forment une unité ; {@code null} : une ligne par unité. */
+    default String groupKey(CsvRow row) {
+        return null;
+    }
+
+    /** Hors transaction ; lève {@link com.supplychainx.exception.BusinessRuleException} si l'unité est invalide. */
+    D map(List<CsvRow> rows);
+
+    /** Dans la transaction du lot. */
+    void save(D unit);
+}
@@ -0,0 +1,84 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.imports.enums.ImportStatus;
+import com.supplychainx.imports.repository.ImportJobRepository;
+import com.supplychainx.logging.LoggingContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool dédié aux imports : {@code app.import.workers} imports en parallèle et au plus
+ * {@code app.import.queue-capacity} en attente ; au-delà la soumission est refusée plutôt que
+ * d'accumuler des fichiers. À l'arrêt les workers sont interrompus entre deux lots (statut
+ * INTERRUPTED) ; au démarrage les imports interrompus ou abandonnés sont repris.
+ */
+@Slf4j
+@Component
+public class ImportJobLauncher {
+
+    private final ImportJobRunner importJobRunner;
+    private final ImportJobRepository importJobRepository;
+    private final ThreadPoolExecutor executor;
+    private final boolean resumeOnStartup;
+
+    public ImportJobLauncher(ImportJobRunner importJobRunner,
+                             ImportJobRepository importJobRepository,
+                             @Value("${app.import.workers:2}") int workers,
+                             @Value("${app.import.queue-capacity:10}") int queueCapacity,
+                             @Value("${app.import.resume-on-startup:true}") boolean resumeOnStartup) {
+        this.importJobRunner = importJobRunner;
+        this.importJobRepository = importJobRepository;
+        this.resumeOnStartup = resumeOnStartup;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("import-"));
+    }
+
+    public void launch(Long importId) {
+        try {
+            executor.execute(LoggingContext.wrap(() -> importJobRunner.run(importId)));
+        } catch (RejectedExecutionException e) {
+            throw new BusinessRuleException("Trop d'imports en cours, réessayez plus tard");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingImports() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        List<ImportStatus> statuses = new ArrayList<>(ImportJobRunner.RESUMABLE);
+        statuses.add(ImportStatus.RUNNING);
+        List<Long> ids = importJobRepository.findIdsByStatusIn(statuses);
+        for (Long id : ids) {
+            try {
+                launch(id);
+            } catch (BusinessRuleException e) {
+                log.warn("Import {} not resumed at startup: queue full", id);
+            }
+        }
+        if (!ids.isEmpty()) {
+            log.info("Resuming {} imports at startup", ids.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Import workers still running after shutdown timeout");
+        }
+    }
+}
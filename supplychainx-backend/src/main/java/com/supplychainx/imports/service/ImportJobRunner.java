@@ -0,0 +1,349 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.imports.csv.CsvRecordReader;
+import com.supplychainx.imports.csv.CsvRow;
+import com.supplychainx.imports.entity.ImportJob;
+import com.supplychainx.imports.entity.ImportRowError;
+import com.supplychainx.imports.enums.ImportStatus;
+import com.supplychainx.imports.enums.ImportType;
+import com.supplychainx.imports.repository.ImportJobRepository;
+import com.supplychainx.imports.repository.ImportRowErrorRepository;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Exécution d'un import, lot par lot. Le fichier est lu en flux depuis le point de reprise et
+ * un lot n'est lu qu'une fois le précédent validé : la mémoire reste bornée par
+ * {@code app.import.chunk-size} et la lecture avance au rythme des écritures.
+ * <p>
+ * Chaque lot est enregistré dans une seule transaction qui avance aussi le point de reprise.
+ * Si le lot échoue (stock insuffisant, contrainte...), il est rejoué unité par unité pour ne
+ * rejeter que les unités fautives.
+ * <p>
+ * Chaque prise en charge reçoit son propre jeton et le point de reprise n'avance que si ce jeton
+ * détient encore l'import : un worker dont l'import a été repris ailleurs (heartbeat trop ancien)
+ * voit son lot annulé et s'arrête. Le fichier étant stocké localement, seul le nœud qui l'a reçu
+ * reprend l'import, sauf si {@code app.import.shared-directory} déclare le répertoire partagé.
+ */
+@Slf4j
+@Component
+public class ImportJobRunner {
+
+    static final List<ImportStatus> RESUMABLE =
+            List.of(ImportStatus.PENDING, ImportStatus.INTERRUPTED, ImportStatus.FAILED);
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportRowErrorRepository importRowErrorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<ImportType, ImportHandler<?>> handlers;
+    private final int chunkSize;
+    private final int maxStoredErrors;
+    private final Duration staleAfter;
+    private final boolean sharedDirectory;
+    private final String node;
+
+    public ImportJobRunner(ImportJobRepository importJobRepository,
+                           ImportRowErrorRepository importRowErrorRepository,
+                           TransactionTemplate transactionTemplate,
+                           List<ImportHandler<?>> handlers,
+                           @Value("${app.import.chunk-size:500}") int chunkSize,
+                           @Value("${app.import.max-stored-errors:10000}") int maxStoredErrors,
+                           @Value("${app.import.stale-after:PT5M}") Duration staleAfter,
+                           @Value("${app.import.shared-directory:false}") boolean sharedDirectory,
+                           @Value("${app.import.node:}") String node) {
+        this.importJobRepository = importJobRepository;
+        this.importRowErrorRepository = importRowErrorRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.handlers = handlers.stream().collect(Collectors.toMap(ImportHandler::type, Function.identity()));
+        this.chunkSize = chunkSize;
+        this.maxStoredErrors = maxStoredErrors;
+        this.staleAfter = staleAfter;
+        this.sharedDirectory = sharedDirectory;
+        this.node = node.isBlank() ? hostName() : node;
+    }
+
+    /** Nœud qui reçoit les fichiers téléversés ici ({@code app.import.node}, par défaut le nom d'hôte). */
+    String node() {
+        return node;
+    }
+
+    /** Ce nœud peut-il lire le fichier de l'import (reçu ici ou répertoire partagé) ? */
+    boolean canRead(ImportJob job) {
+        return sharedDirectory || node.equals(job.getStorageNode());
+    }
+
+    public void run(Long importId) {
+        LocalDateTime now = LocalDateTime.now();
+        String token = node + "/" + UUID.randomUUID();
+        Integer claimed = transactionTemplate.execute(status -> importJobRepository.claim(importId, token,
+                sharedDirectory ? null : node, RESUMABLE, now, now.minus(staleAfter)));
+        if (claimed == null || claimed == 0) {
+            log.info("Import {} not claimed: already running, finished or stored on another node", importId);
+            return;
+        }
+
+        ImportJob job = importJobRepository.findById(importId).orElseThrow();
+        log.info("Import {} ({}) started at row {}", importId, job.getImportType(), job.getRowsRead());
+        ImportStatus status;
+        String error = null;
+        try {
+            status = process(job, token, handlers.get(job.getImportType()));
+        } catch (ClaimLostException e) {
+            log.warn("Import {} stopped: {}", importId, e.getMessage());
+            return;
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} failed: {}", importId, e.getMessage(), e);
+            status = ImportStatus.FAILED;
+            error = Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName());
+        }
+
+        ImportStatus finalStatus = status;
+        String errorMessage = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        LocalDateTime finishedAt = finalStatus == ImportStatus.COMPLETED ? LocalDateTime.now() : null;
+        transactionTemplate.executeWithoutResult(tx ->
+                importJobRepository.finish(importId, token, finalStatus, errorMessage, finishedAt));
+        if (finalStatus == ImportStatus.COMPLETED) {
+            deleteQuietly(Path.of(job.getStoragePath()));
+        }
+        log.info("Import {} {}", importId, finalStatus);
+    }
+
+    private <D> ImportStatus process(ImportJob job, String token, ImportHandler<D> handler) throws IOException {
+        Path file = Path.of(job.getStoragePath());
+        Map<String, Integer> header = new HashMap<>();
+        long headerEnd;
+        try (CsvRecordReader reader = new CsvRecordReader(Files.newInputStream(file), 0)) {
+            List<String> names = reader.next();
+            if (names == null) {
+                throw new BusinessRuleException("Fichier vide");
+            }
+            for (int i = 0; i < names.size(); i++) {
+                header.putIfAbsent(names.get(i).trim().toLowerCase(), i);
+            }
+            headerEnd = reader.offset();
+        }
+        List<String> missing = handler.requiredColumns().stream().filter(c -> !header.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessRuleException("Colonnes manquantes: " + String.join(", ", missing));
+        }
+
+        long start = Math.max(job.getCheckpointOffset(), headerEnd);
+        ErrorBudget errors = new ErrorBudget(importRowErrorRepository.countByImportId(job.getIdImport()));
+        try (InputStream in = Files.newInputStream(file)) {
+            in.skipNBytes(start);
+            UnitReader<D> units = new UnitReader<>(new CsvRecordReader(in, start), header, job.getRowsRead(), handler);
+            List<Unit<D>> chunk;
+            while (!(chunk = units.nextChunk(chunkSize)).isEmpty()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return ImportStatus.INTERRUPTED;
+                }
+                saveChunk(job.getIdImport(), token, handler, chunk, errors);
+            }
+        }
+        return ImportStatus.COMPLETED;
+    }
+
+    private <D> void saveChunk(Long importId, String token, ImportHandler<D> handler, List<Unit<D>> chunk,
+                               ErrorBudget errors) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                int imported = 0;
+                int rejected = 0;
+                for (Unit<D> unit : chunk) {
+                    if (unit.error() != null) {
+                        errors.record(importId, unit.firstRow(), unit.error());
+                        rejected++;
+                    } else {
+                        handler.save(unit.value());
+                        imported++;
+                    }
+                }
+                advance(importId, token, chunk.get(chunk.size() - 1), imported, rejected);
+            });
+            errors.commit();
+        } catch (ClaimLostException e) {
+            errors.rollback();
+            throw e;
+        } catch (RuntimeException e) {
+            log.debug("Import {}: chunk ending at row {} failed ({}), retrying unit by unit",
+                    importId, chunk.get(chunk.size() - 1).lastRow(), e.getMessage());
+            errors.rollback();
+            for (Unit<D> unit : chunk) {
+                saveUnit(importId, token, handler, unit, errors);
+            }
+        }
+    }
+
+    private <D> void saveUnit(Long importId, String token, ImportHandler<D> handler, Unit<D> unit,
+                              ErrorBudget errors) {
+        String error = unit.error();
+        if (error == null) {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    handler.save(unit.value());
+                    advance(importId, token, unit, 1, 0);
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (!isRowError(e)) {
+                    throw e;
+                }
+                error = Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName());
+            }
+        }
+        String message = error;
+        transactionTemplate.executeWithoutResult(tx -> {
+            errors.record(importId, unit.firstRow(), message);
+            advance(importId, token, unit, 0, 1);
+        });
+        errors.commit();
+    }
+
+    /** Dans la transaction du lot ; l'annule si l'import a été repris par un autre worker. */
+    private void advance(Long importId, String token, Unit<?> last, int imported, int rejected) {
+        if (importJobRepository.advanceCheckpoint(importId, token, last.endOffset(), last.lastRow(),
+                imported, rejected, LocalDateTime.now()) == 0) {
+            throw new ClaimLostException("Import " + importId + " repris par un autre worker");
+        }
+    }
+
+    private static boolean isRowError(RuntimeException e) {
+        return e instanceof BusinessRuleException
+                || e instanceof ResourceNotFoundException
+                || e instanceof DataIntegrityViolationException
+                || e instanceof ConstraintViolationException
+                || e instanceof IllegalArgumentException;
+    }
+
+    private static String hostName() {
+        String name = ManagementFactory.getRuntimeMXBean().getName();
+        return name.substring(name.indexOf('@') + 1);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete imported file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static final class ClaimLostException extends RuntimeException {
+
+        private ClaimLostException(String message) {
+            super(message);
+        }
+    }
+
+    private record Unit<D>(long firstRow, long lastRow, long endOffset, D value, String error) {
+    }
+
+    /** Regroupe les lignes en unités et les convertit, hors transaction. */
+    private static final class UnitReader<D> {
+
+        private final CsvRecordReader reader;
+        private final Map<String, Integer> header;
+        private final ImportHandler<D> handler;
+        private long rowNumber;
+        private CsvRow pending;
+
+        private UnitReader(CsvRecordReader reader, Map<String, Integer> header, long rowsRead, ImportHandler<D> handler) {
+            this.reader = reader;
+            this.header = header;
+            this.rowNumber = rowsRead;
+            this.handler = handler;
+        }
+
+        private List<Unit<D>> nextChunk(int size) throws IOException {
+            List<Unit<D>> chunk = new ArrayList<>(size);
+            Unit<D> unit;
+            while (chunk.size() < size && (unit = nextUnit()) != null) {
+                chunk.add(unit);
+            }
+            return chunk;
+        }
+
+        private Unit<D> nextUnit() throws IOException {
+            CsvRow first = pending != null ? pending : nextRow();
+            pending = null;
+            if (first == null) {
+                return null;
+            }
+            List<CsvRow> rows = new ArrayList<>();
+            rows.add(first);
+            String key = handler.groupKey(first);
+            if (key != null) {
+                CsvRow row;
+                while ((row = nextRow()) != null && key.equals(handler.groupKey(row))) {
+                    rows.add(row);
+                }
+                pending = row;
+            }
+
+            CsvRow last = rows.get(rows.size() - 1);
+            try {
+                return new Unit<>(first.number(), last.number(), last.endOffset(), handler.map(rows), null);
+            } catch (BusinessRuleException e) {
+                return new Unit<>(first.number(), last.number(), last.endOffset(), null, e.getMessage());
+            }
+        }
+
+        private CsvRow nextRow() throws IOException {
+            List<String> values = reader.next();
+            return values == null ? null : new CsvRow(++rowNumber, reader.offset(), header, values);
+        }
+    }
+
+    /**
+     * Les lignes rejetées sont toutes comptées mais seules les {@code app.import.max-stored-errors}
+     * premières sont conservées avec leur message.
+     */
+    private final class ErrorBudget {
+
+        private long stored;
+        private long pendingInTransaction;
+
+        private ErrorBudget(long stored) {
+            this.stored = stored;
+        }
+
+        private void record(Long importId, long rowNumber, String message) {
+            if (stored + pendingInTransaction < maxStoredErrors) {
+                importRowErrorRepository.save(new ImportRowError(null, importId, rowNumber,
+                        message.substring(0, Math.min(message.length(), 1000))));
+                pendingInTransaction++;
+            }
+        }
+
+        private void commit() {
+            stored += pendingInTransaction;
+            pendingInTransaction = 0;
+        }
+
+        private void rollback() {
+            pendingInTransaction = 0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.imports.dto.ImportJobResponseDTO;
+import com.supplychainx.imports.dto.ImportRowErrorDTO;
+import com.supplychainx.imports.entity.ImportJob;
+import com.supplychainx.imports.entity.ImportRowError;
+import com.supplychainx.imports.enums.ImportStatus;
+import com.supplychainx.imports.enums.ImportType;
+import com.supplychainx.imports.repository.ImportJobRepository;
+import com.supplychainx.imports.repository.ImportRowErrorRepository;
+import com.supplychainx.mapper.ImportJobMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("rowNumber");
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportRowErrorRepository importRowErrorRepository;
+    private final ImportJobLauncher importJobLauncher;
+    private final ImportJobRunner importJobRunner;
+    private final ImportJobMapper importJobMapper;
+
+    @Value("${app.import.directory:${java.io.tmpdir}/supplychainx-imports}")
+    private Path directory;
+
+    /** Copie le fichier (en flux) dans {@code app.import.directory} puis lance l'import. */
+    public ImportJobResponseDTO submit(ImportType type, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessRuleException("Le fichier à importer est vide");
+        }
+        Path stored = directory.resolve(UUID.randomUUID() + ".csv");
+        try (InputStream in = file.getInputStream()) {
+            Files.createDirectories(directory);
+            Files.copy(in, stored);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file " + file.getOriginalFilename(), e);
+        }
+
+        ImportJob job = new ImportJob();
+        job.setImportType(type);
+        job.setStatus(ImportStatus.PENDING);
+        job.setFileName(file.getOriginalFilename() != null ? file.getOriginalFilename() : stored.getFileName().toString());
+        job.setStoragePath(stored.toAbsolutePath().toString());
+        job.setStorageNode(importJobRunner.node());
+        job.setCreatedAt(LocalDateTime.now());
+        job = importJobRepository.save(job);
+
+        try {
+            importJobLauncher.launch(job.getIdImport());
+        } catch (BusinessRuleException e) {
+            importJobRepository.delete(job);
+            try {
+                Files.deleteIfExists(stored);
+            } catch (IOException ignored) {
+                log.warn("Could not delete rejected import file {}", stored);
+            }
+            throw e;
+        }
+        log.info("Import {} submitted: {} ({} bytes)", job.getIdImport(), job.getFileName(), file.getSize());
+        return importJobMapper.toResponseDTO(job);
+    }
+
+    public ImportJobResponseDTO resume(Long id) {
+        ImportJob job = findJob(id);
+        if (!ImportJobRunner.RESUMABLE.contains(job.getStatus())) {
+            throw new BusinessRuleException("L'import " + id + " ne peut pas être repris (statut " + job.getStatus() + ")");
+        }
+        if (!importJobRunner.canRead(job)) {
+            throw new BusinessRuleException("L'import " + id + " ne peut être repris que depuis le nœud "
+                    + job.getStorageNode() + " qui a reçu le fichier");
+        }
+        importJobLauncher.launch(id);
+        return importJobMapper.toResponseDTO(job);
+    }
+
+    @Transactional(readOnly = true)
+    public ImportJobResponseDTO getImport(Long id) {
+        return importJobMapper.toResponseDTO(findJob(id));
+    }
+
+    @Transactional(readOnly = true)
+    public PageSlice<ImportRowErrorDTO> getErrors(Long id, PageQuery pageQuery) {
+        findJob(id);
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "id",
+                pageable -> importRowErrorRepository.findByImportId(id, pageable),
+                (afterId, limit) -> importRowErrorRepository.findByImportIdAndIdGreaterThanOrderByIdAsc(id, afterId, limit),
+                ImportRowError::getId,
+                importJobMapper::toErrorDTO);
+    }
+
+    private ImportJob findJob(Long id) {
+        return importJobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Import non trouvé avec l'ID: " + id));
+    }
+}
@@ -0,0 +1,55 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.imports.csv.CsvRow;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/** Lecture typée des colonnes d'une ligne importée, avec des messages de rejet explicites. */
+final class ImportValues {
+
+    private ImportValues() {
+    }
+
+    static String text(CsvRow row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            throw new BusinessRuleException("Colonne " + column + " obligatoire");
+        }
+        return value;
+    }
+
+    static int positiveInt(CsvRow row, String column) {
+        String value = text(row, column);
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // message commun ci-dessous
+        }
+        throw new BusinessRuleException("Colonne " + column + " : entier positif attendu, reçu " + value);
+    }
+
+    static LocalDate date(CsvRow row, String column) {
+        String value = text(row, column);
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessRuleException("Colonne " + column + " : date AAAA-MM-JJ attendue, reçu " + value);
+        }
+    }
+
+    static <E extends Enum<E>> String status(CsvRow row, String column, Class<E> statuses) {
+        String value = text(row, column);
+        try {
+            return Enum.valueOf(statuses, value).name();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Colonne " + column + " : statut invalide " + value +
+                    " (valeurs possibles: " + Arrays.toString(statuses.getEnumConstants()) + ")");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.supplychainx.imports.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.livraison.repository.CustomerRepository;
+import com.supplychainx.production.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Résolution nom → ID des références citées par les fichiers importés. Un fichier cite les mêmes
+ * fournisseurs, matières, clients et produits sur des millions de lignes : chaque nom est
+ * résolu une fois puis servi depuis un cache borné (absences comprises), expiré après
+ * {@code app.import.lookup-ttl} pour suivre les créations et renommages.
+ */
+@Component
+public class ReferenceLookup {
+
+    private final Reference suppliers;
+    private final Reference materials;
+    private final Reference customers;
+    private final Reference products;
+
+    public ReferenceLookup(SupplierRepository supplierRepository,
+                           RawMaterialRepository rawMaterialRepository,
+                           CustomerRepository customerRepository,
+                           ProductRepository productRepository,
+                           @Value("${app.import.lookup-cache-size:100000}") long maxSize,
+                           @Value("${app.import.lookup-ttl:PT10M}") Duration ttl) {
+        this.suppliers = new Reference("Fournisseur", supplierRepository::findIdsByName, maxSize, ttl);
+        this.materials = new Reference("Matière première", rawMaterialRepository::findIdsByName, maxSize, ttl);
+        this.customers = new Reference("Client", customerRepository::findIdsByName, maxSize, ttl);
+        this.products = new Reference("Produit", productRepository::findIdsByName, maxSize, ttl);
+    }
+
+    public Long supplierId(String name) {
+        return suppliers.resolve(name);
+    }
+
+    public Long materialId(String name) {
+        return materials.resolve(name);
+    }
+
+    public Long customerId(String name) {
+        return customers.resolve(name);
+    }
+
+    public Long productId(String name) {
+        return products.resolve(name);
+    }
+
+    private static final class Reference {
+
+        private final String label;
+        private final Function<String, List<Long>> loader;
+        private final Cache<String, List<Long>> cache;
+
+        private Reference(String label, Function<String, List<Long>> loader, long maxSize, Duration ttl) {
+            this.label = label;
+            this.loader = loader;
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .build();
+        }
+
+        private Long resolve(String name) {
+            if (name == null) {
+                throw new BusinessRuleException(label + " non renseigné");
+            }
+            List<Long> ids = cache.get(name, loader);
+            if (ids.isEmpty()) {
+                throw new BusinessRuleException(label + " inconnu: " + name);
+            }
+            if (ids.size() > 1) {
+                throw new BusinessRuleException(label + " ambigu, plusieurs enregistrements portent le nom: " + name);
+            }
+            return ids.get(0);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.approvisionnement.dto.MaterialQuantityDTO;
+import com.supplychainx.approvisionnement.dto.SupplyOrderCreateDTO;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.service.SupplyOrderService;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.imports.csv.CsvRow;
+import com.supplychainx.imports.enums.ImportType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Commandes d'approvisionnement : une ligne par matière, les lignes consécutives de même
+ * {@code reference} forment une commande.
+ * <pre>reference,supplier,order_date,status,material,quantity</pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class SupplyOrderImportHandler implements ImportHandler<SupplyOrderCreateDTO> {
+
+    private static final List<String> COLUMNS =
+            List.of("reference", "supplier", "order_date", "status", "material", "quantity");
+
+    private final ReferenceLookup referenceLookup;
+    private final SupplyOrderService supplyOrderService;
+
+    @Override
+    public ImportType type() {
+        return ImportType.SUPPLY_ORDERS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public String groupKey(CsvRow row) {
+        return row.get("reference");
+    }
+
+    @Override
+    public SupplyOrderCreateDTO map(List<CsvRow> rows) {
+        CsvRow first = rows.get(0);
+        for (CsvRow row : rows) {
+            if (!Objects.equals(row.get("supplier"), first.get("supplier"))
+                    || !Objects.equals(row.get("order_date"), first.get("order_date"))
+                    || !Objects.equals(row.get("status"), first.get("status"))) {
+                throw new BusinessRuleException("Fournisseur, date ou statut différents entre les lignes de la référence "
+                        + first.get("reference"));
+            }
+        }
+
+        List<MaterialQuantityDTO> materials = new ArrayList<>(rows.size());
+        for (CsvRow row : rows) {
+            materials.add(new MaterialQuantityDTO(
+                    referenceLookup.materialId(row.get("material")),
+                    ImportValues.positiveInt(row, "quantity")));
+        }
+        return new SupplyOrderCreateDTO(
+                referenceLookup.supplierId(first.get("supplier")),
+                materials,
+                ImportValues.date(first, "order_date"),
+                ImportValues.status(first, "status", SupplyOrderStatus.class));
+    }
+
+    @Override
+    public void save(SupplyOrderCreateDTO unit) {
+        supplyOrderService.createSupplyOrder(unit);
+    }
+}
@@ -0,0 +1,62 @@
+package com.supplychainx.inventory.controller;
+
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.inventory.dto.InventoryMovementResponseDTO;
+import com.supplychainx.inventory.dto.StockAtDateResponseDTO;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.service.InventoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory")
+@RequiredArgsConstructor
+@Tag(name = "Inventaire", description = "Journal des mouvements de stock et stock à date")
+public class InventoryController {
+
+    private final InventoryService inventoryService;
+
+    @GetMapping("/raw-materials/{id}/stock")
+    @Operation(summary = "Stock d'une matière première à date",
+            description = "Dernier snapshot antérieur à la date + mouvements postérieurs (date courante par défaut)")
+    public ResponseEntity<StockAtDateResponseDTO> getRawMaterialStockAt(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(inventoryService.getStockAt(InventoryItemType.RAW_MATERIAL, id, at));
+    }
+
+    @GetMapping("/raw-materials/{id}/movements")
+    @Operation(summary = "Mouvements d'une matière première",
+            description = "Réceptions, consommations et ajustements, du plus ancien au plus récent")
+    public ResponseEntity<List<InventoryMovementResponseDTO>> getRawMaterialMovements(
+            @PathVariable Long id,
+            @ParameterObject PageQuery pageQuery) {
+        return inventoryService.getMovements(InventoryItemType.RAW_MATERIAL, id, pageQuery).toResponse();
+    }
+
+    @GetMapping("/products/{id}/stock")
+    @Operation(summary = "Stock d'un produit à date",
+            description = "Dernier snapshot antérieur à la date + mouvements postérieurs (date courante par défaut)")
+    public ResponseEntity<StockAtDateResponseDTO> getProductStockAt(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(inventoryService.getStockAt(InventoryItemType.PRODUCT, id, at));
+    }
+
+    @GetMapping("/products/{id}/movements")
+    @Operation(summary = "Mouvements d'un produit",
+            description = "Ajustements et expéditions, du plus ancien au plus récent")
+    public ResponseEntity<List<InventoryMovementResponseDTO>> getProductMovements(
+            @PathVariable Long id,
+            @ParameterObject PageQuery pageQuery) {
+        return inventoryService.getMovements(InventoryItemType.PRODUCT, id, pageQuery).toResponse();
+    }
+}
@@ -0,0 +1,22 @@
+package com.supplychainx.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryMovementResponseDTO {
+
+    private Long id;
+    private String itemType;
+    private Long itemId;
+    private String movementType;
+    private Integer quantity;
+    private String sourceType;
+    private Long sourceId;
+    private LocalDateTime occurredAt;
+}
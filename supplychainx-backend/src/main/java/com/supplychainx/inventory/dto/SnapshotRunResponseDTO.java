@@ -0,0 +1,16 @@
+package com.supplychainx.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotRunResponseDTO {
+
+    private LocalDateTime asOf;
+    private Integer snapshotsWritten;
+}
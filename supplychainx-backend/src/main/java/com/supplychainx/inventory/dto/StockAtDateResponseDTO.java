@@ -0,0 +1,21 @@
+package com.supplychainx.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAtDateResponseDTO {
+
+    private String itemType;
+    private Long itemId;
+    private LocalDateTime at;
+    private Long stock;
+    // Snapshot de départ (null si aucun) et nombre de mouvements ajoutés depuis
+    private LocalDateTime snapshotAsOf;
+    private Long movementsScanned;
+}
@@ -0,0 +1,53 @@
+package com.supplychainx.inventory.entity;
+
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mouvement de stock (journal en ajout seul). {@code quantity} est signée ;
+ * {@code idempotencyKey} est unique et identifie la ligne source du mouvement.
+ */
+@Entity
+@Table(name = "inventory_movements")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InventoryItemType itemType;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MovementType movementType;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private MovementSource sourceType;
+
+    private Long sourceId;
+
+    @Column(unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,42 @@
+package com.supplychainx.inventory.entity;
+
+import com.supplychainx.inventory.enums.InventoryItemType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stock d'un article à la date {@code asOf} : somme de tous ses mouvements jusqu'à cette date.
+ * Une ligne n'est écrite que pour les articles ayant bougé depuis le snapshot précédent.
+ */
+@Entity
+@Table(name = "inventory_snapshots",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"item_type", "item_id", "as_of"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InventoryItemType itemType;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false)
+    private LocalDateTime asOf;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
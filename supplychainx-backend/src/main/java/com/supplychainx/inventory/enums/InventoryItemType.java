@@ -0,0 +1,6 @@
+package com.supplychainx.inventory.enums;
+
+public enum InventoryItemType {
+    RAW_MATERIAL,
+    PRODUCT
+}
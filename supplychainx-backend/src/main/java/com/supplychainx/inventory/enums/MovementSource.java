@@ -0,0 +1,8 @@
+package com.supplychainx.inventory.enums;
+
+public enum MovementSource {
+    SUPPLY_ORDER,
+    CUSTOMER_ORDER,
+    MANUAL,
+    OPENING_BALANCE
+}
@@ -0,0 +1,8 @@
+package com.supplychainx.inventory.enums;
+
+public enum MovementType {
+    RECEIPT,
+    CONSUMPTION,
+    ADJUSTMENT,
+    SHIPMENT
+}
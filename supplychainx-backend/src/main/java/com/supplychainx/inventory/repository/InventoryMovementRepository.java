@@ -0,0 +1,53 @@
+package com.supplychainx.inventory.repository;
+
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    List<InventoryMovement> findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType itemType, Long itemId);
+
+    Page<InventoryMovement> findByItemTypeAndItemId(InventoryItemType itemType, Long itemId, Pageable pageable);
+
+    List<InventoryMovement> findByItemTypeAndItemIdAndIdGreaterThanOrderByIdAsc(
+            InventoryItemType itemType, Long itemId, Long id, Limit limit);
+
+    /** Mouvements d'un article sur ]from, to] : parcours borné de l'index (item_type, item_id, occurred_at). */
+    @Query("SELECT new com.supplychainx.inventory.repository.MovementDelta(COALESCE(SUM(m.quantity), 0), COUNT(m)) " +
+           "FROM InventoryMovement m WHERE m.itemType = :itemType AND m.itemId = :itemId " +
+           "AND m.occurredAt > :from AND m.occurredAt <= :to")
+    MovementDelta sumBetween(@Param("itemType") InventoryItemType itemType, @Param("itemId") Long itemId,
+                             @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** Articles dont le stock a bougé sur ]from, to] (index item_type, occurred_at, item_id). */
+    @Query("SELECT DISTINCT m.itemId FROM InventoryMovement m WHERE m.itemType = :itemType " +
+           "AND m.occurredAt > :from AND m.occurredAt <= :to")
+    List<Long> findItemIdsMovedBetween(@Param("itemType") InventoryItemType itemType,
+                                       @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** Un mouvement RECEIPT par ligne de la commande d'approvisionnement, en une instruction. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "inventory_movements"))
+    @Query(value = "INSERT INTO inventory_movements " +
+            "(item_type, item_id, movement_type, quantity, source_type, source_id, idempotency_key, occurred_at) " +
+            "SELECT 'RAW_MATERIAL', l.raw_material_id, 'RECEIPT', l.quantity, 'SUPPLY_ORDER', l.supply_order_id, " +
+            "CONCAT('SUPPLY_ORDER_LINE:', l.id), :occurredAt " +
+            "FROM supply_order_materials l WHERE l.supply_order_id = :supplyOrderId", nativeQuery = true)
+    int insertSupplyOrderReceipt(@Param("supplyOrderId") Long supplyOrderId,
+                                 @Param("occurredAt") LocalDateTime occurredAt);
+}
@@ -0,0 +1,40 @@
+package com.supplychainx.inventory.repository;
+
+import com.supplychainx.inventory.entity.InventorySnapshot;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    Optional<InventorySnapshot> findFirstByItemTypeAndItemIdAndAsOfLessThanEqualOrderByAsOfDesc(
+            InventoryItemType itemType, Long itemId, LocalDateTime asOf);
+
+    /**
+     * Snapshot incrémental, en une instruction : pour chaque article ayant des mouvements entre le
+     * dernier snapshot (toutes lignes confondues) et {@code asOf}, nouveau stock = dernier snapshot
+     * de l'article + somme de ces mouvements. Seule la fenêtre depuis le passage précédent est lue.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "inventory_snapshots"))
+    @Query(value = "INSERT INTO inventory_snapshots (item_type, item_id, quantity, as_of, created_at) " +
+            "SELECT m.item_type, m.item_id, " +
+            "COALESCE((SELECT s.quantity FROM inventory_snapshots s " +
+            "WHERE s.item_type = m.item_type AND s.item_id = m.item_id " +
+            "ORDER BY s.as_of DESC LIMIT 1), 0) + SUM(m.quantity), :asOf, :createdAt " +
+            "FROM inventory_movements m " +
+            "WHERE m.occurred_at > (SELECT COALESCE(MAX(p.as_of), TIMESTAMP '1970-01-01 00:00:00') FROM inventory_snapshots p) " +
+            "AND m.occurred_at <= :asOf " +
+            "GROUP BY m.item_type, m.item_id", nativeQuery = true)
+    int insertSnapshots(@Param("asOf") LocalDateTime asOf, @Param("createdAt") LocalDateTime createdAt);
+}
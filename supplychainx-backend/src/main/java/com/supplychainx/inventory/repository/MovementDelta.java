@@ -0,0 +1,5 @@
+package com.supplychainx.inventory.repository;
+
+/** Somme des quantités et nombre de mouvements d'un article sur une fenêtre de temps. */
+public record MovementDelta(long quantity, long movements) {
+}
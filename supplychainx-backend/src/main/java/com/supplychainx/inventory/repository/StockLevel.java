@@ -0,0 +1,9 @@
+package com.supplychainx.inventory.repository;
+
+/** Projection (identifiant, stock) des requêtes natives de verrouillage du stock. */
+public interface StockLevel {
+
+    Long getId();
+
+    Integer getStock();
+}
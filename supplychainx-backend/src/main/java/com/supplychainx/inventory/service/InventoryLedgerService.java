@@ -0,0 +1,129 @@
+package com.supplychainx.inventory.service;
+
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.common.bulk.JdbcBatchWriter;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import com.supplychainx.inventory.repository.StockLevel;
+import com.supplychainx.production.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Écriture du journal des mouvements de stock (ajout seul). Les colonnes {@code stock} des
+ * matières premières et des produits en sont un cache dérivé : toute modification du stock
+ * s'accompagne, dans la même transaction, du mouvement correspondant.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class InventoryLedgerService {
+
+    private static final String INSERT_MOVEMENT_SQL = "INSERT INTO inventory_movements " +
+            "(item_type, item_id, movement_type, quantity, source_type, source_id, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final ProductRepository productRepository;
+    private final JdbcBatchWriter jdbcBatchWriter;
+
+    /** Journalise un mouvement dont l'effet sur la colonne stock est appliqué par l'appelant. */
+    public void append(InventoryItemType itemType, Long itemId, MovementType movementType, int quantity,
+                       MovementSource sourceType, Long sourceId) {
+        if (quantity == 0) {
+            return;
+        }
+        InventoryMovement movement = new InventoryMovement();
+        movement.setItemType(itemType);
+        movement.setItemId(itemId);
+        movement.setMovementType(movementType);
+        movement.setQuantity(quantity);
+        movement.setSourceType(sourceType);
+        movement.setSourceId(sourceId);
+        movement.setOccurredAt(LocalDateTime.now());
+        inventoryMovementRepository.save(movement);
+    }
+
+    /**
+     * Ajustement manuel vers {@code targetStock} : l'écart avec le stock en base est journalisé.
+     * La ligne de l'article reste verrouillée jusqu'à la fin de la transaction ; l'appelant écrit
+     * la nouvelle valeur par son entité, sans qu'une réception concurrente puisse s'intercaler.
+     *
+     * @return l'écart journalisé
+     */
+    public int recordAdjustment(InventoryItemType itemType, Long itemId, int targetStock) {
+        int delta = targetStock - lockStock(itemType, itemId);
+        if (delta != 0) {
+            append(itemType, itemId, MovementType.ADJUSTMENT, delta, MovementSource.MANUAL, null);
+            log.info("Stock of {} {} adjusted by {} to {}", itemType, itemId, delta, targetStock);
+        }
+        return delta;
+    }
+
+    /** Version par lot de {@link #append}, en insertions JDBC groupées (endpoints bulk). */
+    public void appendAll(InventoryItemType itemType, MovementType movementType, MovementSource sourceType,
+                          Map<Long, Integer> quantitiesByItem) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<Long, Integer>> movements = quantitiesByItem.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .toList();
+        jdbcBatchWriter.update(INSERT_MOVEMENT_SQL, movements, (statement, movement) -> {
+            statement.setString(1, itemType.name());
+            statement.setLong(2, movement.getKey());
+            statement.setString(3, movementType.name());
+            statement.setInt(4, movement.getValue());
+            statement.setString(5, sourceType.name());
+            statement.setNull(6, Types.BIGINT);
+            statement.setObject(7, now);
+        });
+    }
+
+    /**
+     * Version par lot de {@link #recordAdjustment} : les lignes existantes sont verrouillées en
+     * une requête et les écarts journalisés en une insertion groupée.
+     *
+     * @return les identifiants trouvés (les autres n'existent pas)
+     */
+    public Set<Long> recordAdjustments(InventoryItemType itemType, Map<Long, Integer> targetStocks) {
+        if (targetStocks.isEmpty()) {
+            return Set.of();
+        }
+        List<StockLevel> current = switch (itemType) {
+            case RAW_MATERIAL -> rawMaterialRepository.lockStocks(targetStocks.keySet());
+            case PRODUCT -> productRepository.lockStocks(targetStocks.keySet());
+        };
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        for (StockLevel level : current) {
+            deltas.put(level.getId(), targetStocks.get(level.getId()) - level.getStock());
+        }
+        appendAll(itemType, MovementType.ADJUSTMENT, MovementSource.MANUAL, deltas);
+        return deltas.keySet();
+    }
+
+    private int lockStock(InventoryItemType itemType, Long itemId) {
+        return switch (itemType) {
+            case RAW_MATERIAL -> rawMaterialRepository.lockStock(itemId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Matière première non trouvée avec l'ID: " + itemId));
+            case PRODUCT -> productRepository.lockStock(itemId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Produit non trouvé avec l'ID: " + itemId));
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.supplychainx.inventory.service;
+
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.dto.InventoryMovementResponseDTO;
+import com.supplychainx.inventory.dto.StockAtDateResponseDTO;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.entity.InventorySnapshot;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import com.supplychainx.inventory.repository.InventorySnapshotRepository;
+import com.supplychainx.inventory.repository.MovementDelta;
+import com.supplychainx.mapper.InventoryMovementMapper;
+import com.supplychainx.production.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventoryService {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("occurredAt", "movementType");
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final InventorySnapshotRepository inventorySnapshotRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final ProductRepository productRepository;
+    private final InventoryMovementMapper inventoryMovementMapper;
+
+    /**
+     * Stock d'un article à une date : dernier snapshot antérieur + mouvements postérieurs à ce
+     * snapshot. Le nombre de mouvements lus est borné par la période entre deux snapshots.
+     */
+    public StockAtDateResponseDTO getStockAt(InventoryItemType itemType, Long itemId, LocalDateTime at) {
+        requireItem(itemType, itemId);
+        LocalDateTime date = at != null ? at : LocalDateTime.now();
+
+        Optional<InventorySnapshot> snapshot = inventorySnapshotRepository
+                .findFirstByItemTypeAndItemIdAndAsOfLessThanEqualOrderByAsOfDesc(itemType, itemId, date);
+        long base = snapshot.map(InventorySnapshot::getQuantity).orElse(0);
+        LocalDateTime from = snapshot.map(InventorySnapshot::getAsOf).orElse(BEGINNING);
+        MovementDelta delta = inventoryMovementRepository.sumBetween(itemType, itemId, from, date);
+
+        return new StockAtDateResponseDTO(itemType.name(), itemId, date, base + delta.quantity(),
+                snapshot.map(InventorySnapshot::getAsOf).orElse(null), delta.movements());
+    }
+
+    public PageSlice<InventoryMovementResponseDTO> getMovements(InventoryItemType itemType, Long itemId,
+                                                                 PageQuery pageQuery) {
+        requireItem(itemType, itemId);
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "id",
+                pageable -> inventoryMovementRepository.findByItemTypeAndItemId(itemType, itemId, pageable),
+                (afterId, limit) -> inventoryMovementRepository
+                        .findByItemTypeAndItemIdAndIdGreaterThanOrderByIdAsc(itemType, itemId, afterId, limit),
+                InventoryMovement::getId,
+                inventoryMovementMapper::toResponseDTO);
+    }
+
+    private void requireItem(InventoryItemType itemType, Long itemId) {
+        boolean exists = switch (itemType) {
+            case RAW_MATERIAL -> rawMaterialRepository.existsById(itemId);
+            case PRODUCT -> productRepository.existsById(itemId);
+        };
+        if (!exists) {
+            throw new ResourceNotFoundException(switch (itemType) {
+                case RAW_MATERIAL -> "Matière première non trouvée avec l'ID: " + itemId;
+                case PRODUCT -> "Produit non trouvé avec l'ID: " + itemId;
+            });
+        }
+    }
+}
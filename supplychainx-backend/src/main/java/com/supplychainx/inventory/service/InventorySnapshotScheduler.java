@@ -0,0 +1,19 @@
+package com.supplychainx.inventory.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.inventory.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class InventorySnapshotScheduler {
+
+    private final InventorySnapshotService inventorySnapshotService;
+
+    @Scheduled(cron = "${app.inventory.snapshot.cron:0 0 * * * *}")
+    public void takeSnapshots() {
+        inventorySnapshotService.takeSnapshots();
+    }
+}
@@ -0,0 +1,40 @@
+package com.supplychainx.inventory.service;
+
+import com.supplychainx.inventory.dto.SnapshotRunResponseDTO;
+import com.supplychainx.inventory.repository.InventorySnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Snapshots périodiques du stock. La date du snapshot est reculée de {@code settle-lag} : un
+ * mouvement horodaté avant cette date mais pas encore validé serait sinon exclu du snapshot
+ * et de tous les deltas suivants.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventorySnapshotService {
+
+    private final InventorySnapshotRepository inventorySnapshotRepository;
+
+    @Value("${app.inventory.snapshot.settle-lag:PT5M}")
+    private Duration settleLag;
+
+    @Transactional
+    public SnapshotRunResponseDTO takeSnapshots() {
+        return takeSnapshots(LocalDateTime.now().minus(settleLag));
+    }
+
+    @Transactional
+    public SnapshotRunResponseDTO takeSnapshots(LocalDateTime asOf) {
+        int written = inventorySnapshotRepository.insertSnapshots(asOf, LocalDateTime.now());
+        log.info("Inventory snapshot as of {}: {} items", asOf, written);
+        return new SnapshotRunResponseDTO(asOf, written);
+    }
+}
@@ -0,0 +1,58 @@
+package com.supplychainx.inventory.service;
+
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.entity.SupplyOrder;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.service.EntityCacheEvictor;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Réception d'une commande d'approvisionnement : les quantités de toutes ses lignes entrent
+ * dans le stock des matières premières et sont tracées dans le journal des mouvements.
+ * <p>
+ * La commande est d'abord marquée reçue par un UPDATE conditionnel ({@code received_at IS NULL}) :
+ * une seule transaction peut gagner, un retry ou une réception concurrente de la même commande
+ * ne modifie rien. Le stock est ensuite incrémenté côté base ({@code stock = stock + n}), ce qui
+ * reste exact quand plusieurs commandes portant sur la même matière sont reçues en parallèle.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class StockReceiptService {
+
+    private final SupplyOrderRepository supplyOrderRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    /** @return {@code false} si la commande avait déjà été reçue */
+    public boolean receive(SupplyOrder order) {
+        Long orderId = order.getIdOrder();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (supplyOrderRepository.markReceived(orderId, now) == 0) {
+            log.info("Supply order {} already received, stock left unchanged", orderId);
+            return false;
+        }
+        int movements = inventoryMovementRepository.insertSupplyOrderReceipt(orderId, now);
+        int materials = rawMaterialRepository.applySupplyOrderReceipt(orderId);
+
+        List<Long> materialIds = order.getOrderMaterials().stream()
+                .map(line -> line.getRawMaterial().getIdMaterial())
+                .distinct()
+                .toList();
+        entityCacheEvictor.evict(RawMaterial.class, materialIds);
+        log.info("Supply order {} received: {} movements, {} raw materials restocked", orderId, movements, materials);
+        return true;
+    }
+}
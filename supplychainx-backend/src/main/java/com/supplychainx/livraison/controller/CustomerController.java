@@ -1,5 +1,6 @@
 package com.supplychainx.livraison.controller;
 
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.livraison.dto.CustomerRequestDTO;
 import com.supplychainx.livraison.dto.CustomerResponseDTO;
 import com.supplychainx.livraison.service.CustomerService;
@@ -7,6 +8,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -50,9 +52,8 @@ public class CustomerController {
     @GetMapping
     @Operation(summary = "Consulter tous les clients",
             description = "Retourne la liste de tous les clients")
-    public ResponseEntity<List<CustomerResponseDTO>> getAllCustomers() {
-        List<CustomerResponseDTO> customers = customerService.getAllCustomers();
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<List<CustomerResponseDTO>> getAllCustomers(@ParameterObject PageQuery pageQuery) {
+        return customerService.getAllCustomers(pageQuery).toResponse();
     }
 
     @GetMapping("/search")
@@ -1,16 +1,24 @@
 package com.supplychainx.livraison.controller;
 
+import com.supplychainx.common.export.ExportFormat;
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.livraison.dto.DeliveryRequestDTO;
 import com.supplychainx.livraison.dto.DeliveryResponseDTO;
+import com.supplychainx.livraison.dto.DispatchPlanResponseDTO;
 import com.supplychainx.livraison.service.DeliveryService;
+import com.supplychainx.livraison.service.DispatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +29,7 @@ import java.util.Map;
 public class DeliveryController {
     
     private final DeliveryService deliveryService;
+    private final DispatchService dispatchService;
     
 
     @PostMapping
@@ -42,9 +51,8 @@ public class DeliveryController {
     @GetMapping
     @Operation(summary = "Obtenir les livraisons par statut",
             description = "Récupère toutes les livraisons filtrées par statut")
-    public ResponseEntity<List<DeliveryResponseDTO>> getDeliveriesByStatus(@RequestParam String status) {
-        List<DeliveryResponseDTO> deliveries = deliveryService.getDeliveriesByStatus(status);
-        return ResponseEntity.ok(deliveries);
+    public ResponseEntity<List<DeliveryResponseDTO>> getDeliveriesByStatus(@RequestParam String status, @ParameterObject PageQuery pageQuery) {
+        return deliveryService.getDeliveriesByStatus(status, pageQuery).toResponse();
     }
     
     @PutMapping("/{id}/status")
@@ -70,4 +78,24 @@ public class DeliveryController {
         DeliveryResponseDTO delivery = deliveryService.calculateAndUpdateCost(id, baseCost, distance, ratePerKm);
         return ResponseEntity.ok(delivery);
     }
+
+    @PostMapping("/dispatch")
+    @Operation(summary = "Organiser les tournées de livraison",
+            description = "Regroupe les livraisons PLANIFIEE de la plage de dates par date et ville du client, " +
+                    "les répartit sur les véhicules dans la limite de leur capacité et calcule le coût de chaque " +
+                    "livraison à partir des distances entre villes. Les livraisons sans véhicule sont listées")
+    public ResponseEntity<DispatchPlanResponseDTO> dispatch(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        DispatchPlanResponseDTO plan = dispatchService.dispatch(from, to);
+        return ResponseEntity.ok(plan);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exporter toutes les livraisons",
+            description = "Flux NDJSON ou CSV de toutes les livraisons, écrit ligne par ligne sans chargement complet en mémoire")
+    public ResponseEntity<StreamingResponseBody> exportDeliveries(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return exportFormat.toResponse("deliveries", out -> deliveryService.exportDeliveries(exportFormat, out));
+    }
 }
@@ -1,5 +1,7 @@
 package com.supplychainx.livraison.controller;
 
+import com.supplychainx.common.export.ExportFormat;
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.livraison.dto.OrderRequestDTO;
 import com.supplychainx.livraison.dto.OrderResponseDTO;
 import com.supplychainx.livraison.service.OrderService;
@@ -7,9 +9,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -51,17 +55,23 @@ public class OrderController {
     @GetMapping
     @Operation(summary = "Consulter toutes les commandes",
             description = "Retourne la liste de toutes les commandes clients")
-    public ResponseEntity<List<OrderResponseDTO>> getAllOrders() {
-        List<OrderResponseDTO> orders = orderService.getAllOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<OrderResponseDTO>> getAllOrders(@ParameterObject PageQuery pageQuery) {
+        return orderService.getAllOrders(pageQuery).toResponse();
     }
     
 
     @GetMapping("/status/{status}")
     @Operation(summary = "Suivre le statut des commandes",
             description = "Permet de filtrer les commandes par statut (EN_PREPARATION, EN_ROUTE, LIVREE)")
-    public ResponseEntity<List<OrderResponseDTO>> getOrdersByStatus(@PathVariable String status) {
-        List<OrderResponseDTO> orders = orderService.getOrdersByStatus(status);
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<OrderResponseDTO>> getOrdersByStatus(@PathVariable String status, @ParameterObject PageQuery pageQuery) {
+        return orderService.getOrdersByStatus(status, pageQuery).toResponse();
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exporter toutes les commandes",
+            description = "Flux NDJSON ou CSV de toutes les commandes clients, écrit ligne par ligne sans chargement complet en mémoire")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return exportFormat.toResponse("orders", out -> orderService.exportOrders(exportFormat, out));
     }
 }
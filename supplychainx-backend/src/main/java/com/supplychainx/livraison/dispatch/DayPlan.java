@@ -0,0 +1,8 @@
+package com.supplychainx.livraison.dispatch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** Routes of one day and the deliveries that could not be given a vehicle. */
+public record DayPlan(LocalDate date, List<PlannedRoute> routes, List<DispatchStop> unassigned) {
+}
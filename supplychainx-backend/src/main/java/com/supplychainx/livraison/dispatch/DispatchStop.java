@@ -0,0 +1,7 @@
+package com.supplychainx.livraison.dispatch;
+
+import java.time.LocalDate;
+
+/** PLANIFIEE delivery to route: customer city, ordered quantity (vehicle load) and delivery date. */
+public record DispatchStop(Long deliveryId, String city, Integer quantity, LocalDate date) {
+}
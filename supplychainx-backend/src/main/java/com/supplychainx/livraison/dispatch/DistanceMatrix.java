@@ -0,0 +1,100 @@
+package com.supplychainx.livraison.dispatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Road distances (km) between cities, held as a dense matrix. City names are matched
+ * case-insensitively; an unknown city has index -1.
+ */
+public final class DistanceMatrix {
+
+    private final List<String> cities;
+    private final Map<String, Integer> index = new HashMap<>();
+    private final double[][] distances;
+
+    public DistanceMatrix(List<String> cities, double[][] distances) {
+        this.cities = List.copyOf(cities);
+        this.distances = distances;
+        for (int i = 0; i < cities.size(); i++) {
+            index.put(normalize(cities.get(i)), i);
+        }
+    }
+
+    /**
+     * Builds the matrix from road segments, one {@code cityA,cityB,km} per line ({@code #}
+     * comments and blank lines ignored). Distances between cities not directly connected are
+     * the shortest path over the segments; pairs left unconnected stay infinite.
+     */
+    public static DistanceMatrix fromSegments(List<String> lines) {
+        List<String> cities = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        List<String[]> segments = new ArrayList<>();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] fields = trimmed.split(",");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Invalid distance line '" + line + "', expected cityA,cityB,km");
+            }
+            for (int f = 0; f < 2; f++) {
+                fields[f] = fields[f].trim();
+                if (ids.putIfAbsent(normalize(fields[f]), cities.size()) == null) {
+                    cities.add(fields[f]);
+                }
+            }
+            segments.add(fields);
+        }
+
+        int n = cities.size();
+        double[][] distances = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(distances[i], Double.POSITIVE_INFINITY);
+            distances[i][i] = 0;
+        }
+        for (String[] segment : segments) {
+            int a = ids.get(normalize(segment[0]));
+            int b = ids.get(normalize(segment[1]));
+            double km = Double.parseDouble(segment[2].trim());
+            distances[a][b] = Math.min(distances[a][b], km);
+            distances[b][a] = distances[a][b];
+        }
+        // Floyd-Warshall: a few dozen cities, computed once at startup
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (distances[i][k] + distances[k][j] < distances[i][j]) {
+                        distances[i][j] = distances[i][k] + distances[k][j];
+                    }
+                }
+            }
+        }
+        return new DistanceMatrix(cities, distances);
+    }
+
+    public int indexOf(String city) {
+        return city == null ? -1 : index.getOrDefault(normalize(city), -1);
+    }
+
+    public String city(int index) {
+        return cities.get(index);
+    }
+
+    public double distance(int from, int to) {
+        return distances[from][to];
+    }
+
+    public int size() {
+        return cities.size();
+    }
+
+    private static String normalize(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+}
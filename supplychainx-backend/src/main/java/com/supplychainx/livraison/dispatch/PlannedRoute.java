@@ -0,0 +1,12 @@
+package com.supplychainx.livraison.dispatch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One vehicle tour from the depot and back: {@code cities} in visiting order (depot excluded),
+ * {@code stops} the deliveries dropped along it.
+ */
+public record PlannedRoute(LocalDate date, Vehicle vehicle, List<String> cities, List<DispatchStop> stops,
+                           int load, double distanceKm) {
+}
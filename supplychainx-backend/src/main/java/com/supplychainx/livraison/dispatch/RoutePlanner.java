@@ -0,0 +1,259 @@
+package com.supplychainx.livraison.dispatch;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Capacitated vehicle routing for one day of deliveries, from a single depot.
+ * <p>
+ * Deliveries to the same city are packed (first-fit decreasing) into stops that fit the
+ * largest vehicle. Stops are then merged into tours with the Clarke-Wright savings heuristic,
+ * each tour is improved with 2-opt, and tours are given the smallest free vehicle that can
+ * carry them, largest tours first. Deliveries to a city missing from the distance matrix,
+ * larger than any vehicle, or on a tour left without a vehicle are returned as unassigned.
+ * <p>
+ * Days are independent, so {@link #planDays} plans them in parallel. Instances are immutable.
+ */
+public final class RoutePlanner {
+
+    private static final double EPSILON = 1e-9;
+
+    private final DistanceMatrix matrix;
+    private final int depot;
+    private final List<Vehicle> fleet;
+    private final int maxCapacity;
+
+    public RoutePlanner(DistanceMatrix matrix, String depot, List<Vehicle> fleet) {
+        this.matrix = matrix;
+        this.depot = matrix.indexOf(depot);
+        if (this.depot < 0) {
+            throw new IllegalArgumentException("Depot city '" + depot + "' is missing from the distance matrix");
+        }
+        if (fleet.isEmpty()) {
+            throw new IllegalArgumentException("At least one vehicle is required");
+        }
+        this.fleet = fleet.stream().sorted(Comparator.comparingInt(Vehicle::capacity)).toList();
+        this.maxCapacity = this.fleet.get(this.fleet.size() - 1).capacity();
+    }
+
+    /** Plans each list of same-day deliveries on its own, in parallel; results keep the input order. */
+    public List<DayPlan> planDays(List<List<DispatchStop>> days) {
+        return days.parallelStream().map(this::planDay).toList();
+    }
+
+    public DayPlan planDay(List<DispatchStop> deliveries) {
+        LocalDate date = deliveries.isEmpty() ? null : deliveries.get(0).date();
+        List<DispatchStop> unassigned = new ArrayList<>();
+        List<Node> nodes = pack(deliveries, unassigned);
+
+        List<List<Node>> tours = new ArrayList<>();
+        for (List<Integer> tour : savings(nodes)) {
+            List<Node> ordered = new ArrayList<>(tour.size());
+            for (int node : twoOpt(nodes, tour)) {
+                ordered.add(nodes.get(node));
+            }
+            tours.add(ordered);
+        }
+        tours.sort(Comparator.comparingInt(RoutePlanner::load).reversed());
+
+        boolean[] used = new boolean[fleet.size()];
+        List<PlannedRoute> routes = new ArrayList<>();
+        for (List<Node> tour : tours) {
+            int load = load(tour);
+            int vehicle = -1;
+            for (int v = 0; v < fleet.size() && vehicle < 0; v++) {
+                if (!used[v] && fleet.get(v).capacity() >= load) {
+                    vehicle = v;
+                }
+            }
+            if (vehicle < 0) {
+                tour.forEach(node -> unassigned.addAll(node.stops()));
+                continue;
+            }
+            used[vehicle] = true;
+            routes.add(route(date, fleet.get(vehicle), tour));
+        }
+        return new DayPlan(date, routes, unassigned);
+    }
+
+    // Stops of one city packed into nodes no larger than the largest vehicle
+    private List<Node> pack(List<DispatchStop> deliveries, List<DispatchStop> unassigned) {
+        Map<Integer, List<DispatchStop>> byCity = new TreeMap<>();
+        for (DispatchStop stop : deliveries) {
+            int city = matrix.indexOf(stop.city());
+            if (city < 0 || Double.isInfinite(matrix.distance(depot, city))
+                    || stop.quantity() == null || stop.quantity() > maxCapacity) {
+                unassigned.add(stop);
+                continue;
+            }
+            byCity.computeIfAbsent(city, c -> new ArrayList<>()).add(stop);
+        }
+
+        List<Node> nodes = new ArrayList<>();
+        byCity.forEach((city, stops) -> {
+            stops.sort(Comparator.comparing(DispatchStop::quantity).reversed().thenComparing(DispatchStop::deliveryId));
+            List<Node> bins = new ArrayList<>();
+            for (DispatchStop stop : stops) {
+                Node bin = null;
+                for (Node candidate : bins) {
+                    if (candidate.load + stop.quantity() <= maxCapacity) {
+                        bin = candidate;
+                        break;
+                    }
+                }
+                if (bin == null) {
+                    bin = new Node(city);
+                    bins.add(bin);
+                }
+                bin.add(stop);
+            }
+            nodes.addAll(bins);
+        });
+        return nodes;
+    }
+
+    private List<List<Integer>> savings(List<Node> nodes) {
+        int n = nodes.size();
+        List<List<Integer>> tours = new ArrayList<>(n);
+        int[] tourOf = new int[n];
+        int[] tourLoad = new int[n];
+        for (int i = 0; i < n; i++) {
+            tours.add(new ArrayList<>(List.of(i)));
+            tourOf[i] = i;
+            tourLoad[i] = nodes.get(i).load;
+        }
+
+        List<Saving> savings = new ArrayList<>(n * (n - 1) / 2);
+        for (int i = 0; i < n; i++) {
+            int ci = nodes.get(i).city;
+            for (int j = i + 1; j < n; j++) {
+                int cj = nodes.get(j).city;
+                savings.add(new Saving(i, j,
+                        matrix.distance(depot, ci) + matrix.distance(depot, cj) - matrix.distance(ci, cj)));
+            }
+        }
+        savings.sort(Comparator.comparingDouble(Saving::value).reversed()
+                .thenComparingInt(Saving::i).thenComparingInt(Saving::j));
+
+        for (Saving saving : savings) {
+            if (saving.value() <= 0) {
+                break;
+            }
+            int ri = tourOf[saving.i()];
+            int rj = tourOf[saving.j()];
+            if (ri == rj || tourLoad[ri] + tourLoad[rj] > maxCapacity) {
+                continue;
+            }
+            List<Integer> left = tours.get(ri);
+            List<Integer> right = tours.get(rj);
+            if (!isEnd(left, saving.i()) || !isEnd(right, saving.j())) {
+                continue;
+            }
+            // Join as ... i | j ...
+            if (left.get(left.size() - 1) != saving.i()) {
+                Collections.reverse(left);
+            }
+            if (right.get(0) != saving.j()) {
+                Collections.reverse(right);
+            }
+            left.addAll(right);
+            right.forEach(node -> tourOf[node] = ri);
+            tourLoad[ri] += tourLoad[rj];
+            tours.set(rj, null);
+        }
+        return tours.stream().filter(tour -> tour != null).toList();
+    }
+
+    private int[] twoOpt(List<Node> nodes, List<Integer> tour) {
+        // path[0] and path[k + 1] are the depot
+        int k = tour.size();
+        int[] path = new int[k + 2];
+        int[] city = new int[k + 2];
+        city[0] = depot;
+        city[k + 1] = depot;
+        for (int i = 0; i < k; i++) {
+            path[i + 1] = tour.get(i);
+            city[i + 1] = nodes.get(tour.get(i)).city;
+        }
+
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 1; i < k; i++) {
+                for (int j = i + 1; j <= k; j++) {
+                    double delta = matrix.distance(city[i - 1], city[j]) + matrix.distance(city[i], city[j + 1])
+                            - matrix.distance(city[i - 1], city[i]) - matrix.distance(city[j], city[j + 1]);
+                    if (delta < -EPSILON) {
+                        reverse(path, i, j);
+                        reverse(city, i, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        int[] result = new int[k];
+        System.arraycopy(path, 1, result, 0, k);
+        return result;
+    }
+
+    private PlannedRoute route(LocalDate date, Vehicle vehicle, List<Node> tour) {
+        List<String> cities = new ArrayList<>();
+        List<DispatchStop> stops = new ArrayList<>();
+        double distance = 0;
+        int previous = depot;
+        for (Node node : tour) {
+            if (node.city != previous) {
+                cities.add(matrix.city(node.city));
+            }
+            distance += matrix.distance(previous, node.city);
+            previous = node.city;
+            stops.addAll(node.stops());
+        }
+        distance += matrix.distance(previous, depot);
+        return new PlannedRoute(date, vehicle, cities, stops, load(tour), distance);
+    }
+
+    private static boolean isEnd(List<Integer> tour, int node) {
+        return tour.get(0) == node || tour.get(tour.size() - 1) == node;
+    }
+
+    private static int load(List<Node> tour) {
+        return tour.stream().mapToInt(node -> node.load).sum();
+    }
+
+    private static void reverse(int[] values, int from, int to) {
+        for (int i = from, j = to; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private record Saving(int i, int j, double value) {
+    }
+
+    private static final class Node {
+
+        private final int city;
+        private final List<DispatchStop> stops = new ArrayList<>();
+        private int load;
+
+        private Node(int city) {
+            this.city = city;
+        }
+
+        private void add(DispatchStop stop) {
+            stops.add(stop);
+            load += stop.quantity();
+        }
+
+        private List<DispatchStop> stops() {
+            return stops;
+        }
+    }
+}
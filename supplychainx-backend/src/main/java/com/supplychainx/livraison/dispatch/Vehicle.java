@@ -0,0 +1,5 @@
+package com.supplychainx.livraison.dispatch;
+
+/** Vehicle of the fleet; {@code capacity} is in ordered units. */
+public record Vehicle(String name, int capacity) {
+}
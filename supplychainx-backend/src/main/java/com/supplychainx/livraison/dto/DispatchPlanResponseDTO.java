@@ -0,0 +1,22 @@
+package com.supplychainx.livraison.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchPlanResponseDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private Integer deliveriesAssigned;
+    private Double totalDistanceKm;
+    private Double totalCost;
+    private List<DispatchRouteDTO> routes;
+    private List<Long> unassignedDeliveryIds;
+}
@@ -0,0 +1,23 @@
+package com.supplychainx.livraison.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchRouteDTO {
+
+    private LocalDate deliveryDate;
+    private String vehicle;
+    private Integer capacity;
+    private Integer load;
+    private Double distanceKm;
+    private Double cost;
+    private List<String> cities;
+    private List<Long> deliveryIds;
+}
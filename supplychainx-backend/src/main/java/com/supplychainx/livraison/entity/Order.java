@@ -32,4 +32,8 @@ public class Order {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderStatus status;
+
+    // Quantité actuellement réservée sur le stock du produit (0 une fois livrée ou libérée)
+    @Column(nullable = false)
+    private Integer reservedQuantity = 0;
 }
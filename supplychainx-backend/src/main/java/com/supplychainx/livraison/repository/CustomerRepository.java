@@ -1,7 +1,10 @@
 package com.supplychainx.livraison.repository;
 
 import com.supplychainx.livraison.entity.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +13,9 @@ import java.util.List;
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     
     List<Customer> findByNameContainingIgnoreCase(String name);
+
+    List<Customer> findByIdCustomerGreaterThanOrderByIdCustomerAsc(Long idCustomer, Limit limit);
+
+    @Query("SELECT c.idCustomer FROM Customer c WHERE c.name = :name")
+    List<Long> findIdsByName(@Param("name") String name);
 }
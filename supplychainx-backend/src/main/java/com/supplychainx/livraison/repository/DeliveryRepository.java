@@ -1,14 +1,55 @@
 package com.supplychainx.livraison.repository;
 
+import com.supplychainx.common.export.StreamingExporter;
+import com.supplychainx.common.repository.StatusCount;
+import com.supplychainx.livraison.dispatch.DispatchStop;
 import com.supplychainx.livraison.entity.Delivery;
 import com.supplychainx.livraison.enums.DeliveryStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     
     List<Delivery> findByStatus(DeliveryStatus status);
+
+    @EntityGraph(attributePaths = {"order", "order.customer", "order.product"})
+    Page<Delivery> findByStatus(DeliveryStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"order", "order.customer", "order.product"})
+    List<Delivery> findByStatusAndIdDeliveryGreaterThanOrderByIdDeliveryAsc(DeliveryStatus status, Long idDelivery, Limit limit);
+
+    @Query("SELECT d FROM Delivery d JOIN FETCH d.order o JOIN FETCH o.customer JOIN FETCH o.product ORDER BY d.idDelivery")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Delivery> streamAllForExport();
+
+    @Query("SELECT new com.supplychainx.livraison.dispatch.DispatchStop(" +
+           "d.idDelivery, c.city, o.quantity, d.deliveryDate) " +
+           "FROM Delivery d JOIN d.order o JOIN o.customer c " +
+           "WHERE d.status = :status AND d.deliveryDate BETWEEN :from AND :to ORDER BY d.deliveryDate, d.idDelivery")
+    List<DispatchStop> findDispatchStops(@Param("status") DeliveryStatus status,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    @EntityGraph(attributePaths = {"order", "order.customer", "order.product"})
+    List<Delivery> findByIdDeliveryGreaterThanOrderByIdDeliveryAsc(Long idDelivery, Limit limit);
+
+    @Query("SELECT new com.supplychainx.common.repository.StatusCount(d.status, COUNT(d)) FROM Delivery d GROUP BY d.status")
+    List<StatusCount> countGroupedByStatus();
 }
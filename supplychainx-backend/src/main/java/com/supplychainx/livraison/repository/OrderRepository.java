@@ -1,12 +1,23 @@
 package com.supplychainx.livraison.repository;
 
+import com.supplychainx.common.export.StreamingExporter;
+import com.supplychainx.common.repository.StatusCount;
 import com.supplychainx.livraison.entity.Customer;
 import com.supplychainx.livraison.entity.Order;
 import com.supplychainx.livraison.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -14,4 +25,27 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByStatus(OrderStatus status);
     
     List<Order> findByCustomer(Customer customer);
+
+    @Override
+    @EntityGraph(attributePaths = {"customer", "product"})
+    Page<Order> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"customer", "product"})
+    Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"customer", "product"})
+    List<Order> findByIdOrderGreaterThanOrderByIdOrderAsc(Long idOrder, Limit limit);
+
+    @EntityGraph(attributePaths = {"customer", "product"})
+    List<Order> findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(OrderStatus status, Long idOrder, Limit limit);
+
+    @Query("SELECT o FROM Order o JOIN FETCH o.customer JOIN FETCH o.product ORDER BY o.idOrder")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Order> streamAllForExport();
+
+    @Query("SELECT new com.supplychainx.common.repository.StatusCount(o.status, COUNT(o)) FROM Order o GROUP BY o.status")
+    List<StatusCount> countGroupedByStatus();
 }
@@ -1,5 +1,8 @@
 package com.supplychainx.livraison.service;
 
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.livraison.dto.CustomerRequestDTO;
@@ -14,11 +17,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerService {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "city");
     
     private final CustomerRepository customerRepository;
     private final OrderRepository orderRepository;
@@ -66,10 +72,12 @@ public class CustomerService {
     }
     
     @Transactional(readOnly = true)
-    public List<CustomerResponseDTO> getAllCustomers() {
-        return customerRepository.findAll().stream()
-                .map(customerMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public PageSlice<CustomerResponseDTO> getAllCustomers(PageQuery pageQuery) {
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idCustomer",
+                customerRepository::findAll,
+                customerRepository::findByIdCustomerGreaterThanOrderByIdCustomerAsc,
+                Customer::getIdCustomer,
+                customerMapper::toResponseDTO);
     }
     
     @Transactional(readOnly = true)
@@ -1,5 +1,14 @@
 package com.supplychainx.livraison.service;
 
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusDimensions;
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.common.export.ExportColumn;
+import com.supplychainx.common.export.ExportFormat;
+import com.supplychainx.common.export.StreamingExporter;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.livraison.dto.DeliveryRequestDTO;
 import com.supplychainx.livraison.dto.DeliveryResponseDTO;
@@ -17,12 +26,29 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class DeliveryService {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("deliveryDate", "cost", "status");
+
+    private static final List<ExportColumn<Delivery>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("idDelivery", Delivery::getIdDelivery),
+            ExportColumn.of("orderId", d -> d.getOrder().getIdOrder()),
+            ExportColumn.of("customerId", d -> d.getOrder().getCustomer().getIdCustomer()),
+            ExportColumn.of("customerCity", d -> d.getOrder().getCustomer().getCity()),
+            ExportColumn.of("productId", d -> d.getOrder().getProduct().getIdProduct()),
+            ExportColumn.of("quantity", d -> d.getOrder().getQuantity()),
+            ExportColumn.of("vehicle", Delivery::getVehicle),
+            ExportColumn.of("driver", Delivery::getDriver),
+            ExportColumn.of("status", Delivery::getStatus),
+            ExportColumn.of("deliveryDate", Delivery::getDeliveryDate),
+            ExportColumn.of("cost", Delivery::getCost));
     
     private final DeliveryRepository deliveryRepository;
     private final OrderRepository orderRepository;
@@ -30,6 +56,9 @@ public class DeliveryService {
     private final OrderMapper orderMapper;
     private final CustomerMapper customerMapper;
     private final ProductMapper productMapper;
+    private final StreamingExporter streamingExporter;
+    private final StockReservationService stockReservationService;
+    private final StatusEventBus statusEventBus;
 
     @Transactional
     public DeliveryResponseDTO createDelivery(DeliveryRequestDTO dto) {
@@ -48,6 +77,8 @@ public class DeliveryService {
         delivery.setCost(calculatedCost);
         
         Delivery savedDelivery = deliveryRepository.save(delivery);
+        statusEventBus.statusChanged(EntityType.DELIVERY, savedDelivery.getIdDelivery(), null, savedDelivery.getStatus(),
+                dimensions(savedDelivery));
         return deliveryMapper.toResponseDTO(savedDelivery);
     }
     
@@ -78,15 +109,21 @@ public class DeliveryService {
                         "Livraison non trouvée avec l'ID: " + id));
         
         DeliveryStatus status = DeliveryStatus.valueOf(newStatus);
+        DeliveryStatus previousStatus = delivery.getStatus();
         delivery.setStatus(status);
         
         if (status == DeliveryStatus.LIVREE) {
             Order order = delivery.getOrder();
+            OrderStatus previousOrderStatus = order.getStatus();
+            stockReservationService.commit(order);
             order.setStatus(OrderStatus.LIVREE);
             orderRepository.save(order);
+            statusEventBus.statusChanged(EntityType.ORDER, order.getIdOrder(), previousOrderStatus, OrderStatus.LIVREE,
+                    OrderService.dimensions(order));
         }
         
         Delivery savedDelivery = deliveryRepository.save(delivery);
+        statusEventBus.statusChanged(EntityType.DELIVERY, id, previousStatus, status, dimensions(savedDelivery));
         return deliveryMapper.toResponseDTO(savedDelivery);
     }
     
@@ -103,10 +140,25 @@ public class DeliveryService {
         return deliveryMapper.toResponseDTO(savedDelivery);
     }
     
-    public List<DeliveryResponseDTO> getDeliveriesByStatus(String status) {
+    @Transactional(readOnly = true)
+    public PageSlice<DeliveryResponseDTO> getDeliveriesByStatus(String status, PageQuery pageQuery) {
         DeliveryStatus deliveryStatus = DeliveryStatus.valueOf(status);
-        return deliveryRepository.findByStatus(deliveryStatus).stream()
-                .map(deliveryMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idDelivery",
+                pageable -> deliveryRepository.findByStatus(deliveryStatus, pageable),
+                (afterId, limit) -> deliveryRepository.findByStatusAndIdDeliveryGreaterThanOrderByIdDeliveryAsc(deliveryStatus, afterId, limit),
+                Delivery::getIdDelivery,
+                deliveryMapper::toResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportDeliveries(ExportFormat format, OutputStream out) throws IOException {
+        return streamingExporter.export(deliveryRepository.streamAllForExport(), format, EXPORT_COLUMNS, out,
+                delivery -> List.of(delivery, delivery.getOrder()));
+    }
+
+    /** Dimensions de la commande livrée et coût de la livraison. */
+    private static StatusDimensions dimensions(Delivery delivery) {
+        StatusDimensions order = delivery.getOrder() == null ? StatusDimensions.NONE : OrderService.dimensions(delivery.getOrder());
+        return new StatusDimensions(order.productId(), order.city(), order.quantity(), delivery.getCost());
     }
 }
@@ -0,0 +1,150 @@
+package com.supplychainx.livraison.service;
+
+import com.supplychainx.common.bulk.JdbcBatchWriter;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.livraison.dispatch.DayPlan;
+import com.supplychainx.livraison.dispatch.DispatchStop;
+import com.supplychainx.livraison.dispatch.DistanceMatrix;
+import com.supplychainx.livraison.dispatch.PlannedRoute;
+import com.supplychainx.livraison.dispatch.RoutePlanner;
+import com.supplychainx.livraison.dispatch.Vehicle;
+import com.supplychainx.livraison.dto.DispatchPlanResponseDTO;
+import com.supplychainx.livraison.dto.DispatchRouteDTO;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.repository.DeliveryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Organisation des tournées : les livraisons PLANIFIEE d'une plage de dates sont regroupées
+ * par date et par ville du client, puis réparties sur la flotte ({@code app.dispatch.vehicles},
+ * capacité en unités commandées) au départ du dépôt (voir {@link RoutePlanner}).
+ * <p>
+ * Les distances viennent d'une matrice en mémoire construite au démarrage à partir des
+ * tronçons de {@code app.dispatch.distances}. Chaque livraison affectée reçoit son véhicule et
+ * un coût {@code base-cost + km de la tournée × rate-per-km}, le kilométrage étant réparti
+ * au prorata de la quantité transportée. Les livraisons non affectées restent inchangées.
+ */
+@Slf4j
+@Service
+public class DispatchService {
+
+    private static final String ASSIGN_SQL = "UPDATE deliveries SET vehicle = ?, cost = ? WHERE id_delivery = ?";
+
+    private final DeliveryRepository deliveryRepository;
+    private final JdbcBatchWriter jdbcBatchWriter;
+    private final RoutePlanner routePlanner;
+    private final double baseCost;
+    private final double ratePerKm;
+    private final int maxDays;
+
+    public DispatchService(DeliveryRepository deliveryRepository,
+                           JdbcBatchWriter jdbcBatchWriter,
+                           @Value("${app.dispatch.distances:classpath:dispatch/city-distances.csv}") Resource distances,
+                           @Value("${app.dispatch.depot:Paris}") String depot,
+                           @Value("${app.dispatch.vehicles:VAN-1:200}") String[] vehicles,
+                           @Value("${app.dispatch.base-cost:20}") double baseCost,
+                           @Value("${app.dispatch.rate-per-km:1.2}") double ratePerKm,
+                           @Value("${app.dispatch.max-days:31}") int maxDays) {
+        this.deliveryRepository = deliveryRepository;
+        this.jdbcBatchWriter = jdbcBatchWriter;
+        this.routePlanner = new RoutePlanner(readMatrix(distances), depot,
+                Arrays.stream(vehicles).map(DispatchService::parseVehicle).toList());
+        this.baseCost = baseCost;
+        this.ratePerKm = ratePerKm;
+        this.maxDays = maxDays;
+    }
+
+    @Transactional
+    public DispatchPlanResponseDTO dispatch(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessRuleException("La date de fin doit être postérieure ou égale à la date de début");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new BusinessRuleException("La plage de dates ne peut pas dépasser " + maxDays + " jours");
+        }
+        long start = System.nanoTime();
+
+        Map<LocalDate, List<DispatchStop>> byDate = new LinkedHashMap<>();
+        for (DispatchStop stop : deliveryRepository.findDispatchStops(DeliveryStatus.PLANIFIEE, from, to)) {
+            byDate.computeIfAbsent(stop.date(), date -> new ArrayList<>()).add(stop);
+        }
+        List<DayPlan> plans = routePlanner.planDays(new ArrayList<>(byDate.values()));
+
+        List<Assignment> assignments = new ArrayList<>();
+        List<DispatchRouteDTO> routes = new ArrayList<>();
+        List<Long> unassigned = new ArrayList<>();
+        double totalDistance = 0;
+        double totalCost = 0;
+        for (DayPlan plan : plans) {
+            for (PlannedRoute route : plan.routes()) {
+                double routeCost = 0;
+                for (DispatchStop stop : route.stops()) {
+                    double cost = round(baseCost + route.distanceKm() * ratePerKm * stop.quantity() / route.load());
+                    assignments.add(new Assignment(stop.deliveryId(), route.vehicle().name(), cost));
+                    routeCost += cost;
+                }
+                routes.add(new DispatchRouteDTO(route.date(), route.vehicle().name(), route.vehicle().capacity(),
+                        route.load(), round(route.distanceKm()), round(routeCost), route.cities(),
+                        route.stops().stream().map(DispatchStop::deliveryId).toList()));
+                totalDistance += route.distanceKm();
+                totalCost += routeCost;
+            }
+            plan.unassigned().forEach(stop -> unassigned.add(stop.deliveryId()));
+        }
+
+        jdbcBatchWriter.update(ASSIGN_SQL, assignments, (statement, assignment) -> {
+            statement.setString(1, assignment.vehicle());
+            statement.setDouble(2, assignment.cost());
+            statement.setLong(3, assignment.deliveryId());
+        });
+
+        log.info("Dispatch {} to {}: {} deliveries on {} routes over {} days, {} unassigned in {} ms",
+                from, to, assignments.size(), routes.size(), plans.size(), unassigned.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new DispatchPlanResponseDTO(from, to, assignments.size(), round(totalDistance), round(totalCost),
+                routes, unassigned);
+    }
+
+    private static DistanceMatrix readMatrix(Resource distances) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(distances.getInputStream(), StandardCharsets.UTF_8))) {
+            return DistanceMatrix.fromSegments(reader.lines().toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read distance matrix " + distances, e);
+        }
+    }
+
+    // "VAN-1:200"
+    private static Vehicle parseVehicle(String vehicle) {
+        int separator = vehicle.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid vehicle '" + vehicle + "', expected name:capacity");
+        }
+        return new Vehicle(vehicle.substring(0, separator).trim(),
+                Integer.parseInt(vehicle.substring(separator + 1).trim()));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private record Assignment(Long deliveryId, String vehicle, double cost) {
+    }
+}
@@ -1,5 +1,14 @@
 package com.supplychainx.livraison.service;
 
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusDimensions;
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.common.export.ExportColumn;
+import com.supplychainx.common.export.ExportFormat;
+import com.supplychainx.common.export.StreamingExporter;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.livraison.dto.OrderRequestDTO;
@@ -18,12 +27,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("quantity", "status");
+
+    private static final List<ExportColumn<Order>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("idOrder", Order::getIdOrder),
+            ExportColumn.of("customerId", o -> o.getCustomer().getIdCustomer()),
+            ExportColumn.of("customerName", o -> o.getCustomer().getName()),
+            ExportColumn.of("productId", o -> o.getProduct().getIdProduct()),
+            ExportColumn.of("productName", o -> o.getProduct().getName()),
+            ExportColumn.of("quantity", Order::getQuantity),
+            ExportColumn.of("status", Order::getStatus));
     
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
@@ -31,6 +53,9 @@ public class OrderService {
     private final OrderMapper orderMapper;
     private final CustomerMapper customerMapper;
     private final ProductMapper productMapper;
+    private final StreamingExporter streamingExporter;
+    private final StockReservationService stockReservationService;
+    private final StatusEventBus statusEventBus;
     
     @Transactional
     public OrderResponseDTO createOrder(OrderRequestDTO dto) {
@@ -47,8 +72,15 @@ public class OrderService {
         order.setProduct(product);
         order.setQuantity(dto.getQuantity());
         order.setStatus(OrderStatus.valueOf(dto.getStatus()));
+        stockReservationService.reserve(order);
         
         Order savedOrder = orderRepository.save(order);
+        if (savedOrder.getStatus() == OrderStatus.LIVREE) {
+            // Commande saisie déjà livrée : elle sort du stock comme lors d'une livraison
+            stockReservationService.commit(savedOrder);
+        }
+        statusEventBus.statusChanged(EntityType.ORDER, savedOrder.getIdOrder(), null, savedOrder.getStatus(),
+                dimensions(savedOrder));
         return orderMapper.toResponseDTO(savedOrder);
     }
     
@@ -66,12 +98,29 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Produit non trouvé avec l'ID: " + dto.getProductId()));
         
+        OrderStatus previousStatus = order.getStatus();
+        OrderStatus status = OrderStatus.valueOf(dto.getStatus());
+        if (previousStatus == OrderStatus.LIVREE && status != OrderStatus.LIVREE) {
+            throw new BusinessRuleException(
+                    "Impossible de modifier le statut d'une commande déjà livrée (nouveau statut: " + status + ")");
+        }
+        StatusDimensions previousDimensions = dimensions(order);
+        stockReservationService.release(order);
         order.setCustomer(customer);
         order.setProduct(product);
         order.setQuantity(dto.getQuantity());
-        order.setStatus(OrderStatus.valueOf(dto.getStatus()));
+        order.setStatus(status);
+        if (order.getStatus() != OrderStatus.LIVREE) {
+            stockReservationService.reserve(order);
+        } else if (previousStatus != OrderStatus.LIVREE) {
+            // Passage direct à LIVREE : la commande sort du stock comme lors d'une livraison
+            stockReservationService.reserve(order);
+            stockReservationService.commit(order);
+        }
         
         Order updatedOrder = orderRepository.save(order);
+        statusEventBus.statusChanged(EntityType.ORDER, id, previousStatus, previousDimensions,
+                updatedOrder.getStatus(), dimensions(updatedOrder));
         return orderMapper.toResponseDTO(updatedOrder);
     }
     
@@ -88,21 +137,40 @@ public class OrderService {
                     order.getStatus() + ")");
         }
         
+        stockReservationService.release(order);
         orderRepository.delete(order);
+        statusEventBus.statusChanged(EntityType.ORDER, id, OrderStatus.EN_PREPARATION, null, dimensions(order));
     }
     
     @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getAllOrders() {
-        return orderRepository.findAll().stream()
-                .map(orderMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public PageSlice<OrderResponseDTO> getAllOrders(PageQuery pageQuery) {
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idOrder",
+                orderRepository::findAll,
+                orderRepository::findByIdOrderGreaterThanOrderByIdOrderAsc,
+                Order::getIdOrder,
+                orderMapper::toResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public PageSlice<OrderResponseDTO> getOrdersByStatus(String status, PageQuery pageQuery) {
+        OrderStatus orderStatus = OrderStatus.valueOf(status);
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idOrder",
+                pageable -> orderRepository.findByStatus(orderStatus, pageable),
+                (afterId, limit) -> orderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(orderStatus, afterId, limit),
+                Order::getIdOrder,
+                orderMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getOrdersByStatus(String status) {
-        OrderStatus orderStatus = OrderStatus.valueOf(status);        
-        return orderRepository.findByStatus(orderStatus).stream()
-                .map(orderMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public long exportOrders(ExportFormat format, OutputStream out) throws IOException {
+        return streamingExporter.export(orderRepository.streamAllForExport(), format, EXPORT_COLUMNS, out,
+                List::of);
+    }
+
+    /** Produit, ville du client et quantité de la commande, enregistrés avec ses changements de statut. */
+    static StatusDimensions dimensions(Order order) {
+        return new StatusDimensions(order.getProduct() == null ? null : order.getProduct().getIdProduct(),
+                order.getCustomer() == null ? null : order.getCustomer().getCity(),
+                order.getQuantity(), null);
     }
 }
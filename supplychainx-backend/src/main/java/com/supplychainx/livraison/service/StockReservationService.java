@@ -0,0 +1,84 @@
+package com.supplychainx.livraison.service;
+
+import com.supplychainx.common.service.EntityCacheEvictor;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.service.InventoryLedgerService;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Réservation du stock produit pour les commandes clients.
+ * <p>
+ * Chaque opération est un UPDATE conditionnel sur la ligne du produit : la condition
+ * ({@code stock - reserved_stock >= quantité}) est évaluée sous le verrou de ligne, deux
+ * commandes concurrentes ne peuvent donc pas promettre les mêmes unités. La quantité
+ * réservée par une commande est conservée dans {@link Order#getReservedQuantity()}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final InventoryLedgerService inventoryLedgerService;
+
+    public void reserve(Order order) {
+        Long productId = order.getProduct().getIdProduct();
+        int quantity = order.getQuantity();
+
+        if (productRepository.reserveStock(productId, quantity) == 0) {
+            throw new BusinessRuleException(
+                    "Stock insuffisant pour le produit " + order.getProduct().getName() +
+                    " (quantité demandée: " + quantity + ")");
+        }
+        order.setReservedQuantity(quantity);
+        entityCacheEvictor.evict(Product.class, productId);
+    }
+
+    public void release(Order order) {
+        int quantity = order.getReservedQuantity();
+        if (quantity == 0) {
+            return;
+        }
+        Long productId = order.getProduct().getIdProduct();
+        if (productRepository.releaseStock(productId, quantity) == 0) {
+            log.warn("Reserved stock of product {} lower than released quantity {}", productId, quantity);
+        }
+        order.setReservedQuantity(0);
+        entityCacheEvictor.evict(Product.class, productId);
+    }
+
+    /** Livraison : la quantité réservée sort du stock physique. */
+    public void commit(Order order) {
+        int quantity = order.getReservedQuantity();
+        if (quantity == 0) {
+            return;
+        }
+        Product product = order.getProduct();
+        if (productRepository.commitStock(product.getIdProduct(), quantity) == 0) {
+            throw new BusinessRuleException(
+                    "Stock insuffisant pour livrer la commande " + order.getIdOrder() +
+                    " (produit: " + product.getName() + ", quantité: " + quantity + ")");
+        }
+        order.setReservedQuantity(0);
+        inventoryLedgerService.append(InventoryItemType.PRODUCT, product.getIdProduct(), MovementType.SHIPMENT,
+                -quantity, MovementSource.CUSTOMER_ORDER, order.getIdOrder());
+        entityCacheEvictor.evict(Product.class, product.getIdProduct());
+        if (entityManager.contains(product)) {
+            entityManager.refresh(product);
+        }
+    }
+}
@@ -1,38 +1,61 @@
 package com.supplychainx.logging;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class BusinessLoggingAspect {
 
+    static final String SERVICE_TIMER = "supplychainx.service.invocations";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, ServiceMethodDescriptor> descriptors = new ConcurrentHashMap<>();
+
     @Pointcut("execution(* com.supplychainx..service.*.*(..))")
     public void serviceMethods() {}
 
     @Around("serviceMethods()")
     public Object logServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
+        ServiceMethodDescriptor descriptor = describe(joinPoint);
 
         LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
 
-        log.info("Executing business method: {}.{}", className, methodName);
+        if (log.isInfoEnabled()) {
+            log.info("Executing business method: {}.{}", descriptor.className(), descriptor.methodName());
+        }
 
+        long start = System.nanoTime();
+        Timer timer = descriptor.successTimer();
         try {
             Object result = joinPoint.proceed();
-            log.info("Business method completed successfully: {}.{}", className, methodName);
+            if (log.isInfoEnabled()) {
+                log.info("Business method completed successfully: {}.{}",
+                    descriptor.className(), descriptor.methodName());
+            }
             return result;
         } catch (Exception e) {
+            timer = ServiceMethodDescriptor.timer(meterRegistry, method(joinPoint), e.getClass().getSimpleName());
             log.error("Business method failed: {}.{} - Error: {}",
-                className, methodName, e.getMessage(), e);
+                descriptor.className(), descriptor.methodName(), e.getMessage(), e);
             throw e;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
     @AfterReturning(
@@ -40,12 +63,15 @@ public class BusinessLoggingAspect {
         returning = "result"
     )
     public void logEntityCreation(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
-        String entityType = extractEntityType(methodName);
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        ServiceMethodDescriptor descriptor = describe(joinPoint);
+        String entityType = descriptor.entityType();
 
         LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
 
-        String businessId = extractIdFromResult(result);
+        String businessId = descriptor.extractId(result);
         if (businessId != null) {
             LoggingContext.setBusinessId(entityType + "_" + businessId);
         }
@@ -57,8 +83,10 @@ public class BusinessLoggingAspect {
         returning = "result"
     )
     public void logEntityUpdate(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
-        String entityType = extractEntityType(methodName);
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        String entityType = describe(joinPoint).entityType();
 
         LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
 
@@ -72,8 +100,10 @@ public class BusinessLoggingAspect {
 
     @AfterReturning("execution(* com.supplychainx..service.*.delete*(..))")
     public void logEntityDeletion(JoinPoint joinPoint) {
-        String methodName = joinPoint.getSignature().getName();
-        String entityType = extractEntityType(methodName);
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        String entityType = describe(joinPoint).entityType();
 
         LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
 
@@ -90,36 +120,25 @@ public class BusinessLoggingAspect {
         throwing = "exception"
     )
     public void logBusinessException(JoinPoint joinPoint, Exception exception) {
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
+        ServiceMethodDescriptor descriptor = describe(joinPoint);
 
         LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
 
         log.error("BUSINESS_ERROR: Exception in {}.{} - Type: {} - Message: {}",
-            className, methodName, exception.getClass().getSimpleName(), exception.getMessage());
-    }
-
-    private String extractEntityType(String methodName) {
-        return methodName.replaceAll("create|update|delete|get|find|search", "");
+            descriptor.className(), descriptor.methodName(), exception.getClass().getSimpleName(), exception.getMessage());
     }
 
-    private String extractIdFromResult(Object result) {
-        if (result == null) return null;
-
-        try {
-            var method = Arrays.stream(result.getClass().getMethods())
-                .filter(m -> m.getName().startsWith("getId"))
-                .findFirst();
-
-            if (method.isPresent()) {
-                Object id = method.get().invoke(result);
-                return id != null ? id.toString() : null;
-            }
-        } catch (Exception e) {
-
+    private ServiceMethodDescriptor describe(JoinPoint joinPoint) {
+        Method method = method(joinPoint);
+        ServiceMethodDescriptor descriptor = descriptors.get(method);
+        if (descriptor == null) {
+            descriptor = descriptors.computeIfAbsent(method, m -> ServiceMethodDescriptor.of(m, meterRegistry));
         }
+        return descriptor;
+    }
 
-        return null;
+    private static Method method(JoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
     }
 
     private String extractIdFromArgs(Object[] args) {
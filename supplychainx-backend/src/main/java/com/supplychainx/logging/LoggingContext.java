@@ -2,6 +2,8 @@ package com.supplychainx.logging;
 
 import org.slf4j.MDC;
 
+import java.util.Map;
+
 
 public class LoggingContext {
 
@@ -59,6 +61,32 @@ public class LoggingContext {
         MDC.remove(BUSINESS_ID);
     }
 
+    /**
+     * Le contexte est lié au thread : une tâche passée à un autre thread (pool, {@code @Async},
+     * thread virtuel) repart avec le contexte du thread appelant, capturé ici, et le thread
+     * d'exécution retrouve ensuite son propre contexte.
+     */
+    public static Runnable wrap(Runnable task) {
+        Map<String, String> captured = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            restore(captured);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+
     public enum LogType {
         APPLICATION,  
         SECURITY,     
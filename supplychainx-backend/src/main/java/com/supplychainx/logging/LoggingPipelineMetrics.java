@@ -0,0 +1,87 @@
+package com.supplychainx.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métriques des appenders asynchrones ({@link MeteredAsyncAppender}) attachés au logger root :
+ * profondeur de file, abandons, temps de publication côté appelant et temps d'écriture
+ * côté thread de log, étiquetés par appender.
+ */
+@Slf4j
+@Component
+public class LoggingPipelineMetrics implements MeterBinder {
+
+    static final String QUEUE_DEPTH = "logging.async.queue.depth";
+    static final String QUEUE_CAPACITY = "logging.async.queue.capacity";
+    static final String DROPPED = "logging.async.dropped";
+    static final String ENQUEUE = "logging.async.enqueue";
+    static final String WRITE = "logging.async.write";
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (MeteredAsyncAppender appender : asyncAppenders()) {
+            String name = appender.getName();
+
+            Gauge.builder(QUEUE_DEPTH, appender, MeteredAsyncAppender::getQueueDepth)
+                    .tag("appender", name)
+                    .description("Événements en attente d'écriture")
+                    .register(registry);
+            Gauge.builder(QUEUE_CAPACITY, appender, MeteredAsyncAppender::getRingBufferSize)
+                    .tag("appender", name)
+                    .description("Taille du ring buffer")
+                    .register(registry);
+            FunctionCounter.builder(DROPPED, appender, MeteredAsyncAppender::getDroppedCount)
+                    .tag("appender", name)
+                    .description("Événements abandonnés (ring buffer plein)")
+                    .register(registry);
+            FunctionTimer.builder(ENQUEUE, appender,
+                            MeteredAsyncAppender::getEnqueuedCount,
+                            MeteredAsyncAppender::getEnqueueNanos,
+                            TimeUnit.NANOSECONDS)
+                    .tag("appender", name)
+                    .description("Temps de publication dans le ring buffer (thread appelant)")
+                    .register(registry);
+            FunctionTimer.builder(WRITE, appender,
+                            MeteredAsyncAppender::getWrittenCount,
+                            MeteredAsyncAppender::getWriteNanos,
+                            TimeUnit.NANOSECONDS)
+                    .tag("appender", name)
+                    .description("Temps d'écriture par les appenders délégués (thread de log)")
+                    .register(registry);
+        }
+    }
+
+    static List<MeteredAsyncAppender> asyncAppenders() {
+        List<MeteredAsyncAppender> appenders = new ArrayList<>();
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext context)) {
+            log.warn("Logback is not the active SLF4J backend, async logging metrics disabled");
+            return appenders;
+        }
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof MeteredAsyncAppender appender) {
+                appenders.add(appender);
+            }
+        }
+        return appenders;
+    }
+}
@@ -0,0 +1,84 @@
+package com.supplychainx.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import net.logstash.logback.appender.AsyncDisruptorAppender;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.com.lmax.disruptor.EventHandler;
+import net.logstash.logback.encoder.com.lmax.disruptor.RingBuffer;
+import net.logstash.logback.encoder.com.lmax.disruptor.dsl.Disruptor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appender asynchrone borné : les threads applicatifs publient dans un ring buffer et un
+ * thread dédié écrit vers les appenders délégués. Avec {@code appendTimeout} à 0 (défaut),
+ * un événement est abandonné immédiatement si le buffer est plein, sans bloquer la requête.
+ * <p>
+ * Les compteurs (abandons, durée de publication, durée d'écriture par les délégués) sont
+ * lus par {@link LoggingPipelineMetrics}. Un appender par destination permet de mesurer
+ * chaque destination séparément et d'éviter qu'une console lente ne retarde le fichier.
+ */
+public class MeteredAsyncAppender extends LoggingEventAsyncDisruptorAppender {
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder enqueueNanos = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    @Override
+    protected EventHandler<AsyncDisruptorAppender.LogEvent<ILoggingEvent>> createEventHandler() {
+        EventHandler<AsyncDisruptorAppender.LogEvent<ILoggingEvent>> delegate = super.createEventHandler();
+        return (logEvent, sequence, endOfBatch) -> {
+            long start = System.nanoTime();
+            try {
+                delegate.onEvent(logEvent, sequence, endOfBatch);
+            } finally {
+                writeNanos.add(System.nanoTime() - start);
+                written.increment();
+            }
+        };
+    }
+
+    @Override
+    protected void fireEventAppended(ILoggingEvent event, long durationInNanos) {
+        enqueued.increment();
+        enqueueNanos.add(durationInNanos);
+        super.fireEventAppended(event, durationInNanos);
+    }
+
+    @Override
+    protected void fireEventAppendFailed(ILoggingEvent event, Throwable reason) {
+        dropped.increment();
+        super.fireEventAppendFailed(event, reason);
+    }
+
+    public long getQueueDepth() {
+        Disruptor<AsyncDisruptorAppender.LogEvent<ILoggingEvent>> disruptor = getDisruptor();
+        if (disruptor == null) {
+            return 0;
+        }
+        RingBuffer<AsyncDisruptorAppender.LogEvent<ILoggingEvent>> ringBuffer = disruptor.getRingBuffer();
+        return ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getEnqueueNanos() {
+        return enqueueNanos.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getWriteNanos() {
+        return writeNanos.sum();
+    }
+}
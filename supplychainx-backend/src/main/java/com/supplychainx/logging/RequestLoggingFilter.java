@@ -1,6 +1,6 @@
 package com.supplychainx.logging;
 
-import com.supplychainx.security.jwt.JwtUtil;
+import com.supplychainx.security.jwt.JwtClaimsResolver;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,7 +19,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtClaimsResolver jwtClaimsResolver;
 
     @Override
     protected void doFilterInternal(
@@ -28,7 +28,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             String endpoint = request.getMethod() + " " + request.getRequestURI();
@@ -41,7 +41,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
 
             filterChain.doFilter(request, response);
 
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = (System.nanoTime() - startTime) / 1_000_000;
             LoggingContext.setHttpStatus(response.getStatus());
 
             if (response.getStatus() >= 400) {
@@ -58,22 +58,13 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
     }
 
     private void extractUserInfoFromToken(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-
-            try {
-                if (jwtUtil.isTokenValid(token)) {
-                    Long userId = jwtUtil.extractUserId(token);
-                    String role = jwtUtil.extractRole(token);
-
-                    LoggingContext.setUserId(userId);
-                    LoggingContext.setUserRole(role);
-                }
-            } catch (Exception e) {
-                log.debug("Failed to extract user info from token: {}", e.getMessage());
-            }
+        try {
+            jwtClaimsResolver.resolve(request).ifPresent(claims -> {
+                LoggingContext.setUserId(claims.getUserId());
+                LoggingContext.setUserRole(claims.getRole());
+            });
+        } catch (Exception e) {
+            log.debug("Failed to extract user info from token: {}", e.getMessage());
         }
     }
 
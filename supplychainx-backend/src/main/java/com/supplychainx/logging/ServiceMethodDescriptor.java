@@ -0,0 +1,76 @@
+package com.supplychainx.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.regex.Pattern;
+
+/**
+ * Métadonnées d'une méthode de service, calculées une seule fois par {@link Method} :
+ * noms, type d'entité, accesseur de l'identifiant du résultat et timer de succès.
+ */
+record ServiceMethodDescriptor(
+        String className,
+        String methodName,
+        String entityType,
+        MethodHandle idAccessor,
+        Timer successTimer) {
+
+    private static final Pattern VERB = Pattern.compile("create|update|delete|get|find|search");
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    static ServiceMethodDescriptor of(Method method, MeterRegistry meterRegistry) {
+        return new ServiceMethodDescriptor(
+                method.getDeclaringClass().getName(),
+                method.getName(),
+                VERB.matcher(method.getName()).replaceAll(""),
+                idAccessor(method.getReturnType()),
+                timer(meterRegistry, method, "none"));
+    }
+
+    static Timer timer(MeterRegistry meterRegistry, Method method, String exception) {
+        return Timer.builder(BusinessLoggingAspect.SERVICE_TIMER)
+                .description("Durée des méthodes de service")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    /** Identifiant du résultat ({@code getIdXxx()}), ou {@code null} si le type n'en expose pas. */
+    String extractId(Object result) {
+        if (idAccessor == null || result == null) {
+            return null;
+        }
+        try {
+            Object id = (Object) idAccessor.invokeExact(result);
+            return id != null ? id.toString() : null;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle idAccessor(Class<?> type) {
+        if (type.isPrimitive() || !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        return Arrays.stream(type.getMethods())
+                .filter(m -> m.getName().startsWith("getId") && m.getParameterCount() == 0)
+                .min(Comparator.comparing(Method::getName))
+                .map(m -> {
+                    try {
+                        return MethodHandles.publicLookup().unreflect(m).asType(ACCESSOR_TYPE);
+                    } catch (IllegalAccessException e) {
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+}
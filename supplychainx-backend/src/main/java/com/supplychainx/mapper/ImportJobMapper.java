@@ -0,0 +1,20 @@
+package com.supplychainx.mapper;
+
+import com.supplychainx.imports.dto.ImportJobResponseDTO;
+import com.supplychainx.imports.dto.ImportRowErrorDTO;
+import com.supplychainx.imports.entity.ImportJob;
+import com.supplychainx.imports.entity.ImportRowError;
+import org.mapstruct.*;
+
+
+@Mapper(
+    componentModel = "spring",
+    nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface ImportJobMapper {
+
+    ImportJobResponseDTO toResponseDTO(ImportJob job);
+
+    ImportRowErrorDTO toErrorDTO(ImportRowError error);
+}
@@ -0,0 +1,16 @@
+package com.supplychainx.mapper;
+
+import com.supplychainx.inventory.dto.InventoryMovementResponseDTO;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import org.mapstruct.*;
+
+
+@Mapper(
+    componentModel = "spring",
+    nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface InventoryMovementMapper {
+
+    InventoryMovementResponseDTO toResponseDTO(InventoryMovement movement);
+}
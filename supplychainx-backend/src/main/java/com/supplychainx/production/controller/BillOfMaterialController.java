@@ -1,5 +1,8 @@
 package com.supplychainx.production.controller;
 
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.production.dto.BillOfMaterialRequestDTO;
 import com.supplychainx.production.dto.BillOfMaterialResponseDTO;
 import com.supplychainx.production.service.BillOfMaterialService;
@@ -7,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,6 +46,20 @@ public class BillOfMaterialController {
         return ResponseEntity.ok(updated);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Créer des nomenclatures en masse",
+               description = "Insère jusqu'à app.bulk.max-rows lignes en une requête ; chaque ligne invalide est rejetée individuellement")
+    public ResponseEntity<BulkResponseDTO> bulkCreateBillOfMaterials(@RequestBody List<BillOfMaterialRequestDTO> rows) {
+        return ResponseEntity.ok(billOfMaterialService.bulkCreateBillOfMaterials(rows));
+    }
+
+    @PutMapping("/bulk")
+    @Operation(summary = "Modifier des nomenclatures en masse",
+               description = "Met à jour plusieurs lignes identifiées par leur ID ; les IDs inconnus sont rejetés ligne par ligne")
+    public ResponseEntity<BulkResponseDTO> bulkUpdateBillOfMaterials(@RequestBody List<BulkUpdateItemDTO<BillOfMaterialRequestDTO>> rows) {
+        return ResponseEntity.ok(billOfMaterialService.bulkUpdateBillOfMaterials(rows));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer une nomenclature", 
                description = "Retirer une matière première de la nomenclature d'un produit")
@@ -53,9 +71,8 @@ public class BillOfMaterialController {
     @GetMapping
     @Operation(summary = "Consulter toutes les nomenclatures", 
                description = "Liste complète de toutes les associations produits/matières")
-    public ResponseEntity<List<BillOfMaterialResponseDTO>> getAllBillOfMaterials() {
-        List<BillOfMaterialResponseDTO> boms = billOfMaterialService.getAllBillOfMaterials();
-        return ResponseEntity.ok(boms);
+    public ResponseEntity<List<BillOfMaterialResponseDTO>> getAllBillOfMaterials(@ParameterObject PageQuery pageQuery) {
+        return billOfMaterialService.getAllBillOfMaterials(pageQuery).toResponse();
     }
     @GetMapping("/product/{productId}")
     @Operation(summary = "Consulter la BOM d'un produit", 
@@ -1,10 +1,16 @@
 package com.supplychainx.production.controller;
 
+import com.supplychainx.production.dto.BatchAvailabilityRequestDTO;
+import com.supplychainx.production.dto.BatchAvailabilityResponseDTO;
+import com.supplychainx.production.dto.MrpRunResponseDTO;
 import com.supplychainx.production.dto.ProductionAvailabilityResponseDTO;
+import com.supplychainx.production.dto.ProductionScheduleResponseDTO;
 import com.supplychainx.production.dto.ProductionTimeResponseDTO;
 import com.supplychainx.production.service.PlanningService;
+import com.supplychainx.production.service.ProductionScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class PlanningController {
     
     private final PlanningService planningService;
+    private final ProductionScheduleService productionScheduleService;
 
     @GetMapping("/check-availability")
     @Operation(summary = "Vérifier la disponibilité des matières",
@@ -28,6 +35,16 @@ public class PlanningController {
     }
     
 
+    @PostMapping("/check-availability/batch")
+    @Operation(summary = "Vérifier la disponibilité des matières pour plusieurs produits",
+            description = "Vérifie en un seul appel une liste de couples (produit, quantité) et retourne la demande " +
+                    "cumulée par matière première lorsque plusieurs produits consomment le même stock")
+    public ResponseEntity<BatchAvailabilityResponseDTO> checkBatchAvailability(
+            @Valid @RequestBody BatchAvailabilityRequestDTO dto) {
+        BatchAvailabilityResponseDTO response = planningService.checkBatchAvailability(dto.getItems());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/calculate-time")
     @Operation(summary = "Calculer le temps de production",
             description = "Permet de calculer le temps estimé de production pour une quantité donnée d'un produit")
@@ -37,4 +54,25 @@ public class PlanningController {
         ProductionTimeResponseDTO response = planningService.calculateProductionTime(productId, quantity);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/mrp")
+    @Operation(summary = "Calcul des besoins matières (MRP)",
+            description = "Explose les nomenclatures de tous les ordres de production EN_ATTENTE/EN_PRODUCTION, " +
+                    "déduit le stock et les commandes d'approvisionnement en cours, et retourne les pénuries " +
+                    "datées par matière avec la date de commande au plus tard (délai fournisseur)")
+    public ResponseEntity<MrpRunResponseDTO> runMrp(
+            @RequestParam(defaultValue = "false") boolean shortagesOnly) {
+        MrpRunResponseDTO response = planningService.runMrp(shortagesOnly);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/schedule")
+    @Operation(summary = "Ordonnancer la production à capacité finie",
+            description = "Recalcule le plan de tous les ordres EN_ATTENTE/EN_PRODUCTION sur les lignes et équipes " +
+                    "configurées, en tenant compte du stock et des approvisionnements en cours, et met à jour leurs " +
+                    "dates de début et de fin. Les ordres dont les matières ne seront jamais couvertes sont listés")
+    public ResponseEntity<ProductionScheduleResponseDTO> reschedule() {
+        ProductionScheduleResponseDTO response = productionScheduleService.reschedule();
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,5 +1,8 @@
 package com.supplychainx.production.controller;
 
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.production.dto.ProductCreateDTO;
 import com.supplychainx.production.dto.ProductResponseDTO;
 import com.supplychainx.production.dto.ProductUpdateDTO;
@@ -8,6 +11,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -40,6 +44,20 @@ public class ProductController {
         return ResponseEntity.ok(updated);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Créer des produits finis en masse",
+               description = "Insère jusqu'à app.bulk.max-rows lignes en une requête ; chaque ligne invalide est rejetée individuellement")
+    public ResponseEntity<BulkResponseDTO> bulkCreateProducts(@RequestBody List<ProductCreateDTO> rows) {
+        return ResponseEntity.ok(productService.bulkCreateProducts(rows));
+    }
+
+    @PutMapping("/bulk")
+    @Operation(summary = "Modifier des produits finis en masse",
+               description = "Met à jour plusieurs lignes identifiées par leur ID ; les IDs inconnus sont rejetés ligne par ligne")
+    public ResponseEntity<BulkResponseDTO> bulkUpdateProducts(@RequestBody List<BulkUpdateItemDTO<ProductUpdateDTO>> rows) {
+        return ResponseEntity.ok(productService.bulkUpdateProducts(rows));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer un produit fini", 
                description = "Permet au chef de production de supprimer un produit sans ordre associé")
@@ -51,9 +69,8 @@ public class ProductController {
     @GetMapping
     @Operation(summary = "Consulter tous les produits", 
                description = "Permet au superviseur production de consulter tous les produits")
-    public ResponseEntity<List<ProductResponseDTO>> getAllProducts() {
-        List<ProductResponseDTO> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<List<ProductResponseDTO>> getAllProducts(@ParameterObject PageQuery pageQuery) {
+        return productService.getAllProducts(pageQuery).toResponse();
     }
 
     @GetMapping("/search")
@@ -1,5 +1,6 @@
 package com.supplychainx.production.controller;
 
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.production.dto.ProductionOrderCreateDTO;
 import com.supplychainx.production.dto.ProductionOrderResponseDTO;
 import com.supplychainx.production.dto.ProductionOrderUpdateDTO;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -51,17 +53,15 @@ public class ProductionOrderController {
     @GetMapping
     @Operation(summary = "Consulter tous les ordres", 
                description = "Permet au superviseur production de consulter tous les ordres")
-    public ResponseEntity<List<ProductionOrderResponseDTO>> getAllProductionOrders() {
-        List<ProductionOrderResponseDTO> orders = productionOrderService.getAllProductionOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<ProductionOrderResponseDTO>> getAllProductionOrders(@ParameterObject PageQuery pageQuery) {
+        return productionOrderService.getAllProductionOrders(pageQuery).toResponse();
     }
 
     @GetMapping("/status/{status}")
     @Operation(summary = "Filtrer les ordres par statut", 
                description = "Permet au superviseur production de suivre les ordres selon leur statut (EN_ATTENTE, EN_PRODUCTION, TERMINE, BLOQUE)")
-    public ResponseEntity<List<ProductionOrderResponseDTO>> getProductionOrdersByStatus(@PathVariable String status) {
-        List<ProductionOrderResponseDTO> orders = productionOrderService.getProductionOrdersByStatus(status);
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<ProductionOrderResponseDTO>> getProductionOrdersByStatus(@PathVariable String status, @ParameterObject PageQuery pageQuery) {
+        return productionOrderService.getProductionOrdersByStatus(status, pageQuery).toResponse();
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,20 @@
+package com.supplychainx.production.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAvailabilityRequestDTO {
+
+    @NotEmpty(message = "Au moins un produit est obligatoire")
+    @Size(max = 1000, message = "Au plus 1000 produits par vérification")
+    private List<@Valid ProductQuantityDTO> items;
+}
@@ -0,0 +1,17 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAvailabilityResponseDTO {
+
+    private List<ProductionAvailabilityResponseDTO> products;
+    private List<CombinedMaterialDemandDTO> combinedDemand;
+    private Boolean canProduceAll;
+}
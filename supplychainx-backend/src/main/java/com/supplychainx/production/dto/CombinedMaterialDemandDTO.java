@@ -0,0 +1,20 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CombinedMaterialDemandDTO {
+
+    private Long idMaterial;
+    private String materialName;
+    private Long requiredQuantity;
+    private Integer availableStock;
+    private Boolean isAvailable;
+    private List<Long> productIds;
+}
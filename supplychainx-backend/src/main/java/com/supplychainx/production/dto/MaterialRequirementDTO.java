@@ -0,0 +1,23 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialRequirementDTO {
+
+    private Long idMaterial;
+    private String materialName;
+    private String unit;
+    private Integer stock;
+    private Long grossRequirement;
+    private Long scheduledReceipts;
+    private Long netRequirement;
+    private Integer leadTime;
+    private List<MaterialShortageDTO> shortages;
+}
@@ -0,0 +1,18 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialShortageDTO {
+
+    private LocalDate requiredDate;
+    private Long quantity;
+    private LocalDate orderByDate;
+    private Boolean late;
+}
@@ -0,0 +1,20 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpRunResponseDTO {
+
+    private LocalDate planningDate;
+    private Integer plannedOrders;
+    private Integer ordersWithoutBom;
+    private Integer materialsWithShortage;
+    private List<MaterialRequirementDTO> materials;
+}
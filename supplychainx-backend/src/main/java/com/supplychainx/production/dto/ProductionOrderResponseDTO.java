@@ -15,6 +15,7 @@ public class ProductionOrderResponseDTO {
     private ProductResponseDTO product;
     private Integer quantity;
     private String status;
+    private LocalDate releaseDate;
     private LocalDate startDate;
     private LocalDate endDate;
 }
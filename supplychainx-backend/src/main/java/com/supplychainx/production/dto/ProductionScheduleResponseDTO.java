@@ -0,0 +1,22 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionScheduleResponseDTO {
+
+    private LocalDate planningDate;
+    private Integer lines;
+    private Integer minutesPerDay;
+    private Integer scheduledOrders;
+    private Integer updatedOrders;
+    private LocalDate completionDate;
+    private List<Long> blockedOrderIds;
+}
@@ -1,13 +1,18 @@
 package com.supplychainx.production.entity;
 
 import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "bill_of_materials")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BILL_OF_MATERIALS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,12 +1,17 @@
 package com.supplychainx.production.entity;
 
+import com.supplychainx.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCTS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,6 +30,11 @@ public class Product {
     @Column(nullable = false)
     private Double cost;
     
+    // Cache dérivé du journal des mouvements (inventory_movements) : chaque écriture y est journalisée
     @Column(nullable = false)
     private Integer stock;
+
+    // Écrit uniquement par les UPDATE conditionnels de ProductRepository (réservations)
+    @Column(nullable = false, updatable = false)
+    private Integer reservedStock = 0;
 }
@@ -30,6 +30,9 @@ public class ProductionOrder {
     @Column(nullable = false)
     private ProductionOrderStatus status;
     
+    // Date au plus tôt saisie ; startDate/endDate sont calculées par ProductionScheduleService
+    private LocalDate releaseDate;
+
     private LocalDate startDate;
     
     private LocalDate endDate;
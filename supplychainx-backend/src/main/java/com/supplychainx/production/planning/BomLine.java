@@ -0,0 +1,4 @@
+package com.supplychainx.production.planning;
+
+public record BomLine(Long productId, Long materialId, Integer quantity) {
+}
@@ -0,0 +1,294 @@
+package com.supplychainx.production.planning;
+
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.util.LongIntHashMap;
+import com.supplychainx.util.LongLongHashMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Finite-capacity scheduling of pending production orders over identical lines.
+ * <p>
+ * Orders are placed one after the other in a fixed sequence (orders already EN_PRODUCTION
+ * first, then by release date and id). Each order starts at the earliest of: its release
+ * date, the first working day on which stock plus open supply receipts cover the cumulative
+ * BOM consumption of the orders placed before it and its own, and the line that frees up
+ * first. An order whose materials are never covered is left blocked: it keeps its stored
+ * dates and consumes neither materials nor capacity. An order already EN_PRODUCTION keeps
+ * its past start date; its full duration is still booked from the calendar origin.
+ * <p>
+ * Placement only depends on the orders before it, so after a change at sequence position
+ * {@code p} only the tail from {@code p} is replayed, starting from the nearest checkpoint
+ * of line and material state (one every {@value #CHECKPOINT_INTERVAL} orders). Each replay
+ * returns the orders whose dates actually changed. Not thread-safe.
+ */
+public final class CapacityScheduler {
+
+    static final int CHECKPOINT_INTERVAL = 512;
+
+    private static final Comparator<SchedulableOrder> SEQUENCE = Comparator
+            .comparing((SchedulableOrder o) -> o.status() != ProductionOrderStatus.EN_PRODUCTION)
+            .thenComparing(SchedulableOrder::releaseDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(SchedulableOrder::orderId);
+
+    private final ShopCalendar calendar;
+    private final int lines;
+    private final long unitMinutes;
+
+    private final LongIntHashMap materialIndex;
+    // Per material: working days on which supply arrives (day 0 = stock) and cumulative supply up to each
+    private final long[][] supplyDays;
+    private final long[][] cumulativeSupply;
+    private final Map<Long, Bom> boms = new HashMap<>();
+
+    private final List<SchedulableOrder> sequence;
+    private final Map<Long, SchedulableOrder> orders = new HashMap<>();
+    private final Map<Long, ScheduledSlot> slots = new HashMap<>();
+    // checkpoints.get(c) is the state before sequence position c * CHECKPOINT_INTERVAL
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+    public CapacityScheduler(ShopCalendar calendar, int lines, long unitMinutes,
+                             List<BomLine> bomLines,
+                             List<MaterialPosition> materials,
+                             List<ScheduledReceipt> receipts,
+                             List<SchedulableOrder> pendingOrders) {
+        if (lines < 1 || unitMinutes < 1) {
+            throw new IllegalArgumentException("At least one line and a positive time unit are required");
+        }
+        this.calendar = calendar;
+        this.lines = lines;
+        this.unitMinutes = unitMinutes;
+
+        int materialCount = materials.size();
+        materialIndex = new LongIntHashMap(materialCount);
+        for (int m = 0; m < materialCount; m++) {
+            materialIndex.put(materials.get(m).materialId(), m);
+        }
+
+        LongLongHashMap flows = new LongLongHashMap(Math.max(16, materialCount + receipts.size()));
+        for (int m = 0; m < materialCount; m++) {
+            Integer stock = materials.get(m).stock();
+            flows.addTo(key(m, 0), stock == null ? 0 : Math.max(0, stock));
+        }
+        for (ScheduledReceipt receipt : receipts) {
+            int m = materialIndex.get(receipt.materialId(), -1);
+            if (m < 0) {
+                continue;
+            }
+            int leadTime = receipt.leadTime() == null ? 0 : receipt.leadTime();
+            long day = receipt.orderDate() == null ? 0 : calendar.dayIndex(receipt.orderDate().plusDays(leadTime));
+            flows.addTo(key(m, day), receipt.quantity());
+        }
+        long[] keys = flows.keys();
+        Arrays.sort(keys);
+        int[] counts = new int[materialCount];
+        for (long key : keys) {
+            counts[(int) (key >>> 32)]++;
+        }
+        supplyDays = new long[materialCount][];
+        cumulativeSupply = new long[materialCount][];
+        for (int m = 0; m < materialCount; m++) {
+            supplyDays[m] = new long[counts[m]];
+            cumulativeSupply[m] = new long[counts[m]];
+        }
+        int[] fill = new int[materialCount];
+        for (long key : keys) {
+            int m = (int) (key >>> 32);
+            int i = fill[m]++;
+            supplyDays[m][i] = key & 0xFFFFFFFFL;
+            cumulativeSupply[m][i] = (i == 0 ? 0 : cumulativeSupply[m][i - 1]) + flows.get(key);
+        }
+
+        Map<Long, List<BomLine>> linesByProduct = new HashMap<>();
+        for (BomLine line : bomLines) {
+            linesByProduct.computeIfAbsent(line.productId(), id -> new ArrayList<>()).add(line);
+        }
+        linesByProduct.forEach((productId, productLines) -> {
+            int[] bomMaterials = new int[productLines.size()];
+            long[] bomQuantities = new long[productLines.size()];
+            for (int i = 0; i < productLines.size(); i++) {
+                bomMaterials[i] = materialIndex.get(productLines.get(i).materialId(), -1);
+                bomQuantities[i] = productLines.get(i).quantity();
+            }
+            boms.put(productId, new Bom(bomMaterials, bomQuantities));
+        });
+
+        sequence = new ArrayList<>(pendingOrders);
+        sequence.sort(SEQUENCE);
+        for (SchedulableOrder order : sequence) {
+            orders.put(order.orderId(), order);
+            slots.put(order.orderId(), stored(order));
+        }
+        checkpoints.add(new Checkpoint(new long[lines], new long[materialCount]));
+    }
+
+    /** Plans every order; returns those whose dates differ from the stored ones. */
+    public List<ScheduledSlot> schedule() {
+        return replan(0);
+    }
+
+    /** Adds or replaces a pending order and replans the tail from its old or new position. */
+    public List<ScheduledSlot> upsert(SchedulableOrder order) {
+        int from = Integer.MAX_VALUE;
+        SchedulableOrder previous = orders.get(order.orderId());
+        if (previous != null) {
+            from = position(previous);
+            sequence.remove(from);
+        }
+        int at = -Collections.binarySearch(sequence, order, SEQUENCE) - 1;
+        sequence.add(at, order);
+        orders.put(order.orderId(), order);
+        // Compare against what is stored now: an update may have overwritten the planned dates
+        slots.put(order.orderId(), stored(order));
+        return replan(Math.min(from, at));
+    }
+
+    /** Removes an order that is no longer pending and replans the tail after it. */
+    public List<ScheduledSlot> remove(Long orderId) {
+        SchedulableOrder previous = orders.remove(orderId);
+        if (previous == null) {
+            return List.of();
+        }
+        int at = position(previous);
+        sequence.remove(at);
+        slots.remove(orderId);
+        return replan(at);
+    }
+
+    public boolean contains(Long orderId) {
+        return orders.containsKey(orderId);
+    }
+
+    /** Slots in sequence order. */
+    public List<ScheduledSlot> slots() {
+        List<ScheduledSlot> result = new ArrayList<>(sequence.size());
+        for (SchedulableOrder order : sequence) {
+            result.add(slots.get(order.orderId()));
+        }
+        return result;
+    }
+
+    public ShopCalendar calendar() {
+        return calendar;
+    }
+
+    public int lines() {
+        return lines;
+    }
+
+    private List<ScheduledSlot> replan(int from) {
+        int c = Math.min(from / CHECKPOINT_INTERVAL, checkpoints.size() - 1);
+        checkpoints.subList(c + 1, checkpoints.size()).clear();
+        long[] lineFree = checkpoints.get(c).lineFree().clone();
+        long[] consumed = checkpoints.get(c).consumed().clone();
+
+        List<ScheduledSlot> changed = new ArrayList<>();
+        for (int p = c * CHECKPOINT_INTERVAL; p < sequence.size(); p++) {
+            if (p == checkpoints.size() * CHECKPOINT_INTERVAL) {
+                checkpoints.add(new Checkpoint(lineFree.clone(), consumed.clone()));
+            }
+            SchedulableOrder order = sequence.get(p);
+            ScheduledSlot previous = slots.get(order.orderId());
+            ScheduledSlot slot = place(order, previous, lineFree, consumed);
+            slots.put(order.orderId(), slot);
+            if (!slot.blocked() && (!Objects.equals(previous.startDate(), slot.startDate())
+                    || !Objects.equals(previous.endDate(), slot.endDate()))) {
+                changed.add(slot);
+            }
+        }
+        return changed;
+    }
+
+    private ScheduledSlot place(SchedulableOrder order, ScheduledSlot previous, long[] lineFree, long[] consumed) {
+        int minutesPerDay = calendar.minutesPerDay();
+        long quantity = order.quantity();
+        long ready = order.releaseDate() == null ? 0 : calendar.dayIndex(order.releaseDate()) * minutesPerDay;
+
+        Bom bom = boms.get(order.productId());
+        if (bom != null) {
+            for (int i = 0; i < bom.materials().length; i++) {
+                int m = bom.materials()[i];
+                if (m < 0) {
+                    continue;
+                }
+                long day = coveredFrom(m, consumed[m] + quantity * bom.quantities()[i]);
+                if (day < 0) {
+                    return new ScheduledSlot(order.orderId(), -1, previous.startDate(), previous.endDate());
+                }
+                ready = Math.max(ready, day * minutesPerDay);
+            }
+            for (int i = 0; i < bom.materials().length; i++) {
+                if (bom.materials()[i] >= 0) {
+                    consumed[bom.materials()[i]] += quantity * bom.quantities()[i];
+                }
+            }
+        }
+
+        int line = 0;
+        long start = Math.max(lineFree[0], ready);
+        for (int l = 1; l < lines; l++) {
+            long candidate = Math.max(lineFree[l], ready);
+            if (candidate < start) {
+                line = l;
+                start = candidate;
+            }
+        }
+        long duration = Math.max(1, quantity * (order.unitTime() == null ? 0 : order.unitTime()) * unitMinutes);
+        lineFree[line] = start + duration;
+        LocalDate startDate = calendar.dateAt(start);
+        if (order.status() == ProductionOrderStatus.EN_PRODUCTION && order.startDate() != null
+                && order.startDate().isBefore(startDate)) {
+            startDate = order.startDate();
+        }
+        return new ScheduledSlot(order.orderId(), line, startDate, calendar.dateAt(start + duration - 1));
+    }
+
+    /** First working day on which cumulative supply of material {@code m} reaches {@code required}, -1 if never. */
+    private long coveredFrom(int m, long required) {
+        if (required <= 0) {
+            return 0;
+        }
+        long[] cumulative = cumulativeSupply[m];
+        int low = 0;
+        int high = cumulative.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] >= required) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low == cumulative.length ? -1 : supplyDays[m][low];
+    }
+
+    private int position(SchedulableOrder order) {
+        int at = Collections.binarySearch(sequence, order, SEQUENCE);
+        if (at < 0) {
+            throw new IllegalStateException("Order " + order.orderId() + " missing from the sequence");
+        }
+        return at;
+    }
+
+    private static ScheduledSlot stored(SchedulableOrder order) {
+        return new ScheduledSlot(order.orderId(), -1, order.startDate(), order.endDate());
+    }
+
+    private static long key(int materialIndex, long day) {
+        return ((long) materialIndex << 32) | day;
+    }
+
+    private record Bom(int[] materials, long[] quantities) {
+    }
+
+    private record Checkpoint(long[] lineFree, long[] consumed) {
+    }
+}
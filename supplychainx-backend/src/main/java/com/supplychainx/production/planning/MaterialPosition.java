@@ -0,0 +1,5 @@
+package com.supplychainx.production.planning;
+
+/** On-hand stock of a material and the shortest lead time among its suppliers (null if none). */
+public record MaterialPosition(Long materialId, String name, String unit, Integer stock, Integer leadTime) {
+}
@@ -0,0 +1,183 @@
+package com.supplychainx.production.planning;
+
+import com.supplychainx.production.dto.MaterialRequirementDTO;
+import com.supplychainx.production.dto.MaterialShortageDTO;
+import com.supplychainx.production.dto.MrpRunResponseDTO;
+import com.supplychainx.util.LongIntHashMap;
+import com.supplychainx.util.LongLongHashMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Material requirements planning over one bulk snapshot.
+ * <p>
+ * Ids are mapped to dense indexes, BOMs are packed per product (CSR layout) and material
+ * flows are accumulated per (material, day) in a primitive map keyed by
+ * {@code materialIndex << 32 | epochDay}. Sorting those keys yields, for each material,
+ * its flows in date order, which are then netted against on-hand stock. Dates in the past
+ * are planned for {@code planningDate}.
+ */
+public final class MrpEngine {
+
+    private final LocalDate planningDate;
+    private final long today;
+
+    public MrpEngine(LocalDate planningDate) {
+        this.planningDate = planningDate;
+        this.today = planningDate.toEpochDay();
+    }
+
+    public MrpRunResponseDTO run(List<PlannedDemand> demands,
+                                 List<BomLine> bomLines,
+                                 List<MaterialPosition> materials,
+                                 List<ScheduledReceipt> receipts,
+                                 boolean shortagesOnly) {
+
+        int materialCount = materials.size();
+        LongIntHashMap materialIndex = new LongIntHashMap(materialCount);
+        for (int m = 0; m < materialCount; m++) {
+            materialIndex.put(materials.get(m).materialId(), m);
+        }
+
+        // BOM packed per product: lines of product p are bomMaterial/bomQuantity[offsets[p] .. offsets[p + 1])
+        LongIntHashMap productIndex = new LongIntHashMap();
+        int[] lineProduct = new int[bomLines.size()];
+        for (int i = 0; i < bomLines.size(); i++) {
+            long productId = bomLines.get(i).productId();
+            int p = productIndex.get(productId, -1);
+            if (p < 0) {
+                p = productIndex.size();
+                productIndex.put(productId, p);
+            }
+            lineProduct[i] = p;
+        }
+        int[] offsets = new int[productIndex.size() + 1];
+        for (int p : lineProduct) {
+            offsets[p + 1]++;
+        }
+        for (int p = 0; p < productIndex.size(); p++) {
+            offsets[p + 1] += offsets[p];
+        }
+        int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        int[] bomMaterial = new int[bomLines.size()];
+        long[] bomQuantity = new long[bomLines.size()];
+        for (int i = 0; i < bomLines.size(); i++) {
+            BomLine line = bomLines.get(i);
+            int slot = cursor[lineProduct[i]]++;
+            bomMaterial[slot] = materialIndex.get(line.materialId(), -1);
+            bomQuantity[slot] = line.quantity();
+        }
+
+        long[] gross = new long[materialCount];
+        long[] scheduled = new long[materialCount];
+        LongLongHashMap flows = new LongLongHashMap(Math.max(16, demands.size()));
+
+        int plannedOrders = 0;
+        int ordersWithoutBom = 0;
+        for (PlannedDemand demand : demands) {
+            int p = productIndex.get(demand.productId(), -1);
+            if (p < 0) {
+                ordersWithoutBom++;
+                continue;
+            }
+            plannedOrders++;
+            long day = dayOf(demand.needDate(), 0);
+            long quantity = demand.quantity();
+            for (int slot = offsets[p]; slot < offsets[p + 1]; slot++) {
+                int m = bomMaterial[slot];
+                if (m < 0) {
+                    continue;
+                }
+                long required = quantity * bomQuantity[slot];
+                gross[m] += required;
+                flows.addTo(key(m, day), -required);
+            }
+        }
+
+        for (ScheduledReceipt receipt : receipts) {
+            int m = materialIndex.get(receipt.materialId(), -1);
+            if (m < 0) {
+                continue;
+            }
+            int leadTime = receipt.leadTime() == null ? 0 : receipt.leadTime();
+            scheduled[m] += receipt.quantity();
+            flows.addTo(key(m, dayOf(receipt.orderDate(), leadTime)), receipt.quantity());
+        }
+
+        long[] keys = flows.keys();
+        Arrays.sort(keys);
+
+        long[] net = new long[materialCount];
+        List<List<MaterialShortageDTO>> shortages = new ArrayList<>(materialCount);
+        for (int m = 0; m < materialCount; m++) {
+            shortages.add(null);
+        }
+
+        int current = -1;
+        long projected = 0;
+        for (long key : keys) {
+            int m = (int) (key >>> 32);
+            long day = key & 0xFFFFFFFFL;
+            if (m != current) {
+                current = m;
+                projected = materials.get(m).stock() == null ? 0 : materials.get(m).stock();
+            }
+            projected += flows.get(key);
+            if (projected < 0) {
+                long quantity = -projected;
+                net[m] += quantity;
+                projected = 0;
+
+                Integer leadTime = materials.get(m).leadTime();
+                long orderBy = day - (leadTime == null ? 0 : leadTime);
+                if (shortages.get(m) == null) {
+                    shortages.set(m, new ArrayList<>());
+                }
+                shortages.get(m).add(new MaterialShortageDTO(
+                        LocalDate.ofEpochDay(day),
+                        quantity,
+                        LocalDate.ofEpochDay(orderBy),
+                        orderBy < today));
+            }
+        }
+
+        List<MaterialRequirementDTO> result = new ArrayList<>();
+        int materialsWithShortage = 0;
+        for (int m = 0; m < materialCount; m++) {
+            boolean hasShortage = net[m] > 0;
+            if (hasShortage) {
+                materialsWithShortage++;
+            }
+            if (gross[m] == 0 || (shortagesOnly && !hasShortage)) {
+                continue;
+            }
+            MaterialPosition material = materials.get(m);
+            result.add(new MaterialRequirementDTO(
+                    material.materialId(),
+                    material.name(),
+                    material.unit(),
+                    material.stock(),
+                    gross[m],
+                    scheduled[m],
+                    net[m],
+                    material.leadTime(),
+                    shortages.get(m) == null ? List.of() : shortages.get(m)));
+        }
+
+        return new MrpRunResponseDTO(planningDate, plannedOrders, ordersWithoutBom, materialsWithShortage, result);
+    }
+
+    private long dayOf(LocalDate date, int plusDays) {
+        if (date == null) {
+            return today + plusDays;
+        }
+        return Math.max(date.toEpochDay() + plusDays, today);
+    }
+
+    private static long key(int materialIndex, long epochDay) {
+        return ((long) materialIndex << 32) | epochDay;
+    }
+}
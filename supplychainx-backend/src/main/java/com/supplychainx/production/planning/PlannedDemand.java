@@ -0,0 +1,7 @@
+package com.supplychainx.production.planning;
+
+import java.time.LocalDate;
+
+/** Production order still to be built; {@code needDate} is its planned start date. */
+public record PlannedDemand(Long orderId, Long productId, Integer quantity, LocalDate needDate) {
+}
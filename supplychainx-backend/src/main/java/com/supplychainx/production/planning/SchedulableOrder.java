@@ -0,0 +1,15 @@
+package com.supplychainx.production.planning;
+
+import com.supplychainx.production.enums.ProductionOrderStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Pending production order as seen by {@link CapacityScheduler}: {@code unitTime} is the
+ * product's production time per unit, {@code releaseDate} the earliest allowed start and
+ * {@code startDate}/{@code endDate} the dates currently stored on the order.
+ */
+public record SchedulableOrder(Long orderId, Long productId, Integer quantity, Integer unitTime,
+                               ProductionOrderStatus status, LocalDate releaseDate,
+                               LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,7 @@
+package com.supplychainx.production.planning;
+
+import java.time.LocalDate;
+
+/** Open supply order line, expected {@code leadTime} days after its order date. */
+public record ScheduledReceipt(Long materialId, Integer quantity, LocalDate orderDate, Integer leadTime) {
+}
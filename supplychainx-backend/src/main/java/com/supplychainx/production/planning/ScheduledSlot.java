@@ -0,0 +1,11 @@
+package com.supplychainx.production.planning;
+
+import java.time.LocalDate;
+
+/** Planned dates of an order and the line it runs on; {@code line} is -1 when blocked on materials. */
+public record ScheduledSlot(Long orderId, int line, LocalDate startDate, LocalDate endDate) {
+
+    public boolean blocked() {
+        return line < 0;
+    }
+}
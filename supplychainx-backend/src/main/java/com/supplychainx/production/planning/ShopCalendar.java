@@ -0,0 +1,72 @@
+package com.supplychainx.production.planning;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+/**
+ * Working time of the shop: {@code minutesPerDay} minutes of shifts on each working day.
+ * Positions on the calendar are working minutes counted from the start of the first working
+ * day on or after {@code from}; day/date conversions are arithmetic (no per-day table).
+ */
+public final class ShopCalendar {
+
+    private final LocalDate origin;
+    private final int minutesPerDay;
+    // Calendar offsets (0..6 days from origin) of the working days of one week, ascending
+    private final int[] workingOffsets;
+
+    public ShopCalendar(LocalDate from, Set<DayOfWeek> workingDays, int minutesPerDay) {
+        if (workingDays.isEmpty() || minutesPerDay <= 0) {
+            throw new IllegalArgumentException("At least one working day and a positive shift length are required");
+        }
+        LocalDate first = from;
+        while (!workingDays.contains(first.getDayOfWeek())) {
+            first = first.plusDays(1);
+        }
+        this.origin = first;
+        this.minutesPerDay = minutesPerDay;
+        this.workingOffsets = new int[workingDays.size()];
+        int i = 0;
+        for (int offset = 0; offset < 7; offset++) {
+            if (workingDays.contains(first.plusDays(offset).getDayOfWeek())) {
+                workingOffsets[i++] = offset;
+            }
+        }
+    }
+
+    public LocalDate origin() {
+        return origin;
+    }
+
+    public int minutesPerDay() {
+        return minutesPerDay;
+    }
+
+    /** Index of the first working day on or after {@code date}; 0 for dates before the origin. */
+    public long dayIndex(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(origin, date);
+        if (days <= 0) {
+            return 0;
+        }
+        long weeks = days / 7;
+        int rest = (int) (days % 7);
+        int before = 0;
+        while (before < workingOffsets.length && workingOffsets[before] < rest) {
+            before++;
+        }
+        return weeks * workingOffsets.length + before;
+    }
+
+    public LocalDate dateOfDay(long dayIndex) {
+        long weeks = dayIndex / workingOffsets.length;
+        int rest = (int) (dayIndex % workingOffsets.length);
+        return origin.plusDays(weeks * 7 + workingOffsets[rest]);
+    }
+
+    /** Date on which working minute {@code minute} falls. */
+    public LocalDate dateAt(long minute) {
+        return dateOfDay(minute / minutesPerDay);
+    }
+}
@@ -1,14 +1,50 @@
 package com.supplychainx.production.repository;
 
+import com.supplychainx.config.CacheRegions;
 import com.supplychainx.production.entity.BillOfMaterial;
 import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.planning.BomLine;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface BillOfMaterialRepository extends JpaRepository<BillOfMaterial, Long> {
     
+    @EntityGraph(attributePaths = "material")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.BOM_BY_PRODUCT)
+    })
     List<BillOfMaterial> findByProduct(Product product);
+
+    @Query("SELECT b FROM BillOfMaterial b JOIN FETCH b.product JOIN FETCH b.material " +
+           "WHERE b.product.idProduct IN :productIds ORDER BY b.idBOM")
+    List<BillOfMaterial> findWithMaterialByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Override
+    @EntityGraph(attributePaths = {"product", "material"})
+    Page<BillOfMaterial> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"product", "material"})
+    List<BillOfMaterial> findByIdBOMGreaterThanOrderByIdBOMAsc(Long idBOM, Limit limit);
+
+    @Query("SELECT new com.supplychainx.production.planning.BomLine(" +
+           "b.product.idProduct, b.material.idMaterial, b.quantity) FROM BillOfMaterial b")
+    List<BomLine> findAllBomLines();
+
+    @Query("SELECT b.idBOM FROM BillOfMaterial b WHERE b.idBOM IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,13 +1,66 @@
 package com.supplychainx.production.repository;
 
+import com.supplychainx.inventory.repository.StockLevel;
 import com.supplychainx.production.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
-    
+
+    /**
+     * Espace de requête des UPDATE de réservation. Sans lui, Hibernate invaliderait toutes les
+     * régions du cache de second niveau à chaque réservation ; StockReservationService évince
+     * seulement le produit modifié.
+     */
+    String STOCK_RESERVATION_SPACE = "product_stock_reservation";
+
     List<Product> findByNameContainingIgnoreCase(String name);
+
+    List<Product> findByIdProductGreaterThanOrderByIdProductAsc(Long idProduct, Limit limit);
+
+    @Modifying
+    @Query(value = "UPDATE products SET reserved_stock = reserved_stock + :quantity "
+            + "WHERE id_product = :id AND stock - reserved_stock >= :quantity", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STOCK_RESERVATION_SPACE))
+    int reserveStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE products SET reserved_stock = reserved_stock - :quantity "
+            + "WHERE id_product = :id AND reserved_stock >= :quantity", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STOCK_RESERVATION_SPACE))
+    int releaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE products SET stock = stock - :quantity, reserved_stock = reserved_stock - :quantity "
+            + "WHERE id_product = :id AND reserved_stock >= :quantity AND stock >= :quantity", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STOCK_RESERVATION_SPACE))
+    int commitStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /** Stock courant, ligne verrouillée jusqu'à la fin de la transaction (ajustement manuel). */
+    @Query(value = "SELECT stock FROM products WHERE id_product = :id FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockStock(@Param("id") Long id);
+
+    /** Version ensembliste de {@link #lockStock} ; verrous pris dans l'ordre des identifiants. */
+    @Query(value = "SELECT id_product AS id, stock FROM products " +
+            "WHERE id_product IN (:ids) ORDER BY id_product FOR UPDATE", nativeQuery = true)
+    List<StockLevel> lockStocks(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.idProduct FROM Product p WHERE p.idProduct IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.idProduct FROM Product p WHERE p.name = :name")
+    List<Long> findIdsByName(@Param("name") String name);
 }
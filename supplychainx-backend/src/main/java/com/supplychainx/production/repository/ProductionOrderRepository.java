@@ -1,11 +1,21 @@
 package com.supplychainx.production.repository;
 
+import com.supplychainx.common.repository.StatusCount;
 import com.supplychainx.production.entity.Product;
 import com.supplychainx.production.entity.ProductionOrder;
 import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.planning.PlannedDemand;
+import com.supplychainx.production.planning.SchedulableOrder;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,4 +24,38 @@ public interface ProductionOrderRepository extends JpaRepository<ProductionOrder
     List<ProductionOrder> findByStatus(ProductionOrderStatus status);
     
     List<ProductionOrder> findByProduct(Product product);
+
+    @Override
+    @EntityGraph(attributePaths = "product")
+    Page<ProductionOrder> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "product")
+    Page<ProductionOrder> findByStatus(ProductionOrderStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "product")
+    List<ProductionOrder> findByIdOrderGreaterThanOrderByIdOrderAsc(Long idOrder, Limit limit);
+
+    @EntityGraph(attributePaths = "product")
+    List<ProductionOrder> findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(ProductionOrderStatus status, Long idOrder, Limit limit);
+
+    @Query("SELECT new com.supplychainx.production.planning.PlannedDemand(" +
+           "o.idOrder, o.product.idProduct, o.quantity, o.startDate) " +
+           "FROM ProductionOrder o WHERE o.status IN :statuses")
+    List<PlannedDemand> findPlannedDemand(@Param("statuses") Collection<ProductionOrderStatus> statuses);
+
+    @Query("SELECT new com.supplychainx.production.planning.SchedulableOrder(" +
+           "o.idOrder, o.product.idProduct, o.quantity, o.product.productionTime, o.status, " +
+           "o.releaseDate, o.startDate, o.endDate) " +
+           "FROM ProductionOrder o WHERE o.status IN :statuses")
+    List<SchedulableOrder> findSchedulable(@Param("statuses") Collection<ProductionOrderStatus> statuses);
+
+    @Query("SELECT new com.supplychainx.production.planning.SchedulableOrder(" +
+           "o.idOrder, o.product.idProduct, o.quantity, o.product.productionTime, o.status, " +
+           "o.releaseDate, o.startDate, o.endDate) " +
+           "FROM ProductionOrder o WHERE o.idOrder IN :ids AND o.status IN :statuses")
+    List<SchedulableOrder> findSchedulable(@Param("ids") Collection<Long> ids,
+                                           @Param("statuses") Collection<ProductionOrderStatus> statuses);
+
+    @Query("SELECT new com.supplychainx.common.repository.StatusCount(o.status, COUNT(o)) FROM ProductionOrder o GROUP BY o.status")
+    List<StatusCount> countGroupedByStatus();
 }
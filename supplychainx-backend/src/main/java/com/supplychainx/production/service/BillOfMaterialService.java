@@ -2,6 +2,16 @@ package com.supplychainx.production.service;
 
 import com.supplychainx.approvisionnement.entity.RawMaterial;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.common.bulk.BulkBatch;
+import com.supplychainx.common.bulk.BulkRequestValidator;
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.bulk.JdbcBatchWriter;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
+import com.supplychainx.common.service.EntityCacheEvictor;
+import com.supplychainx.config.CacheRegions;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.BillOfMaterialMapper;
 import com.supplychainx.production.dto.BillOfMaterialRequestDTO;
@@ -15,6 +25,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -22,10 +34,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BillOfMaterialService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("quantity");
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bill_of_materials (product_id, material_id, quantity) VALUES (?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE bill_of_materials SET product_id = ?, material_id = ?, quantity = ? WHERE id_bom = ?";
+
     private final BillOfMaterialRepository billOfMaterialRepository;
     private final ProductRepository productRepository;
     private final RawMaterialRepository rawMaterialRepository;
     private final BillOfMaterialMapper billOfMaterialMapper;
+    private final BulkRequestValidator bulkRequestValidator;
+    private final JdbcBatchWriter jdbcBatchWriter;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     @Transactional
     public BillOfMaterialResponseDTO createBillOfMaterial(BillOfMaterialRequestDTO dto) {
@@ -68,6 +90,68 @@ public class BillOfMaterialService {
         return billOfMaterialMapper.toResponseDTO(updatedBom);
     }
 
+    @Transactional
+    public BulkResponseDTO bulkCreateBillOfMaterials(List<BillOfMaterialRequestDTO> rows) {
+        BulkBatch<BillOfMaterialRequestDTO> batch = bulkRequestValidator.validate(rows);
+        rejectUnknownReferences(batch, Function.identity());
+
+        List<Integer> pending = batch.pending();
+        List<Long> ids = jdbcBatchWriter.insert(INSERT_SQL, pending, (statement, index) -> {
+            BillOfMaterialRequestDTO dto = batch.row(index);
+            statement.setLong(1, dto.getProductId());
+            statement.setLong(2, dto.getMaterialId());
+            statement.setInt(3, dto.getQuantity());
+        });
+        for (int i = 0; i < pending.size(); i++) {
+            batch.succeed(pending.get(i), ids.get(i));
+        }
+        entityCacheEvictor.evictQueryRegion(CacheRegions.BOM_BY_PRODUCT);
+        return batch.toResponse(BulkBatch.CREATED);
+    }
+
+    @Transactional
+    public BulkResponseDTO bulkUpdateBillOfMaterials(List<BulkUpdateItemDTO<BillOfMaterialRequestDTO>> rows) {
+        BulkBatch<BulkUpdateItemDTO<BillOfMaterialRequestDTO>> batch = bulkRequestValidator.validate(rows);
+        batch.rejectDuplicates(BulkUpdateItemDTO::getId, "Identifiant en double dans la requête");
+
+        Set<Long> found = billOfMaterialRepository.findExistingIds(
+                batch.pending().stream().map(index -> batch.row(index).getId()).toList());
+        batch.rejectIf(item -> found.contains(item.getId()) ? null
+                : "Nomenclature non trouvée avec l'ID: " + item.getId());
+        rejectUnknownReferences(batch, BulkUpdateItemDTO::getData);
+
+        List<Integer> pending = batch.pending();
+        jdbcBatchWriter.update(UPDATE_SQL, pending, (statement, index) -> {
+            BillOfMaterialRequestDTO dto = batch.row(index).getData();
+            statement.setLong(1, dto.getProductId());
+            statement.setLong(2, dto.getMaterialId());
+            statement.setInt(3, dto.getQuantity());
+            statement.setLong(4, batch.row(index).getId());
+        });
+        pending.forEach(index -> batch.succeed(index, batch.row(index).getId()));
+        entityCacheEvictor.evict(BillOfMaterial.class, found);
+        entityCacheEvictor.evictQueryRegion(CacheRegions.BOM_BY_PRODUCT);
+        return batch.toResponse(BulkBatch.UPDATED);
+    }
+
+    private <T> void rejectUnknownReferences(BulkBatch<T> batch, Function<T, BillOfMaterialRequestDTO> line) {
+        List<BillOfMaterialRequestDTO> lines = batch.pending().stream().map(index -> line.apply(batch.row(index))).toList();
+        Set<Long> products = productRepository.findExistingIds(
+                lines.stream().map(BillOfMaterialRequestDTO::getProductId).collect(Collectors.toSet()));
+        Set<Long> materials = rawMaterialRepository.findExistingIds(
+                lines.stream().map(BillOfMaterialRequestDTO::getMaterialId).collect(Collectors.toSet()));
+
+        for (int index : batch.pending()) {
+            BillOfMaterialRequestDTO dto = line.apply(batch.row(index));
+            if (!products.contains(dto.getProductId())) {
+                batch.reject(index, "Produit non trouvé avec l'ID: " + dto.getProductId());
+            }
+            if (!materials.contains(dto.getMaterialId())) {
+                batch.reject(index, "Matière première non trouvée avec l'ID: " + dto.getMaterialId());
+            }
+        }
+    }
+
     @Transactional
     public void deleteBillOfMaterial(Long id) {
         BillOfMaterial bom = billOfMaterialRepository.findById(id)
@@ -78,10 +162,12 @@ public class BillOfMaterialService {
     }
 
     @Transactional(readOnly = true)
-    public List<BillOfMaterialResponseDTO> getAllBillOfMaterials() {
-        return billOfMaterialRepository.findAll().stream()
-                .map(billOfMaterialMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public PageSlice<BillOfMaterialResponseDTO> getAllBillOfMaterials(PageQuery pageQuery) {
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idBOM",
+                billOfMaterialRepository::findAll,
+                billOfMaterialRepository::findByIdBOMGreaterThanOrderByIdBOMAsc,
+                BillOfMaterial::getIdBOM,
+                billOfMaterialMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
@@ -1,26 +1,59 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderMaterialRepository;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.production.dto.BatchAvailabilityResponseDTO;
+import com.supplychainx.production.dto.CombinedMaterialDemandDTO;
 import com.supplychainx.production.dto.MaterialAvailabilityDTO;
+import com.supplychainx.production.dto.MrpRunResponseDTO;
+import com.supplychainx.production.dto.ProductQuantityDTO;
 import com.supplychainx.production.dto.ProductionAvailabilityResponseDTO;
 import com.supplychainx.production.dto.ProductionTimeResponseDTO;
 import com.supplychainx.production.entity.BillOfMaterial;
 import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.planning.BomLine;
+import com.supplychainx.production.planning.MaterialPosition;
+import com.supplychainx.production.planning.MrpEngine;
+import com.supplychainx.production.planning.PlannedDemand;
+import com.supplychainx.production.planning.ScheduledReceipt;
 import com.supplychainx.production.repository.BillOfMaterialRepository;
 import com.supplychainx.production.repository.ProductRepository;
+import com.supplychainx.production.repository.ProductionOrderRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlanningService {
+
+    private static final EnumSet<ProductionOrderStatus> PENDING_PRODUCTION =
+            EnumSet.of(ProductionOrderStatus.EN_ATTENTE, ProductionOrderStatus.EN_PRODUCTION);
+    private static final EnumSet<SupplyOrderStatus> OPEN_SUPPLY =
+            EnumSet.of(SupplyOrderStatus.EN_ATTENTE, SupplyOrderStatus.EN_COURS);
     
     private final ProductRepository productRepository;
     private final BillOfMaterialRepository billOfMaterialRepository;
+    private final ProductionOrderRepository productionOrderRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final SupplyOrderMaterialRepository supplyOrderMaterialRepository;
     
     @Transactional(readOnly = true)
     public ProductionAvailabilityResponseDTO checkMaterialAvailability(Long productId, Integer quantity) {
@@ -28,8 +61,54 @@ public class PlanningService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Produit non trouvé avec l'ID: " + productId));
         
-        List<BillOfMaterial> bom = billOfMaterialRepository.findByProduct(product);
-        
+        List<BillOfMaterial> bom = billOfMaterialRepository.findWithMaterialByProductIds(List.of(productId));
+        return buildAvailability(product, bom, quantity);
+    }
+
+    /**
+     * Checks many (product, quantity) pairs with two queries in total. Each product is
+     * checked on its own against stock; {@code combinedDemand} sums what all of them
+     * need from each shared material.
+     */
+    @Transactional(readOnly = true)
+    public BatchAvailabilityResponseDTO checkBatchAvailability(List<ProductQuantityDTO> items) {
+        Set<Long> productIds = items.stream()
+                .map(ProductQuantityDTO::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getIdProduct, Function.identity()));
+        List<Long> missing = productIds.stream().filter(id -> !products.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Produits non trouvés avec les IDs: " + missing);
+        }
+
+        Map<Long, List<BillOfMaterial>> bomByProduct = billOfMaterialRepository
+                .findWithMaterialByProductIds(productIds).stream()
+                .collect(Collectors.groupingBy(b -> b.getProduct().getIdProduct()));
+
+        List<ProductionAvailabilityResponseDTO> results = new ArrayList<>(items.size());
+        Map<Long, CombinedMaterialDemand> combined = new LinkedHashMap<>();
+        for (ProductQuantityDTO item : items) {
+            List<BillOfMaterial> bom = bomByProduct.getOrDefault(item.getProductId(), List.of());
+            results.add(buildAvailability(products.get(item.getProductId()), bom, item.getQuantity()));
+
+            for (BillOfMaterial bomItem : bom) {
+                combined.computeIfAbsent(bomItem.getMaterial().getIdMaterial(),
+                                id -> new CombinedMaterialDemand(bomItem.getMaterial()))
+                        .add(item.getProductId(), (long) bomItem.getQuantity() * item.getQuantity());
+            }
+        }
+
+        List<CombinedMaterialDemandDTO> combinedDemand = combined.values().stream()
+                .map(CombinedMaterialDemand::toDTO)
+                .toList();
+        boolean canProduceAll = combinedDemand.stream().allMatch(CombinedMaterialDemandDTO::getIsAvailable);
+
+        return new BatchAvailabilityResponseDTO(results, combinedDemand, canProduceAll);
+    }
+
+    private ProductionAvailabilityResponseDTO buildAvailability(Product product, List<BillOfMaterial> bom, Integer quantity) {
         List<MaterialAvailabilityDTO> materialsStatus = new ArrayList<>();
         boolean canProduce = true;
         
@@ -59,7 +138,6 @@ public class PlanningService {
                 materialsStatus
         );
     }
-    
 
     @Transactional(readOnly = true)
     public ProductionTimeResponseDTO calculateProductionTime(Long productId, Integer quantity) {
@@ -78,4 +156,52 @@ public class PlanningService {
                 totalProductionTime
         );
     }
+
+    /**
+     * Plans every production order EN_ATTENTE/EN_PRODUCTION in one pass: four bulk
+     * projection queries, then an in-memory MRP run (see {@link MrpEngine}).
+     */
+    @Transactional(readOnly = true)
+    public MrpRunResponseDTO runMrp(boolean shortagesOnly) {
+        long start = System.nanoTime();
+        List<PlannedDemand> demands = productionOrderRepository.findPlannedDemand(PENDING_PRODUCTION);
+        List<BomLine> bomLines = billOfMaterialRepository.findAllBomLines();
+        List<MaterialPosition> materials = rawMaterialRepository.findMaterialPositions();
+        List<ScheduledReceipt> receipts = supplyOrderMaterialRepository.findScheduledReceipts(OPEN_SUPPLY);
+        long loaded = System.nanoTime();
+
+        MrpRunResponseDTO result = new MrpEngine(LocalDate.now())
+                .run(demands, bomLines, materials, receipts, shortagesOnly);
+
+        log.info("MRP run: {} orders, {} materials in shortage (load {} ms, plan {} ms)",
+                result.getPlannedOrders(), result.getMaterialsWithShortage(),
+                (loaded - start) / 1_000_000, (System.nanoTime() - loaded) / 1_000_000);
+        return result;
+    }
+
+    private static final class CombinedMaterialDemand {
+
+        private final RawMaterial material;
+        private final Set<Long> productIds = new LinkedHashSet<>();
+        private long required;
+
+        private CombinedMaterialDemand(RawMaterial material) {
+            this.material = material;
+        }
+
+        private void add(Long productId, long quantity) {
+            productIds.add(productId);
+            required += quantity;
+        }
+
+        private CombinedMaterialDemandDTO toDTO() {
+            return new CombinedMaterialDemandDTO(
+                    material.getIdMaterial(),
+                    material.getName(),
+                    required,
+                    material.getStock(),
+                    material.getStock() >= required,
+                    List.copyOf(productIds));
+        }
+    }
 }
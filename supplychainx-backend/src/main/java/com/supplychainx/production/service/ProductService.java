@@ -1,7 +1,20 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.common.bulk.BulkBatch;
+import com.supplychainx.common.bulk.BulkRequestValidator;
+import com.supplychainx.common.bulk.BulkResponseDTO;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.bulk.JdbcBatchWriter;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
+import com.supplychainx.common.service.EntityCacheEvictor;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.service.InventoryLedgerService;
 import com.supplychainx.logging.LoggingContext;
 import com.supplychainx.production.dto.ProductCreateDTO;
 import com.supplychainx.production.dto.ProductResponseDTO;
@@ -15,7 +28,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,8 +39,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "cost", "stock", "productionTime");
+
+    private static final String INSERT_SQL = "INSERT INTO products " +
+            "(name, production_time, cost, stock, reserved_stock) VALUES (?, ?, ?, ?, 0)";
+    private static final String UPDATE_SQL = "UPDATE products " +
+            "SET name = ?, production_time = ?, cost = ?, stock = ? WHERE id_product = ?";
+
     private final ProductRepository productRepository;
     private final ProductionOrderRepository productionOrderRepository;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final BulkRequestValidator bulkRequestValidator;
+    private final JdbcBatchWriter jdbcBatchWriter;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     @Transactional
     public ProductResponseDTO createProduct(ProductCreateDTO dto) {
@@ -38,6 +65,8 @@ public class ProductService {
         product.setStock(dto.getStock());
 
         Product savedProduct = productRepository.save(product);
+        inventoryLedgerService.append(InventoryItemType.PRODUCT, savedProduct.getIdProduct(),
+                MovementType.ADJUSTMENT, savedProduct.getStock(), MovementSource.OPENING_BALANCE, null);
 
         LoggingContext.setBusinessId("PRODUCT_" + savedProduct.getIdProduct());
         log.info("Product created successfully - ID: {}, Name: {}, Initial Stock: {}",
@@ -60,6 +89,7 @@ public class ProductService {
                 });
 
         Integer oldStock = product.getStock();
+        inventoryLedgerService.recordAdjustment(InventoryItemType.PRODUCT, id, dto.getStock());
         product.setName(dto.getName());
         product.setProductionTime(dto.getProductionTime());
         product.setCost(dto.getCost());
@@ -73,6 +103,64 @@ public class ProductService {
         return convertToDTO(updatedProduct);
     }
 
+    @Transactional
+    public BulkResponseDTO bulkCreateProducts(List<ProductCreateDTO> rows) {
+        LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
+        BulkBatch<ProductCreateDTO> batch = bulkRequestValidator.validate(rows);
+        List<Integer> pending = batch.pending();
+
+        List<Long> ids = jdbcBatchWriter.insert(INSERT_SQL, pending, (statement, index) -> {
+            ProductCreateDTO dto = batch.row(index);
+            statement.setString(1, dto.getName());
+            statement.setInt(2, dto.getProductionTime());
+            statement.setDouble(3, dto.getCost());
+            statement.setInt(4, dto.getStock());
+        });
+
+        Map<Long, Integer> openingBalances = new LinkedHashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            batch.succeed(pending.get(i), ids.get(i));
+            openingBalances.put(ids.get(i), batch.row(pending.get(i)).getStock());
+        }
+        inventoryLedgerService.appendAll(InventoryItemType.PRODUCT, MovementType.ADJUSTMENT,
+                MovementSource.OPENING_BALANCE, openingBalances);
+
+        BulkResponseDTO response = batch.toResponse(BulkBatch.CREATED);
+        log.info("Bulk product creation - received: {}, created: {}, rejected: {}",
+            response.getReceived(), response.getSucceeded(), response.getRejected());
+        return response;
+    }
+
+    @Transactional
+    public BulkResponseDTO bulkUpdateProducts(List<BulkUpdateItemDTO<ProductUpdateDTO>> rows) {
+        LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
+        BulkBatch<BulkUpdateItemDTO<ProductUpdateDTO>> batch = bulkRequestValidator.validate(rows);
+        batch.rejectDuplicates(BulkUpdateItemDTO::getId, "Identifiant en double dans la requête");
+
+        Map<Long, Integer> targetStocks = new LinkedHashMap<>();
+        batch.pending().forEach(index -> targetStocks.put(batch.row(index).getId(), batch.row(index).getData().getStock()));
+        Set<Long> found = inventoryLedgerService.recordAdjustments(InventoryItemType.PRODUCT, targetStocks);
+        batch.rejectIf(item -> found.contains(item.getId()) ? null
+                : "Produit non trouvé avec l'ID: " + item.getId());
+
+        List<Integer> pending = batch.pending();
+        jdbcBatchWriter.update(UPDATE_SQL, pending, (statement, index) -> {
+            ProductUpdateDTO dto = batch.row(index).getData();
+            statement.setString(1, dto.getName());
+            statement.setInt(2, dto.getProductionTime());
+            statement.setDouble(3, dto.getCost());
+            statement.setInt(4, dto.getStock());
+            statement.setLong(5, batch.row(index).getId());
+        });
+        pending.forEach(index -> batch.succeed(index, batch.row(index).getId()));
+        entityCacheEvictor.evict(Product.class, found);
+
+        BulkResponseDTO response = batch.toResponse(BulkBatch.UPDATED);
+        log.info("Bulk product update - received: {}, updated: {}, rejected: {}",
+            response.getReceived(), response.getSucceeded(), response.getRejected());
+        return response;
+    }
+
     @Transactional
     public void deleteProduct(Long id) {
         LoggingContext.setLogType(LoggingContext.LogType.BUSINESS);
@@ -100,12 +188,14 @@ public class ProductService {
     }
 
     @Transactional(readOnly = true)
-    public List<ProductResponseDTO> getAllProducts() {
-        log.debug("Fetching all products");
-        List<ProductResponseDTO> products = productRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        log.info("Retrieved {} products", products.size());
+    public PageSlice<ProductResponseDTO> getAllProducts(PageQuery pageQuery) {
+        log.debug("Fetching products page: {}", pageQuery);
+        PageSlice<ProductResponseDTO> products = Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idProduct",
+                productRepository::findAll,
+                productRepository::findByIdProductGreaterThanOrderByIdProductAsc,
+                Product::getIdProduct,
+                this::convertToDTO);
+        log.info("Retrieved {} products", products.getContent().size());
         return products;
     }
 
@@ -126,6 +216,7 @@ public class ProductService {
         dto.setProductionTime(product.getProductionTime());
         dto.setCost(product.getCost());
         dto.setStock(product.getStock());
+        dto.setReservedStock(product.getReservedStock());
         return dto;
     }
 }
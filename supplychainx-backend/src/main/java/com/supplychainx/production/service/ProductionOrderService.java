@@ -1,5 +1,11 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusDimensions;
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
+import com.supplychainx.common.pagination.Pagination;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.ProductMapper;
@@ -15,16 +21,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ProductionOrderService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("quantity", "status", "startDate", "endDate");
+
     private final ProductionOrderRepository productionOrderRepository;
     private final ProductRepository productRepository;
     private final ProductionOrderMapper productionOrderMapper;
     private final ProductMapper productMapper;
+    private final ProductionScheduleService productionScheduleService;
+    private final StatusEventBus statusEventBus;
 
     @Transactional
     public ProductionOrderResponseDTO createProductionOrder(ProductionOrderCreateDTO dto) {
@@ -36,10 +46,14 @@ public class ProductionOrderService {
         order.setProduct(product);
         order.setQuantity(dto.getQuantity());
         order.setStatus(ProductionOrderStatus.valueOf(dto.getStatus()));
+        order.setReleaseDate(dto.getStartDate());
         order.setStartDate(dto.getStartDate());
         order.setEndDate(dto.getEndDate());
 
         ProductionOrder savedOrder = productionOrderRepository.save(order);
+        productionScheduleService.ordersChanged(List.of(savedOrder.getIdOrder()));
+        statusEventBus.statusChanged(EntityType.PRODUCTION_ORDER, savedOrder.getIdOrder(), null, savedOrder.getStatus(),
+                dimensions(savedOrder));
         return productionOrderMapper.toResponseDTO(savedOrder);
     }
 
@@ -53,13 +67,19 @@ public class ProductionOrderService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Produit non trouvé avec l'ID: " + dto.getProductId()));
 
+        ProductionOrderStatus previousStatus = order.getStatus();
+        StatusDimensions previousDimensions = dimensions(order);
         order.setProduct(product);
         order.setQuantity(dto.getQuantity());
         order.setStatus(ProductionOrderStatus.valueOf(dto.getStatus()));
+        order.setReleaseDate(dto.getStartDate());
         order.setStartDate(dto.getStartDate());
         order.setEndDate(dto.getEndDate());
 
         ProductionOrder updatedOrder = productionOrderRepository.save(order);
+        productionScheduleService.ordersChanged(List.of(id));
+        statusEventBus.statusChanged(EntityType.PRODUCTION_ORDER, id, previousStatus, previousDimensions,
+                updatedOrder.getStatus(), dimensions(updatedOrder));
         return productionOrderMapper.toResponseDTO(updatedOrder);
     }
 
@@ -76,23 +96,29 @@ public class ProductionOrderService {
         }
 
         productionOrderRepository.delete(order);
+        statusEventBus.statusChanged(EntityType.PRODUCTION_ORDER, id, ProductionOrderStatus.EN_ATTENTE, null, dimensions(order));
+        productionScheduleService.ordersChanged(List.of(id));
     }
 
 
     @Transactional(readOnly = true)
-    public List<ProductionOrderResponseDTO> getAllProductionOrders() {
-        return productionOrderRepository.findAll().stream()
-                .map(productionOrderMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public PageSlice<ProductionOrderResponseDTO> getAllProductionOrders(PageQuery pageQuery) {
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idOrder",
+                productionOrderRepository::findAll,
+                productionOrderRepository::findByIdOrderGreaterThanOrderByIdOrderAsc,
+                ProductionOrder::getIdOrder,
+                productionOrderMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
-    public List<ProductionOrderResponseDTO> getProductionOrdersByStatus(String status) {
+    public PageSlice<ProductionOrderResponseDTO> getProductionOrdersByStatus(String status, PageQuery pageQuery) {
         ProductionOrderStatus orderStatus = ProductionOrderStatus.valueOf(status);
-        
-        return productionOrderRepository.findByStatus(orderStatus).stream()
-                .map(productionOrderMapper::toResponseDTO)
-                .collect(Collectors.toList());
+
+        return Pagination.fetch(pageQuery, SORTABLE_PROPERTIES, "idOrder",
+                pageable -> productionOrderRepository.findByStatus(orderStatus, pageable),
+                (afterId, limit) -> productionOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(orderStatus, afterId, limit),
+                ProductionOrder::getIdOrder,
+                productionOrderMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
@@ -102,4 +128,10 @@ public class ProductionOrderService {
                         "Ordre de production non trouvé avec l'ID: " + id));
         return productionOrderMapper.toResponseDTO(order);
     }
+
+    /** Produit et quantité de l'ordre, enregistrés avec ses changements de statut. */
+    private static StatusDimensions dimensions(ProductionOrder order) {
+        return new StatusDimensions(order.getProduct() == null ? null : order.getProduct().getIdProduct(),
+                null, order.getQuantity(), null);
+    }
 }
@@ -0,0 +1,238 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderMaterialRepository;
+import com.supplychainx.common.bulk.JdbcBatchWriter;
+import com.supplychainx.production.dto.ProductionScheduleResponseDTO;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.planning.CapacityScheduler;
+import com.supplychainx.production.planning.SchedulableOrder;
+import com.supplychainx.production.planning.ScheduledSlot;
+import com.supplychainx.production.planning.ShopCalendar;
+import com.supplychainx.production.repository.BillOfMaterialRepository;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ordonnancement à capacité finie des ordres de production EN_ATTENTE/EN_PRODUCTION sur
+ * {@code app.production.scheduling.lines} lignes et les équipes configurées (voir
+ * {@link CapacityScheduler}) ; les dates de début et de fin calculées sont écrites sur les
+ * ordres, seules celles qui changent.
+ * <p>
+ * Le plan est gardé en mémoire : la création, la modification ou l'annulation d'un ordre
+ * ne replanifie, après le commit, que la fin de séquence concernée. Le plan complet est
+ * recalculé au démarrage puis périodiquement ({@code app.production.scheduling.rebuild-cron})
+ * pour reprendre les mouvements de stock, les approvisionnements, les nomenclatures et la
+ * date du jour.
+ */
+@Slf4j
+@Service
+public class ProductionScheduleService {
+
+    private static final List<ProductionOrderStatus> SCHEDULED_STATUSES =
+            List.of(ProductionOrderStatus.EN_ATTENTE, ProductionOrderStatus.EN_PRODUCTION);
+    private static final EnumSet<SupplyOrderStatus> OPEN_SUPPLY =
+            EnumSet.of(SupplyOrderStatus.EN_ATTENTE, SupplyOrderStatus.EN_COURS);
+    private static final String UPDATE_DATES_SQL =
+            "UPDATE production_orders SET start_date = ?, end_date = ? WHERE id_order = ?";
+
+    private final ProductionOrderRepository productionOrderRepository;
+    private final BillOfMaterialRepository billOfMaterialRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final SupplyOrderMaterialRepository supplyOrderMaterialRepository;
+    private final JdbcBatchWriter jdbcBatchWriter;
+    private final TransactionTemplate requiresNew;
+    private final int lines;
+    private final int minutesPerDay;
+    private final Set<DayOfWeek> workingDays;
+    private final long unitMinutes;
+    // Pas de synchronized : replanifier sous verrou fait du JDBC, qui épinglerait le thread
+    // porteur d'une requête exécutée sur un thread virtuel
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private CapacityScheduler scheduler;
+
+    public ProductionScheduleService(ProductionOrderRepository productionOrderRepository,
+                                     BillOfMaterialRepository billOfMaterialRepository,
+                                     RawMaterialRepository rawMaterialRepository,
+                                     SupplyOrderMaterialRepository supplyOrderMaterialRepository,
+                                     JdbcBatchWriter jdbcBatchWriter,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.production.scheduling.lines:1}") int lines,
+                                     @Value("${app.production.scheduling.shifts:08:00-16:00}") String[] shifts,
+                                     @Value("${app.production.scheduling.working-days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}") String[] workingDays,
+                                     @Value("${app.production.scheduling.time-unit:MINUTES}") ChronoUnit timeUnit) {
+        this.productionOrderRepository = productionOrderRepository;
+        this.billOfMaterialRepository = billOfMaterialRepository;
+        this.rawMaterialRepository = rawMaterialRepository;
+        this.supplyOrderMaterialRepository = supplyOrderMaterialRepository;
+        this.jdbcBatchWriter = jdbcBatchWriter;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lines = lines;
+        this.minutesPerDay = Arrays.stream(shifts).mapToInt(ProductionScheduleService::shiftMinutes).sum();
+        this.workingDays = Arrays.stream(workingDays)
+                .map(day -> DayOfWeek.valueOf(day.trim()))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(DayOfWeek.class)));
+        this.unitMinutes = timeUnit.getDuration().toMinutes();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.production.scheduling.rebuild-cron:0 5 * * * *}")
+    public void rebuild() {
+        reschedule();
+    }
+
+    /** Recalcule le plan complet à partir de la base. */
+    public ProductionScheduleResponseDTO reschedule() {
+        lock.lock();
+        try {
+            return rescheduleLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ProductionScheduleResponseDTO rescheduleLocked() {
+        long start = System.nanoTime();
+        return requiresNew.execute(status -> {
+            CapacityScheduler next = new CapacityScheduler(
+                    new ShopCalendar(LocalDate.now(), workingDays, minutesPerDay), lines, unitMinutes,
+                    billOfMaterialRepository.findAllBomLines(),
+                    rawMaterialRepository.findMaterialPositions(),
+                    supplyOrderMaterialRepository.findScheduledReceipts(OPEN_SUPPLY),
+                    productionOrderRepository.findSchedulable(SCHEDULED_STATUSES));
+            List<ScheduledSlot> changed = next.schedule();
+            persist(changed);
+            scheduler = next;
+
+            ProductionScheduleResponseDTO summary = summary(next, changed.size());
+            log.info("Production schedule rebuilt: {} orders on {} lines, {} dates updated, {} blocked on materials in {} ms",
+                    summary.getScheduledOrders(), lines, changed.size(), summary.getBlockedOrderIds().size(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return summary;
+        });
+    }
+
+    /** Création, modification ou annulation d'ordres : replanifiés après le commit. */
+    public void ordersChanged(Collection<Long> orderIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(new HashSet<>(orderIds));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> created = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductionScheduleService.this);
+                }
+            });
+            pending = created;
+        }
+        pending.addAll(orderIds);
+    }
+
+    private void refresh(Set<Long> orderIds) {
+        lock.lock();
+        try {
+            if (scheduler != null) {
+                refreshLocked(orderIds);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refreshLocked(Set<Long> orderIds) {
+        long start = System.nanoTime();
+        try {
+            int updated = requiresNew.execute(status -> {
+                Map<Long, SchedulableOrder> current = productionOrderRepository
+                        .findSchedulable(orderIds, SCHEDULED_STATUSES).stream()
+                        .collect(Collectors.toMap(SchedulableOrder::orderId, Function.identity()));
+                // Un ordre replanifié deux fois dans le lot ne garde que son dernier créneau
+                Map<Long, ScheduledSlot> changed = new LinkedHashMap<>();
+                for (Long orderId : orderIds) {
+                    SchedulableOrder order = current.get(orderId);
+                    List<ScheduledSlot> slots = order == null ? scheduler.remove(orderId) : scheduler.upsert(order);
+                    slots.forEach(slot -> changed.put(slot.orderId(), slot));
+                }
+                persist(new ArrayList<>(changed.values()));
+                return changed.size();
+            });
+            log.debug("Production schedule replanned after {} order changes: {} dates updated in {} ms",
+                    orderIds.size(), updated, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Production schedule refresh failed, stale until next rebuild: {}", e.getMessage());
+        }
+    }
+
+    private void persist(List<ScheduledSlot> slots) {
+        jdbcBatchWriter.update(UPDATE_DATES_SQL, slots, (statement, slot) -> {
+            statement.setObject(1, slot.startDate());
+            statement.setObject(2, slot.endDate());
+            statement.setLong(3, slot.orderId());
+        });
+    }
+
+    private ProductionScheduleResponseDTO summary(CapacityScheduler plan, int updated) {
+        List<ScheduledSlot> slots = plan.slots();
+        List<Long> blocked = slots.stream().filter(ScheduledSlot::blocked).map(ScheduledSlot::orderId).toList();
+        LocalDate completion = slots.stream()
+                .filter(slot -> !slot.blocked())
+                .map(ScheduledSlot::endDate)
+                .filter(Objects::nonNull)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+        return new ProductionScheduleResponseDTO(plan.calendar().origin(), plan.lines(), minutesPerDay,
+                slots.size() - blocked.size(), updated, completion, blocked);
+    }
+
+    // "06:00-14:00" ; une équipe de nuit ("22:00-06:00") passe minuit
+    private static int shiftMinutes(String shift) {
+        String[] bounds = shift.trim().split("-");
+        if (bounds.length != 2) {
+            throw new IllegalArgumentException("Invalid shift '" + shift + "', expected HH:mm-HH:mm");
+        }
+        int minutes = (int) ChronoUnit.MINUTES.between(LocalTime.parse(bounds[0]), LocalTime.parse(bounds[1]));
+        return minutes <= 0 ? minutes + 24 * 60 : minutes;
+    }
+}
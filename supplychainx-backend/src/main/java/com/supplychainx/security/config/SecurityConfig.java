@@ -1,6 +1,7 @@
 package com.supplychainx.security.config;
 
 import com.supplychainx.security.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,10 +31,14 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Fin d'une requête asynchrone (flux, SSE) : déjà autorisée à l'entrée, le jeton n'est pas relu
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/", "/health", "/api/health").permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         
                         .requestMatchers("/api/suppliers/**")
                         .hasAnyRole("GESTIONNAIRE_APPROVISIONNEMENT", "RESPONSABLE_ACHATS", "ADMIN")
@@ -62,6 +67,24 @@ public class SecurityConfig {
                         .requestMatchers("/api/deliveries/**")
                         .hasAnyRole("RESPONSABLE_LOGISTIQUE", "SUPERVISEUR_LIVRAISONS", "ADMIN")
                         
+                        .requestMatchers("/api/inventory/**")
+                        .hasAnyRole("GESTIONNAIRE_APPROVISIONNEMENT", "SUPERVISEUR_LOGISTIQUE", "CHEF_PRODUCTION", "RESPONSABLE_LOGISTIQUE", "ADMIN")
+                        
+                        .requestMatchers("/api/imports/supply-orders")
+                        .hasAnyRole("GESTIONNAIRE_APPROVISIONNEMENT", "RESPONSABLE_ACHATS", "ADMIN")
+
+                        .requestMatchers("/api/imports/customer-orders")
+                        .hasAnyRole("GESTIONNAIRE_COMMERCIAL", "ADMIN")
+
+                        .requestMatchers("/api/imports/**")
+                        .hasAnyRole("GESTIONNAIRE_APPROVISIONNEMENT", "RESPONSABLE_ACHATS", "GESTIONNAIRE_COMMERCIAL", "ADMIN")
+                        
+                        .requestMatchers("/api/dashboard/orders/**")
+                        .hasAnyRole("GESTIONNAIRE_COMMERCIAL", "RESPONSABLE_LOGISTIQUE", "ADMIN")
+
+                        .requestMatchers("/api/dashboard/deliveries/**")
+                        .hasAnyRole("RESPONSABLE_LOGISTIQUE", "SUPERVISEUR_LIVRAISONS", "ADMIN")
+
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         
                         .anyRequest().authenticated()
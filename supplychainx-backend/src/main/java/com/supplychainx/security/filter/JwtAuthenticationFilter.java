@@ -1,7 +1,8 @@
 package com.supplychainx.security.filter;
 
 import com.supplychainx.logging.LoggingContext;
-import com.supplychainx.security.jwt.JwtUtil;
+import com.supplychainx.security.jwt.JwtClaims;
+import com.supplychainx.security.jwt.JwtClaimsResolver;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,13 +19,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtClaimsResolver jwtClaimsResolver;
 
     @Override
     protected void doFilterInternal(
@@ -40,13 +42,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = authHeader.substring(7);
-
         try {
-            if (jwtUtil.isTokenValid(token)) {
-                String email = jwtUtil.extractEmail(token);
-                Long userId = jwtUtil.extractUserId(token);
-                String role = jwtUtil.extractRole(token);
+            Optional<JwtClaims> claims = jwtClaimsResolver.resolve(request);
+            if (claims.isPresent()) {
+                String email = claims.get().getEmail();
+                Long userId = claims.get().getUserId();
+                String role = claims.get().getRole();
 
                 LoggingContext.setUserId(userId);
                 LoggingContext.setUserRole(role);
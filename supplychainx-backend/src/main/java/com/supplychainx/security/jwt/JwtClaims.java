@@ -0,0 +1,21 @@
+package com.supplychainx.security.jwt;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class JwtClaims {
+
+    public static final String REQUEST_ATTRIBUTE = JwtClaims.class.getName();
+
+    Long userId;
+    String email;
+    String role;
+    String tokenType;
+    Instant expiration;
+
+    public boolean isExpired(Instant now) {
+        return !expiration.isAfter(now);
+    }
+}
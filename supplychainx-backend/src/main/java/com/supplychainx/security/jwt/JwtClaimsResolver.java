@@ -0,0 +1,117 @@
+package com.supplychainx.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Resolves the verified claims of the bearer token once per request.
+ * Verified tokens are kept in a bounded cache keyed by the SHA-256 of the token,
+ * each entry expiring together with the token itself.
+ */
+@Slf4j
+@Component
+public class JwtClaimsResolver {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtClaims> cache;
+
+    public JwtClaimsResolver(
+            JwtUtil jwtUtil,
+            @Value("${jwt.claims-cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    public Optional<JwtClaims> resolve(HttpServletRequest request) {
+        Object resolved = request.getAttribute(JwtClaims.REQUEST_ATTRIBUTE);
+        if (resolved instanceof JwtClaims claims) {
+            return Optional.of(claims);
+        }
+
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+
+        Optional<JwtClaims> claims = resolve(authHeader.substring(BEARER_PREFIX.length()));
+        claims.ifPresent(c -> request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, c));
+        return claims;
+    }
+
+    public Optional<JwtClaims> resolve(String token) {
+        String key = hash(token);
+        Instant now = Instant.now();
+
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return Optional.of(cached);
+        }
+
+        try {
+            JwtClaims claims = jwtUtil.parseClaims(token);
+            if (claims.isExpired(now)) {
+                return Optional.empty();
+            }
+            cache.put(key, claims);
+            return Optional.of(claims);
+        } catch (Exception e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remaining = Duration.between(Instant.now(), claims.getExpiration()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.supplychainx.analytics.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supplychainx.common.outbox.OutboxRelay;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.entity.Delivery;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.livraison.repository.CustomerRepository;
+import com.supplychainx.livraison.repository.DeliveryRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.livraison.service.DeliveryService;
+import com.supplychainx.production.dto.ProductionOrderUpdateDTO;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.entity.ProductionOrder;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.repository.ProductRepository;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import com.supplychainx.production.service.ProductionOrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Les agrégats sont alimentés par le relais de l'outbox, qui s'exécute dans ses propres
+ * transactions : les données du test sont validées en base puis supprimées.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class AnalyticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @Autowired
+    private ProductionOrderService productionOrderService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private ProductionOrderRepository productionOrderRepository;
+
+    private final LocalDate today = LocalDate.now();
+    private Customer customer;
+    private Product product;
+    private Order order;
+    private Delivery delivery;
+    private ProductionOrder productionOrder;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+        customer.setName("Client Indicateurs");
+        customer.setAddress("1 Rue des Indicateurs");
+        customer.setCity("Ville " + UUID.randomUUID().toString().substring(0, 8));
+        customer = customerRepository.save(customer);
+
+        product = new Product();
+        product.setName("Produit Indicateurs");
+        product.setProductionTime(10);
+        product.setCost(50.0);
+        product.setStock(1000);
+        product = productRepository.save(product);
+
+        order = new Order();
+        order.setCustomer(customer);
+        order.setProduct(product);
+        order.setQuantity(4);
+        order.setStatus(OrderStatus.EN_ROUTE);
+        order = orderRepository.save(order);
+
+        delivery = new Delivery();
+        delivery.setOrder(order);
+        delivery.setVehicle("VAN-1");
+        delivery.setDriver("Chauffeur");
+        delivery.setStatus(DeliveryStatus.EN_COURS);
+        delivery.setDeliveryDate(today);
+        delivery.setCost(42.5);
+        delivery = deliveryRepository.save(delivery);
+
+        productionOrder = new ProductionOrder();
+        productionOrder.setProduct(product);
+        productionOrder.setQuantity(12);
+        productionOrder.setStatus(ProductionOrderStatus.EN_PRODUCTION);
+        productionOrder = productionOrderRepository.save(productionOrder);
+
+        outboxRelay.relay();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productionOrderRepository.delete(productionOrder);
+        deliveryRepository.delete(delivery);
+        orderRepository.delete(order);
+        productRepository.delete(product);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/* - Les agrégats reflètent les changements relayés, avec les dimensions du moment du changement")
+    void testRollupsUpdatedFromOutbox() throws Exception {
+        JsonNode dailyBefore = read("/api/analytics/daily?entityType=DELIVERY&from=" + today + "&to=" + today);
+
+        deliveryService.updateDeliveryStatus(delivery.getIdDelivery(), "LIVREE");
+        productionOrderService.updateProductionOrder(productionOrder.getIdOrder(),
+                new ProductionOrderUpdateDTO(product.getIdProduct(), 12, "TERMINE", today, today));
+
+        // Client modifié et ordre supprimé avant le relais : les agrégats gardent les dimensions du changement
+        String city = customer.getCity();
+        customer.setCity(city + " (déménagé)");
+        customer = customerRepository.save(customer);
+        productionOrderRepository.deleteById(productionOrder.getIdOrder());
+
+        assertEquals(3, outboxRelay.relay().get("kpi-rollups"));
+
+        JsonNode dailyAfter = read("/api/analytics/daily?entityType=DELIVERY&from=" + today + "&to=" + today);
+        assertEquals(count(dailyBefore, "LIVREE", "entered") + 1, count(dailyAfter, "LIVREE", "entered"));
+        assertEquals(count(dailyBefore, "EN_COURS", "exited") + 1, count(dailyAfter, "EN_COURS", "exited"));
+
+        JsonNode costByCity = read("/api/analytics/deliveries/cost-by-city?from=" + today + "&to=" + today);
+        JsonNode byCity = find(costByCity, "city", city);
+        assertEquals(1, byCity.get("deliveries").asLong());
+        assertEquals(42.5, byCity.get("totalCost").asDouble(), 0.001);
+        for (JsonNode row : costByCity) {
+            assertNotEquals(customer.getCity(), row.get("city").asText());
+        }
+
+        JsonNode throughput = find(read("/api/analytics/production/throughput?from=" + today + "&to=" + today),
+                "productId", String.valueOf(product.getIdProduct()));
+        assertEquals(1, throughput.get("completedOrders").asLong());
+        assertEquals(12, throughput.get("quantity").asLong());
+        assertEquals(today.toString(), throughput.get("day").asText());
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/daily - Date de fin avant la date de début, 400")
+    void testInvalidRange() throws Exception {
+        mockMvc.perform(get("/api/analytics/daily?entityType=ORDER&from=" + today + "&to=" + today.minusDays(1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode read(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static long count(JsonNode rows, String status, String field) {
+        long total = 0;
+        for (JsonNode row : rows) {
+            if (status.equals(row.get("status").asText())) {
+                total += row.get(field).asLong();
+            }
+        }
+        return total;
+    }
+
+    private static JsonNode find(JsonNode rows, String field, String value) {
+        for (JsonNode row : rows) {
+            if (value.equals(row.get(field).asText())) {
+                return row;
+            }
+        }
+        return fail("Aucune ligne " + field + "=" + value + " dans " + rows);
+    }
+}
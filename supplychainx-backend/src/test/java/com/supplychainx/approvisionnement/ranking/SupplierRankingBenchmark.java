@@ -0,0 +1,70 @@
+package com.supplychainx.approvisionnement.ranking;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classement en mémoire : 20 000 matières de 5 fournisseurs candidats parmi 2 000.
+ * {@code ranking} mesure une consultation, {@code openOrdersChanged} le rafraîchissement
+ * après commit d'une commande (re-score d'un fournisseur et re-tri de ses ~50 matières).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SupplierRankingBenchmark {
+
+    private static final int SUPPLIERS = 2_000;
+    private static final int MATERIALS = 20_000;
+    private static final int SUPPLIERS_PER_MATERIAL = 5;
+
+    private SupplierRankingIndex index;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        List<SupplierProfile> suppliers = new ArrayList<>(SUPPLIERS);
+        List<SupplierLoad> loads = new ArrayList<>(SUPPLIERS);
+        for (long s = 1; s <= SUPPLIERS; s++) {
+            suppliers.add(new SupplierProfile(s, "F" + s, random.nextInt(0, 51) / 10.0, random.nextInt(1, 30)));
+            loads.add(new SupplierLoad(s, (long) random.nextInt(20)));
+        }
+        List<MaterialSupplierLink> links = new ArrayList<>(MATERIALS * SUPPLIERS_PER_MATERIAL);
+        for (long m = 1; m <= MATERIALS; m++) {
+            for (int i = 0; i < SUPPLIERS_PER_MATERIAL; i++) {
+                links.add(new MaterialSupplierLink(m, (long) random.nextInt(1, SUPPLIERS + 1)));
+            }
+        }
+        index = new SupplierRankingIndex(new SupplierScoring(0.5, 0.3, 0.2, 5));
+        index.rebuild(suppliers, links, loads);
+    }
+
+    @Benchmark
+    public Object ranking() {
+        return index.ranking((long) random.nextInt(1, MATERIALS + 1));
+    }
+
+    @Benchmark
+    public void openOrdersChanged() {
+        long supplierId = random.nextInt(1, SUPPLIERS + 1);
+        index.updateOpenOrders(List.of(supplierId), List.of(new SupplierLoad(supplierId, (long) random.nextInt(20))));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SupplierRankingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
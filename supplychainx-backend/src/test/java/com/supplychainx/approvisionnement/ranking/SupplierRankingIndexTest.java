@@ -0,0 +1,89 @@
+package com.supplychainx.approvisionnement.ranking;
+
+import com.supplychainx.approvisionnement.dto.SupplierScoreDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SupplierRankingIndexTest {
+
+    private static final long STEEL = 10L;
+    private static final long WOOD = 20L;
+
+    private SupplierRankingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SupplierRankingIndex(new SupplierScoring(0.4, 0.2, 0.4, 5));
+        index.rebuild(
+                List.of(new SupplierProfile(1L, "Rapide", 4.0, 1),
+                        new SupplierProfile(2L, "Fiable", 5.0, 5),
+                        new SupplierProfile(3L, "Lent", 3.0, 10)),
+                List.of(new MaterialSupplierLink(STEEL, 1L),
+                        new MaterialSupplierLink(STEEL, 2L),
+                        new MaterialSupplierLink(STEEL, 3L),
+                        new MaterialSupplierLink(WOOD, 2L),
+                        new MaterialSupplierLink(WOOD, 3L)),
+                List.of(new SupplierLoad(2L, 1L)));
+    }
+
+    @Test
+    @DisplayName("Classement par score décroissant, charge prise en compte")
+    void testRanking() {
+        List<SupplierScoreDTO> ranking = index.ranking(STEEL);
+
+        assertEquals(List.of(1L, 3L, 2L), ids(ranking));
+        assertEquals(0.4 * 0.8 + 0.2 + 0.4, ranking.get(0).getScore(), 1e-9);
+        assertEquals(1, ranking.get(2).getOpenOrders());
+        assertEquals(0.4 + 0.2 / 5 + 0.4 / 2, ranking.get(2).getScore(), 1e-9);
+        assertEquals(List.of(3L, 2L), ids(index.ranking(WOOD)));
+        assertTrue(index.ranking(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Une hausse de charge ne reclasse que les matières du fournisseur concerné")
+    void testOpenOrdersUpdate() {
+        List<SupplierScoreDTO> wood = index.ranking(WOOD);
+
+        index.updateOpenOrders(List.of(1L), List.of(new SupplierLoad(1L, 20L)));
+
+        assertEquals(List.of(3L, 2L, 1L), ids(index.ranking(STEEL)));
+        assertEquals(20, index.ranking(STEEL).get(2).getOpenOrders());
+        assertSame(wood, index.ranking(WOOD));
+    }
+
+    @Test
+    @DisplayName("Un fournisseur absent du comptage n'a plus de commande ouverte et remonte")
+    void testOpenOrdersBackToZero() {
+        index.updateOpenOrders(List.of(2L), List.of());
+
+        assertEquals(List.of(2L, 3L), ids(index.ranking(WOOD)));
+        assertEquals(0, index.ranking(WOOD).get(0).getOpenOrders());
+    }
+
+    @Test
+    @DisplayName("Modification et suppression d'un fournisseur")
+    void testSupplierUpdateAndRemoval() {
+        index.updateSuppliers(List.of(3L, 2L), List.of(new SupplierProfile(3L, "Lent", 5.0, 1)));
+
+        assertEquals(List.of(3L, 1L), ids(index.ranking(STEEL)));
+        assertEquals(List.of(3L), ids(index.ranking(WOOD)));
+    }
+
+    @Test
+    @DisplayName("Note ou délai manquant : critère à zéro")
+    void testMissingAttributes() {
+        SupplierScoring scoring = new SupplierScoring(0.5, 0.3, 0.2, 5);
+
+        assertEquals(0.2, scoring.score(null, null, 0), 1e-9);
+        assertEquals(0.5 + 0.2 / 4, scoring.score(12.0, null, 3), 1e-9);
+    }
+
+    private static List<Long> ids(List<SupplierScoreDTO> ranking) {
+        return ranking.stream().map(SupplierScoreDTO::getIdSupplier).toList();
+    }
+}
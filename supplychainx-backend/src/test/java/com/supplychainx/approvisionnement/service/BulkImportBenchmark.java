@@ -0,0 +1,82 @@
+package com.supplychainx.approvisionnement.service;
+
+import com.supplychainx.SupplychainManagementApplication;
+import com.supplychainx.approvisionnement.dto.RawMaterialCreateDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Import de {@code rows} matières premières : un appel {@link RawMaterialService#createRawMaterial}
+ * par ligne ({@code perRow}) vs {@link RawMaterialService#bulkCreateRawMaterials} ({@code bulk}).
+ * Contexte Spring du profil test (H2), logs SQL coupés.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkImportBenchmark {
+
+    @Param({"1000", "5000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private RawMaterialService rawMaterialService;
+    private List<RawMaterialCreateDTO> payload;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SupplychainManagementApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.supplychainx=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+        rawMaterialService = context.getBean(RawMaterialService.class);
+
+        payload = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            RawMaterialCreateDTO dto = new RawMaterialCreateDTO();
+            dto.setName("Matière " + i);
+            dto.setStock(100);
+            dto.setStockMin(10);
+            dto.setUnit("kg");
+            payload.add(dto);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int perRow() {
+        payload.forEach(rawMaterialService::createRawMaterial);
+        return payload.size();
+    }
+
+    @Benchmark
+    public Object bulk() {
+        return rawMaterialService.bulkCreateRawMaterials(payload);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BulkImportBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
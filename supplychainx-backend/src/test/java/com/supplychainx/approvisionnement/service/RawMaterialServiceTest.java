@@ -6,8 +6,13 @@ import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
 import com.supplychainx.approvisionnement.entity.RawMaterial;
 import com.supplychainx.approvisionnement.entity.Supplier;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.common.pagination.CursorCodec;
+import com.supplychainx.common.pagination.PageQuery;
+import com.supplychainx.common.pagination.PageSlice;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.service.InventoryLedgerService;
 import com.supplychainx.mapper.RawMaterialMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +21,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,6 +43,9 @@ class RawMaterialServiceTest {
     @Mock
     private RawMaterialMapper rawMaterialMapper;
 
+    @Mock
+    private InventoryLedgerService inventoryLedgerService;
+
     @InjectMocks
     private RawMaterialService rawMaterialService;
 
@@ -116,6 +127,7 @@ class RawMaterialServiceTest {
         verify(rawMaterialRepository, times(1)).findById(1L);
         verify(rawMaterialRepository, times(1)).save(rawMaterial);
         verify(rawMaterialMapper, times(1)).toResponseDTO(rawMaterial);
+        verify(inventoryLedgerService).recordAdjustment(InventoryItemType.RAW_MATERIAL, 1L, 120);
     }
 
     @Test
@@ -205,27 +217,45 @@ class RawMaterialServiceTest {
         responseDTO2.setName("Cuivre");
         responseDTO2.setStock(80);
         
-        when(rawMaterialRepository.findAll()).thenReturn(materials);
+        when(rawMaterialRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(materials));
         when(rawMaterialMapper.toResponseDTO(rawMaterial)).thenReturn(responseDTO);
         when(rawMaterialMapper.toResponseDTO(material2)).thenReturn(responseDTO2);
 
-        List<RawMaterialResponseDTO> result = rawMaterialService.getAllRawMaterials();
+        List<RawMaterialResponseDTO> result = rawMaterialService.getAllRawMaterials(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(rawMaterialRepository, times(1)).findAll();
+        verify(rawMaterialRepository, times(1)).findAll(any(Pageable.class));
         verify(rawMaterialMapper, times(2)).toResponseDTO(any(RawMaterial.class));
     }
 
     @Test
     @DisplayName("Récupérer une liste vide si aucune matière première")
     void testGetAllRawMaterials_EmptyList() {
-        when(rawMaterialRepository.findAll()).thenReturn(new ArrayList<>());
-        List<RawMaterialResponseDTO> result = rawMaterialService.getAllRawMaterials();
+        when(rawMaterialRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<>()));
+        List<RawMaterialResponseDTO> result = rawMaterialService.getAllRawMaterials(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(rawMaterialRepository, times(1)).findAll();
+        verify(rawMaterialRepository, times(1)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Pagination par curseur → page suivante après le dernier identifiant")
+    void testGetAllRawMaterials_Keyset() {
+        RawMaterial material2 = new RawMaterial();
+        material2.setIdMaterial(2L);
+
+        when(rawMaterialRepository.findByIdMaterialGreaterThanOrderByIdMaterialAsc(eq(0L), eq(Limit.of(2))))
+                .thenReturn(Arrays.asList(rawMaterial, material2));
+        when(rawMaterialMapper.toResponseDTO(rawMaterial)).thenReturn(responseDTO);
+
+        PageSlice<RawMaterialResponseDTO> page = rawMaterialService.getAllRawMaterials(new PageQuery(null, 1, null, ""));
+
+        assertEquals(1, page.getContent().size());
+        assertEquals(CursorCodec.encode(1L), page.getNextCursor());
+        assertNull(page.getTotalElements());
+        verify(rawMaterialRepository, never()).findAll(any(Pageable.class));
     }
 
     @Test
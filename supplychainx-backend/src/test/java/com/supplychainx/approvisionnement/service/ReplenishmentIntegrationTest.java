@@ -0,0 +1,224 @@
+package com.supplychainx.approvisionnement.service;
+
+import com.supplychainx.approvisionnement.dto.RawMaterialCreateDTO;
+import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
+import com.supplychainx.approvisionnement.dto.ReplenishmentRunResponseDTO;
+import com.supplychainx.approvisionnement.entity.Supplier;
+import com.supplychainx.approvisionnement.entity.SupplyOrder;
+import com.supplychainx.approvisionnement.entity.SupplyOrderMaterial;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.lease.JobLeaseRepository;
+import com.supplychainx.common.lease.JobLeaseService;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Passages de réapprovisionnement validés en base, sans délai de stabilisation (settle-lag nul)
+ * pour que les mouvements du test tombent dans la fenêtre suivante.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReplenishmentIntegrationTest {
+
+    @Autowired
+    private RawMaterialService rawMaterialService;
+
+    @Autowired
+    private SupplyOrderService supplyOrderService;
+
+    @Autowired
+    private SupplierRankingService supplierRankingService;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private SupplyOrderRepository supplyOrderRepository;
+
+    @Autowired
+    private SupplyOrderMaterialRepository supplyOrderMaterialRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ReplenishmentService replenishmentService;
+    private Supplier preferred;
+    private Supplier other;
+    private final List<Long> materialIds = new ArrayList<>();
+    private Long steel;
+    private Long wood;
+    private Long glue;
+    private Long screws;
+
+    @BeforeEach
+    void setUp() {
+        replenishmentService = new ReplenishmentService(rawMaterialRepository, supplyOrderMaterialRepository,
+                inventoryMovementRepository, supplyOrderService, supplierRankingService, jobLeaseService,
+                transactionTemplate, 2, Duration.ZERO, Duration.ofMinutes(5));
+
+        preferred = supplierRepository.save(supplier("Fournisseur Préféré", 5.0));
+        other = supplierRepository.save(supplier("Fournisseur Autre", 2.0));
+
+        steel = material("Acier Réappro", 2, 10, preferred, other);
+        wood = material("Bois Réappro", 1, 5, preferred);
+        glue = material("Colle Réappro", 3, 4);
+        screws = material("Vis Réappro", 50, 10, other);
+        supplierRankingService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        supplyOrderRepository.deleteAll(ordersOf(preferred));
+        supplyOrderRepository.deleteAll(ordersOf(other));
+        materialIds.forEach(id -> {
+            inventoryMovementRepository.deleteAll(
+                    inventoryMovementRepository.findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType.RAW_MATERIAL, id));
+            rawMaterialRepository.deleteById(id);
+        });
+        supplierRepository.deleteById(preferred.getIdSupplier());
+        supplierRepository.deleteById(other.getIdSupplier());
+        jobLeaseRepository.deleteById(ReplenishmentService.JOB_NAME);
+        supplierRankingService.rebuild();
+    }
+
+    @Test
+    @DisplayName("Premier passage complet : une commande par fournisseur préféré, quantités jusqu'à stockMin x 2")
+    void testFirstRunGroupsBySupplier() {
+        ReplenishmentRunResponseDTO run = replenishmentService.replenish(false);
+
+        assertTrue(run.isExecuted());
+        assertNull(run.getSince());
+        assertTrue(run.getMaterialsWithoutSupplier().contains(glue));
+        assertEquals(Map.of(steel, 18, wood, 9), orderedLines(preferred));
+        assertTrue(orderedLines(other).isEmpty());
+        assertEquals(1, ordersOf(preferred).size());
+        assertEquals(SupplyOrderStatus.EN_ATTENTE, ordersOf(preferred).get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("Passage incrémental : seules les matières dont le stock a bougé, quantités en commande déduites")
+    void testIncrementalRun() {
+        replenishmentService.replenish(false);
+
+        ReplenishmentRunResponseDTO idle = replenishmentService.replenish(false);
+        assertNotNull(idle.getSince());
+        assertEquals(0, idle.getMaterialsExamined());
+        assertTrue(idle.getSupplyOrderIds().isEmpty());
+
+        rawMaterialService.updateRawMaterial(screws, update("Vis Réappro", 4, 10));
+        rawMaterialService.updateRawMaterial(steel, update("Acier Réappro", 3, 10));
+
+        ReplenishmentRunResponseDTO run = replenishmentService.replenish(false);
+
+        assertEquals(2, run.getMaterialsExamined());
+        assertEquals(2, run.getMaterialsBelowMin());
+        assertEquals(1, run.getLinesOrdered());
+        assertEquals(Map.of(screws, 16), orderedLines(other));
+        assertEquals(Map.of(steel, 18, wood, 9), orderedLines(preferred));
+    }
+
+    @Test
+    @DisplayName("Bail détenu par un autre nœud : passage ignoré, aucune commande")
+    void testSkippedWhenLeaseHeldElsewhere() {
+        JobLeaseService otherNode = new JobLeaseService(jobLeaseRepository, transactionManager);
+        assertTrue(otherNode.tryAcquire(ReplenishmentService.JOB_NAME, Duration.ofMinutes(5)).isPresent());
+
+        ReplenishmentRunResponseDTO run = replenishmentService.replenish(true);
+
+        assertFalse(run.isExecuted());
+        assertTrue(ordersOf(preferred).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Bail détenu par une autre exécution du même nœud (planificateur) : passage manuel ignoré")
+    void testSkippedWhenLeaseHeldOnSameNode() {
+        String scheduledRun = jobLeaseService.tryAcquire(ReplenishmentService.JOB_NAME, Duration.ofMinutes(5)).orElseThrow();
+
+        ReplenishmentRunResponseDTO run = replenishmentService.replenish(true);
+
+        assertFalse(run.isExecuted());
+        assertTrue(ordersOf(preferred).isEmpty());
+        jobLeaseService.release(ReplenishmentService.JOB_NAME, scheduledRun);
+        assertTrue(replenishmentService.replenish(true).isExecuted());
+    }
+
+    private List<SupplyOrder> ordersOf(Supplier supplier) {
+        return transactionTemplate.execute(status -> supplyOrderRepository.findAll().stream()
+                .filter(o -> o.getSupplier().getIdSupplier().equals(supplier.getIdSupplier()))
+                .toList());
+    }
+
+    private Map<Long, Integer> orderedLines(Supplier supplier) {
+        return transactionTemplate.execute(status -> supplyOrderMaterialRepository.findAll().stream()
+                .filter(l -> l.getSupplyOrder().getSupplier().getIdSupplier().equals(supplier.getIdSupplier()))
+                .collect(Collectors.toMap(l -> l.getRawMaterial().getIdMaterial(), SupplyOrderMaterial::getQuantity)));
+    }
+
+    private Long material(String name, int stock, int stockMin, Supplier... suppliers) {
+        RawMaterialCreateDTO dto = new RawMaterialCreateDTO();
+        dto.setName(name);
+        dto.setStock(stock);
+        dto.setStockMin(stockMin);
+        dto.setUnit("kg");
+        Long id = rawMaterialService.createRawMaterial(dto).getIdMaterial();
+        materialIds.add(id);
+
+        transactionTemplate.executeWithoutResult(status ->
+                rawMaterialRepository.findById(id).orElseThrow().getSuppliers().addAll(List.of(suppliers)));
+        return id;
+    }
+
+    private static RawMaterialUpdateDTO update(String name, int stock, int stockMin) {
+        RawMaterialUpdateDTO dto = new RawMaterialUpdateDTO();
+        dto.setName(name);
+        dto.setStock(stock);
+        dto.setStockMin(stockMin);
+        dto.setUnit("kg");
+        return dto;
+    }
+
+    private static Supplier supplier(String name, double rating) {
+        Supplier supplier = new Supplier();
+        supplier.setName(name);
+        supplier.setContact("reappro@test.com");
+        supplier.setRating(rating);
+        supplier.setLeadTime(3);
+        return supplier;
+    }
+}
@@ -0,0 +1,200 @@
+package com.supplychainx.approvisionnement.service;
+
+import com.supplychainx.approvisionnement.dto.MaterialQuantityDTO;
+import com.supplychainx.approvisionnement.dto.SupplierScoreDTO;
+import com.supplychainx.approvisionnement.dto.SupplierUpdateDTO;
+import com.supplychainx.approvisionnement.dto.SupplyOrderCreateDTO;
+import com.supplychainx.approvisionnement.dto.SupplyOrderResponseDTO;
+import com.supplychainx.approvisionnement.dto.SupplyOrderUpdateDTO;
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.entity.Supplier;
+import com.supplychainx.approvisionnement.entity.SupplyOrder;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Classement rafraîchi après commit : sans transaction de test, chaque appel de service
+ * committe et le classement en mémoire doit refléter la charge validée en base.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class SupplierRankingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SupplierRankingService supplierRankingService;
+
+    @Autowired
+    private SupplyOrderService supplyOrderService;
+
+    @Autowired
+    private SupplierService supplierService;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private SupplyOrderRepository supplyOrderRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    private Supplier reliable;
+    private Supplier backup;
+    private RawMaterial steel;
+
+    @BeforeEach
+    void setUp() {
+        reliable = supplierRepository.save(supplier("Fournisseur Fiable", 5.0));
+        backup = supplierRepository.save(supplier("Fournisseur Secours", 4.0));
+
+        RawMaterial material = new RawMaterial();
+        material.setName("Acier Classement");
+        material.setStock(10);
+        material.setStockMin(5);
+        material.setUnit("kg");
+        material.getSuppliers().add(reliable);
+        material.getSuppliers().add(backup);
+        steel = rawMaterialRepository.save(material);
+
+        supplierRankingService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        supplyOrderRepository.deleteAll(supplyOrderRepository.findAll().stream()
+                .filter(o -> List.of(reliable.getIdSupplier(), backup.getIdSupplier())
+                        .contains(o.getSupplier().getIdSupplier()))
+                .toList());
+        inventoryMovementRepository.deleteAll(inventoryMovementRepository
+                .findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType.RAW_MATERIAL, steel.getIdMaterial()));
+        rawMaterialRepository.deleteById(steel.getIdMaterial());
+        supplierRepository.deleteById(reliable.getIdSupplier());
+        supplierRepository.deleteById(backup.getIdSupplier());
+        supplierRankingService.rebuild();
+    }
+
+    @Test
+    @DisplayName("Les commandes ouvertes font reculer le fournisseur, la réception le fait remonter")
+    void testOpenOrdersShiftRanking() {
+        assertEquals(List.of(reliable.getIdSupplier(), backup.getIdSupplier()), ranking());
+
+        SupplyOrderResponseDTO first = supplyOrderService.createSupplyOrder(order(reliable, "EN_ATTENTE"));
+        SupplyOrderResponseDTO second = supplyOrderService.createSupplyOrder(order(reliable, "EN_COURS"));
+
+        assertEquals(List.of(backup.getIdSupplier(), reliable.getIdSupplier()), ranking());
+        assertEquals(2, supplierRankingService.rankSuppliers(steel.getIdMaterial(), 10).get(1).getOpenOrders());
+
+        supplyOrderService.updateSupplyOrder(first.getIdOrder(), update(reliable, "RECUE"));
+        supplyOrderService.updateSupplyOrder(second.getIdOrder(), update(backup, "EN_ATTENTE"));
+
+        List<SupplierScoreDTO> ranking = supplierRankingService.rankSuppliers(steel.getIdMaterial(), 10);
+        assertEquals(reliable.getIdSupplier(), ranking.get(0).getIdSupplier());
+        assertEquals(0, ranking.get(0).getOpenOrders());
+        assertEquals(1, ranking.get(1).getOpenOrders());
+    }
+
+    @Test
+    @DisplayName("Une commande annulée par rollback ne change pas le classement")
+    void testRolledBackOrderIgnored() {
+        SupplyOrderCreateDTO invalid = order(reliable, "EN_ATTENTE");
+        invalid.getMaterials().add(new MaterialQuantityDTO(-1L, 5));
+
+        assertThrows(ResourceNotFoundException.class, () -> supplyOrderService.createSupplyOrder(invalid));
+
+        assertEquals(0, supplierRankingService.rankSuppliers(steel.getIdMaterial(), 10).get(0).getOpenOrders());
+        assertTrue(supplyOrderRepository.findAll().stream()
+                .map(SupplyOrder::getSupplier)
+                .noneMatch(s -> s.getIdSupplier().equals(reliable.getIdSupplier())));
+    }
+
+    @Test
+    @DisplayName("Modification de la note d'un fournisseur : classement mis à jour")
+    void testSupplierUpdateShiftsRanking() {
+        SupplierUpdateDTO dto = new SupplierUpdateDTO();
+        dto.setName(reliable.getName());
+        dto.setContact(reliable.getContact());
+        dto.setRating(1.0);
+        dto.setLeadTime(reliable.getLeadTime());
+
+        supplierService.updateSupplier(reliable.getIdSupplier(), dto);
+
+        assertEquals(List.of(backup.getIdSupplier(), reliable.getIdSupplier()), ranking());
+    }
+
+    @Test
+    @DisplayName("GET /api/raw-materials/{id}/supplier-ranking : meilleur fournisseur en premier, limit respecté")
+    void testRankingEndpoint() throws Exception {
+        mockMvc.perform(get("/api/raw-materials/{id}/supplier-ranking", steel.getIdMaterial()).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].idSupplier").value(reliable.getIdSupplier()))
+                .andExpect(jsonPath("$[0].openOrders").value(0));
+
+        mockMvc.perform(get("/api/raw-materials/{id}/supplier-ranking", -1L))
+                .andExpect(status().isNotFound());
+    }
+
+    private List<Long> ranking() {
+        return supplierRankingService.rankSuppliers(steel.getIdMaterial(), 10).stream()
+                .map(SupplierScoreDTO::getIdSupplier)
+                .toList();
+    }
+
+    private SupplyOrderCreateDTO order(Supplier supplier, String status) {
+        SupplyOrderCreateDTO dto = new SupplyOrderCreateDTO();
+        dto.setSupplierId(supplier.getIdSupplier());
+        dto.setOrderDate(LocalDate.now());
+        dto.setStatus(status);
+        dto.setMaterials(new ArrayList<>(List.of(new MaterialQuantityDTO(steel.getIdMaterial(), 5))));
+        return dto;
+    }
+
+    private SupplyOrderUpdateDTO update(Supplier supplier, String status) {
+        SupplyOrderUpdateDTO dto = new SupplyOrderUpdateDTO();
+        dto.setSupplierId(supplier.getIdSupplier());
+        dto.setOrderDate(LocalDate.now());
+        dto.setStatus(status);
+        dto.setMaterials(List.of(new MaterialQuantityDTO(steel.getIdMaterial(), 5)));
+        return dto;
+    }
+
+    private static Supplier supplier(String name, double rating) {
+        Supplier supplier = new Supplier();
+        supplier.setName(name);
+        supplier.setContact("classement@test.com");
+        supplier.setRating(rating);
+        supplier.setLeadTime(2);
+        return supplier;
+    }
+}
@@ -7,6 +7,7 @@ import com.supplychainx.approvisionnement.entity.Supplier;
 import com.supplychainx.approvisionnement.entity.SupplyOrder;
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
 import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.SupplierMapper;
@@ -17,6 +18,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
 
 import java.util.ArrayList;
@@ -41,6 +44,9 @@ class SupplierServiceTest {
     @Mock
     private SupplierMapper supplierMapper;
 
+    @Mock
+    private SupplierRankingService supplierRankingService;
+
     @InjectMocks
     private SupplierService supplierService;
 
@@ -124,6 +130,7 @@ class SupplierServiceTest {
         verify(supplierRepository, times(1)).findById(1L);
         verify(supplierRepository, times(1)).save(supplier);
         verify(supplierMapper, times(1)).toResponseDTO(supplier);
+        verify(supplierRankingService).suppliersChanged(List.of(1L));
     }
 
     @Test
@@ -214,28 +221,28 @@ class SupplierServiceTest {
         responseDTO2.setIdSupplier(2L);
         responseDTO2.setName("Fournisseur 2");
         
-        when(supplierRepository.findAll()).thenReturn(suppliers);
+        when(supplierRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(suppliers));
         when(supplierMapper.toResponseDTO(supplier)).thenReturn(responseDTO);
         when(supplierMapper.toResponseDTO(supplier2)).thenReturn(responseDTO2);
 
-        List<SupplierResponseDTO> result = supplierService.getAllSuppliers();
+        List<SupplierResponseDTO> result = supplierService.getAllSuppliers(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(supplierRepository, times(1)).findAll();
+        verify(supplierRepository, times(1)).findAll(any(Pageable.class));
         verify(supplierMapper, times(2)).toResponseDTO(any(Supplier.class));
     }
 
     @Test
     @DisplayName("Récupérer une liste vide si aucun fournisseur")
     void testGetAllSuppliers_EmptyList() {
-        when(supplierRepository.findAll()).thenReturn(new ArrayList<>());
+        when(supplierRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<>()));
 
-        List<SupplierResponseDTO> result = supplierService.getAllSuppliers();
+        List<SupplierResponseDTO> result = supplierService.getAllSuppliers(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(supplierRepository, times(1)).findAll();
+        verify(supplierRepository, times(1)).findAll(any(Pageable.class));
     }
 
     
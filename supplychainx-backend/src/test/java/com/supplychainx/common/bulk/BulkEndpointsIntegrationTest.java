@@ -0,0 +1,171 @@
+package com.supplychainx.common.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class BulkEndpointsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Création en masse : lignes valides insérées avec leur ID, ligne invalide rejetée individuellement")
+    void testBulkCreateRawMaterials() throws Exception {
+        List<Map<String, Object>> rows = List.of(
+                Map.of("name", "Acier", "stock", 100, "stockMin", 10, "unit", "kg"),
+                Map.of("stock", 5, "stockMin", 1, "unit", "kg"),
+                Map.of("name", "Bois", "stock", 40, "stockMin", 5, "unit", "m3"));
+
+        String content = perform(post("/api/raw-materials/bulk"), rows)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("name: Le nom de la matière première est obligatoire"))
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(content);
+
+        Long steelId = response.at("/results/0/id").asLong();
+        Long woodId = response.at("/results/2/id").asLong();
+        assertEquals("Acier", rawMaterialRepository.findById(steelId).orElseThrow().getName());
+        assertEquals(40, rawMaterialRepository.findById(woodId).orElseThrow().getStock());
+
+        List<InventoryMovement> movements = inventoryMovementRepository
+                .findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType.RAW_MATERIAL, steelId);
+        assertEquals(1, movements.size());
+        assertEquals(100, movements.get(0).getQuantity());
+        assertEquals(MovementSource.OPENING_BALANCE, movements.get(0).getSourceType());
+    }
+
+    @Test
+    @DisplayName("Modification en masse : ID inconnu et ID en double rejetés, ajustement de stock journalisé")
+    void testBulkUpdateProducts() throws Exception {
+        Product product = productRepository.save(product("Chaise", 50));
+        entityManager.flush();
+
+        List<Map<String, Object>> rows = List.of(
+                Map.of("id", product.getIdProduct(), "data", productData("Chaise v2", 80)),
+                Map.of("id", 999999L, "data", productData("Fantôme", 1)),
+                Map.of("id", product.getIdProduct(), "data", productData("Doublon", 1)));
+
+        perform(put("/api/products/bulk"), rows)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$.results[0].id").value(product.getIdProduct()))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("Produit non trouvé avec l'ID: 999999"))
+                .andExpect(jsonPath("$.results[2].errors[0]").value("Identifiant en double dans la requête"));
+
+        entityManager.clear();
+        Product updated = productRepository.findById(product.getIdProduct()).orElseThrow();
+        assertEquals("Chaise v2", updated.getName());
+        assertEquals(80, updated.getStock());
+
+        List<InventoryMovement> movements = inventoryMovementRepository
+                .findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType.PRODUCT, product.getIdProduct());
+        assertEquals(1, movements.size());
+        assertEquals(MovementType.ADJUSTMENT, movements.get(0).getMovementType());
+        assertEquals(30, movements.get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Création en masse des nomenclatures : références inconnues rejetées ligne par ligne")
+    void testBulkCreateBillOfMaterialsRejectsUnknownReferences() throws Exception {
+        Product product = productRepository.save(product("Banc", 5));
+        entityManager.flush();
+
+        List<Map<String, Object>> rows = List.of(
+                Map.of("productId", product.getIdProduct(), "materialId", 999999L, "quantity", 2),
+                Map.of("productId", 999998L, "materialId", 999999L, "quantity", 2));
+
+        perform(post("/api/bom/bulk"), rows)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(0))
+                .andExpect(jsonPath("$.results[0].errors.length()").value(1))
+                .andExpect(jsonPath("$.results[1].errors.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("Requête vide ou au-delà de app.bulk.max-rows refusée en bloc")
+    void testBulkPayloadLimits() throws Exception {
+        perform(post("/api/suppliers/bulk"), List.of())
+                .andExpect(status().isBadRequest());
+
+        List<Map<String, Object>> rows = new ArrayList<>(Collections.nCopies(5001,
+                Map.of("name", "Fournisseur", "contact", "contact@test.fr", "rating", 4.0, "leadTime", 3)));
+        perform(post("/api/suppliers/bulk"), rows)
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return mockMvc.perform(request
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)));
+    }
+
+    private static Product product(String name, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setProductionTime(60);
+        product.setCost(100.0);
+        product.setStock(stock);
+        return product;
+    }
+
+    private static Map<String, Object> productData(String name, int stock) {
+        return Map.of("name", name, "productionTime", 60, "cost", 100.0, "stock", stock);
+    }
+}
@@ -0,0 +1,117 @@
+package com.supplychainx.common.controller;
+
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusDimensions;
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class StatusEventControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatusEventBus statusEventBus;
+
+    @Test
+    @DisplayName("GET /api/events/stream - Seuls les changements filtrés sont poussés, abonnement libéré à la fermeture")
+    void testStreamFiltersByTypeAndStatus() throws Exception {
+        int subscribersBefore = statusEventBus.subscriberCount();
+        MvcResult result = mockMvc.perform(get("/api/events/stream?types=DELIVERY&statuses=LIVREE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(subscribersBefore + 1, statusEventBus.subscriberCount());
+
+        statusEventBus.statusChanged(EntityType.ORDER, 901L, OrderStatus.EN_ROUTE, OrderStatus.LIVREE);
+        statusEventBus.statusChanged(EntityType.DELIVERY, 902L, DeliveryStatus.PLANIFIEE, DeliveryStatus.EN_COURS);
+        statusEventBus.statusChanged(EntityType.DELIVERY, 903L, DeliveryStatus.EN_COURS, DeliveryStatus.LIVREE);
+
+        String content = "";
+        for (int i = 0; i < 100 && !content.contains("903"); i++) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains("event:DELIVERY"));
+        assertTrue(content.contains("\"entityId\":903"));
+        assertTrue(content.contains("\"previousStatus\":\"EN_COURS\""));
+        assertFalse(content.contains("901"));
+        assertFalse(content.contains("902"));
+
+        result.getRequest().getAsyncContext().complete();
+        assertEquals(subscribersBefore, statusEventBus.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/events/stream - Une annulation est poussée à un abonné filtré sur l'ancien statut, sans dimensions")
+    void testCancellationPushedWithoutDimensions() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/stream?types=ORDER&statuses=EN_PREPARATION"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        statusEventBus.statusChanged(EntityType.ORDER, 904L, OrderStatus.EN_PREPARATION, null,
+                new StatusDimensions(1L, "Casablanca", 3, null));
+
+        String content = "";
+        for (int i = 0; i < 100 && !content.contains("904"); i++) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains("\"entityId\":904"));
+        assertTrue(content.contains("\"status\":null"));
+        assertFalse(content.contains("Casablanca"));
+        assertFalse(content.contains("dimensions"));
+
+        result.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    @WithMockUser(username = "commercial", roles = {"GESTIONNAIRE_COMMERCIAL"})
+    @DisplayName("GET /api/events/stream - Un type non lisible par le rôle est refusé (403)")
+    void testStreamForbiddenType() throws Exception {
+        mockMvc.perform(get("/api/events/stream?types=DELIVERY"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/events/stream?types=SUPPLY_ORDER,ORDER"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "commercial", roles = {"GESTIONNAIRE_COMMERCIAL"})
+    @DisplayName("GET /api/events/stream - Sans filtre de type, seuls les types lisibles par le rôle sont poussés")
+    void testStreamDefaultsToReadableTypes() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        statusEventBus.statusChanged(EntityType.DELIVERY, 905L, DeliveryStatus.PLANIFIEE, DeliveryStatus.EN_COURS);
+        statusEventBus.statusChanged(EntityType.ORDER, 906L, OrderStatus.EN_PREPARATION, OrderStatus.EN_ROUTE);
+
+        String content = "";
+        for (int i = 0; i < 100 && !content.contains("906"); i++) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains("\"entityId\":906"));
+        assertFalse(content.contains("905"));
+
+        result.getRequest().getAsyncContext().complete();
+    }
+}
@@ -0,0 +1,144 @@
+package com.supplychainx.common.events;
+
+import com.supplychainx.common.outbox.OutboxEvent;
+import com.supplychainx.common.outbox.OutboxWriter;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StatusEventBusTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final OutboxWriter outboxWriter = mock(OutboxWriter.class);
+    private final AtomicLong outboxIds = new AtomicLong();
+    private ExecutorService dispatcher;
+    private StatusEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        when(outboxWriter.append(any(OutboxEvent.class))).thenAnswer(invocation -> {
+            OutboxEvent event = invocation.getArgument(0);
+            event.setId(outboxIds.incrementAndGet());
+            return event;
+        });
+        dispatcher = Executors.newSingleThreadExecutor();
+        bus = new StatusEventBus(outboxWriter, dispatcher, 2, 3, Duration.ofMinutes(1));
+        bus.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        bus.shutdown();
+    }
+
+    @Test
+    @DisplayName("statusChanged : écrit dans l'outbox tout de suite, publié seulement après le commit")
+    void testPublishedAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.statusChanged(EntityType.DELIVERY, 1L, DeliveryStatus.PLANIFIEE, DeliveryStatus.EN_COURS);
+        bus.statusChanged(EntityType.DELIVERY, 2L, null, DeliveryStatus.PLANIFIEE);
+        verify(outboxWriter, times(2)).append(any(OutboxEvent.class));
+        assertEquals(0, published());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(2, published());
+        assertNull(TransactionSynchronizationManager.getResource(bus));
+
+        TransactionSynchronizationManager.initSynchronization();
+        bus.statusChanged(EntityType.DELIVERY, 3L, DeliveryStatus.EN_COURS, DeliveryStatus.LIVREE);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(2, published());
+        assertNull(TransactionSynchronizationManager.getResource(bus));
+    }
+
+    @Test
+    @DisplayName("statusChanged : statut inchangé, aucun événement")
+    void testUnchangedStatusIgnored() {
+        bus.statusChanged(EntityType.DELIVERY, 1L, DeliveryStatus.EN_COURS, DeliveryStatus.EN_COURS);
+        assertEquals(0, published());
+        verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    @DisplayName("subscribe : un abonné dont le buffer est plein est évincé, les autres restent abonnés")
+    void testSlowSubscriberEvicted() {
+        blockDispatcher();
+        bus.subscribe(Set.of(EntityType.DELIVERY), Set.of());
+        bus.subscribe(Set.of(EntityType.ORDER), Set.of());
+
+        for (long id = 1; id <= 3; id++) {
+            bus.statusChanged(EntityType.DELIVERY, id, DeliveryStatus.PLANIFIEE, DeliveryStatus.EN_COURS);
+        }
+
+        assertEquals(3, published());
+        assertEquals(1, bus.subscriberCount());
+        assertEquals(1, registry.get(StatusEventBus.EVICTED).functionCounter().count());
+        assertEquals(1, registry.get(StatusEventBus.SUBSCRIBERS).gauge().value());
+    }
+
+    @Test
+    @DisplayName("statusChanged : une annulation (statut nul) passe le filtre de statut sur l'ancien statut, sans erreur")
+    void testCancellationWithStatusFilter() {
+        blockDispatcher();
+        bus.subscribe(Set.of(EntityType.DELIVERY), Set.of("EN_COURS"));
+        bus.subscribe(Set.of(EntityType.DELIVERY), Set.of("LIVREE"));
+
+        assertDoesNotThrow(() -> bus.statusChanged(EntityType.DELIVERY, 1L, DeliveryStatus.EN_COURS, null));
+        assertDoesNotThrow(() -> bus.statusChanged(EntityType.DELIVERY, 2L, DeliveryStatus.EN_COURS, null));
+
+        // Buffer de 2 : seul l'abonné filtré sur EN_COURS a reçu les deux annulations, il est évincé au troisième
+        bus.statusChanged(EntityType.DELIVERY, 3L, DeliveryStatus.EN_COURS, null);
+        assertEquals(3, published());
+        assertEquals(1, bus.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("subscribe : au-delà du nombre maximal d'abonnés, refusé")
+    void testMaxSubscribers() {
+        for (int i = 0; i < 3; i++) {
+            bus.subscribe(Set.of(), Set.of());
+        }
+        assertThrows(BusinessRuleException.class, () -> bus.subscribe(Set.of(), Set.of()));
+    }
+
+    private double published() {
+        return registry.get(StatusEventBus.PUBLISHED).functionCounter().count();
+    }
+
+    // Occupe l'unique thread de diffusion : les événements restent dans les buffers
+    private void blockDispatcher() {
+        dispatcher.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.supplychainx.common.lease;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Deux instances du service simulent deux nœuds partageant la table job_leases. */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobLeaseServiceTest {
+
+    private static final String JOB = "lease-test";
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private JobLeaseService nodeA;
+    private JobLeaseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new JobLeaseService(jobLeaseRepository, transactionManager);
+        nodeB = new JobLeaseService(jobLeaseRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobLeaseRepository.deleteById(JOB);
+    }
+
+    @Test
+    @DisplayName("Une seule acquisition détient le bail jusqu'à sa libération, même sur un seul nœud")
+    void testExclusiveUntilReleased() {
+        String first = nodeA.tryAcquire(JOB, Duration.ofMinutes(5)).orElseThrow();
+        assertTrue(nodeB.tryAcquire(JOB, Duration.ofMinutes(5)).isEmpty());
+        assertTrue(nodeA.tryAcquire(JOB, Duration.ofMinutes(5)).isEmpty());
+
+        nodeA.release(JOB, first);
+
+        assertTrue(nodeB.tryAcquire(JOB, Duration.ofMinutes(5)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Un jeton périmé ne libère pas le bail de l'acquisition suivante")
+    void testStaleTokenCannotRelease() {
+        String expired = nodeA.tryAcquire(JOB, Duration.ofMillis(-1)).orElseThrow();
+        String current = nodeA.tryAcquire(JOB, Duration.ofMinutes(5)).orElseThrow();
+        assertNotEquals(expired, current);
+
+        nodeA.release(JOB, expired);
+
+        assertTrue(nodeB.tryAcquire(JOB, Duration.ofMinutes(5)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Bail expiré : repris par un autre nœud, l'ancien détenteur ne peut plus avancer le watermark")
+    void testExpiredLeaseFencesFormerOwner() {
+        String expired = nodeA.tryAcquire(JOB, Duration.ofMillis(-1)).orElseThrow();
+        String current = nodeB.tryAcquire(JOB, Duration.ofMinutes(5)).orElseThrow();
+        LocalDateTime watermark = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(
+                status -> nodeA.advanceWatermark(JOB, expired, watermark)));
+        transactionTemplate.executeWithoutResult(status -> nodeB.advanceWatermark(JOB, current, watermark));
+
+        assertEquals(watermark, transactionTemplate.execute(status -> nodeA.watermark(JOB)).orElseThrow());
+    }
+}
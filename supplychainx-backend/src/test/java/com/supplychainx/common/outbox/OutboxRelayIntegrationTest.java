@@ -0,0 +1,194 @@
+package com.supplychainx.common.outbox;
+
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusChangeEvent;
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.common.lease.JobLeaseService;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Changements validés en base puis relayés vers la destination en mémoire.
+ * Les identifiants d'entité du test sont hors de portée des autres tests du contexte partagé.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayIntegrationTest {
+
+    private static final Set<Long> ENTITY_IDS = Set.of(9_100_001L, 9_100_002L, 9_100_003L);
+
+    @Autowired
+    private StatusEventBus statusEventBus;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink inMemoryOutboxSink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxPendingRepository outboxPendingRepository;
+
+    @Autowired
+    private List<OutboxSink> sinks;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        inMemoryOutboxSink.clear();
+    }
+
+    @Test
+    @DisplayName("relay : les changements validés sont publiés dans l'ordre, une seule fois ; un rollback n'écrit rien")
+    void testRelaysCommittedChangesOnce() {
+        transactionTemplate.executeWithoutResult(status -> {
+            statusEventBus.statusChanged(EntityType.DELIVERY, 9_100_001L, null, DeliveryStatus.PLANIFIEE);
+            statusEventBus.statusChanged(EntityType.DELIVERY, 9_100_001L, DeliveryStatus.PLANIFIEE, DeliveryStatus.EN_COURS);
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            statusEventBus.statusChanged(EntityType.PRODUCTION_ORDER, 9_100_002L, null, ProductionOrderStatus.EN_ATTENTE);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                statusEventBus.statusChanged(EntityType.PRODUCTION_ORDER, 9_100_003L,
+                        ProductionOrderStatus.EN_ATTENTE, ProductionOrderStatus.EN_PRODUCTION));
+
+        assertEquals(3, outboxRelay.relay().get(inMemoryOutboxSink.name()));
+        List<StatusChangeEvent> events = relayedForTest();
+        assertEquals(List.of(9_100_001L, 9_100_001L, 9_100_003L), events.stream().map(StatusChangeEvent::entityId).toList());
+        assertNull(events.get(0).previousStatus());
+        assertEquals("EN_COURS", events.get(1).status());
+        assertEquals("EN_PRODUCTION", events.get(2).status());
+        assertTrue(events.get(0).sequence() < events.get(1).sequence()
+                && events.get(1).sequence() < events.get(2).sequence());
+
+        assertTrue(outboxPendingRepository.findPendingEvents(inMemoryOutboxSink.name(), Limit.of(10)).isEmpty());
+        assertEquals(0, outboxRelay.relay().get(inMemoryOutboxSink.name()));
+        assertEquals(3, relayedForTest().size());
+    }
+
+    @Test
+    @DisplayName("relay : un événement validé après un relais d'identifiants supérieurs est remis au passage suivant")
+    void testLateCommitWithLowerIdIsRelayed() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> late = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                statusEventBus.statusChanged(EntityType.DELIVERY, 9_100_001L, DeliveryStatus.PLANIFIEE, DeliveryStatus.EN_COURS);
+                written.countDown();
+                try {
+                    commit.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(written.await(10, TimeUnit.SECONDS));
+            transactionTemplate.executeWithoutResult(status ->
+                    statusEventBus.statusChanged(EntityType.PRODUCTION_ORDER, 9_100_003L,
+                            ProductionOrderStatus.EN_ATTENTE, ProductionOrderStatus.EN_PRODUCTION));
+
+            assertEquals(1, outboxRelay.relay().get(inMemoryOutboxSink.name()));
+            assertEquals(List.of(9_100_003L), relayedForTest().stream().map(StatusChangeEvent::entityId).toList());
+
+            commit.countDown();
+            late.get(10, TimeUnit.SECONDS);
+        } finally {
+            commit.countDown();
+            executor.shutdown();
+        }
+
+        assertEquals(1, outboxRelay.relay().get(inMemoryOutboxSink.name()));
+        List<StatusChangeEvent> events = relayedForTest();
+        assertEquals(List.of(9_100_003L, 9_100_001L), events.stream().map(StatusChangeEvent::entityId).toList());
+        assertTrue(events.get(1).sequence() < events.get(0).sequence());
+    }
+
+    @Test
+    @DisplayName("relay : une destination en échec garde ses événements en attente sans bloquer les autres")
+    void testFailedSinkDoesNotBlockOthers() {
+        FailingSink failingSink = new FailingSink();
+        List<OutboxSink> withFailing = new ArrayList<>(sinks);
+        withFailing.add(failingSink);
+        Long eventId = transactionTemplate.execute(status -> {
+            statusEventBus.statusChanged(EntityType.DELIVERY, 9_100_001L, DeliveryStatus.EN_COURS, DeliveryStatus.LIVREE);
+            Long id = outboxPendingRepository.findPendingEvents(inMemoryOutboxSink.name(), Limit.of(1)).get(0).getId();
+            outboxPendingRepository.save(new OutboxPending(null, failingSink.name(), id));
+            return id;
+        });
+        OutboxRelay failing = new OutboxRelay(outboxEventRepository, outboxPendingRepository, withFailing,
+                jobLeaseService, transactionTemplate, 500, 20, Duration.ofDays(7), Duration.ofMinutes(1), List.of());
+
+        Map<String, Integer> sent = failing.relay();
+        assertEquals(1, sent.get(inMemoryOutboxSink.name()));
+        assertEquals(0, sent.get(failingSink.name()));
+        assertEquals(1, relayedForTest().size());
+        assertEquals(List.of(eventId), outboxPendingRepository.findPendingEvents(failingSink.name(), Limit.of(10))
+                .stream().map(OutboxEvent::getId).toList());
+
+        // Destination absente de ce nœud mais pas retirée : ses attentes sont conservées
+        assertEquals(0, outboxRelay.relay().get(inMemoryOutboxSink.name()));
+        assertEquals(List.of(eventId), outboxPendingRepository.findPendingEvents(failingSink.name(), Limit.of(10))
+                .stream().map(OutboxEvent::getId).toList());
+
+        // Destination déclarée retirée : ses attentes sont abandonnées, pas celles des autres
+        OutboxRelay retiring = new OutboxRelay(outboxEventRepository, outboxPendingRepository, sinks,
+                jobLeaseService, transactionTemplate, 500, 20, Duration.ofDays(7), Duration.ofMinutes(1),
+                List.of(failingSink.name()));
+        transactionTemplate.executeWithoutResult(status ->
+                statusEventBus.statusChanged(EntityType.DELIVERY, 9_100_002L, DeliveryStatus.PLANIFIEE, DeliveryStatus.EN_COURS));
+        assertEquals(1, retiring.relay().get(inMemoryOutboxSink.name()));
+        assertTrue(outboxPendingRepository.findPendingEvents(failingSink.name(), Limit.of(10)).isEmpty());
+        assertEquals(2, relayedForTest().size());
+    }
+
+    private List<StatusChangeEvent> relayedForTest() {
+        return inMemoryOutboxSink.events().stream()
+                .filter(event -> ENTITY_IDS.contains(event.entityId()))
+                .toList();
+    }
+
+    private static class FailingSink implements OutboxSink {
+
+        @Override
+        public String name() {
+            return "failing";
+        }
+
+        @Override
+        public void publish(List<StatusChangeEvent> events) throws IOException {
+            throw new IOException("destination indisponible");
+        }
+    }
+}
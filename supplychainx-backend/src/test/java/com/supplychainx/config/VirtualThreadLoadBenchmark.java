@@ -0,0 +1,218 @@
+package com.supplychainx.config;
+
+import com.supplychainx.SupplychainManagementApplication;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.entity.ProductionOrder;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.repository.ProductRepository;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import com.supplychainx.security.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Charge HTTP de {@code CLIENTS} clients simultanés ({@code GET /api/production-orders/{id}},
+ * entité hors cache de second niveau, JWT ADMIN) sur l'application complète (profil test, H2),
+ * requêtes Tomcat sur le pool de threads par défaut ({@code platform}, 200 threads) ou sur des
+ * threads virtuels ({@code virtual}).
+ * <p>
+ * H2 en mémoire répond en quelques microsecondes : chaque préparation de requête SQL attend
+ * {@code dbLatencyMs} avec la connexion en main, comme un aller-retour vers MySQL. Une
+ * invocation = une vague de {@code CLIENTS} clients enchaînant {@code REQUESTS_PER_CLIENT}
+ * requêtes ; débit, p99 et erreurs de la vague affichés en fin d'itération. Avec une latence
+ * élevée, ne lancer que le grand pool ({@code -p dbLatencyMs=500 -p poolSize=400}) : avec 10
+ * connexions, une vague dure plusieurs minutes.
+ * <p>
+ * Nécessite un JDK 21 ; clients et serveur partagent la JVM et les CPU de la machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = 2000;
+    private static final int REQUESTS_PER_CLIENT = 3;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"10", "400"})
+    private int poolSize;
+
+    @Param({"20"})
+    private long dbLatencyMs;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ExecutorService clients;
+    private HttpRequest request;
+    private final AtomicInteger errors = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private long[] latencies;
+    private final AtomicInteger latencyCount = new AtomicInteger();
+    private long iterationStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long latencyNanos = TimeUnit.MILLISECONDS.toNanos(dbLatencyMs);
+        context = new SpringApplicationBuilder(SupplychainManagementApplication.class)
+                .profiles("test")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource ? new LatencyDataSource(dataSource, latencyNanos) : bean;
+                    }
+                }))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + "virtual".equals(threads),
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.datasource.hikari.connection-timeout=60000",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.supplychainx=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+
+        Product product = new Product();
+        product.setName("Produit Charge");
+        product.setProductionTime(10);
+        product.setCost(50.0);
+        product.setStock(100);
+        product = context.getBean(ProductRepository.class).save(product);
+        ProductionOrder order = new ProductionOrder();
+        order.setProduct(product);
+        order.setQuantity(5);
+        order.setStatus(ProductionOrderStatus.EN_ATTENTE);
+        Long id = context.getBean(ProductionOrderRepository.class).save(order).getIdOrder();
+        String token = context.getBean(JwtUtil.class).generateAccessToken(1L, "charge@supplychainx.com", "ADMIN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/production-orders/" + id))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        latencies = new long[1 << 22];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.close();
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        errors.set(0);
+        requests.set(0);
+        latencyCount.set(0);
+        iterationStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        double seconds = (System.nanoTime() - iterationStart) / 1e9;
+        long[] sorted = Arrays.copyOf(latencies, Math.min(latencyCount.get(), latencies.length));
+        Arrays.sort(sorted);
+        long p99 = sorted.length == 0 ? 0 : sorted[(int) (sorted.length * 0.99)];
+        System.out.printf("%n%s/pool=%d : %.0f req/s, p99 %d ms, %d erreurs%n",
+                threads, poolSize, requests.get() / seconds, TimeUnit.NANOSECONDS.toMillis(p99), errors.get());
+    }
+
+    @Benchmark
+    public int wave() throws InterruptedException {
+        try (ExecutorService wave = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                wave.execute(this::client);
+            }
+        }
+        return CLIENTS;
+    }
+
+    private void client() {
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            requests.incrementAndGet();
+            int slot = latencyCount.getAndIncrement();
+            if (slot < latencies.length) {
+                latencies[slot] = System.nanoTime() - start;
+            }
+        }
+    }
+
+    /** Connexions dont chaque préparation de requête attend {@code latencyNanos}, connexion tenue. */
+    private static final class LatencyDataSource extends DelegatingDataSource {
+
+        private final long latencyNanos;
+
+        LatencyDataSource(DataSource target, long latencyNanos) {
+            super(target);
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            TimeUnit.NANOSECONDS.sleep(latencyNanos);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(VirtualThreadLoadBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,184 @@
+package com.supplychainx.dashboard.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.entity.Delivery;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.livraison.repository.CustomerRepository;
+import com.supplychainx.livraison.repository.DeliveryRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Les lectures s'exécutent sur le pool du tableau de bord, dans leurs propres transactions :
+ * les données du test sont donc validées en base puis supprimées.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class DashboardControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    private Customer customer;
+    private Product product;
+    private final List<Order> orders = new ArrayList<>();
+    private final List<Delivery> deliveries = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+        customer.setName("Client Tableau de bord");
+        customer.setAddress("1 Rue du Suivi");
+        customer.setCity("Lyon");
+        customer = customerRepository.save(customer);
+
+        product = new Product();
+        product.setName("Produit Tableau de bord");
+        product.setProductionTime(10);
+        product.setCost(50.0);
+        product.setStock(1000);
+        product = productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryRepository.deleteAll(deliveries);
+        orderRepository.deleteAll(orders);
+        productRepository.delete(product);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/summary - Comptages par statut, tous les statuts présents")
+    void testSummaryCountsByStatus() throws Exception {
+        JsonNode before = summary();
+
+        Order enRoute = order(OrderStatus.EN_ROUTE);
+        order(OrderStatus.EN_ROUTE);
+        delivery(enRoute, DeliveryStatus.EN_COURS);
+        JsonNode after = summary();
+
+        assertEquals(before.at("/orders/EN_ROUTE").asLong() + 2, after.at("/orders/EN_ROUTE").asLong());
+        assertEquals(before.at("/orders/LIVREE").asLong(), after.at("/orders/LIVREE").asLong());
+        assertEquals(before.at("/deliveries/EN_COURS").asLong() + 1, after.at("/deliveries/EN_COURS").asLong());
+        assertTrue(after.at("/productionOrders").has("EN_ATTENTE"));
+        assertTrue(after.at("/supplyOrders").has("EN_COURS"));
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/deliveries/stream - Événements SSE sur plusieurs pages, reprise par Last-Event-ID")
+    void testStreamDeliveriesAcrossPages() throws Exception {
+        long lastBefore = deliveryRepository.findAll().stream().mapToLong(Delivery::getIdDelivery).max().orElse(0);
+        for (int i = 0; i < 5; i++) {
+            delivery(order(OrderStatus.EN_ROUTE), DeliveryStatus.EN_COURS);
+        }
+        delivery(order(OrderStatus.LIVREE), DeliveryStatus.LIVREE);
+
+        List<Long> ids = streamedIds("/api/dashboard/deliveries/stream?status=EN_COURS", lastBefore, "delivery");
+        assertEquals(deliveries.stream()
+                .filter(delivery -> delivery.getStatus() == DeliveryStatus.EN_COURS)
+                .map(Delivery::getIdDelivery).toList(), ids);
+
+        List<Long> resumed = streamedIds("/api/dashboard/deliveries/stream?status=EN_COURS", ids.get(2), "delivery");
+        assertEquals(ids.subList(3, 5), resumed);
+    }
+
+    private JsonNode summary() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/dashboard/summary"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    // Identifiants des événements du flux, dans l'ordre, après vérification de l'événement de fin
+    private List<Long> streamedIds(String url, long lastEventId, String eventName) throws Exception {
+        MvcResult result = mockMvc.perform(get(url).header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(10_000);
+        String[] events = result.getResponse().getContentAsString().split("\n\n");
+
+        List<Long> ids = new ArrayList<>();
+        for (String event : events) {
+            List<String> lines = Arrays.asList(event.split("\n"));
+            if (lines.contains("event:" + eventName)) {
+                ids.add(Long.parseLong(lines.stream().filter(line -> line.startsWith("id:")).findFirst()
+                        .orElseThrow().substring(3)));
+            }
+        }
+        assertTrue(events[events.length - 1].contains("event:end"));
+        assertTrue(events[events.length - 1].contains("data:" + ids.size()));
+        return ids;
+    }
+
+    private Order order(OrderStatus status) {
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setProduct(product);
+        order.setQuantity(5);
+        order.setStatus(status);
+        order = orderRepository.save(order);
+        orders.add(order);
+        return order;
+    }
+
+    private Delivery delivery(Order order, DeliveryStatus status) {
+        Delivery delivery = new Delivery();
+        delivery.setOrder(order);
+        delivery.setVehicle("VAN-1");
+        delivery.setDriver("Chauffeur");
+        delivery.setStatus(status);
+        delivery.setDeliveryDate(LocalDate.now());
+        delivery.setCost(10.0);
+        delivery = deliveryRepository.save(delivery);
+        deliveries.add(delivery);
+        return delivery;
+    }
+}
@@ -0,0 +1,57 @@
+package com.supplychainx.dashboard.service;
+
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.exception.ServiceUnavailableException;
+import com.supplychainx.livraison.repository.DeliveryRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.mapper.DeliveryMapper;
+import com.supplychainx.mapper.OrderMapper;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardQueryServiceTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private DashboardQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        when(orderRepository.countGroupedByStatus()).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        service = new DashboardQueryService(orderRepository, mock(DeliveryRepository.class),
+                mock(ProductionOrderRepository.class), mock(SupplyOrderRepository.class),
+                mock(OrderMapper.class), mock(DeliveryMapper.class), mock(PlatformTransactionManager.class),
+                1, 1, 1, 1, 2, Duration.ofMinutes(1), Duration.ZERO, Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Pool de lecture saturé : requête refusée en indisponibilité temporaire, avec délai de reprise")
+    void testRejectedWhenReadPoolSaturated() {
+        service.summary();
+        service.summary();
+
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class, service::summary);
+        assertEquals(Duration.ofSeconds(3), e.getRetryAfter());
+        assertThrows(ServiceUnavailableException.class, () -> service.streamOrders(null, 0));
+    }
+}
@@ -0,0 +1,238 @@
+package com.supplychainx.db;
+
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.entity.Supplier;
+import com.supplychainx.approvisionnement.entity.SupplyOrder;
+import com.supplychainx.approvisionnement.entity.SupplyOrderMaterial;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.common.pagination.CursorCodec;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.entity.Delivery;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.production.entity.BillOfMaterial;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.entity.ProductionOrder;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Nombre de requêtes SQL par endpoint de lecture, mesuré par les statistiques Hibernate.
+ * Chaque ligne référence des entités distinctes (client, produit, fournisseur, matière) :
+ * un chargement ligne par ligne ferait croître le compte avec la taille de la page.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class QueryCountIntegrationTest {
+
+    private static final int ROWS = 6;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private final List<Delivery> deliveries = new ArrayList<>();
+    private final List<ProductionOrder> productionOrders = new ArrayList<>();
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            Customer customer = new Customer();
+            customer.setName("Client " + i);
+            customer.setAddress(i + " rue de la Paix");
+            customer.setCity("Paris");
+            entityManager.persist(customer);
+
+            Product product = new Product();
+            product.setName("Produit " + i);
+            product.setProductionTime(60);
+            product.setCost(100.0);
+            product.setStock(50);
+            entityManager.persist(product);
+            products.add(product);
+
+            Order order = new Order();
+            order.setCustomer(customer);
+            order.setProduct(product);
+            order.setQuantity(2);
+            order.setStatus(OrderStatus.EN_PREPARATION);
+            entityManager.persist(order);
+
+            Delivery delivery = new Delivery();
+            delivery.setOrder(order);
+            delivery.setVehicle("Camion");
+            delivery.setStatus(DeliveryStatus.PLANIFIEE);
+            delivery.setDeliveryDate(LocalDate.now().plusDays(2));
+            entityManager.persist(delivery);
+            deliveries.add(delivery);
+
+            ProductionOrder productionOrder = new ProductionOrder();
+            productionOrder.setProduct(product);
+            productionOrder.setQuantity(5);
+            productionOrder.setStatus(ProductionOrderStatus.EN_ATTENTE);
+            entityManager.persist(productionOrder);
+            productionOrders.add(productionOrder);
+
+            Supplier supplier = new Supplier();
+            supplier.setName("Fournisseur " + i);
+            supplier.setLeadTime(3);
+            entityManager.persist(supplier);
+
+            SupplyOrder supplyOrder = new SupplyOrder();
+            supplyOrder.setSupplier(supplier);
+            supplyOrder.setOrderDate(LocalDate.now());
+            supplyOrder.setStatus(SupplyOrderStatus.EN_COURS);
+            for (int j = 0; j < 2; j++) {
+                RawMaterial material = new RawMaterial();
+                material.setName("Matière " + i + "-" + j);
+                material.setStock(100);
+                material.setStockMin(10);
+                material.setUnit("kg");
+                entityManager.persist(material);
+
+                SupplyOrderMaterial line = new SupplyOrderMaterial();
+                line.setSupplyOrder(supplyOrder);
+                line.setRawMaterial(material);
+                line.setQuantity(10);
+                supplyOrder.getOrderMaterials().add(line);
+
+                BillOfMaterial bom = new BillOfMaterial();
+                bom.setProduct(products.get(0));
+                bom.setMaterial(material);
+                bom.setQuantity(1);
+                entityManager.persist(bom);
+            }
+            entityManager.persist(supplyOrder);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("GET /api/orders - page et comptage, clients et produits joints")
+    void testOrdersPage() throws Exception {
+        assertStatements("/api/orders?size=" + PAGE_SIZE, PAGE_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/orders?cursor - une seule requête en mode curseur")
+    void testOrdersKeyset() throws Exception {
+        assertStatements("/api/orders?size=" + PAGE_SIZE + "&cursor=" + CursorCodec.encode(0L), PAGE_SIZE, 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/status/{status} - page et comptage")
+    void testOrdersByStatus() throws Exception {
+        assertStatements("/api/orders/status/EN_PREPARATION?size=" + PAGE_SIZE, PAGE_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/deliveries - livraison, commande, client et produit joints")
+    void testDeliveriesPage() throws Exception {
+        assertStatements("/api/deliveries?status=PLANIFIEE&size=" + PAGE_SIZE, PAGE_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/deliveries?cursor - une seule requête en mode curseur")
+    void testDeliveriesKeyset() throws Exception {
+        assertStatements("/api/deliveries?status=PLANIFIEE&size=" + PAGE_SIZE + "&cursor=" + CursorCodec.encode(0L), PAGE_SIZE, 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/deliveries/{id} - une requête")
+    void testDeliveryById() throws Exception {
+        mockMvc.perform(get("/api/deliveries/" + deliveries.get(0).getIdDelivery()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.order.customer.name").exists());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/supply-orders - lignes et matières chargées en un lot pour la page")
+    void testSupplyOrdersPage() throws Exception {
+        assertStatements("/api/supply-orders?size=" + PAGE_SIZE, PAGE_SIZE, 3);
+    }
+
+    @Test
+    @DisplayName("GET /api/supply-orders/status/{status} - lignes et matières chargées en un lot")
+    void testSupplyOrdersByStatus() throws Exception {
+        assertStatements("/api/supply-orders/status/EN_COURS?size=" + PAGE_SIZE, PAGE_SIZE, 3);
+    }
+
+    @Test
+    @DisplayName("GET /api/production-orders - page et comptage")
+    void testProductionOrdersPage() throws Exception {
+        assertStatements("/api/production-orders?size=" + PAGE_SIZE, PAGE_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/production-orders/status/{status} - page et comptage")
+    void testProductionOrdersByStatus() throws Exception {
+        assertStatements("/api/production-orders/status/EN_ATTENTE?size=" + PAGE_SIZE, PAGE_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/production-orders/{id} - une requête")
+    void testProductionOrderById() throws Exception {
+        mockMvc.perform(get("/api/production-orders/" + productionOrders.get(0).getIdOrder()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.product.name").exists());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("GET /api/bom - page et comptage, produits et matières joints")
+    void testBillOfMaterialsPage() throws Exception {
+        assertStatements("/api/bom?size=" + PAGE_SIZE, PAGE_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/bom/product/{id} - produit puis nomenclature avec matières")
+    void testBillOfMaterialsByProduct() throws Exception {
+        assertStatements("/api/bom/product/" + products.get(0).getIdProduct(), ROWS * 2, 2);
+    }
+
+    private void assertStatements(String url, int expectedRows, long expectedStatements) throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(expectedRows)));
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount(),
+                () -> url + " : " + statistics.getPrepareStatementCount() + " requêtes SQL");
+    }
+}
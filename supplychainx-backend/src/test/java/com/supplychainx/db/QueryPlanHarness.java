@@ -0,0 +1,117 @@
+package com.supplychainx.db;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * H2 base en mode MySQL migrée par le vrai changelog Liquibase (et non par Hibernate),
+ * remplie de données représentatives, sur laquelle on lit les plans d'exécution (EXPLAIN).
+ */
+public final class QueryPlanHarness implements AutoCloseable {
+
+    private static final String CHANGELOG = "classpath:db/changelog/db.changelog-master.xml";
+
+    public static final String[] ORDER_STATUSES = {"EN_PREPARATION", "EN_ROUTE", "LIVREE"};
+    public static final String[] DELIVERY_STATUSES = {"PLANIFIEE", "EN_COURS", "LIVREE"};
+    public static final String[] SUPPLY_STATUSES = {"EN_ATTENTE", "EN_COURS", "RECUE"};
+    public static final String[] PRODUCTION_STATUSES = {"EN_ATTENTE", "EN_PRODUCTION", "TERMINE", "BLOQUE"};
+
+    private final JdbcTemplate jdbc;
+
+    private QueryPlanHarness(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public static QueryPlanHarness migrated(String databaseName) throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(CHANGELOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        return new QueryPlanHarness(new JdbcTemplate(dataSource));
+    }
+
+    public JdbcTemplate jdbc() {
+        return jdbc;
+    }
+
+    public QueryPlanHarness seed(int scale) {
+        LocalDate day = LocalDate.of(2025, 1, 1);
+        int suppliers = 10 * scale;
+        int materials = 50 * scale;
+        int products = 20 * scale;
+        int customers = 20 * scale;
+        int orders = 500 * scale;
+        int supplyOrders = 200 * scale;
+        int productionOrders = 300 * scale;
+
+        batch("INSERT INTO suppliers (name, contact, rating, lead_time) VALUES (?, ?, ?, ?)", suppliers,
+                i -> new Object[]{"Fournisseur " + i, "contact" + i + "@test.com", 1.0 + i % 5, 1 + i % 20});
+        batch("INSERT INTO raw_materials (name, stock, stock_min, unit) VALUES (?, ?, ?, ?)", materials,
+                i -> new Object[]{"Matière " + i, i * 7 % 500, 50, "kg"});
+        batch("INSERT INTO raw_material_suppliers (raw_material_id, supplier_id) VALUES (?, ?)", materials,
+                i -> new Object[]{i + 1, i % suppliers + 1});
+        batch("INSERT INTO products (name, production_time, cost, stock) VALUES (?, ?, ?, ?)", products,
+                i -> new Object[]{"Produit " + i, 10 + i % 50, 100.0 + i, i % 30});
+        batch("INSERT INTO bill_of_materials (product_id, material_id, quantity) VALUES (?, ?, ?)", products * 5,
+                i -> new Object[]{i / 5 + 1, (i * 13) % materials + 1, 1 + i % 4});
+        batch("INSERT INTO customers (name, address, city) VALUES (?, ?, ?)", customers,
+                i -> new Object[]{"Client " + i, i + " rue du Test", "Ville " + i % 8});
+        batch("INSERT INTO orders (customer_id, product_id, quantity, status) VALUES (?, ?, ?, ?)", orders,
+                i -> new Object[]{i % customers + 1, i % products + 1, 1 + i % 10, ORDER_STATUSES[i % 3]});
+        batch("INSERT INTO deliveries (order_id, vehicle, driver, status, delivery_date, cost) VALUES (?, ?, ?, ?, ?, ?)",
+                orders / 2,
+                i -> new Object[]{i + 1, "Camion " + i % 5, "Chauffeur " + i % 7, DELIVERY_STATUSES[i % 3],
+                        day.plusDays(i % 60), 50.0 + i % 100});
+        batch("INSERT INTO supply_orders (supplier_id, order_date, status) VALUES (?, ?, ?)", supplyOrders,
+                i -> new Object[]{i % suppliers + 1, day.plusDays(i % 90), SUPPLY_STATUSES[i % 3]});
+        batch("INSERT INTO supply_order_materials (supply_order_id, raw_material_id, quantity) VALUES (?, ?, ?)",
+                supplyOrders * 2,
+                i -> new Object[]{i / 2 + 1, (i * 7) % materials + 1, 10 + i % 100});
+        batch("INSERT INTO production_orders (product_id, quantity, status, start_date, end_date) VALUES (?, ?, ?, ?, ?)",
+                productionOrders,
+                i -> new Object[]{i % products + 1, 1 + i % 50, PRODUCTION_STATUSES[i % 4],
+                        day.plusDays(i % 120), day.plusDays(i % 120 + 5)});
+
+        jdbc.execute("ANALYZE");
+        return this;
+    }
+
+    /** Plan H2 de la requête ; les accès sans index y apparaissent sous la forme {@code TABLE.tableScan}. */
+    public String explain(String sql) {
+        return jdbc.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    public static boolean isFullScan(String plan) {
+        return plan.contains(".tableScan");
+    }
+
+    private void batch(String sql, int rows, RowFactory factory) {
+        List<Object[]> args = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            args.add(factory.row(i));
+        }
+        jdbc.batchUpdate(sql, args);
+    }
+
+    @Override
+    public void close() {
+        jdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] row(int i);
+    }
+}
@@ -0,0 +1,73 @@
+package com.supplychainx.db;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Vérifie, sur une base migrée par Liquibase, que les requêtes générées par les méthodes
+ * de repository filtrant sur un statut ou une clé étrangère utilisent un index.
+ * Chaque SQL reprend la forme de la requête Hibernate de la méthode citée.
+ */
+class QueryPlanIndexTest {
+
+    private static QueryPlanHarness harness;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        harness = QueryPlanHarness.migrated("query_plan").seed(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        harness.close();
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                Arguments.of("OrderRepository.findByStatus",
+                        "SELECT o.* FROM orders o WHERE o.status = 'EN_ROUTE'"),
+                Arguments.of("OrderRepository.findByStatusAndIdOrderGreaterThan",
+                        "SELECT o.* FROM orders o WHERE o.status = 'EN_ROUTE' AND o.id_order > 100 ORDER BY o.id_order LIMIT 20"),
+                Arguments.of("OrderRepository.findByCustomer",
+                        "SELECT o.* FROM orders o WHERE o.customer_id = 7"),
+                Arguments.of("DeliveryRepository.findByStatus",
+                        "SELECT d.* FROM deliveries d WHERE d.status = 'PLANIFIEE'"),
+                Arguments.of("DeliveryRepository.findByStatusAndIdDeliveryGreaterThan",
+                        "SELECT d.* FROM deliveries d WHERE d.status = 'PLANIFIEE' AND d.id_delivery > 100 ORDER BY d.id_delivery LIMIT 20"),
+                Arguments.of("SupplyOrderRepository.findByStatus",
+                        "SELECT so.* FROM supply_orders so WHERE so.status = 'EN_COURS'"),
+                Arguments.of("SupplyOrderRepository.countBySupplier_IdSupplierAndStatusIn",
+                        "SELECT COUNT(so.id_order) FROM supply_orders so WHERE so.supplier_id = 3 AND so.status IN ('EN_ATTENTE', 'EN_COURS')"),
+                Arguments.of("ProductionOrderRepository.findByStatus",
+                        "SELECT po.* FROM production_orders po WHERE po.status = 'EN_ATTENTE'"),
+                Arguments.of("ProductionOrderRepository.findByProduct",
+                        "SELECT po.* FROM production_orders po WHERE po.product_id = 5"),
+                Arguments.of("BillOfMaterialRepository.findByProduct",
+                        "SELECT b.* FROM bill_of_materials b WHERE b.product_id = 5"),
+                Arguments.of("SupplyOrderMaterialRepository.findScheduledReceipts",
+                        "SELECT l.raw_material_id, l.quantity, so.order_date, s.lead_time " +
+                        "FROM supply_order_materials l " +
+                        "JOIN supply_orders so ON so.id_order = l.supply_order_id " +
+                        "JOIN suppliers s ON s.id_supplier = so.supplier_id " +
+                        "WHERE so.status IN ('EN_ATTENTE', 'EN_COURS')")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Aucun parcours complet de table pour les filtres par statut et clé étrangère")
+    void testQueryUsesIndex(String repositoryMethod, String sql) {
+        String plan = harness.explain(sql);
+
+        assertFalse(QueryPlanHarness.isFullScan(plan),
+                () -> repositoryMethod + " fait un parcours complet :\n" + plan);
+    }
+}
@@ -0,0 +1,214 @@
+package com.supplychainx.db;
+
+import com.supplychainx.approvisionnement.dto.RawMaterialCreateDTO;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.service.RawMaterialService;
+import com.supplychainx.common.bulk.BulkUpdateItemDTO;
+import com.supplychainx.common.dto.CacheRegionStatsDTO;
+import com.supplychainx.common.service.CacheStatisticsService;
+import com.supplychainx.config.CacheRegions;
+import com.supplychainx.production.dto.BillOfMaterialRequestDTO;
+import com.supplychainx.production.dto.BillOfMaterialResponseDTO;
+import com.supplychainx.production.dto.ProductCreateDTO;
+import com.supplychainx.production.dto.ProductUpdateDTO;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.BillOfMaterialRepository;
+import com.supplychainx.production.repository.ProductRepository;
+import com.supplychainx.production.service.BillOfMaterialService;
+import com.supplychainx.production.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache de second niveau sur les données de référence. Sans transaction de test : les
+ * entrées ne sont publiées dans le cache qu'au commit des méthodes de service.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceDataCacheIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private RawMaterialService rawMaterialService;
+
+    @Autowired
+    private BillOfMaterialService billOfMaterialService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> materialIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            productIds.forEach(id -> productRepository.findById(id).ifPresent(product ->
+                    billOfMaterialRepository.deleteAll(billOfMaterialRepository.findByProduct(product))));
+            productRepository.deleteAllById(productRepository.findAllById(productIds).stream()
+                    .map(Product::getIdProduct).toList());
+            rawMaterialRepository.deleteAllById(materialIds);
+        });
+    }
+
+    @Test
+    @DisplayName("Produit relu depuis le cache sans requête SQL")
+    void testProductServedFromCache() {
+        Long id = createProduct("Chaise");
+        findProduct(id);
+        long hits = regionStats(CacheRegions.PRODUCTS).getHits();
+
+        statistics.clear();
+        assertEquals("Chaise", findProduct(id).orElseThrow().getName());
+        assertEquals("Chaise", findProduct(id).orElseThrow().getName());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(hits + 2, regionStats(CacheRegions.PRODUCTS).getHits());
+    }
+
+    @Test
+    @DisplayName("updateProduct remplace l'entrée du cache")
+    void testUpdateRefreshesCache() {
+        Long id = createProduct("Chaise");
+        findProduct(id);
+
+        productService.updateProduct(id, new ProductUpdateDTO("Chaise pliante", 60, 120.0, 15));
+
+        statistics.clear();
+        assertEquals("Chaise pliante", findProduct(id).orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("deleteProduct retire l'entrée du cache")
+    void testDeleteEvictsCache() {
+        Long id = createProduct("Chaise");
+        findProduct(id);
+
+        productService.deleteProduct(id);
+
+        assertTrue(findProduct(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Nomenclature par produit : cache de requête invalidé par createBillOfMaterial")
+    void testBomQueryCacheInvalidatedOnWrite() {
+        Long productId = createProduct("Table");
+        Long steel = createMaterial("Acier");
+        Long wood = createMaterial("Bois");
+        billOfMaterialService.createBillOfMaterial(new BillOfMaterialRequestDTO(productId, steel, 4));
+
+        assertEquals(1, billOfMaterialService.getBillOfMaterialsByProduct(productId).size());
+        statistics.clear();
+        assertEquals(1, billOfMaterialService.getBillOfMaterialsByProduct(productId).size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        billOfMaterialService.createBillOfMaterial(new BillOfMaterialRequestDTO(productId, wood, 2));
+
+        statistics.clear();
+        List<BillOfMaterialResponseDTO> bom = billOfMaterialService.getBillOfMaterialsByProduct(productId);
+        assertEquals(2, bom.size());
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+        assertTrue(regionStats(CacheRegions.BOM_BY_PRODUCT).getHits() >= 1);
+    }
+
+    @Test
+    @DisplayName("Nomenclature par produit : cache de requête invalidé par la modification en masse (JDBC)")
+    void testBomQueryCacheInvalidatedOnBulkUpdate() {
+        Long productId = createProduct("Table");
+        Long steel = createMaterial("Acier");
+        Long bomId = billOfMaterialService.createBillOfMaterial(new BillOfMaterialRequestDTO(productId, steel, 4)).getIdBOM();
+
+        billOfMaterialService.getBillOfMaterialsByProduct(productId);
+        statistics.clear();
+        assertEquals(4, billOfMaterialService.getBillOfMaterialsByProduct(productId).get(0).getQuantity());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        billOfMaterialService.bulkUpdateBillOfMaterials(
+                List.of(new BulkUpdateItemDTO<>(bomId, new BillOfMaterialRequestDTO(productId, steel, 6))));
+
+        assertEquals(6, billOfMaterialService.getBillOfMaterialsByProduct(productId).get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Statistiques exposées pour chaque région d'entité")
+    void testRegionStatisticsExposed() {
+        List<String> regions = cacheStatisticsService.getRegionStatistics().stream()
+                .map(CacheRegionStatsDTO::getRegion)
+                .toList();
+
+        assertTrue(regions.containsAll(List.of(
+                CacheRegions.PRODUCTS,
+                CacheRegions.RAW_MATERIALS,
+                CacheRegions.SUPPLIERS,
+                CacheRegions.CUSTOMERS,
+                CacheRegions.BILL_OF_MATERIALS)));
+    }
+
+    private Long createProduct(String name) {
+        Long id = productService.createProduct(new ProductCreateDTO(name, 60, 100.0, 10)).getIdProduct();
+        productIds.add(id);
+        return id;
+    }
+
+    private Long createMaterial(String name) {
+        RawMaterialCreateDTO dto = new RawMaterialCreateDTO();
+        dto.setName(name);
+        dto.setStock(100);
+        dto.setStockMin(10);
+        dto.setUnit("kg");
+        Long id = rawMaterialService.createRawMaterial(dto).getIdMaterial();
+        materialIds.add(id);
+        return id;
+    }
+
+    private Optional<Product> findProduct(Long id) {
+        return transactionTemplate.execute(status -> productRepository.findById(id));
+    }
+
+    private CacheRegionStatsDTO regionStats(String region) {
+        return cacheStatisticsService.getRegionStatistics().stream()
+                .filter(stats -> stats.getRegion().equals(region))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,79 @@
+package com.supplychainx.imports.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Champs entre guillemets : virgule, guillemet doublé et saut de ligne conservés")
+    void testQuotedFields() throws IOException {
+        CsvRecordReader reader = reader("a,\"b,c\",\"d \"\"e\"\"\"\n\"multi\nligne\",x,\n");
+
+        assertEquals(List.of("a", "b,c", "d \"e\""), reader.next());
+        assertEquals(List.of("multi\nligne", "x", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("CRLF, lignes vides, BOM UTF-8 et accents")
+    void testLineEndingsAndEncoding() throws IOException {
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] body = "nom,ville\r\n\r\nÉlodie,Orléans\r\nZoé,Nîmes".getBytes(StandardCharsets.UTF_8);
+        byte[] content = new byte[bom.length + body.length];
+        System.arraycopy(bom, 0, content, 0, bom.length);
+        System.arraycopy(body, 0, content, bom.length, body.length);
+
+        CsvRecordReader reader = new CsvRecordReader(new ByteArrayInputStream(content), 0);
+
+        assertEquals(List.of("nom", "ville"), reader.next());
+        assertEquals(List.of("Élodie", "Orléans"), reader.next());
+        assertEquals(List.of("Zoé", "Nîmes"), reader.next());
+        assertNull(reader.next());
+        assertEquals(content.length, reader.offset());
+    }
+
+    @Test
+    @DisplayName("Reprise : relire depuis l'offset d'un enregistrement donne la suite exacte du fichier")
+    void testResumeFromOffset() throws IOException {
+        String csv = "h1,h2\n\"Café, crème\",1\nthé,2\n\"x\ny\",3\n";
+        byte[] content = csv.getBytes(StandardCharsets.UTF_8);
+
+        CsvRecordReader sequential = new CsvRecordReader(new ByteArrayInputStream(content), 0);
+        sequential.next();
+        sequential.next();
+        long checkpoint = sequential.offset();
+        List<String> expected = sequential.next();
+        List<String> expectedLast = sequential.next();
+
+        InputStream in = new ByteArrayInputStream(content);
+        in.skipNBytes(checkpoint);
+        CsvRecordReader resumed = new CsvRecordReader(in, checkpoint);
+
+        assertEquals(List.of("thé", "2"), expected);
+        assertEquals(expected, resumed.next());
+        assertEquals(expectedLast, resumed.next());
+        assertNull(resumed.next());
+        assertEquals(content.length, resumed.offset());
+    }
+
+    @Test
+    @DisplayName("Guillemet non fermé en fin de fichier doit échouer")
+    void testUnterminatedQuote() {
+        CsvRecordReader reader = reader("a,\"bc\n");
+
+        assertThrows(IOException.class, reader::next);
+    }
+
+    private static CsvRecordReader reader(String content) {
+        return new CsvRecordReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), 0);
+    }
+}
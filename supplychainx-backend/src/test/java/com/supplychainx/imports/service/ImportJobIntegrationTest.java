@@ -0,0 +1,418 @@
+package com.supplychainx.imports.service;
+
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.entity.Supplier;
+import com.supplychainx.approvisionnement.entity.SupplyOrder;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.imports.entity.ImportJob;
+import com.supplychainx.imports.entity.ImportRowError;
+import com.supplychainx.imports.enums.ImportStatus;
+import com.supplychainx.imports.enums.ImportType;
+import com.supplychainx.imports.repository.ImportJobRepository;
+import com.supplychainx.imports.repository.ImportRowErrorRepository;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.imports.csv.CsvRow;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.repository.CustomerRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Imports validés en base : sans transaction de test, chaque lot committe avec son point de
+ * reprise comme en production. Le runner est construit avec des lots de 2 unités, sur le nœud
+ * {@value #NODE}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class ImportJobIntegrationTest {
+
+    private static final String NODE = "noeud-a";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportRowErrorRepository importRowErrorRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private List<ImportHandler<?>> handlers;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private SupplyOrderRepository supplyOrderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @TempDir
+    private Path directory;
+
+    private ImportJobRunner runner;
+    private String tag;
+    private Supplier supplier;
+    private RawMaterial wood;
+    private RawMaterial steel;
+    private Customer customer;
+    private Product product;
+    private final List<Long> importIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        runner = new ImportJobRunner(importJobRepository, importRowErrorRepository, transactionTemplate,
+                handlers, 2, 100, Duration.ofMinutes(5), false, NODE);
+        tag = Long.toString(System.nanoTime());
+
+        supplier = new Supplier();
+        supplier.setName("Fournisseur " + tag);
+        supplier.setContact("import@test.com");
+        supplier.setRating(4.0);
+        supplier.setLeadTime(3);
+        supplier = supplierRepository.save(supplier);
+        wood = rawMaterialRepository.save(material("Bois " + tag));
+        steel = rawMaterialRepository.save(material("Acier " + tag));
+
+        customer = new Customer();
+        customer.setName("Client " + tag);
+        customer.setAddress("1 rue de l'Import");
+        customer.setCity("Lyon");
+        customer = customerRepository.save(customer);
+
+        product = new Product();
+        product.setName("Chaise " + tag);
+        product.setProductionTime(60);
+        product.setCost(100.0);
+        product.setStock(10);
+        product = productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importIds.forEach(id -> {
+            importRowErrorRepository.deleteAll(importRowErrorRepository.findByImportId(id, Pageable.unpaged()));
+            importJobRepository.deleteById(id);
+        });
+        orderRepository.deleteAll(orderRepository.findByCustomer(customer));
+        supplyOrderRepository.deleteAll(supplyOrders());
+        inventoryMovementRepository.deleteAll(inventoryMovementRepository
+                .findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType.RAW_MATERIAL, steel.getIdMaterial()));
+        inventoryMovementRepository.deleteAll(inventoryMovementRepository
+                .findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType.PRODUCT, product.getIdProduct()));
+        rawMaterialRepository.deleteById(wood.getIdMaterial());
+        rawMaterialRepository.deleteById(steel.getIdMaterial());
+        supplierRepository.deleteById(supplier.getIdSupplier());
+        productRepository.deleteById(product.getIdProduct());
+        customerRepository.deleteById(customer.getIdCustomer());
+    }
+
+    @Test
+    @DisplayName("Commandes d'approvisionnement : lignes regroupées par référence, référence inconnue rejetée")
+    void testSupplyOrdersImport() throws IOException {
+        ImportJob job = job(ImportType.SUPPLY_ORDERS, """
+                reference,supplier,order_date,status,material,quantity
+                PO-1,Fournisseur %1$s,2026-01-05,EN_ATTENTE,Bois %1$s,10
+                PO-1,Fournisseur %1$s,2026-01-05,EN_ATTENTE,Acier %1$s,5
+                PO-2,Inconnu,2026-01-06,EN_ATTENTE,Bois %1$s,3
+                PO-3,Fournisseur %1$s,2026-01-07,RECUE,"Acier %1$s",7
+                """.formatted(tag));
+
+        runner.run(job.getIdImport());
+
+        ImportJob done = reload(job);
+        assertEquals(ImportStatus.COMPLETED, done.getStatus());
+        assertEquals(4, done.getRowsRead());
+        assertEquals(2, done.getImportedCount());
+        assertEquals(1, done.getRejectedCount());
+        assertEquals(List.of("3:Fournisseur inconnu: Inconnu"), errors(job));
+
+        List<SupplyOrder> orders = supplyOrders();
+        assertEquals(2, orders.size());
+        assertEquals(27, rawMaterialRepository.findById(steel.getIdMaterial()).orElseThrow().getStock());
+        assertFalse(Files.exists(Path.of(job.getStoragePath())));
+    }
+
+    @Test
+    @DisplayName("Commandes clients : un lot en échec est rejoué unité par unité, seules les lignes fautives sont rejetées")
+    void testFailingChunkRetriedUnitByUnit() throws IOException {
+        ImportJob job = job(ImportType.CUSTOMER_ORDERS, """
+                customer,product,quantity,status
+                Client %1$s,Chaise %1$s,4,EN_PREPARATION
+                Client %1$s,Chaise %1$s,20,EN_PREPARATION
+                Client %1$s,Chaise %1$s,5,EN_PREPARATION
+                Client %1$s,Inconnu,1,EN_PREPARATION
+                Client %1$s,Chaise %1$s,0,EN_PREPARATION
+                """.formatted(tag));
+
+        runner.run(job.getIdImport());
+
+        ImportJob done = reload(job);
+        assertEquals(ImportStatus.COMPLETED, done.getStatus());
+        assertEquals(2, done.getImportedCount());
+        assertEquals(3, done.getRejectedCount());
+        List<String> errors = errors(job);
+        assertTrue(errors.get(0).startsWith("2:Stock insuffisant"));
+        assertEquals("4:Produit inconnu: Inconnu", errors.get(1));
+        assertTrue(errors.get(2).startsWith("5:Colonne quantity"));
+        assertEquals(2, orderRepository.findByCustomer(customer).size());
+        assertEquals(9, productRepository.findById(product.getIdProduct()).orElseThrow().getReservedStock());
+    }
+
+    @Test
+    @DisplayName("Reprise après arrêt : l'import repart du point de reprise sans rejouer les lignes validées")
+    void testResumeFromCheckpoint() throws IOException {
+        String header = "customer,product,quantity,status\n";
+        String line = "Client %1$s,Chaise %1$s,1,EN_PREPARATION\n".formatted(tag);
+        ImportJob job = job(ImportType.CUSTOMER_ORDERS, header + line.repeat(5));
+
+        job.setStatus(ImportStatus.RUNNING);
+        job.setHeartbeatAt(LocalDateTime.now().minusHours(1));
+        job.setCheckpointOffset((long) (header + line + line).getBytes(StandardCharsets.UTF_8).length);
+        job.setRowsRead(2L);
+        job.setImportedCount(2L);
+        importJobRepository.save(job);
+
+        runner.run(job.getIdImport());
+
+        ImportJob done = reload(job);
+        assertEquals(ImportStatus.COMPLETED, done.getStatus());
+        assertEquals(5, done.getRowsRead());
+        assertEquals(5, done.getImportedCount());
+        assertEquals(3, orderRepository.findByCustomer(customer).size());
+    }
+
+    @Test
+    @DisplayName("Un import en cours sur une autre instance (heartbeat récent) n'est pas repris")
+    void testRunningImportNotClaimedTwice() throws IOException {
+        ImportJob job = job(ImportType.CUSTOMER_ORDERS,
+                "customer,product,quantity,status\nClient %1$s,Chaise %1$s,1,EN_PREPARATION\n".formatted(tag));
+        job.setStatus(ImportStatus.RUNNING);
+        job.setHeartbeatAt(LocalDateTime.now());
+        importJobRepository.save(job);
+
+        runner.run(job.getIdImport());
+
+        assertEquals(0, reload(job).getRowsRead());
+        assertTrue(orderRepository.findByCustomer(customer).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Import repris par un autre worker en cours de lot : le lot est annulé et le premier worker s'arrête")
+    void testReclaimedImportStopsFirstWorker() throws Exception {
+        ImportJob job = job(ImportType.CUSTOMER_ORDERS, """
+                customer,product,quantity,status
+                Client %1$s,Chaise %1$s,1,EN_PREPARATION
+                Client %1$s,Chaise %1$s,1,EN_PREPARATION
+                Client %1$s,Chaise %1$s,1,EN_PREPARATION
+                """.formatted(tag));
+        ImportHandler<?> orders = handlers.stream()
+                .filter(handler -> handler.type() == ImportType.CUSTOMER_ORDERS).findFirst().orElseThrow();
+        ExecutorService otherWorker = Executors.newSingleThreadExecutor();
+        try {
+            ImportJobRunner first = new ImportJobRunner(importJobRepository, importRowErrorRepository,
+                    transactionTemplate, List.of(reclaimedOnFirstSave(orders, job.getIdImport(), otherWorker)),
+                    2, 100, Duration.ofMinutes(5), false, NODE);
+
+            first.run(job.getIdImport());
+        } finally {
+            otherWorker.shutdown();
+        }
+
+        ImportJob reclaimed = reload(job);
+        assertEquals(ImportStatus.RUNNING, reclaimed.getStatus());
+        assertEquals("autre-worker", reclaimed.getOwner());
+        assertEquals(0, reclaimed.getRowsRead());
+        assertEquals(0, reclaimed.getImportedCount());
+        assertTrue(orderRepository.findByCustomer(customer).isEmpty());
+        assertTrue(Files.exists(Path.of(job.getStoragePath())));
+    }
+
+    @Test
+    @DisplayName("Fichier reçu par un autre nœud : repris seulement si le répertoire est partagé")
+    void testImportStoredOnAnotherNode() throws IOException {
+        ImportJob job = job(ImportType.CUSTOMER_ORDERS,
+                "customer,product,quantity,status\nClient %1$s,Chaise %1$s,1,EN_PREPARATION\n".formatted(tag));
+        job.setStorageNode("noeud-b");
+        importJobRepository.save(job);
+
+        runner.run(job.getIdImport());
+        assertEquals(ImportStatus.PENDING, reload(job).getStatus());
+
+        new ImportJobRunner(importJobRepository, importRowErrorRepository, transactionTemplate,
+                handlers, 2, 100, Duration.ofMinutes(5), true, NODE).run(job.getIdImport());
+        assertEquals(ImportStatus.COMPLETED, reload(job).getStatus());
+        assertEquals(1, orderRepository.findByCustomer(customer).size());
+    }
+
+    @Test
+    @DisplayName("Colonnes manquantes : l'import échoue avec le nom des colonnes")
+    void testMissingColumns() throws IOException {
+        ImportJob job = job(ImportType.CUSTOMER_ORDERS, "customer,quantity\nClient,1\n");
+
+        runner.run(job.getIdImport());
+
+        ImportJob done = reload(job);
+        assertEquals(ImportStatus.FAILED, done.getStatus());
+        assertEquals("Colonnes manquantes: product, status", done.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("Téléversement : 202 puis import traité en arrière-plan")
+    void testUploadIsProcessedAsynchronously() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "commandes.csv", "text/csv",
+                "customer,product,quantity,status\nClient %1$s,Chaise %1$s,3,EN_PREPARATION\n"
+                        .formatted(tag).getBytes(StandardCharsets.UTF_8));
+
+        String body = mockMvc.perform(multipart("/api/imports/customer-orders").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.fileName").value("commandes.csv"))
+                .andReturn().getResponse().getContentAsString();
+        Long id = Long.valueOf(body.replaceAll(".*\"idImport\":(\\d+).*", "$1"));
+        importIds.add(id);
+
+        ImportJob job = importJobRepository.findById(id).orElseThrow();
+        for (int i = 0; i < 100 && job.getStatus() != ImportStatus.COMPLETED; i++) {
+            Thread.sleep(100);
+            job = importJobRepository.findById(id).orElseThrow();
+        }
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getImportedCount());
+        assertEquals(3, orderRepository.findByCustomer(customer).get(0).getQuantity());
+    }
+
+    private ImportJob job(ImportType type, String content) throws IOException {
+        Path file = Files.writeString(directory.resolve(type + "-" + tag + ".csv"), content, StandardCharsets.UTF_8);
+        ImportJob job = new ImportJob();
+        job.setImportType(type);
+        job.setStatus(ImportStatus.PENDING);
+        job.setFileName(file.getFileName().toString());
+        job.setStoragePath(file.toString());
+        job.setStorageNode(NODE);
+        job.setCreatedAt(LocalDateTime.now());
+        job = importJobRepository.save(job);
+        importIds.add(job.getIdImport());
+        return job;
+    }
+
+    private ImportJob reload(ImportJob job) {
+        return importJobRepository.findById(job.getIdImport()).orElseThrow();
+    }
+
+    private List<String> errors(ImportJob job) {
+        return importRowErrorRepository.findByImportId(job.getIdImport(), Pageable.unpaged()).stream()
+                .sorted(Comparator.comparing(ImportRowError::getRowNumber))
+                .map(e -> e.getRowNumber() + ":" + e.getMessage())
+                .toList();
+    }
+
+    /** Au premier enregistrement, un autre worker reprend l'import (heartbeat considéré comme trop ancien). */
+    private <D> ImportHandler<D> reclaimedOnFirstSave(ImportHandler<D> delegate, Long importId, ExecutorService otherWorker) {
+        return new ImportHandler<>() {
+
+            private boolean reclaimed;
+
+            @Override
+            public ImportType type() {
+                return delegate.type();
+            }
+
+            @Override
+            public List<String> requiredColumns() {
+                return delegate.requiredColumns();
+            }
+
+            @Override
+            public D map(List<CsvRow> rows) {
+                return delegate.map(rows);
+            }
+
+            @Override
+            public void save(D unit) {
+                if (!reclaimed) {
+                    reclaimed = true;
+                    LocalDateTime now = LocalDateTime.now();
+                    try {
+                        assertEquals(1, otherWorker.submit(() -> transactionTemplate.execute(status ->
+                                importJobRepository.claim(importId, "autre-worker", NODE, ImportJobRunner.RESUMABLE,
+                                        now, now.plusHours(1)))).get(10, TimeUnit.SECONDS));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                delegate.save(unit);
+            }
+        };
+    }
+
+    private List<SupplyOrder> supplyOrders() {
+        return supplyOrderRepository.findAll().stream()
+                .filter(o -> o.getSupplier().getIdSupplier().equals(supplier.getIdSupplier()))
+                .toList();
+    }
+
+    private static RawMaterial material(String name) {
+        RawMaterial material = new RawMaterial();
+        material.setName(name);
+        material.setStock(20);
+        material.setStockMin(5);
+        material.setUnit("kg");
+        return material;
+    }
+}
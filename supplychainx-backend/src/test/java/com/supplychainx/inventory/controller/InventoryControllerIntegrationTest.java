@@ -0,0 +1,182 @@
+package com.supplychainx.inventory.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supplychainx.approvisionnement.dto.RawMaterialCreateDTO;
+import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import com.supplychainx.inventory.service.InventorySnapshotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class InventoryControllerIntegrationTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private InventorySnapshotService inventorySnapshotService;
+
+    @Test
+    @DisplayName("Création puis modification du stock : solde d'ouverture et ajustement journalisés")
+    void testCreateAndUpdateAreJournaled() throws Exception {
+        RawMaterialCreateDTO createDTO = new RawMaterialCreateDTO();
+        createDTO.setName("Steel");
+        createDTO.setStock(100);
+        createDTO.setStockMin(10);
+        createDTO.setUnit("kg");
+        String created = mockMvc.perform(post("/api/raw-materials")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(created).get("idMaterial").asLong();
+
+        RawMaterialUpdateDTO updateDTO = new RawMaterialUpdateDTO();
+        updateDTO.setName("Steel");
+        updateDTO.setStock(130);
+        updateDTO.setStockMin(10);
+        updateDTO.setUnit("kg");
+        mockMvc.perform(put("/api/raw-materials/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stock").value(130));
+
+        mockMvc.perform(get("/api/inventory/raw-materials/" + id + "/movements"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].sourceType").value("OPENING_BALANCE"))
+                .andExpect(jsonPath("$[0].quantity").value(100))
+                .andExpect(jsonPath("$[1].movementType").value("ADJUSTMENT"))
+                .andExpect(jsonPath("$[1].quantity").value(30));
+
+        mockMvc.perform(get("/api/inventory/raw-materials/" + id + "/stock"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stock").value(130));
+        assertEquals(130, rawMaterialRepository.findById(id).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("Stock à date : dernier snapshot antérieur + mouvements postérieurs seulement")
+    void testStockAtDateFromSnapshot() throws Exception {
+        Long id = material();
+        movement(id, 100, T0);
+        movement(id, -20, T0.plusHours(1));
+        movement(id, 50, T0.plusHours(3));
+        movement(id, -5, T0.plusHours(4));
+
+        assertEquals(1, inventorySnapshotService.takeSnapshots(T0.plusHours(2)).getSnapshotsWritten());
+
+        mockMvc.perform(get("/api/inventory/raw-materials/" + id + "/stock")
+                        .param("at", T0.plusMinutes(30).toString()))
+                .andExpect(jsonPath("$.stock").value(100))
+                .andExpect(jsonPath("$.snapshotAsOf").doesNotExist())
+                .andExpect(jsonPath("$.movementsScanned").value(1));
+
+        mockMvc.perform(get("/api/inventory/raw-materials/" + id + "/stock")
+                        .param("at", T0.plusHours(3).plusMinutes(30).toString()))
+                .andExpect(jsonPath("$.stock").value(130))
+                .andExpect(jsonPath("$.snapshotAsOf").value("2026-01-01T10:00:00"))
+                .andExpect(jsonPath("$.movementsScanned").value(1));
+
+        mockMvc.perform(get("/api/inventory/raw-materials/" + id + "/stock")
+                        .param("at", T0.plusHours(5).toString()))
+                .andExpect(jsonPath("$.stock").value(125))
+                .andExpect(jsonPath("$.movementsScanned").value(2));
+    }
+
+    @Test
+    @DisplayName("Snapshot suivant : uniquement les articles ayant bougé, à partir du snapshot précédent")
+    void testIncrementalSnapshots() throws Exception {
+        Long moving = material();
+        Long idle = material();
+        movement(moving, 10, T0);
+        movement(idle, 7, T0);
+        inventorySnapshotService.takeSnapshots(T0.plusHours(1));
+
+        movement(moving, 5, T0.plusHours(2));
+        assertEquals(1, inventorySnapshotService.takeSnapshots(T0.plusHours(3)).getSnapshotsWritten());
+
+        mockMvc.perform(get("/api/inventory/raw-materials/" + moving + "/stock")
+                        .param("at", T0.plusHours(4).toString()))
+                .andExpect(jsonPath("$.stock").value(15))
+                .andExpect(jsonPath("$.snapshotAsOf").value("2026-01-01T11:00:00"))
+                .andExpect(jsonPath("$.movementsScanned").value(0));
+        mockMvc.perform(get("/api/inventory/raw-materials/" + idle + "/stock")
+                        .param("at", T0.plusHours(4).toString()))
+                .andExpect(jsonPath("$.stock").value(7))
+                .andExpect(jsonPath("$.snapshotAsOf").value("2026-01-01T09:00:00"));
+    }
+
+    @Test
+    @DisplayName("Stock à date d'une matière inexistante doit retourner 404")
+    void testStockAtDate_NotFound() throws Exception {
+        mockMvc.perform(get("/api/inventory/raw-materials/999999/stock"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Déclenchement manuel des snapshots par un administrateur")
+    void testTakeSnapshotsEndpoint() throws Exception {
+        mockMvc.perform(post("/api/admin/inventory-snapshots"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.asOf").exists())
+                .andExpect(jsonPath("$.snapshotsWritten").isNumber());
+    }
+
+    private Long material() {
+        RawMaterial material = new RawMaterial();
+        material.setName("Bois");
+        material.setStock(0);
+        material.setStockMin(10);
+        material.setUnit("kg");
+        return rawMaterialRepository.save(material).getIdMaterial();
+    }
+
+    private void movement(Long materialId, int quantity, LocalDateTime occurredAt) {
+        InventoryMovement movement = new InventoryMovement();
+        movement.setItemType(InventoryItemType.RAW_MATERIAL);
+        movement.setItemId(materialId);
+        movement.setMovementType(quantity > 0 ? MovementType.RECEIPT : MovementType.CONSUMPTION);
+        movement.setQuantity(quantity);
+        movement.setSourceType(MovementSource.MANUAL);
+        movement.setOccurredAt(occurredAt);
+        inventoryMovementRepository.save(movement);
+    }
+}
@@ -0,0 +1,82 @@
+package com.supplychainx.inventory.service;
+
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryLedgerServiceTest {
+
+    @Mock
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private InventoryLedgerService inventoryLedgerService;
+
+    @Test
+    @DisplayName("Ajuster une matière : l'écart avec le stock en base est journalisé")
+    void testRecordAdjustment_RawMaterial() {
+        when(rawMaterialRepository.lockStock(1L)).thenReturn(Optional.of(100));
+
+        assertEquals(-30, inventoryLedgerService.recordAdjustment(InventoryItemType.RAW_MATERIAL, 1L, 70));
+
+        ArgumentCaptor<InventoryMovement> captor = ArgumentCaptor.forClass(InventoryMovement.class);
+        verify(inventoryMovementRepository).save(captor.capture());
+        assertEquals(InventoryItemType.RAW_MATERIAL, captor.getValue().getItemType());
+        assertEquals(MovementType.ADJUSTMENT, captor.getValue().getMovementType());
+        assertEquals(MovementSource.MANUAL, captor.getValue().getSourceType());
+        assertEquals(-30, captor.getValue().getQuantity());
+    }
+
+    @Test
+    @DisplayName("Ajuster un produit à son stock actuel ne journalise rien")
+    void testRecordAdjustment_Unchanged() {
+        when(productRepository.lockStock(2L)).thenReturn(Optional.of(40));
+
+        assertEquals(0, inventoryLedgerService.recordAdjustment(InventoryItemType.PRODUCT, 2L, 40));
+
+        verify(inventoryMovementRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Ajuster un article inexistant doit lever une exception")
+    void testRecordAdjustment_NotFound() {
+        when(productRepository.lockStock(9L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> inventoryLedgerService.recordAdjustment(InventoryItemType.PRODUCT, 9L, 10));
+    }
+
+    @Test
+    @DisplayName("Un mouvement de quantité nulle n'est pas journalisé")
+    void testAppend_ZeroQuantity() {
+        inventoryLedgerService.append(InventoryItemType.PRODUCT, 2L, MovementType.SHIPMENT, 0,
+                MovementSource.CUSTOMER_ORDER, 5L);
+
+        verifyNoInteractions(inventoryMovementRepository);
+    }
+}
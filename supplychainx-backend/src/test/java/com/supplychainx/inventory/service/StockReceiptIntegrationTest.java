@@ -0,0 +1,204 @@
+package com.supplychainx.inventory.service;
+
+import com.supplychainx.approvisionnement.dto.MaterialQuantityDTO;
+import com.supplychainx.approvisionnement.dto.SupplyOrderCreateDTO;
+import com.supplychainx.approvisionnement.dto.SupplyOrderUpdateDTO;
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.entity.Supplier;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplierRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.approvisionnement.service.SupplyOrderService;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Réceptions validées en base : sans transaction de test, chaque appel de service committe
+ * et les réceptions concurrentes se disputent réellement les lignes des matières.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StockReceiptIntegrationTest {
+
+    @Autowired
+    private SupplyOrderService supplyOrderService;
+
+    @Autowired
+    private SupplyOrderRepository supplyOrderRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    private Supplier supplier;
+    private RawMaterial wood;
+    private RawMaterial steel;
+
+    @BeforeEach
+    void setUp() {
+        supplier = new Supplier();
+        supplier.setName("Fournisseur Réception");
+        supplier.setContact("reception@test.com");
+        supplier.setRating(4.0);
+        supplier.setLeadTime(3);
+        supplier = supplierRepository.save(supplier);
+
+        wood = rawMaterialRepository.save(material("Bois", 100));
+        steel = rawMaterialRepository.save(material("Acier", 20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryMovementRepository.deleteAll(movements(wood));
+        inventoryMovementRepository.deleteAll(movements(steel));
+        supplyOrderRepository.deleteAll(supplyOrderRepository.findAll().stream()
+                .filter(o -> o.getSupplier().getIdSupplier().equals(supplier.getIdSupplier()))
+                .toList());
+        rawMaterialRepository.deleteById(wood.getIdMaterial());
+        rawMaterialRepository.deleteById(steel.getIdMaterial());
+        supplierRepository.deleteById(supplier.getIdSupplier());
+    }
+
+    @Test
+    @DisplayName("Passage en RECUE : stock incrémenté et une ligne de journal par ligne de commande")
+    void testReceiptIncrementsStockAndWritesLedger() {
+        Long orderId = supplyOrderService.createSupplyOrder(create("EN_COURS",
+                line(wood, 30), line(steel, 5), line(wood, 10))).getIdOrder();
+        assertEquals(100, stock(wood));
+
+        supplyOrderService.updateSupplyOrder(orderId, update("RECUE",
+                line(wood, 30), line(steel, 5), line(wood, 10)));
+
+        assertEquals(140, stock(wood));
+        assertEquals(25, stock(steel));
+        List<InventoryMovement> woodMovements = movements(wood);
+        assertEquals(2, woodMovements.size());
+        assertTrue(woodMovements.stream().allMatch(m -> m.getMovementType() == MovementType.RECEIPT
+                && orderId.equals(m.getSourceId())));
+        assertEquals(40, woodMovements.stream().mapToInt(InventoryMovement::getQuantity).sum());
+        assertNotNull(supplyOrderRepository.findById(orderId).orElseThrow().getReceivedAt());
+    }
+
+    @Test
+    @DisplayName("Retry d'une réception : le stock n'est pas compté deux fois")
+    void testRetryIsIdempotent() {
+        Long orderId = supplyOrderService.createSupplyOrder(create("RECUE", line(wood, 30))).getIdOrder();
+        assertEquals(130, stock(wood));
+
+        supplyOrderService.updateSupplyOrder(orderId, update("RECUE", line(wood, 30)));
+
+        assertEquals(130, stock(wood));
+        assertEquals(1, movements(wood).size());
+        assertThrows(BusinessRuleException.class,
+                () -> supplyOrderService.updateSupplyOrder(orderId, update("EN_COURS", line(wood, 30))));
+    }
+
+    @Test
+    @DisplayName("Réceptions concurrentes de la même commande : appliquée une seule fois")
+    void testConcurrentReceiptsOfSameOrder() throws Exception {
+        Long orderId = supplyOrderService.createSupplyOrder(create("EN_COURS", line(wood, 7))).getIdOrder();
+
+        runConcurrently(16, i -> supplyOrderService.updateSupplyOrder(orderId, update("RECUE", line(wood, 7))));
+
+        assertEquals(107, stock(wood));
+        assertEquals(1, movements(wood).size());
+    }
+
+    @Test
+    @DisplayName("Réceptions concurrentes de commandes distinctes sur la même matière : aucune perdue")
+    void testConcurrentReceiptsOfDifferentOrders() throws Exception {
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            orderIds.add(supplyOrderService.createSupplyOrder(create("EN_COURS", line(wood, 3), line(steel, 1))).getIdOrder());
+        }
+
+        runConcurrently(orderIds.size(), i -> supplyOrderService.updateSupplyOrder(orderIds.get(i),
+                update("RECUE", line(wood, 3), line(steel, 1))));
+
+        assertEquals(160, stock(wood));
+        assertEquals(40, stock(steel));
+        assertEquals(20, movements(wood).size());
+    }
+
+    private interface Task {
+        void run(int index);
+    }
+
+    private void runConcurrently(int tasks, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SupplyOrderCreateDTO create(String status, MaterialQuantityDTO... lines) {
+        return new SupplyOrderCreateDTO(supplier.getIdSupplier(), List.of(lines), LocalDate.now(), status);
+    }
+
+    private SupplyOrderUpdateDTO update(String status, MaterialQuantityDTO... lines) {
+        return new SupplyOrderUpdateDTO(supplier.getIdSupplier(), List.of(lines), LocalDate.now(), status);
+    }
+
+    private static MaterialQuantityDTO line(RawMaterial material, int quantity) {
+        return new MaterialQuantityDTO(material.getIdMaterial(), quantity);
+    }
+
+    private int stock(RawMaterial material) {
+        return rawMaterialRepository.findById(material.getIdMaterial()).orElseThrow().getStock();
+    }
+
+    private List<InventoryMovement> movements(RawMaterial material) {
+        return inventoryMovementRepository.findByItemTypeAndItemIdOrderByIdAsc(
+                InventoryItemType.RAW_MATERIAL, material.getIdMaterial());
+    }
+
+    private static RawMaterial material(String name, int stock) {
+        RawMaterial material = new RawMaterial();
+        material.setName(name);
+        material.setStock(stock);
+        material.setStockMin(10);
+        material.setUnit("kg");
+        return material;
+    }
+}
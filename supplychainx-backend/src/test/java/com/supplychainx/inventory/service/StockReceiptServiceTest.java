@@ -0,0 +1,93 @@
+package com.supplychainx.inventory.service;
+
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.entity.SupplyOrder;
+import com.supplychainx.approvisionnement.entity.SupplyOrderMaterial;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.service.EntityCacheEvictor;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReceiptServiceTest {
+
+    @Mock
+    private SupplyOrderRepository supplyOrderRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @InjectMocks
+    private StockReceiptService stockReceiptService;
+
+    private SupplyOrder order;
+
+    @BeforeEach
+    void setUp() {
+        order = new SupplyOrder();
+        order.setIdOrder(7L);
+        order.setStatus(SupplyOrderStatus.RECUE);
+        order.getOrderMaterials().add(line(order, 1L, 10));
+        order.getOrderMaterials().add(line(order, 2L, 5));
+        order.getOrderMaterials().add(line(order, 1L, 3));
+    }
+
+    @Test
+    @DisplayName("Réception : journal, stock et cache des matières mis à jour")
+    void testReceive_Success() {
+        when(supplyOrderRepository.markReceived(eq(7L), any(LocalDateTime.class))).thenReturn(1);
+        when(inventoryMovementRepository.insertSupplyOrderReceipt(eq(7L), any(LocalDateTime.class))).thenReturn(3);
+        when(rawMaterialRepository.applySupplyOrderReceipt(7L)).thenReturn(2);
+
+        assertTrue(stockReceiptService.receive(order));
+
+        verify(inventoryMovementRepository).insertSupplyOrderReceipt(eq(7L), any(LocalDateTime.class));
+        verify(rawMaterialRepository).applySupplyOrderReceipt(7L);
+        verify(entityCacheEvictor).evict(RawMaterial.class, List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Commande déjà reçue : ni mouvement ni modification du stock")
+    void testReceive_AlreadyReceived() {
+        when(supplyOrderRepository.markReceived(eq(7L), any(LocalDateTime.class))).thenReturn(0);
+
+        assertFalse(stockReceiptService.receive(order));
+
+        verify(inventoryMovementRepository, never()).insertSupplyOrderReceipt(anyLong(), any());
+        verify(rawMaterialRepository, never()).applySupplyOrderReceipt(anyLong());
+        verifyNoInteractions(entityCacheEvictor);
+    }
+
+    private static SupplyOrderMaterial line(SupplyOrder order, Long materialId, int quantity) {
+        RawMaterial material = new RawMaterial();
+        material.setIdMaterial(materialId);
+        SupplyOrderMaterial line = new SupplyOrderMaterial();
+        line.setSupplyOrder(order);
+        line.setRawMaterial(material);
+        line.setQuantity(quantity);
+        return line;
+    }
+}
@@ -15,6 +15,7 @@ import com.supplychainx.livraison.repository.DeliveryRepository;
 import com.supplychainx.livraison.repository.OrderRepository;
 import com.supplychainx.production.entity.Product;
 import com.supplychainx.production.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,11 +27,14 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -62,6 +66,9 @@ class DeliveryControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private String testUserEmail = "admin@test.com";
     private String testUserPassword = "password123";
     
@@ -203,6 +210,27 @@ class DeliveryControllerIntegrationTest {
                 .andExpect(jsonPath("$.status", is("PLANIFIEE")));
     }
 
+    @Test
+    @DisplayName("GET /api/deliveries/export - Flux CSV en pièce jointe")
+    void testExportDeliveries_Csv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/deliveries/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"deliveries.csv\""))
+                .andExpect(content().string(startsWith("idDelivery,orderId,")));
+    }
+
+    @Test
+    @DisplayName("GET /api/deliveries/export - Format non supporté")
+    void testExportDeliveries_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/deliveries/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/deliveries/{id} - Livraison non trouvée")
     void testGetDeliveryById_NotFound() throws Exception {
@@ -382,5 +410,70 @@ class DeliveryControllerIntegrationTest {
         assert finalOrder.getStatus() == OrderStatus.LIVREE : 
             "Le statut de la commande devrait être LIVREE après la livraison";
     }
-}
 
+    @Test
+    @DisplayName("POST /api/deliveries/dispatch - Tournées par ville et capacité, ville inconnue non affectée")
+    void testDispatch_GroupsByCityWithinCapacity() throws Exception {
+        LocalDate date = testDelivery.getDeliveryDate();
+        Long lyonLarge = plannedDelivery("Lyon", 150, date);
+        Long lyonSmall = plannedDelivery("Lyon", 100, date);
+        Long marseille = plannedDelivery("Marseille", 100, date);
+        Long unknown = plannedDelivery("Atlantis", 5, date);
+        plannedDelivery("Lyon", 50, date.plusDays(1));
+
+        mockMvc.perform(post("/api/deliveries/dispatch")
+                .header("email", testUserEmail).header("password", testUserPassword)
+                .param("from", date.toString())
+                .param("to", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deliveriesAssigned", is(4)))
+                .andExpect(jsonPath("$.unassignedDeliveryIds", contains(unknown.intValue())))
+                .andExpect(jsonPath("$.routes", hasSize(2)))
+                // Paris -> Lyon (465) -> Marseille (315) -> Paris via Lyon (780)
+                .andExpect(jsonPath("$.routes[0].vehicle", is("TRUCK-1")))
+                .andExpect(jsonPath("$.routes[0].load", is(350)))
+                .andExpect(jsonPath("$.routes[0].distanceKm", is(1560.0)))
+                .andExpect(jsonPath("$.routes[0].deliveryIds", containsInAnyOrder(
+                        lyonLarge.intValue(), lyonSmall.intValue(), marseille.intValue())))
+                .andExpect(jsonPath("$.routes[1].vehicle", is("VAN-1")))
+                .andExpect(jsonPath("$.routes[1].distanceKm", is(0.0)));
+
+        entityManager.flush();
+        entityManager.clear();
+        Delivery assigned = deliveryRepository.findById(lyonLarge).orElseThrow();
+        assertEquals("TRUCK-1", assigned.getVehicle());
+        assertEquals(20 + 1560 * 1.2 * 150 / 350, assigned.getCost(), 0.01);
+        assertNull(deliveryRepository.findById(unknown).orElseThrow().getVehicle());
+    }
+
+    @Test
+    @DisplayName("POST /api/deliveries/dispatch - Plage de dates inversée")
+    void testDispatch_InvalidRange() throws Exception {
+        mockMvc.perform(post("/api/deliveries/dispatch")
+                .header("email", testUserEmail).header("password", testUserPassword)
+                .param("from", "2026-02-10")
+                .param("to", "2026-02-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long plannedDelivery(String city, int quantity, LocalDate date) {
+        Customer customer = new Customer();
+        customer.setName("Client " + city);
+        customer.setAddress("1 Rue Test");
+        customer.setCity(city);
+        customer = customerRepository.save(customer);
+
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setProduct(testProduct);
+        order.setQuantity(quantity);
+        order.setStatus(OrderStatus.EN_PREPARATION);
+        order = orderRepository.save(order);
+
+        Delivery delivery = new Delivery();
+        delivery.setOrder(order);
+        delivery.setStatus(DeliveryStatus.PLANIFIEE);
+        delivery.setDeliveryDate(date);
+        return deliveryRepository.save(delivery).getIdDelivery();
+    }
+}
@@ -0,0 +1,93 @@
+package com.supplychainx.livraison.dispatch;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tournées de {@code days} jours de 400 livraisons vers 60 villes, flotte de 40 véhicules :
+ * jours planifiés l'un après l'autre vs en parallèle ({@link RoutePlanner#planDays}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutePlannerBenchmark {
+
+    private static final int CITIES = 60;
+    private static final int DELIVERIES_PER_DAY = 400;
+
+    @Param({"1", "30"})
+    private int days;
+
+    private RoutePlanner planner;
+    private List<List<DispatchStop>> stops;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> cities = new ArrayList<>(CITIES);
+        double[] x = new double[CITIES];
+        double[] y = new double[CITIES];
+        for (int c = 0; c < CITIES; c++) {
+            cities.add("City" + c);
+            x[c] = random.nextDouble(1_000);
+            y[c] = random.nextDouble(1_000);
+        }
+        double[][] distances = new double[CITIES][CITIES];
+        for (int i = 0; i < CITIES; i++) {
+            for (int j = 0; j < CITIES; j++) {
+                distances[i][j] = Math.hypot(x[i] - x[j], y[i] - y[j]);
+            }
+        }
+
+        List<Vehicle> fleet = new ArrayList<>();
+        for (int v = 0; v < 40; v++) {
+            fleet.add(new Vehicle("V" + v, v < 30 ? 200 : 800));
+        }
+        planner = new RoutePlanner(new DistanceMatrix(cities, distances), "City0", fleet);
+
+        LocalDate first = LocalDate.now();
+        stops = new ArrayList<>(days);
+        long id = 1;
+        for (int d = 0; d < days; d++) {
+            List<DispatchStop> day = new ArrayList<>(DELIVERIES_PER_DAY);
+            for (int s = 0; s < DELIVERIES_PER_DAY; s++) {
+                day.add(new DispatchStop(id++, "City" + random.nextInt(1, CITIES), random.nextInt(1, 30),
+                        first.plusDays(d)));
+            }
+            stops.add(day);
+        }
+    }
+
+    @Benchmark
+    public Object sequential() {
+        List<DayPlan> plans = new ArrayList<>(stops.size());
+        for (List<DispatchStop> day : stops) {
+            plans.add(planner.planDay(day));
+        }
+        return plans;
+    }
+
+    @Benchmark
+    public Object parallel() {
+        return planner.planDays(stops);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RoutePlannerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
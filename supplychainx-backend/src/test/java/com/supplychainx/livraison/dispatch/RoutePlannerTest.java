@@ -0,0 +1,66 @@
+package com.supplychainx.livraison.dispatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePlannerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    // Dépôt D, villes sur deux branches : D-A-B à l'est, D-C à l'ouest
+    private static final DistanceMatrix MATRIX = DistanceMatrix.fromSegments(List.of(
+            "# test",
+            "D,A,100",
+            "A,B,50",
+            "D,C,80",
+            "D,B,200"));
+
+    @Test
+    @DisplayName("Matrice : plus court chemin entre villes non reliées, noms insensibles à la casse")
+    void testShortestPaths() {
+        assertEquals(150, MATRIX.distance(MATRIX.indexOf("d"), MATRIX.indexOf("B")));
+        assertEquals(230, MATRIX.distance(MATRIX.indexOf("C"), MATRIX.indexOf("B")));
+        assertEquals(-1, MATRIX.indexOf("Z"));
+    }
+
+    @Test
+    @DisplayName("Une tournée par branche, dans la limite de capacité, ordre de visite optimisé")
+    void testRoutesPerBranchWithinCapacity() {
+        RoutePlanner planner = new RoutePlanner(MATRIX, "D", List.of(new Vehicle("V1", 100), new Vehicle("V2", 100)));
+
+        DayPlan plan = planner.planDay(List.of(
+                stop(1, "B", 30), stop(2, "A", 40), stop(3, "C", 60), stop(4, "A", 20), stop(5, "Z", 1)));
+
+        assertEquals(List.of(5L), plan.unassigned().stream().map(DispatchStop::deliveryId).toList());
+        assertEquals(2, plan.routes().size());
+        PlannedRoute east = plan.routes().get(0);
+        assertEquals(90, east.load());
+        assertEquals(300, east.distanceKm(), 1e-9);
+        assertTrue(east.cities().equals(List.of("A", "B")) || east.cities().equals(List.of("B", "A")));
+        assertEquals(160, plan.routes().get(1).distanceKm(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Flotte épuisée ou livraison trop grosse : livraisons non affectées")
+    void testFleetExhausted() {
+        RoutePlanner planner = new RoutePlanner(MATRIX, "D", List.of(new Vehicle("V1", 100)));
+
+        List<DayPlan> plans = planner.planDays(List.of(
+                List.of(stop(1, "A", 80), stop(2, "C", 80), stop(3, "B", 150)),
+                List.of(stop(4, "C", 10))));
+
+        assertEquals(1, plans.get(0).routes().size());
+        assertEquals(2, plans.get(0).unassigned().size());
+        assertTrue(plans.get(0).unassigned().stream().anyMatch(stop -> stop.deliveryId() == 3L));
+        assertEquals(List.of(4L), plans.get(1).routes().get(0).stops().stream().map(DispatchStop::deliveryId).toList());
+    }
+
+    private static DispatchStop stop(long id, String city, int quantity) {
+        return new DispatchStop(id, city, quantity, DAY);
+    }
+}
@@ -1,5 +1,6 @@
 package com.supplychainx.livraison.service;
 
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.livraison.dto.CustomerRequestDTO;
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -190,28 +193,28 @@ class CustomerServiceTest {
         responseDTO2.setIdCustomer(2L);
         responseDTO2.setName("Client 2");
         
-        when(customerRepository.findAll()).thenReturn(customers);
+        when(customerRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(customers));
         when(customerMapper.toResponseDTO(customer)).thenReturn(responseDTO);
         when(customerMapper.toResponseDTO(customer2)).thenReturn(responseDTO2);
 
-        List<CustomerResponseDTO> result = customerService.getAllCustomers();
+        List<CustomerResponseDTO> result = customerService.getAllCustomers(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(customerRepository, times(1)).findAll();
+        verify(customerRepository, times(1)).findAll(any(Pageable.class));
         verify(customerMapper, times(2)).toResponseDTO(any(Customer.class));
     }
 
     @Test
     @DisplayName("Récupérer une liste vide si aucun client")
     void testGetAllCustomers_EmptyList() {
-        when(customerRepository.findAll()).thenReturn(new ArrayList<>());
+        when(customerRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<>()));
 
-        List<CustomerResponseDTO> result = customerService.getAllCustomers();
+        List<CustomerResponseDTO> result = customerService.getAllCustomers(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(customerRepository, times(1)).findAll();
+        verify(customerRepository, times(1)).findAll(any(Pageable.class));
     }
 
     
@@ -1,5 +1,8 @@
 package com.supplychainx.livraison.service;
 
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.common.export.ExportFormat;
+import com.supplychainx.common.export.StreamingExporter;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.livraison.dto.DeliveryRequestDTO;
 import com.supplychainx.livraison.dto.DeliveryResponseDTO;
@@ -15,19 +18,25 @@ import com.supplychainx.mapper.DeliveryMapper;
 import com.supplychainx.mapper.OrderMapper;
 import com.supplychainx.mapper.ProductMapper;
 import com.supplychainx.production.entity.Product;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,6 +63,17 @@ class DeliveryServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private StatusEventBus statusEventBus;
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+
+    @Spy
+    private StreamingExporter streamingExporter = new StreamingExporter(entityManager);
+
     @InjectMocks
     private DeliveryService deliveryService;
 
@@ -300,4 +320,37 @@ class DeliveryServiceTest {
         assertNotNull(associatedOrder.getProduct());
         assertNotNull(associatedOrder.getCustomer());
     }
+
+    @Test
+    @DisplayName("Exporter les livraisons en NDJSON et détacher chaque ligne écrite")
+    void testExportDeliveries_Ndjson() throws IOException {
+        when(deliveryRepository.streamAllForExport()).thenReturn(Stream.of(delivery));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = deliveryService.exportDeliveries(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows);
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].startsWith("{\"idDelivery\":1,\"orderId\":1,"));
+        assertTrue(lines[0].contains("\"customerCity\":\"Paris\""));
+        assertTrue(lines[0].contains("\"status\":\"PLANIFIEE\""));
+        verify(entityManager).detach(delivery);
+        verify(entityManager).detach(order);
+    }
+
+    @Test
+    @DisplayName("Exporter les livraisons en CSV avec en-tête et échappement")
+    void testExportDeliveries_Csv() throws IOException {
+        delivery.setDriver("Dupont, Jean");
+        when(deliveryRepository.streamAllForExport()).thenReturn(Stream.of(delivery));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        deliveryService.exportDeliveries(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("idDelivery,orderId,customerId,customerCity"));
+        assertTrue(lines[1].contains(",\"Dupont, Jean\",PLANIFIEE,"));
+    }
 }
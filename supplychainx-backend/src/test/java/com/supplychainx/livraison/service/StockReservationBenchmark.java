@@ -0,0 +1,111 @@
+package com.supplychainx.livraison.service;
+
+import com.supplychainx.SupplychainManagementApplication;
+import com.supplychainx.livraison.dto.OrderRequestDTO;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.repository.CustomerRepository;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Débit de {@link OrderService#createOrder} sous contention : 200 threads soumettent des
+ * commandes soit sur un seul produit ({@code hotSku}), soit chacun sur son propre produit
+ * ({@code spreadSkus}). Contexte Spring du profil test (H2), logs SQL coupés, pool Hikari
+ * par défaut (10 connexions).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(200)
+@Fork(1)
+public class StockReservationBenchmark {
+
+    private static final int THREADS = 200;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private Long customerId;
+    private Long hotProductId;
+    private final List<Long> productIds = new ArrayList<>();
+    private final AtomicInteger nextThread = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class ThreadProduct {
+        private Long productId;
+
+        @Setup
+        public void setUp(StockReservationBenchmark benchmark) {
+            productId = benchmark.productIds.get(benchmark.nextThread.getAndIncrement() % THREADS);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SupplychainManagementApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.supplychainx=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+        orderService = context.getBean(OrderService.class);
+
+        Customer customer = new Customer();
+        customer.setName("Client Benchmark");
+        customer.setAddress("1 rue du Banc");
+        customer.setCity("Paris");
+        customerId = context.getBean(CustomerRepository.class).save(customer).getIdCustomer();
+
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        hotProductId = productRepository.save(product("Produit chaud")).getIdProduct();
+        for (int i = 0; i < THREADS; i++) {
+            productIds.add(productRepository.save(product("Produit " + i)).getIdProduct());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object hotSku() {
+        return orderService.createOrder(new OrderRequestDTO(customerId, hotProductId, 1, "EN_PREPARATION"));
+    }
+
+    @Benchmark
+    public Object spreadSkus(ThreadProduct thread) {
+        return orderService.createOrder(new OrderRequestDTO(customerId, thread.productId, 1, "EN_PREPARATION"));
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setProductionTime(60);
+        product.setCost(100.0);
+        product.setStock(Integer.MAX_VALUE);
+        return product;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(StockReservationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
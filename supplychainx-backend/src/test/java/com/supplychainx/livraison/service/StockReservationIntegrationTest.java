@@ -0,0 +1,254 @@
+package com.supplychainx.livraison.service;
+
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.outbox.OutboxEvent;
+import com.supplychainx.common.outbox.OutboxEventRepository;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.inventory.entity.InventoryMovement;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.repository.InventoryMovementRepository;
+import com.supplychainx.livraison.dto.DeliveryRequestDTO;
+import com.supplychainx.livraison.dto.OrderRequestDTO;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.repository.CustomerRepository;
+import com.supplychainx.livraison.repository.DeliveryRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Réservations validées en base : sans transaction de test, chaque appel de service
+ * committe et les commandes concurrentes se disputent réellement la ligne du produit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StockReservationIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    private Product product;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+        customer.setName("Client Réservation");
+        customer.setAddress("1 rue du Stock");
+        customer.setCity("Lyon");
+        customer = customerRepository.save(customer);
+
+        product = new Product();
+        product.setName("Chaise");
+        product.setProductionTime(60);
+        product.setCost(100.0);
+        product.setStock(50);
+        product = productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryRepository.deleteAll(deliveryRepository.findAll().stream()
+                .filter(d -> d.getOrder().getCustomer().getIdCustomer().equals(customer.getIdCustomer()))
+                .toList());
+        orderRepository.deleteAll(orderRepository.findByCustomer(customer));
+        productRepository.deleteById(product.getIdProduct());
+        customerRepository.deleteById(customer.getIdCustomer());
+    }
+
+    @Test
+    @DisplayName("200 commandes concurrentes sur le même produit : jamais plus que le stock")
+    void testConcurrentOrdersNeverOversell() throws Exception {
+        int submissions = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < submissions; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        orderService.createOrder(order(1));
+                        accepted.incrementAndGet();
+                    } catch (BusinessRuleException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Product reloaded = productRepository.findById(product.getIdProduct()).orElseThrow();
+        assertEquals(50, accepted.get());
+        assertEquals(150, rejected.get());
+        assertEquals(50, reloaded.getReservedStock());
+        assertEquals(50, reloaded.getStock());
+        assertEquals(50, orderRepository.findByCustomer(customer).size());
+    }
+
+    @Test
+    @DisplayName("Annuler une commande libère sa réservation et publie l'annulation")
+    void testCancelReleasesReservation() {
+        Long orderId = orderService.createOrder(order(30)).getIdOrder();
+        assertThrows(BusinessRuleException.class, () -> orderService.createOrder(order(30)));
+
+        orderService.cancelOrder(orderId);
+
+        OutboxEvent cancelled = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getEntityType() == EntityType.ORDER && event.getEntityId().equals(orderId))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        assertEquals("EN_PREPARATION", cancelled.getPreviousStatus());
+        assertNull(cancelled.getStatus());
+        assertEquals(0, reservedStock());
+        assertEquals(30, orderService.createOrder(order(30)).getQuantity());
+        assertEquals(30, reservedStock());
+    }
+
+    @Test
+    @DisplayName("Modifier la quantité d'une commande ajuste sa réservation")
+    void testUpdateAdjustsReservation() {
+        Long orderId = orderService.createOrder(order(30)).getIdOrder();
+
+        orderService.updateOrder(orderId, order(45));
+        assertEquals(45, reservedStock());
+
+        assertThrows(BusinessRuleException.class, () -> orderService.updateOrder(orderId, order(60)));
+        assertEquals(45, reservedStock());
+    }
+
+    @Test
+    @DisplayName("Livraison LIVREE : la réservation sort du stock physique")
+    void testDeliveryCommitsReservation() {
+        Long orderId = orderService.createOrder(order(20)).getIdOrder();
+        DeliveryRequestDTO delivery = new DeliveryRequestDTO();
+        delivery.setOrderId(orderId);
+        delivery.setVehicle("Camion");
+        delivery.setStatus("PLANIFIEE");
+        delivery.setDeliveryDate(LocalDate.now().plusDays(1));
+        Long deliveryId = deliveryService.createDelivery(delivery).getIdDelivery();
+
+        deliveryService.updateDeliveryStatus(deliveryId, "LIVREE");
+        deliveryService.updateDeliveryStatus(deliveryId, "LIVREE");
+
+        Product reloaded = productRepository.findById(product.getIdProduct()).orElseThrow();
+        assertEquals(30, reloaded.getStock());
+        assertEquals(0, reloaded.getReservedStock());
+        assertEquals(0, orderRepository.findById(orderId).orElseThrow().getReservedQuantity());
+    }
+
+    @Test
+    @DisplayName("Commande modifiée en LIVREE : la réservation sort du stock physique")
+    void testUpdateToDeliveredCommitsReservation() {
+        Long orderId = orderService.createOrder(order(20)).getIdOrder();
+
+        orderService.updateOrder(orderId, new OrderRequestDTO(customer.getIdCustomer(), product.getIdProduct(), 25, "LIVREE"));
+        orderService.updateOrder(orderId, new OrderRequestDTO(customer.getIdCustomer(), product.getIdProduct(), 25, "LIVREE"));
+
+        Product reloaded = productRepository.findById(product.getIdProduct()).orElseThrow();
+        assertEquals(25, reloaded.getStock());
+        assertEquals(0, reloaded.getReservedStock());
+        assertEquals(0, orderRepository.findById(orderId).orElseThrow().getReservedQuantity());
+    }
+
+    @Test
+    @DisplayName("Commande créée directement en LIVREE : sortie de stock et mouvement SHIPMENT")
+    void testCreateAsDeliveredCommitsStock() {
+        Long orderId = orderService.createOrder(
+                new OrderRequestDTO(customer.getIdCustomer(), product.getIdProduct(), 20, "LIVREE")).getIdOrder();
+
+        Product reloaded = productRepository.findById(product.getIdProduct()).orElseThrow();
+        assertEquals(30, reloaded.getStock());
+        assertEquals(0, reloaded.getReservedStock());
+        assertEquals(0, orderRepository.findById(orderId).orElseThrow().getReservedQuantity());
+        List<InventoryMovement> movements = inventoryMovementRepository
+                .findByItemTypeAndItemIdOrderByIdAsc(InventoryItemType.PRODUCT, product.getIdProduct());
+        assertEquals(1, movements.size());
+        assertEquals(MovementType.SHIPMENT, movements.get(0).getMovementType());
+        assertEquals(-20, movements.get(0).getQuantity());
+        assertEquals(orderId, movements.get(0).getSourceId());
+    }
+
+    @Test
+    @DisplayName("Commande créée en LIVREE au-delà du stock : refusée")
+    void testCreateAsDeliveredBeyondStockRejected() {
+        assertThrows(BusinessRuleException.class, () -> orderService.createOrder(
+                new OrderRequestDTO(customer.getIdCustomer(), product.getIdProduct(), 60, "LIVREE")));
+
+        Product reloaded = productRepository.findById(product.getIdProduct()).orElseThrow();
+        assertEquals(50, reloaded.getStock());
+        assertEquals(0, reloaded.getReservedStock());
+        assertTrue(orderRepository.findByCustomer(customer).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Commande LIVREE : retour à un autre statut refusé, stock inchangé")
+    void testUpdateFromDeliveredRejected() {
+        Long orderId = orderService.createOrder(
+                new OrderRequestDTO(customer.getIdCustomer(), product.getIdProduct(), 20, "LIVREE")).getIdOrder();
+
+        assertThrows(BusinessRuleException.class, () -> orderService.updateOrder(orderId, order(20)));
+
+        Product reloaded = productRepository.findById(product.getIdProduct()).orElseThrow();
+        assertEquals(30, reloaded.getStock());
+        assertEquals(0, reloaded.getReservedStock());
+        assertEquals("LIVREE", orderRepository.findById(orderId).orElseThrow().getStatus().name());
+    }
+
+    private OrderRequestDTO order(int quantity) {
+        return new OrderRequestDTO(customer.getIdCustomer(), product.getIdProduct(), quantity, "EN_PREPARATION");
+    }
+
+    private int reservedStock() {
+        return productRepository.findById(product.getIdProduct()).orElseThrow().getReservedStock();
+    }
+}
@@ -0,0 +1,129 @@
+package com.supplychainx.livraison.service;
+
+import com.supplychainx.common.service.EntityCacheEvictor;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.enums.MovementSource;
+import com.supplychainx.inventory.enums.MovementType;
+import com.supplychainx.inventory.service.InventoryLedgerService;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Mock
+    private InventoryLedgerService inventoryLedgerService;
+
+    @InjectMocks
+    private StockReservationService stockReservationService;
+
+    private Product product;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        product = new Product();
+        product.setIdProduct(1L);
+        product.setName("Chaise");
+        product.setStock(100);
+
+        order = new Order();
+        order.setIdOrder(5L);
+        order.setProduct(product);
+        order.setQuantity(10);
+        order.setStatus(OrderStatus.EN_PREPARATION);
+    }
+
+    @Test
+    @DisplayName("Réserver : la quantité réservée est enregistrée sur la commande")
+    void testReserve_Success() {
+        when(productRepository.reserveStock(1L, 10)).thenReturn(1);
+
+        stockReservationService.reserve(order);
+
+        assertEquals(10, order.getReservedQuantity());
+        verify(entityCacheEvictor).evict(Product.class, 1L);
+    }
+
+    @Test
+    @DisplayName("Réserver au-delà du stock disponible doit échouer")
+    void testReserve_InsufficientStock() {
+        when(productRepository.reserveStock(1L, 10)).thenReturn(0);
+
+        BusinessRuleException ex = assertThrows(BusinessRuleException.class,
+                () -> stockReservationService.reserve(order));
+
+        assertTrue(ex.getMessage().contains("Stock insuffisant"));
+        assertEquals(0, order.getReservedQuantity());
+    }
+
+    @Test
+    @DisplayName("Libérer : la réservation de la commande est rendue au stock disponible")
+    void testRelease_Success() {
+        order.setReservedQuantity(10);
+        when(productRepository.releaseStock(1L, 10)).thenReturn(1);
+
+        stockReservationService.release(order);
+
+        assertEquals(0, order.getReservedQuantity());
+        verify(productRepository).releaseStock(1L, 10);
+    }
+
+    @Test
+    @DisplayName("Libérer une commande sans réservation ne touche pas au stock")
+    void testRelease_NothingReserved() {
+        stockReservationService.release(order);
+
+        verify(productRepository, never()).releaseStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Livrer : la quantité réservée sort du stock physique")
+    void testCommit_Success() {
+        order.setReservedQuantity(10);
+        when(productRepository.commitStock(1L, 10)).thenReturn(1);
+        when(entityManager.contains(product)).thenReturn(true);
+
+        stockReservationService.commit(order);
+
+        assertEquals(0, order.getReservedQuantity());
+        verify(inventoryLedgerService).append(InventoryItemType.PRODUCT, 1L, MovementType.SHIPMENT, -10,
+                MovementSource.CUSTOMER_ORDER, 5L);
+        verify(entityManager).refresh(product);
+    }
+
+    @Test
+    @DisplayName("Livrer alors que le stock a été réduit sous la réservation doit échouer")
+    void testCommit_StockBelowReservation() {
+        order.setReservedQuantity(10);
+        when(productRepository.commitStock(1L, 10)).thenReturn(0);
+
+        assertThrows(BusinessRuleException.class, () -> stockReservationService.commit(order));
+        assertEquals(10, order.getReservedQuantity());
+    }
+}
@@ -0,0 +1,110 @@
+package com.supplychainx.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.supplychainx.logging.service.ItemService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surcoût de {@link BusinessLoggingAspect} par appel d'une méthode {@code create*}
+ * (advice {@code @Around} + {@code @AfterReturning}), appenders remplacés par un NOP.
+ * <p>
+ * {@code legacyMetadata} reproduit l'ancien calcul à chaque appel ({@code getMethods()} +
+ * regex), {@code cachedMetadata} lit le {@link ServiceMethodDescriptor} précalculé.
+ * {@code level=WARN} mesure le chemin avec INFO désactivé.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessLoggingAspectBenchmark {
+
+    @Param({"INFO", "WARN"})
+    private String level;
+
+    private ItemService target;
+    private ItemService advised;
+    private ItemService.ItemResponseDTO result;
+    private ServiceMethodDescriptor descriptor;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        NOPAppender<ILoggingEvent> nop = new NOPAppender<>();
+        nop.setContext(context);
+        nop.start();
+        root.addAppender(nop);
+        context.getLogger(BusinessLoggingAspect.class).setLevel(ch.qos.logback.classic.Level.toLevel(level));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        target = new ItemService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new BusinessLoggingAspect(meterRegistry));
+        advised = factory.getProxy();
+
+        result = target.createItem("Vis");
+        Method create = ItemService.class.getMethod("createItem", String.class);
+        descriptor = ServiceMethodDescriptor.of(create, meterRegistry);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LoggingContext.clear();
+    }
+
+    @Benchmark
+    public Object direct() {
+        return target.createItem("Vis");
+    }
+
+    @Benchmark
+    public Object advised() {
+        return advised.createItem("Vis");
+    }
+
+    @Benchmark
+    public void legacyMetadata(Blackhole bh) {
+        bh.consume("createItem".replaceAll("create|update|delete|get|find|search", ""));
+        try {
+            var method = Arrays.stream(result.getClass().getMethods())
+                    .filter(m -> m.getName().startsWith("getId"))
+                    .findFirst();
+            if (method.isPresent()) {
+                bh.consume(method.get().invoke(result).toString());
+            }
+        } catch (Exception e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void cachedMetadata(Blackhole bh) {
+        bh.consume(descriptor.entityType());
+        bh.consume(descriptor.extractId(result));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BusinessLoggingAspectBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
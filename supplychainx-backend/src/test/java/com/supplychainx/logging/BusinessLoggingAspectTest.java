@@ -0,0 +1,88 @@
+package com.supplychainx.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.supplychainx.logging.service.ItemService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessLoggingAspectTest {
+
+    private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(BusinessLoggingAspect.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ItemService itemService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ItemService());
+        factory.addAspect(new BusinessLoggingAspect(meterRegistry));
+        itemService = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspectLogger.setLevel(null);
+        LoggingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Création : identifiant lu sur le résultat et type d'entité déduit du nom de méthode")
+    void testCreateSetsBusinessId() {
+        itemService.createItem("Vis");
+
+        assertEquals("Item_7", MDC.get("business_id"));
+        assertEquals("BUSINESS", MDC.get("log_type"));
+    }
+
+    @Test
+    @DisplayName("Mise à jour et suppression : identifiant lu sur le premier argument")
+    void testUpdateAndDeleteUseFirstArgument() {
+        itemService.updateItem(12L, "Écrou");
+        assertEquals("Item_12", MDC.get("business_id"));
+
+        itemService.deleteItem(13L);
+        assertEquals("Item_13", MDC.get("business_id"));
+    }
+
+    @Test
+    @DisplayName("Timer de succès réutilisé, timer distinct par type d'exception")
+    void testTimersPerOutcome() {
+        itemService.getItemById(1L);
+        itemService.getItemById(2L);
+        assertThrows(IllegalArgumentException.class, () -> itemService.getItemById(-1L));
+
+        Timer success = meterRegistry.get(BusinessLoggingAspect.SERVICE_TIMER)
+                .tags("class", "ItemService", "method", "getItemById", "exception", "none")
+                .timer();
+        Timer failure = meterRegistry.get(BusinessLoggingAspect.SERVICE_TIMER)
+                .tags("class", "ItemService", "method", "getItemById", "exception", "IllegalArgumentException")
+                .timer();
+        assertEquals(2, success.count());
+        assertEquals(1, failure.count());
+    }
+
+    @Test
+    @DisplayName("Niveau INFO désactivé : aucun événement métier, la durée reste mesurée")
+    void testInfoDisabledSkipsBusinessEvents() {
+        aspectLogger.setLevel(Level.WARN);
+
+        itemService.createItem("Vis");
+
+        assertNull(MDC.get("business_id"));
+        assertEquals(1, meterRegistry.get(BusinessLoggingAspect.SERVICE_TIMER)
+                .tag("method", "createItem")
+                .timer()
+                .count());
+    }
+}
@@ -0,0 +1,114 @@
+package com.supplychainx.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit du chemin de log d'une requête (MDC + deux lignes comme {@link RequestLoggingFilter})
+ * avec 4 threads appelants, vers un fichier JSON encodé par {@link LogstashEncoder}.
+ * <p>
+ * {@code off} : logger désactivé ; {@code sync} : écriture sur le thread appelant ;
+ * {@code async} : {@link MeteredAsyncAppender} devant le même fichier. Le nombre
+ * d'événements abandonnés en mode async est affiché en fin d'itération.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingPipelineBenchmark {
+
+    @Param({"off", "sync", "async"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private MeteredAsyncAppender asyncAppender;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("logging-benchmark", ".json");
+        context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setName("FILE_JSON");
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> target = fileAppender;
+        if ("async".equals(mode)) {
+            fileAppender.setImmediateFlush(false);
+            asyncAppender = new MeteredAsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC_FILE_JSON");
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            target = asyncAppender;
+        }
+
+        logger = context.getLogger(RequestLoggingFilter.class);
+        logger.setLevel("off".equals(mode) ? ch.qos.logback.classic.Level.OFF : ch.qos.logback.classic.Level.INFO);
+        logger.addAppender(target);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        if (asyncAppender != null) {
+            System.out.printf("%n[async] écrits=%d abandonnés=%d%n",
+                    asyncAppender.getWrittenCount(), asyncAppender.getDroppedCount());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void request() {
+        try {
+            LoggingContext.setUserId(42L);
+            LoggingContext.setUserRole("ADMIN");
+            LoggingContext.setEndpoint("GET /api/products");
+            logger.info("Incoming request: {} from IP: {}", "GET /api/products", "127.0.0.1");
+            LoggingContext.setHttpStatus(200);
+            logger.info("Request completed successfully: {} - Status: {} - Duration: {}ms",
+                    "GET /api/products", 200, 3);
+        } finally {
+            LoggingContext.clear();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LoggingPipelineBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.supplychainx.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredAsyncAppenderTest {
+
+    private LoggerContext context;
+    private BlockingAppender delegate;
+    private MeteredAsyncAppender appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());
+        delegate = new BlockingAppender();
+        delegate.setContext(context);
+        delegate.setName("DELEGATE");
+        delegate.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC");
+        appender.setRingBufferSize(4);
+        appender.addAppender(delegate);
+        appender.start();
+
+        logger = context.getLogger("test");
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        context.stop();
+        LoggingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Ring buffer plein : les événements sont abandonnés sans bloquer l'appelant")
+    void testDropsWhenFull() throws InterruptedException {
+        // "premier" occupe un emplacement tant que le délégué ne l'a pas terminé
+        logger.info("premier");
+        assertTrue(delegate.blocked.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            logger.info("message {}", i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(4, appender.getQueueDepth());
+        assertEquals(17, appender.getDroppedCount());
+        assertEquals(4, appender.getEnqueuedCount());
+        assertTrue(elapsedMillis < 1000, () -> "appelant bloqué " + elapsedMillis + " ms");
+
+        delegate.release.countDown();
+        appender.stop();
+        assertEquals(4, delegate.events.size());
+        assertEquals(4, appender.getWrittenCount());
+        assertEquals(0, appender.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Le contexte MDC est capturé au moment de l'appel, pas de l'écriture")
+    void testMdcCapturedOnCallerThread() {
+        delegate.release.countDown();
+        LoggingContext.setUserId(42L);
+        logger.info("avec utilisateur");
+        LoggingContext.clear();
+
+        appender.stop();
+
+        assertEquals(1, delegate.events.size());
+        assertEquals("42", delegate.events.get(0).getMDCPropertyMap().get("user_id"));
+        assertTrue(appender.getWriteNanos() > 0);
+    }
+
+    /** Délégué qui bloque le thread d'écriture jusqu'à {@code release}. */
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.supplychainx.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    @DisplayName("GET /actuator/prometheus - timers endpoint, service et repository, pool, JVM et Hibernate")
+    void testPrometheusScrape() throws Exception {
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "http_server_requests_seconds_bucket{application=\"supplychain-management\"")))
+                .andExpect(content().string(containsString("uri=\"/api/products\"")))
+                .andExpect(content().string(containsString(
+                        "supplychainx_service_invocations_seconds_bucket{application=\"supplychain-management\",class=\"ProductService\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("jvm_memory_used_bytes")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    @DisplayName("GET /actuator/prometheus - file, abandons et latences des appenders asynchrones")
+    void testAsyncLoggingMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "logging_async_queue_depth{appender=\"ASYNC_FILE_JSON\",application=\"supplychain-management\"}")))
+                .andExpect(content().string(containsString(
+                        "logging_async_queue_capacity{appender=\"ASYNC_CONSOLE\",application=\"supplychain-management\"} 8192")))
+                .andExpect(content().string(containsString("logging_async_dropped_total{appender=\"ASYNC_CONSOLE\"")))
+                .andExpect(content().string(containsString("logging_async_enqueue_seconds_count{appender=\"ASYNC_FILE_JSON\"")))
+                .andExpect(content().string(containsString("logging_async_write_seconds_sum{appender=\"ASYNC_FILE_JSON\"")));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - refusé sans authentification")
+    void testPrometheusRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"CHEF_PRODUCTION"})
+    @DisplayName("GET /actuator/prometheus - réservé aux administrateurs")
+    void testPrometheusRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"CHEF_PRODUCTION"})
+    @DisplayName("GET /actuator/metrics - réservé aux administrateurs")
+    void testMetricsEndpointRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,36 @@
+package com.supplychainx.logging.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Service minimal (hors contexte Spring) ciblé par les pointcuts de
+ * {@link com.supplychainx.logging.BusinessLoggingAspect} dans les tests et benchmarks.
+ */
+public class ItemService {
+
+    public ItemResponseDTO createItem(String name) {
+        return new ItemResponseDTO(7L, name);
+    }
+
+    public ItemResponseDTO updateItem(Long id, String name) {
+        return new ItemResponseDTO(id, name);
+    }
+
+    public void deleteItem(Long id) {
+    }
+
+    public ItemResponseDTO getItemById(Long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Identifiant invalide : " + id);
+        }
+        return new ItemResponseDTO(id, "Article");
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ItemResponseDTO {
+        private Long idItem;
+        private String name;
+    }
+}
@@ -0,0 +1,120 @@
+package com.supplychainx.production.planning;
+
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordonnancement à capacité finie en mémoire (hors SQL) de {@code orders} ordres sur 4 lignes,
+ * 1 000 produits de 5 composants, 2 000 matières : plan complet, puis replanification après
+ * la modification d'un ordre au milieu ou en fin de séquence.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CapacitySchedulerBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int MATERIALS = 2_000;
+    private static final int LINES_PER_PRODUCT = 5;
+    private static final int RECEIPTS = 10_000;
+    private static final int HORIZON_DAYS = 180;
+
+    @Param({"50000"})
+    private int orders;
+
+    private ShopCalendar calendar;
+    private List<SchedulableOrder> pending;
+    private List<BomLine> bomLines;
+    private List<MaterialPosition> materials;
+    private List<ScheduledReceipt> receipts;
+    private CapacityScheduler scheduler;
+    private SchedulableOrder middle;
+    private SchedulableOrder tail;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        calendar = new ShopCalendar(today, EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), 960);
+
+        materials = new ArrayList<>(MATERIALS);
+        for (long m = 1; m <= MATERIALS; m++) {
+            materials.add(new MaterialPosition(m, "M" + m, "kg", random.nextInt(100_000), random.nextInt(1, 30)));
+        }
+
+        bomLines = new ArrayList<>(PRODUCTS * LINES_PER_PRODUCT);
+        for (long p = 1; p <= PRODUCTS; p++) {
+            for (int l = 0; l < LINES_PER_PRODUCT; l++) {
+                bomLines.add(new BomLine(p, (long) random.nextInt(1, MATERIALS + 1), random.nextInt(1, 10)));
+            }
+        }
+
+        receipts = new ArrayList<>(RECEIPTS);
+        for (int r = 0; r < RECEIPTS; r++) {
+            receipts.add(new ScheduledReceipt((long) random.nextInt(1, MATERIALS + 1), random.nextInt(1, 100_000),
+                    today.minusDays(random.nextInt(30)), random.nextInt(1, 30)));
+        }
+
+        pending = new ArrayList<>(orders);
+        for (long o = 1; o <= orders; o++) {
+            pending.add(new SchedulableOrder(o, (long) random.nextInt(1, PRODUCTS + 1), random.nextInt(1, 100),
+                    random.nextInt(1, 30), ProductionOrderStatus.EN_ATTENTE,
+                    today.plusDays(random.nextInt(HORIZON_DAYS)), null, null));
+        }
+
+        scheduler = fullSchedule();
+        List<ScheduledSlot> slots = scheduler.slots();
+        middle = find(slots.get(slots.size() / 2).orderId());
+        tail = find(slots.get(slots.size() - 10).orderId());
+    }
+
+    @Benchmark
+    public CapacityScheduler fullSchedule() {
+        CapacityScheduler full = new CapacityScheduler(calendar, 4, 1, bomLines, materials, receipts, pending);
+        full.schedule();
+        return full;
+    }
+
+    @Benchmark
+    public Object rescheduleMiddle() {
+        return scheduler.upsert(resized(middle));
+    }
+
+    @Benchmark
+    public Object rescheduleTail() {
+        return scheduler.upsert(resized(tail));
+    }
+
+    private SchedulableOrder resized(SchedulableOrder order) {
+        toggle = !toggle;
+        return new SchedulableOrder(order.orderId(), order.productId(), order.quantity() + (toggle ? 1 : 0),
+                order.unitTime(), order.status(), order.releaseDate(), order.startDate(), order.endDate());
+    }
+
+    private SchedulableOrder find(Long orderId) {
+        return pending.stream().filter(order -> order.orderId().equals(orderId)).findFirst().orElseThrow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CapacitySchedulerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
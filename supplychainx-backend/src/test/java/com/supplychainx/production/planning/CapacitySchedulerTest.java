@@ -0,0 +1,163 @@
+package com.supplychainx.production.planning;
+
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapacitySchedulerTest {
+
+    // Lundi ; une équipe de 8 h du lundi au vendredi
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+    private static final ShopCalendar CALENDAR = new ShopCalendar(MONDAY,
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), 480);
+
+    @Test
+    @DisplayName("Calendrier : les week-ends sont sautés dans les deux sens")
+    void testCalendarSkipsWeekends() {
+        assertEquals(MONDAY.plusDays(7), CALENDAR.dateOfDay(5));
+        assertEquals(5, CALENDAR.dayIndex(MONDAY.plusDays(5)));
+        assertEquals(5, CALENDAR.dayIndex(MONDAY.plusDays(7)));
+        assertEquals(MONDAY.plusDays(1), CALENDAR.dateAt(480));
+        assertEquals(MONDAY, new ShopCalendar(MONDAY.minusDays(1), EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), 480).origin());
+    }
+
+    @Test
+    @DisplayName("Deux lignes en parallèle, l'ordre suivant part sur la première ligne libérée")
+    void testOrdersShareLines() {
+        CapacityScheduler scheduler = scheduler(2, List.of(), List.of(), List.of(),
+                order(1, 10, 8, 60, null),
+                order(2, 10, 8, 60, null),
+                order(3, 10, 44, 60, null),
+                order(4, 10, 4, 60, null));
+
+        scheduler.schedule();
+        Map<Long, ScheduledSlot> slots = byOrder(scheduler);
+
+        assertSlot(slots.get(1L), 0, MONDAY, MONDAY);
+        assertSlot(slots.get(2L), 1, MONDAY, MONDAY);
+        // 44 h à partir de mardi : 5 jours et demi, le week-end est sauté
+        assertSlot(slots.get(3L), 0, MONDAY.plusDays(1), MONDAY.plusDays(8));
+        assertSlot(slots.get(4L), 1, MONDAY.plusDays(1), MONDAY.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("Matières : attente de la réception, ordre bloqué sans consommation si jamais couvert")
+    void testMaterialAvailability() {
+        List<BomLine> bom = List.of(new BomLine(20L, 100L, 1));
+        List<MaterialPosition> materials = List.of(new MaterialPosition(100L, "Acier", "kg", 10, 2));
+        List<ScheduledReceipt> receipts = List.of(new ScheduledReceipt(100L, 20, MONDAY, 2));
+
+        CapacityScheduler scheduler = scheduler(3, bom, materials, receipts,
+                order(1, 20, 10, 1, null),
+                order(2, 20, 15, 1, null),
+                order(3, 20, 100, 1, null),
+                order(4, 20, 5, 1, null));
+
+        scheduler.schedule();
+        Map<Long, ScheduledSlot> slots = byOrder(scheduler);
+
+        assertSlot(slots.get(1L), 0, MONDAY, MONDAY);
+        assertSlot(slots.get(2L), 0, MONDAY.plusDays(2), MONDAY.plusDays(2));
+        assertTrue(slots.get(3L).blocked());
+        assertNull(slots.get(3L).startDate());
+        assertSlot(slots.get(4L), 1, MONDAY.plusDays(2), MONDAY.plusDays(2));
+    }
+
+    @Test
+    @DisplayName("Date au plus tôt respectée ; un ordre EN_PRODUCTION passe en tête et garde sa date de début")
+    void testReleaseDateAndInProgress() {
+        SchedulableOrder started = new SchedulableOrder(9L, 10L, 8, 60, ProductionOrderStatus.EN_PRODUCTION,
+                MONDAY.minusDays(3), MONDAY.minusDays(3), null);
+        CapacityScheduler scheduler = scheduler(1, List.of(), List.of(), List.of(),
+                order(1, 10, 1, 60, MONDAY.plusDays(3)),
+                started);
+
+        List<ScheduledSlot> changed = scheduler.schedule();
+        Map<Long, ScheduledSlot> slots = byOrder(scheduler);
+
+        assertEquals(2, changed.size());
+        assertSlot(slots.get(9L), 0, MONDAY.minusDays(3), MONDAY);
+        assertSlot(slots.get(1L), 0, MONDAY.plusDays(3), MONDAY.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("Replanification incrémentale : même plan qu'un calcul complet, seule la fin de séquence change")
+    void testIncrementalMatchesFullReplan() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<BomLine> bom = new ArrayList<>();
+        List<MaterialPosition> materials = new ArrayList<>();
+        List<ScheduledReceipt> receipts = new ArrayList<>();
+        for (long m = 1; m <= 20; m++) {
+            materials.add(new MaterialPosition(m, "M" + m, "kg", random.nextInt(5_000), 5));
+            receipts.add(new ScheduledReceipt(m, random.nextInt(50_000), MONDAY.plusDays(random.nextInt(60)), 3));
+        }
+        for (long p = 1; p <= 30; p++) {
+            bom.add(new BomLine(p, (long) random.nextInt(1, 21), random.nextInt(1, 4)));
+        }
+        List<SchedulableOrder> orders = new ArrayList<>();
+        for (long o = 1; o <= 3 * CapacityScheduler.CHECKPOINT_INTERVAL; o++) {
+            orders.add(order(o, random.nextInt(1, 31), random.nextInt(1, 50), random.nextInt(1, 30),
+                    MONDAY.plusDays(random.nextInt(90))));
+        }
+
+        CapacityScheduler incremental = new CapacityScheduler(CALENDAR, 3, 1, bom, materials, receipts, orders);
+        incremental.schedule();
+        List<Long> sequenceBefore = incremental.slots().stream().map(ScheduledSlot::orderId).toList();
+
+        SchedulableOrder original = orders.get(1_000);
+        SchedulableOrder changed = order(original.orderId(), original.productId(), original.quantity() * 4,
+                original.unitTime(), original.releaseDate());
+        List<ScheduledSlot> updated = incremental.upsert(changed);
+
+        int changedAt = sequenceBefore.indexOf(changed.orderId());
+        assertFalse(updated.isEmpty());
+        assertTrue(updated.stream().allMatch(slot -> sequenceBefore.indexOf(slot.orderId()) >= changedAt));
+
+        orders.set(1_000, changed);
+        CapacityScheduler full = new CapacityScheduler(CALENDAR, 3, 1, bom, materials, receipts, orders);
+        full.schedule();
+        assertEquals(scheduled(full), scheduled(incremental));
+
+        incremental.remove(changed.orderId());
+        orders.remove(1_000);
+        full = new CapacityScheduler(CALENDAR, 3, 1, bom, materials, receipts, orders);
+        full.schedule();
+        assertEquals(scheduled(full), scheduled(incremental));
+    }
+
+    private static CapacityScheduler scheduler(int lines, List<BomLine> bom, List<MaterialPosition> materials,
+                                               List<ScheduledReceipt> receipts, SchedulableOrder... orders) {
+        return new CapacityScheduler(CALENDAR, lines, 1, bom, materials, receipts, List.of(orders));
+    }
+
+    private static SchedulableOrder order(long id, long productId, int quantity, int unitTime, LocalDate releaseDate) {
+        return new SchedulableOrder(id, productId, quantity, unitTime, ProductionOrderStatus.EN_ATTENTE,
+                releaseDate, null, null);
+    }
+
+    private static Map<Long, ScheduledSlot> byOrder(CapacityScheduler scheduler) {
+        return scheduler.slots().stream().collect(Collectors.toMap(ScheduledSlot::orderId, Function.identity()));
+    }
+
+    private static List<ScheduledSlot> scheduled(CapacityScheduler scheduler) {
+        return scheduler.slots().stream().filter(slot -> !slot.blocked()).toList();
+    }
+
+    private static void assertSlot(ScheduledSlot slot, int line, LocalDate start, LocalDate end) {
+        assertEquals(line, slot.line());
+        assertEquals(start, slot.startDate());
+        assertEquals(end, slot.endDate());
+    }
+}
@@ -0,0 +1,84 @@
+package com.supplychainx.production.planning;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calcul MRP en mémoire (hors chargement SQL) : {@code orders} ordres de production sur
+ * 1 000 produits de 5 composants chacun, 2 000 matières et 10 000 lignes d'approvisionnement
+ * ouvertes, répartis sur 180 jours.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MrpEngineBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int MATERIALS = 2_000;
+    private static final int LINES_PER_PRODUCT = 5;
+    private static final int RECEIPTS = 10_000;
+    private static final int HORIZON_DAYS = 180;
+
+    @Param({"10000", "100000"})
+    private int orders;
+
+    private LocalDate today;
+    private List<PlannedDemand> demands;
+    private List<BomLine> bomLines;
+    private List<MaterialPosition> materials;
+    private List<ScheduledReceipt> receipts;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        today = LocalDate.now();
+
+        materials = new ArrayList<>(MATERIALS);
+        for (long m = 1; m <= MATERIALS; m++) {
+            materials.add(new MaterialPosition(m, "M" + m, "kg", random.nextInt(10_000), random.nextInt(1, 30)));
+        }
+
+        bomLines = new ArrayList<>(PRODUCTS * LINES_PER_PRODUCT);
+        for (long p = 1; p <= PRODUCTS; p++) {
+            for (int l = 0; l < LINES_PER_PRODUCT; l++) {
+                bomLines.add(new BomLine(p, (long) random.nextInt(1, MATERIALS + 1), random.nextInt(1, 10)));
+            }
+        }
+
+        demands = new ArrayList<>(orders);
+        for (long o = 1; o <= orders; o++) {
+            demands.add(new PlannedDemand(o, (long) random.nextInt(1, PRODUCTS + 1), random.nextInt(1, 100),
+                    today.plusDays(random.nextInt(HORIZON_DAYS))));
+        }
+
+        receipts = new ArrayList<>(RECEIPTS);
+        for (int r = 0; r < RECEIPTS; r++) {
+            receipts.add(new ScheduledReceipt((long) random.nextInt(1, MATERIALS + 1), random.nextInt(1, 1_000),
+                    today.minusDays(random.nextInt(30)), random.nextInt(1, 30)));
+        }
+    }
+
+    @Benchmark
+    public Object run() {
+        return new MrpEngine(today).run(demands, bomLines, materials, receipts, false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MrpEngineBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,262 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderMaterialRepository;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.production.dto.BatchAvailabilityResponseDTO;
+import com.supplychainx.production.dto.CombinedMaterialDemandDTO;
+import com.supplychainx.production.dto.MaterialRequirementDTO;
+import com.supplychainx.production.dto.MaterialShortageDTO;
+import com.supplychainx.production.dto.MrpRunResponseDTO;
+import com.supplychainx.production.dto.ProductQuantityDTO;
+import com.supplychainx.production.entity.BillOfMaterial;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.planning.BomLine;
+import com.supplychainx.production.planning.MaterialPosition;
+import com.supplychainx.production.planning.PlannedDemand;
+import com.supplychainx.production.planning.ScheduledReceipt;
+import com.supplychainx.production.repository.BillOfMaterialRepository;
+import com.supplychainx.production.repository.ProductRepository;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanningServiceTest {
+
+    @Mock
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private SupplyOrderMaterialRepository supplyOrderMaterialRepository;
+
+    @InjectMocks
+    private PlanningService planningService;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+    }
+
+    private void stubMrpReferenceData() {
+        // Produit 1 = 2 x acier (10) + 1 x cuivre (20) ; produit 2 = 3 x acier
+        when(billOfMaterialRepository.findAllBomLines()).thenReturn(List.of(
+                new BomLine(1L, 10L, 2),
+                new BomLine(1L, 20L, 1),
+                new BomLine(2L, 10L, 3)));
+        when(rawMaterialRepository.findMaterialPositions()).thenReturn(List.of(
+                new MaterialPosition(10L, "Acier", "kg", 50, 7),
+                new MaterialPosition(20L, "Cuivre", "kg", 100, 3),
+                new MaterialPosition(30L, "Plastique", "kg", 10, null)));
+    }
+
+    @Test
+    @DisplayName("MRP : besoins bruts cumulés sur plusieurs ordres et produits, nets du stock")
+    void testRunMrp_NetsAgainstStock() {
+        stubMrpReferenceData();
+        when(productionOrderRepository.findPlannedDemand(any())).thenReturn(List.of(
+                new PlannedDemand(1L, 1L, 10, today.plusDays(10)),
+                new PlannedDemand(2L, 2L, 20, today.plusDays(20))));
+        when(supplyOrderMaterialRepository.findScheduledReceipts(any())).thenReturn(List.of());
+
+        MrpRunResponseDTO result = planningService.runMrp(false);
+
+        assertEquals(2, result.getPlannedOrders());
+        assertEquals(1, result.getMaterialsWithShortage());
+        assertEquals(2, result.getMaterials().size());
+
+        MaterialRequirementDTO steel = result.getMaterials().get(0);
+        assertEquals(10L, steel.getIdMaterial());
+        assertEquals(80L, steel.getGrossRequirement());
+        assertEquals(30L, steel.getNetRequirement());
+        assertEquals(1, steel.getShortages().size());
+
+        MaterialShortageDTO shortage = steel.getShortages().get(0);
+        assertEquals(today.plusDays(20), shortage.getRequiredDate());
+        assertEquals(30L, shortage.getQuantity());
+        assertEquals(today.plusDays(13), shortage.getOrderByDate());
+        assertFalse(shortage.getLate());
+
+        MaterialRequirementDTO copper = result.getMaterials().get(1);
+        assertEquals(10L, copper.getGrossRequirement());
+        assertEquals(0L, copper.getNetRequirement());
+        assertTrue(copper.getShortages().isEmpty());
+    }
+
+    @Test
+    @DisplayName("MRP : une commande d'approvisionnement en cours couvre les besoins après sa réception")
+    void testRunMrp_ScheduledReceiptsArePhased() {
+        stubMrpReferenceData();
+        when(productionOrderRepository.findPlannedDemand(any())).thenReturn(List.of(
+                new PlannedDemand(1L, 2L, 20, today.plusDays(2)),
+                new PlannedDemand(2L, 2L, 20, today.plusDays(30))));
+        // 100 kg d'acier commandés aujourd'hui, reçus dans 5 jours
+        when(supplyOrderMaterialRepository.findScheduledReceipts(any())).thenReturn(List.of(
+                new ScheduledReceipt(10L, 100, today, 5)));
+
+        MrpRunResponseDTO result = planningService.runMrp(true);
+
+        MaterialRequirementDTO steel = result.getMaterials().get(0);
+        assertEquals(120L, steel.getGrossRequirement());
+        assertEquals(100L, steel.getScheduledReceipts());
+        assertEquals(10L, steel.getNetRequirement());
+        assertEquals(1, steel.getShortages().size());
+        assertEquals(today.plusDays(2), steel.getShortages().get(0).getRequiredDate());
+        assertEquals(10L, steel.getShortages().get(0).getQuantity());
+        assertTrue(steel.getShortages().get(0).getLate());
+    }
+
+    @Test
+    @DisplayName("MRP : ordres en retard planifiés aujourd'hui, produits sans nomenclature ignorés")
+    void testRunMrp_PastDatesAndProductsWithoutBom() {
+        stubMrpReferenceData();
+        when(productionOrderRepository.findPlannedDemand(any())).thenReturn(List.of(
+                new PlannedDemand(1L, 2L, 20, today.minusDays(4)),
+                new PlannedDemand(2L, 99L, 5, today),
+                new PlannedDemand(3L, 1L, 1, null)));
+        when(supplyOrderMaterialRepository.findScheduledReceipts(any())).thenReturn(List.of());
+
+        MrpRunResponseDTO result = planningService.runMrp(true);
+
+        assertEquals(2, result.getPlannedOrders());
+        assertEquals(1, result.getOrdersWithoutBom());
+        assertEquals(1, result.getMaterials().size());
+        MaterialShortageDTO shortage = result.getMaterials().get(0).getShortages().get(0);
+        assertEquals(today, shortage.getRequiredDate());
+        assertEquals(12L, shortage.getQuantity());
+    }
+
+    @Test
+    @DisplayName("MRP : une seule requête groupée par source de données")
+    void testRunMrp_SingleBulkLoad() {
+        stubMrpReferenceData();
+        when(productionOrderRepository.findPlannedDemand(any())).thenReturn(List.of());
+        when(supplyOrderMaterialRepository.findScheduledReceipts(any())).thenReturn(List.of());
+
+        MrpRunResponseDTO result = planningService.runMrp(false);
+
+        assertTrue(result.getMaterials().isEmpty());
+        verify(productionOrderRepository, times(1)).findPlannedDemand(any());
+        verify(billOfMaterialRepository, times(1)).findAllBomLines();
+        verify(rawMaterialRepository, times(1)).findMaterialPositions();
+        verify(supplyOrderMaterialRepository, times(1)).findScheduledReceipts(any());
+        verifyNoMoreInteractions(productionOrderRepository, billOfMaterialRepository, rawMaterialRepository);
+    }
+
+    @Test
+    @DisplayName("Disponibilité groupée : deux produits en concurrence sur le même stock")
+    void testCheckBatchAvailability_CombinedDemand() {
+        RawMaterial steel = material(10L, "Acier", 50);
+        RawMaterial copper = material(20L, "Cuivre", 100);
+        Product chair = product(1L, "Chaise");
+        Product table = product(2L, "Table");
+
+        when(productRepository.findAllById(any())).thenReturn(List.of(chair, table));
+        when(billOfMaterialRepository.findWithMaterialByProductIds(any())).thenReturn(List.of(
+                bom(chair, steel, 2),
+                bom(chair, copper, 1),
+                bom(table, steel, 3)));
+
+        BatchAvailabilityResponseDTO result = planningService.checkBatchAvailability(List.of(
+                new ProductQuantityDTO(1L, 10),
+                new ProductQuantityDTO(2L, 10)));
+
+        assertEquals(2, result.getProducts().size());
+        assertTrue(result.getProducts().get(0).getCanProduce());
+        assertTrue(result.getProducts().get(1).getCanProduce());
+        assertTrue(result.getCanProduceAll());
+
+        CombinedMaterialDemandDTO steelDemand = result.getCombinedDemand().get(0);
+        assertEquals(10L, steelDemand.getIdMaterial());
+        assertEquals(50L, steelDemand.getRequiredQuantity());
+        assertTrue(steelDemand.getIsAvailable());
+        assertEquals(List.of(1L, 2L), steelDemand.getProductIds());
+        verify(productRepository, times(1)).findAllById(any());
+        verify(billOfMaterialRepository, times(1)).findWithMaterialByProductIds(any());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Disponibilité groupée : la demande cumulée dépasse le stock partagé")
+    void testCheckBatchAvailability_SharedStockExceeded() {
+        RawMaterial steel = material(10L, "Acier", 50);
+        Product chair = product(1L, "Chaise");
+        Product table = product(2L, "Table");
+
+        when(productRepository.findAllById(any())).thenReturn(List.of(chair, table));
+        when(billOfMaterialRepository.findWithMaterialByProductIds(any())).thenReturn(List.of(
+                bom(chair, steel, 2),
+                bom(table, steel, 3)));
+
+        BatchAvailabilityResponseDTO result = planningService.checkBatchAvailability(List.of(
+                new ProductQuantityDTO(1L, 10),
+                new ProductQuantityDTO(2L, 12)));
+
+        assertTrue(result.getProducts().get(0).getCanProduce());
+        assertTrue(result.getProducts().get(1).getCanProduce());
+        assertEquals(56L, result.getCombinedDemand().get(0).getRequiredQuantity());
+        assertFalse(result.getCombinedDemand().get(0).getIsAvailable());
+        assertFalse(result.getCanProduceAll());
+    }
+
+    @Test
+    @DisplayName("Disponibilité groupée : produit inexistant doit lever une exception")
+    void testCheckBatchAvailability_ProductNotFound() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(product(1L, "Chaise")));
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () ->
+                planningService.checkBatchAvailability(List.of(
+                        new ProductQuantityDTO(1L, 1),
+                        new ProductQuantityDTO(999L, 1))));
+
+        assertTrue(ex.getMessage().contains("999"));
+        verify(billOfMaterialRepository, never()).findWithMaterialByProductIds(any());
+    }
+
+    private static RawMaterial material(Long id, String name, int stock) {
+        RawMaterial material = new RawMaterial();
+        material.setIdMaterial(id);
+        material.setName(name);
+        material.setStock(stock);
+        return material;
+    }
+
+    private static Product product(Long id, String name) {
+        Product product = new Product();
+        product.setIdProduct(id);
+        product.setName(name);
+        return product;
+    }
+
+    private static BillOfMaterial bom(Product product, RawMaterial material, int quantity) {
+        BillOfMaterial bom = new BillOfMaterial();
+        bom.setProduct(product);
+        bom.setMaterial(material);
+        bom.setQuantity(quantity);
+        return bom;
+    }
+}
@@ -1,7 +1,10 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.inventory.enums.InventoryItemType;
+import com.supplychainx.inventory.service.InventoryLedgerService;
 import com.supplychainx.production.dto.ProductCreateDTO;
 import com.supplychainx.production.dto.ProductResponseDTO;
 import com.supplychainx.production.dto.ProductUpdateDTO;
@@ -16,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,6 +40,9 @@ class ProductServiceTest {
     @Mock
     private ProductionOrderRepository productionOrderRepository;
 
+    @Mock
+    private InventoryLedgerService inventoryLedgerService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -110,6 +118,7 @@ class ProductServiceTest {
         assertNotNull(result);
         verify(productRepository, times(1)).findById(1L);
         verify(productRepository, times(1)).save(product);
+        verify(inventoryLedgerService).recordAdjustment(InventoryItemType.PRODUCT, 1L, updateDTO.getStock());
     }
 
     @Test
@@ -184,25 +193,25 @@ class ProductServiceTest {
         product2.setStock(30);
         
         List<Product> products = Arrays.asList(product, product2);
-        when(productRepository.findAll()).thenReturn(products);
+        when(productRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(products));
 
-        List<ProductResponseDTO> result = productService.getAllProducts();
+        List<ProductResponseDTO> result = productService.getAllProducts(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findAll(any(Pageable.class));
     }
 
     @Test
     @DisplayName("Récupérer une liste vide si aucun produit")
     void testGetAllProducts_EmptyList() {
-        when(productRepository.findAll()).thenReturn(new ArrayList<>());
+        when(productRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<>()));
 
-        List<ProductResponseDTO> result = productService.getAllProducts();
+        List<ProductResponseDTO> result = productService.getAllProducts(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findAll(any(Pageable.class));
     }
 
     
@@ -1,5 +1,9 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.common.events.EntityType;
+import com.supplychainx.common.events.StatusDimensions;
+import com.supplychainx.common.events.StatusEventBus;
+import com.supplychainx.common.pagination.PageQuery;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.ProductMapper;
@@ -19,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -45,6 +51,12 @@ class ProductionOrderServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductionScheduleService productionScheduleService;
+
+    @Mock
+    private StatusEventBus statusEventBus;
+
     @InjectMocks
     private ProductionOrderService productionOrderService;
 
@@ -178,6 +190,9 @@ class ProductionOrderServiceTest {
 
         verify(productionOrderRepository, times(1)).findById(1L);
         verify(productionOrderRepository, times(1)).delete(productionOrder);
+        verify(statusEventBus).statusChanged(EntityType.PRODUCTION_ORDER, 1L, ProductionOrderStatus.EN_ATTENTE, null,
+                new StatusDimensions(1L, null, 10, null));
+        verify(productionScheduleService).ordersChanged(List.of(1L));
     }
 
     @Test
@@ -238,27 +253,27 @@ class ProductionOrderServiceTest {
         responseDTO2.setIdOrder(2L);
         responseDTO2.setQuantity(5);
         
-        when(productionOrderRepository.findAll()).thenReturn(orders);
+        when(productionOrderRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(orders));
         when(productionOrderMapper.toResponseDTO(productionOrder)).thenReturn(responseDTO);
         when(productionOrderMapper.toResponseDTO(order2)).thenReturn(responseDTO2);
 
-        List<ProductionOrderResponseDTO> result = productionOrderService.getAllProductionOrders();
+        List<ProductionOrderResponseDTO> result = productionOrderService.getAllProductionOrders(new PageQuery()).getContent();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(productionOrderRepository, times(1)).findAll();
+        verify(productionOrderRepository, times(1)).findAll(any(Pageable.class));
         verify(productionOrderMapper, times(2)).toResponseDTO(any(ProductionOrder.class));
     }
 
     @Test
     @DisplayName("Récupérer une liste vide si aucun ordre")
     void testGetAllProductionOrders_EmptyList() {
-        when(productionOrderRepository.findAll()).thenReturn(new ArrayList<>());
+        when(productionOrderRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<>()));
 
-        List<ProductionOrderResponseDTO> result = productionOrderService.getAllProductionOrders();
+        List<ProductionOrderResponseDTO> result = productionOrderService.getAllProductionOrders(new PageQuery()).getContent();
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(productionOrderRepository, times(1)).findAll();
+        verify(productionOrderRepository, times(1)).findAll(any(Pageable.class));
     }
 
     
@@ -266,14 +281,14 @@ class ProductionOrderServiceTest {
     @DisplayName("Récupérer les ordres par statut EN_ATTENTE")
     void testGetOrdersByStatus_EnAttente() {
         List<ProductionOrder> orders = Arrays.asList(productionOrder);
-        when(productionOrderRepository.findByStatus(ProductionOrderStatus.EN_ATTENTE)).thenReturn(orders);
+        when(productionOrderRepository.findByStatus(eq(ProductionOrderStatus.EN_ATTENTE), any(Pageable.class))).thenReturn(new PageImpl<>(orders));
         when(productionOrderMapper.toResponseDTO(productionOrder)).thenReturn(responseDTO);
 
-        List<ProductionOrderResponseDTO> result = productionOrderService.getProductionOrdersByStatus("EN_ATTENTE");
+        List<ProductionOrderResponseDTO> result = productionOrderService.getProductionOrdersByStatus("EN_ATTENTE", new PageQuery()).getContent();
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(productionOrderRepository, times(1)).findByStatus(ProductionOrderStatus.EN_ATTENTE);
+        verify(productionOrderRepository, times(1)).findByStatus(eq(ProductionOrderStatus.EN_ATTENTE), any(Pageable.class));
         verify(productionOrderMapper, times(1)).toResponseDTO(productionOrder);
     }
 
@@ -283,25 +298,25 @@ class ProductionOrderServiceTest {
         productionOrder.setStatus(ProductionOrderStatus.EN_PRODUCTION);
         List<ProductionOrder> orders = Arrays.asList(productionOrder);
         
-        when(productionOrderRepository.findByStatus(ProductionOrderStatus.EN_PRODUCTION)).thenReturn(orders);
+        when(productionOrderRepository.findByStatus(eq(ProductionOrderStatus.EN_PRODUCTION), any(Pageable.class))).thenReturn(new PageImpl<>(orders));
         when(productionOrderMapper.toResponseDTO(productionOrder)).thenReturn(responseDTO);
 
-        List<ProductionOrderResponseDTO> result = productionOrderService.getProductionOrdersByStatus("EN_PRODUCTION");
+        List<ProductionOrderResponseDTO> result = productionOrderService.getProductionOrdersByStatus("EN_PRODUCTION", new PageQuery()).getContent();
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(productionOrderRepository, times(1)).findByStatus(ProductionOrderStatus.EN_PRODUCTION);
+        verify(productionOrderRepository, times(1)).findByStatus(eq(ProductionOrderStatus.EN_PRODUCTION), any(Pageable.class));
     }
 
     @Test
     @DisplayName("Récupérer les ordres par statut TERMINE")
     void testGetOrdersByStatus_Termine() {
-        when(productionOrderRepository.findByStatus(ProductionOrderStatus.TERMINE)).thenReturn(new ArrayList<>());
-        List<ProductionOrderResponseDTO> result = productionOrderService.getProductionOrdersByStatus("TERMINE");
+        when(productionOrderRepository.findByStatus(eq(ProductionOrderStatus.TERMINE), any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<>()));
+        List<ProductionOrderResponseDTO> result = productionOrderService.getProductionOrdersByStatus("TERMINE", new PageQuery()).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(productionOrderRepository, times(1)).findByStatus(ProductionOrderStatus.TERMINE);
+        verify(productionOrderRepository, times(1)).findByStatus(eq(ProductionOrderStatus.TERMINE), any(Pageable.class));
     }
 
     
@@ -0,0 +1,114 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.production.dto.ProductionOrderCreateDTO;
+import com.supplychainx.production.dto.ProductionScheduleResponseDTO;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.entity.ProductionOrder;
+import com.supplychainx.production.repository.ProductRepository;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ordonnancement validé en base (2 lignes, 2 équipes de 8 h, jours ouvrés) : les dates sont
+ * écrites après le commit de l'ordre. Dates au plus tôt lointaines pour ne pas dépendre du jour.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductionScheduleIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Autowired
+    private ProductionOrderService productionOrderService;
+
+    @Autowired
+    private ProductionScheduleService productionScheduleService;
+
+    @Autowired
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Product created = new Product();
+        created.setName("Produit Ordonnancé");
+        created.setProductionTime(60);
+        created.setCost(10.0);
+        created.setStock(0);
+        product = productRepository.save(created);
+        productionScheduleService.reschedule();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productionOrderRepository.deleteAllById(orderIds);
+        productRepository.deleteById(product.getIdProduct());
+    }
+
+    @Test
+    @DisplayName("Création puis annulation : seule la fin de séquence est replanifiée et écrite")
+    void testDatesFollowOrderChanges() {
+        Long first = create(16);
+        Long second = create(16);
+        Long third = create(8);
+
+        // Une journée (16 h) par ligne : le troisième ordre attend le mardi malgré la date saisie
+        assertDates(first, MONDAY, MONDAY);
+        assertDates(second, MONDAY, MONDAY);
+        assertDates(third, MONDAY.plusDays(1), MONDAY.plusDays(1));
+        assertEquals(MONDAY, productionOrderRepository.findById(third).orElseThrow().getReleaseDate());
+
+        productionOrderService.cancelProductionOrder(first);
+        orderIds.remove(first);
+
+        assertDates(third, MONDAY, MONDAY);
+    }
+
+    @Test
+    @DisplayName("Recalcul complet : les dates modifiées à la main sont rétablies")
+    void testRescheduleRestoresDates() {
+        Long first = create(16);
+        Long second = create(32);
+        ProductionOrder edited = productionOrderRepository.findById(second).orElseThrow();
+        edited.setStartDate(MONDAY.plusDays(30));
+        edited.setEndDate(null);
+        productionOrderRepository.save(edited);
+
+        ProductionScheduleResponseDTO result = productionScheduleService.reschedule();
+
+        assertEquals(1, result.getUpdatedOrders());
+        assertFalse(result.getBlockedOrderIds().contains(first));
+        assertDates(second, MONDAY, MONDAY.plusDays(1));
+        assertFalse(result.getCompletionDate().isBefore(MONDAY.plusDays(1)));
+    }
+
+    private Long create(int quantity) {
+        Long id = productionOrderService.createProductionOrder(new ProductionOrderCreateDTO(
+                product.getIdProduct(), quantity, "EN_ATTENTE", MONDAY, null)).getIdOrder();
+        orderIds.add(id);
+        return id;
+    }
+
+    private void assertDates(Long orderId, LocalDate start, LocalDate end) {
+        ProductionOrder order = productionOrderRepository.findById(orderId).orElseThrow();
+        assertEquals(start, order.getStartDate());
+        assertEquals(end, order.getEndDate());
+    }
+}
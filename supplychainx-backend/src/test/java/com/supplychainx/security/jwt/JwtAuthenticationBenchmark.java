@@ -0,0 +1,92 @@
+package com.supplychainx.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'authentification JWT par requête (JwtAuthenticationFilter + RequestLoggingFilter).
+ * <p>
+ * {@code legacyPerRequest} reproduit l'ancien chemin : 7 parsings/vérifications HMAC avec
+ * reconstruction du parser et de la clé à chaque appel.
+ * {@code cachedPerRequest} utilise {@link JwtClaimsResolver} pour les deux filtres.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "MySecretKeyForJWTTokenSigningMustBeAtLeast256BitsLong1234567890";
+
+    private String token;
+    private JwtUtil jwtUtil;
+    private JwtClaimsResolver resolver;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        jwtUtil.init();
+
+        token = jwtUtil.generateAccessToken(42L, "bench@supplychainx.com", "ADMIN");
+        resolver = new JwtClaimsResolver(jwtUtil, 10_000);
+    }
+
+    @Benchmark
+    public void legacyPerRequest(Blackhole bh) {
+        // RequestLoggingFilter : isTokenValid, extractUserId, extractRole
+        bh.consume(legacyParse().getExpiration().before(new Date()));
+        bh.consume(legacyParse().get("userId", Long.class));
+        bh.consume(legacyParse().get("role", String.class));
+        // JwtAuthenticationFilter : isTokenValid, extractEmail, extractUserId, extractRole
+        bh.consume(legacyParse().getExpiration().before(new Date()));
+        bh.consume(legacyParse().getSubject());
+        bh.consume(legacyParse().get("userId", Long.class));
+        bh.consume(legacyParse().get("role", String.class));
+    }
+
+    @Benchmark
+    public void cachedPerRequest(Blackhole bh) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        bh.consume(resolver.resolve(request));
+        bh.consume(resolver.resolve(request));
+    }
+
+    @Benchmark
+    public void uncachedSingleParse(Blackhole bh) {
+        bh.consume(jwtUtil.parseClaims(token));
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
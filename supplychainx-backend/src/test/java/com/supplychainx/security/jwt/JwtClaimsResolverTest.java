@@ -0,0 +1,81 @@
+package com.supplychainx.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtClaimsResolverTest {
+
+    private JwtUtil jwtUtil;
+    private JwtClaimsResolver resolver;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", "MySecretKeyForJWTTokenSigningMustBeAtLeast256BitsLong1234567890");
+        ReflectionTestUtils.setField(util, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(util, "refreshTokenExpiration", 604_800_000L);
+        util.init();
+
+        jwtUtil = spy(util);
+        resolver = new JwtClaimsResolver(jwtUtil, 100);
+        token = util.generateAccessToken(7L, "user@test.com", "ADMIN");
+    }
+
+    @Test
+    @DisplayName("Token valide → claims vérifiés une seule fois puis servis depuis le cache")
+    void testResolveCachesVerifiedClaims() {
+        Optional<JwtClaims> first = resolver.resolve(token);
+        Optional<JwtClaims> second = resolver.resolve(token);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getUserId()).isEqualTo(7L);
+        assertThat(first.get().getEmail()).isEqualTo("user@test.com");
+        assertThat(first.get().getRole()).isEqualTo("ADMIN");
+        assertThat(second).containsSame(first.get());
+        verify(jwtUtil, times(1)).parseClaims(token);
+    }
+
+    @Test
+    @DisplayName("Token falsifié → aucun claim et rien en cache")
+    void testResolveRejectsTamperedToken() {
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThat(resolver.resolve(tampered)).isEmpty();
+        assertThat(resolver.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Même requête → claims stockés dans l'attribut de requête")
+    void testResolveRequestUsesRequestAttribute() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        Optional<JwtClaims> claims = resolver.resolve(request);
+        resolver.invalidateAll();
+
+        assertThat(claims).isPresent();
+        assertThat(request.getAttribute(JwtClaims.REQUEST_ATTRIBUTE)).isSameAs(claims.get());
+        assertThat(resolver.resolve(request)).containsSame(claims.get());
+        verify(jwtUtil, times(1)).parseClaims(token);
+    }
+
+    @Test
+    @DisplayName("Sans en-tête Bearer → aucun claim")
+    void testResolveRequestWithoutBearer() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Basic abc");
+
+        assertThat(resolver.resolve(request)).isEmpty();
+    }
+}